@@ -0,0 +1,135 @@
+package org.tarantool.benchmarks;
+
+import org.tarantool.Iterator;
+import org.tarantool.TarantoolClient;
+import org.tarantool.TarantoolClientConfig;
+import org.tarantool.TarantoolClientImpl;
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end throughput and latency of
+ * {@link TarantoolClientImpl} talking to an in-process
+ * {@link FakeTarantoolServer}.
+ * <p>
+ * The server shares the CPU with the client, so the
+ * results are comparable between connector versions
+ * and settings rather than with a real instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientBenchmark {
+
+    private static final String SPACE_NAME = "users";
+    private static final String INDEX_NAME = "primary";
+    private static final int TUPLE_COUNT = 10_000;
+    private static final int PIPELINE_DEPTH = 100;
+
+    @Param({ "SMALL", "WIDE" })
+    private TupleShape shape;
+
+    @Param({ "4096" })
+    private int sharedBufferSize;
+
+    private FakeTarantoolServer server;
+    private TarantoolClient client;
+    private int spaceId;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new FakeTarantoolServer().start();
+        FakeSpace space = server.createSpace(SPACE_NAME, "id");
+        for (List<?> tuple : shape.createMany(TUPLE_COUNT)) {
+            space.insert(tuple);
+        }
+        spaceId = space.getId();
+
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        config.sharedBufferSize = sharedBufferSize;
+        client = new TarantoolClientImpl(server.getAddress(), config);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public List<?> selectById() {
+        return client.syncOps().select(spaceId, 0, nextKey(), 0, 1, Iterator.EQ);
+    }
+
+    /**
+     * Selects by names resolved through the schema
+     * cache by many request threads.
+     */
+    @Benchmark
+    @Threads(32)
+    public List<?> selectByName() {
+        return client.syncOps().select(SPACE_NAME, INDEX_NAME, nextKey(), 0, 1, Iterator.EQ);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public List<?> selectByIdContended() {
+        return client.syncOps().select(spaceId, 0, nextKey(), 0, 1, Iterator.EQ);
+    }
+
+    /**
+     * Sends a batch of asynchronous requests and
+     * waits for all of them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public Object selectPipelined() {
+        List<CompletableFuture<List<?>>> futures = new ArrayList<>(PIPELINE_DEPTH);
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            futures.add(
+                client.composableAsyncOps()
+                    .select(spaceId, 0, nextKey(), 0, 1, Iterator.EQ)
+                    .toCompletableFuture()
+            );
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<?> selectLatency() {
+        return client.syncOps().select(spaceId, 0, nextKey(), 0, 1, Iterator.EQ);
+    }
+
+    private static List<?> nextKey() {
+        return Collections.singletonList(ThreadLocalRandom.current().nextInt(TUPLE_COUNT));
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.tarantool.benchmarks;
+
+import org.tarantool.MsgPackLite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MsgPackLite} encoding and decoding
+ * of single tuples and batches of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+    @Param({ "SMALL", "WIDE", "NESTED", "BINARY" })
+    private TupleShape shape;
+
+    @Param({ "1", "100" })
+    private int batchSize;
+
+    private final MsgPackLite msgPackLite = MsgPackLite.INSTANCE;
+
+    private List<List<?>> tuples;
+    private ByteArrayOutputStream output;
+    private ByteArrayInputStream input;
+
+    @Setup
+    public void setUp() throws IOException {
+        tuples = shape.createMany(batchSize);
+        output = new ByteArrayOutputStream(64 * 1024);
+        msgPackLite.pack(tuples, output);
+        input = new ByteArrayInputStream(output.toByteArray());
+    }
+
+    @Benchmark
+    public int pack() throws IOException {
+        output.reset();
+        msgPackLite.pack(tuples, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public Object unpack() throws IOException {
+        input.reset();
+        return msgPackLite.unpack(input);
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.tarantool.benchmarks;
+
+import org.tarantool.Code;
+import org.tarantool.Iterator;
+import org.tarantool.Key;
+import org.tarantool.MsgPackLite;
+import org.tarantool.protocol.ProtoUtils;
+import org.tarantool.protocol.TarantoolPacket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures framing of iproto requests and parsing
+ * of iproto responses by {@link ProtoUtils}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProtoUtilsBenchmark {
+
+    private static final int SPACE_ID = 512;
+    private static final long SCHEMA_ID = 42;
+
+    private final MsgPackLite msgPackLite = MsgPackLite.INSTANCE;
+    private final List<?> key = Collections.singletonList(1);
+    private long syncId;
+
+    @State(Scope.Thread)
+    public static class Request {
+
+        @Param({ "SMALL", "WIDE", "NESTED", "BINARY" })
+        private TupleShape shape;
+
+        private List<?> tuple;
+
+        @Setup
+        public void setUp() {
+            tuple = shape.create(1);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Response {
+
+        @Param({ "SMALL", "WIDE", "NESTED", "BINARY" })
+        private TupleShape shape;
+
+        /**
+         * Number of tuples in a response.
+         */
+        @Param({ "1", "100" })
+        private int resultSize;
+
+        private ByteBuffer packet;
+        private ByteBufferChannel channel;
+
+        @Setup
+        public void setUp() throws IOException {
+            packet = createResponse(shape.createMany(resultSize));
+            channel = new ByteBufferChannel(packet);
+        }
+
+    }
+
+    @Benchmark
+    public ByteBuffer createSelectPacket() throws IOException {
+        return ProtoUtils.createPacket(
+            msgPackLite, Code.SELECT, ++syncId, SCHEMA_ID,
+            Key.SPACE, SPACE_ID,
+            Key.INDEX, 0,
+            Key.KEY, key,
+            Key.ITERATOR, Iterator.EQ.getValue(),
+            Key.LIMIT, Integer.MAX_VALUE,
+            Key.OFFSET, 0
+        );
+    }
+
+    @Benchmark
+    public ByteBuffer createInsertPacket(Request request) throws IOException {
+        return ProtoUtils.createPacket(
+            msgPackLite, Code.INSERT, ++syncId, SCHEMA_ID,
+            Key.SPACE, SPACE_ID,
+            Key.TUPLE, request.tuple
+        );
+    }
+
+    @Benchmark
+    public TarantoolPacket readPacket(Response response) throws IOException {
+        response.channel.rewind();
+        return ProtoUtils.readPacket(response.channel, msgPackLite);
+    }
+
+    @Benchmark
+    public TarantoolPacket decodePacket(Response response) throws IOException {
+        ByteBuffer packet = response.packet.duplicate();
+        packet.position(ProtoUtils.LENGTH_OF_SIZE_MESSAGE);
+        return ProtoUtils.decodePacket(packet.slice(), msgPackLite);
+    }
+
+    /**
+     * Creates a framed response to a select request
+     * in the same way as the server does.
+     */
+    private static ByteBuffer createResponse(List<?> data) throws IOException {
+        final MsgPackLite msgPackLite = MsgPackLite.INSTANCE;
+        Map<Key, Object> header = new EnumMap<>(Key.class);
+        header.put(Key.CODE, 0);
+        header.put(Key.SYNC, 1L);
+        header.put(Key.SCHEMA_ID, SCHEMA_ID);
+        Map<Key, Object> body = new EnumMap<>(Key.class);
+        body.put(Key.DATA, data);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[ProtoUtils.LENGTH_OF_SIZE_MESSAGE]);
+        msgPackLite.pack(header, bytes);
+        msgPackLite.pack(body, bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        buffer.put(0, (byte) 0xce);
+        buffer.putInt(1, buffer.remaining() - ProtoUtils.LENGTH_OF_SIZE_MESSAGE);
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Blocking channel replaying the same bytes.
+     */
+    private static class ByteBufferChannel implements ReadableByteChannel {
+
+        private final ByteBuffer source;
+        private ByteBuffer buffer;
+
+        ByteBufferChannel(ByteBuffer source) {
+            this.source = source;
+        }
+
+        void rewind() {
+            buffer = source.duplicate();
+        }
+
+        @Override
+        public int read(ByteBuffer destination) {
+            int count = Math.min(destination.remaining(), buffer.remaining());
+            ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(chunk.position() + count);
+            destination.put(chunk);
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
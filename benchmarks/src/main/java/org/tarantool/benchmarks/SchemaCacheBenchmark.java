@@ -0,0 +1,98 @@
+package org.tarantool.benchmarks;
+
+import org.tarantool.TarantoolClientConfig;
+import org.tarantool.TarantoolClientImpl;
+import org.tarantool.schema.TarantoolIndexMeta;
+import org.tarantool.schema.TarantoolMetaSpacesCache;
+import org.tarantool.schema.TarantoolSpaceMeta;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures name lookups in {@link TarantoolMetaSpacesCache}
+ * which are performed for each request referring a space
+ * or an index by name.
+ * <p>
+ * The cache is loaded from a {@link FakeTarantoolServer}
+ * once, the lookups do not touch the network.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaCacheBenchmark {
+
+    @Param({ "10", "1000" })
+    private int spaceCount;
+
+    private FakeTarantoolServer server;
+    private TarantoolClientImpl client;
+    private TarantoolMetaSpacesCache cache;
+    private String[] spaceNames;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new FakeTarantoolServer().start();
+        spaceNames = new String[spaceCount];
+        for (int i = 0; i < spaceCount; i++) {
+            spaceNames[i] = "space_" + i;
+            server.createSpace(spaceNames[i], "id", "name");
+        }
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        config.initTimeoutMillis = 10000;
+        client = new TarantoolClientImpl(server.getAddress(), config);
+
+        cache = new TarantoolMetaSpacesCache(client);
+        cache.refresh();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public TarantoolSpaceMeta getSpace() {
+        return cache.getSpace(nextSpaceName());
+    }
+
+    @Benchmark
+    public TarantoolIndexMeta getSpaceIndex() {
+        return cache.getSpaceIndex(nextSpaceName(), "primary");
+    }
+
+    /**
+     * The same lookups issued by many request threads
+     * as a loaded client does.
+     */
+    @Benchmark
+    @Threads(32)
+    public TarantoolIndexMeta getSpaceIndexContended() {
+        return cache.getSpaceIndex(nextSpaceName(), "primary");
+    }
+
+    private String nextSpaceName() {
+        return spaceNames[ThreadLocalRandom.current().nextInt(spaceNames.length)];
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.tarantool.benchmarks;
+
+import org.tarantool.SqlProtoUtils;
+import org.tarantool.jdbc.SQLResultHolder;
+import org.tarantool.jdbc.SQLResultSet;
+import org.tarantool.jdbc.TarantoolStatement;
+import org.tarantool.jdbc.type.TarantoolSqlType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures iteration over {@link SQLResultSet} reading
+ * columns by indexes and by labels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlResultSetBenchmark {
+
+    @Param({ "1000" })
+    private int rowCount;
+
+    private SQLResultSet resultSet;
+
+    @Setup
+    public void setUp() throws SQLException {
+        final List<SqlProtoUtils.SQLMetaData> metadata = Arrays.asList(
+            new SqlProtoUtils.SQLMetaData("ID", TarantoolSqlType.INTEGER),
+            new SqlProtoUtils.SQLMetaData("NAME", TarantoolSqlType.VARCHAR),
+            new SqlProtoUtils.SQLMetaData("AMOUNT", TarantoolSqlType.DOUBLE),
+            new SqlProtoUtils.SQLMetaData("ACTIVE", TarantoolSqlType.BOOLEAN)
+        );
+        List<List<Object>> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(Arrays.asList(i, "name-" + i, i * 0.25, i % 2 == 0));
+        }
+
+        Map<String, Object> connectionAnswers = new HashMap<>();
+        connectionAnswers.put("isReadOnly", false);
+        Map<String, Object> statementAnswers = new HashMap<>();
+        statementAnswers.put("getConnection", createStub(Connection.class, connectionAnswers));
+        statementAnswers.put("getResultSetType", ResultSet.TYPE_SCROLL_INSENSITIVE);
+        statementAnswers.put("getResultSetConcurrency", ResultSet.CONCUR_READ_ONLY);
+        statementAnswers.put("getResultSetHoldability", ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        statementAnswers.put("getMaxRows", 0);
+        statementAnswers.put("getMaxFieldSize", 0);
+        statementAnswers.put("isClosed", false);
+        statementAnswers.put("checkCompletion", null);
+        TarantoolStatement statement = createStub(TarantoolStatement.class, statementAnswers);
+        resultSet = new SQLResultSet(SQLResultHolder.ofQuery(metadata, rows), statement);
+    }
+
+    /**
+     * Creates a stub of an interface answering the calls
+     * the result set makes by the method names.
+     */
+    private static <T> T createStub(Class<T> type, Map<String, Object> answers) {
+        Object stub = Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> {
+                if (!answers.containsKey(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                return answers.get(method.getName());
+            }
+        );
+        return type.cast(stub);
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(resultSet.getLong(1));
+            blackhole.consume(resultSet.getString(2));
+            blackhole.consume(resultSet.getDouble(3));
+            blackhole.consume(resultSet.getBoolean(4));
+        }
+    }
+
+    @Benchmark
+    public void getByLabel(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(resultSet.getLong("id"));
+            blackhole.consume(resultSet.getString("name"));
+            blackhole.consume(resultSet.getDouble("amount"));
+            blackhole.consume(resultSet.getBoolean("active"));
+        }
+    }
+
+    @Benchmark
+    public void getObject(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            for (int i = 1; i <= 4; i++) {
+                blackhole.consume(resultSet.getObject(i));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.tarantool.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typical tuple layouts used as benchmark payloads.
+ */
+public enum TupleShape {
+
+    /**
+     * Key-value pair: {@code [id, name]}.
+     */
+    SMALL {
+        @Override
+        public List<?> create(int id) {
+            return Arrays.asList(id, "name-" + id);
+        }
+    },
+
+    /**
+     * Row of a wide table with scalar fields of different types.
+     */
+    WIDE {
+        @Override
+        public List<?> create(int id) {
+            List<Object> tuple = new ArrayList<>(24);
+            tuple.add(id);
+            for (int i = 0; i < 5; i++) {
+                tuple.add((long) id * 1_000_003 + i);
+                tuple.add("field-" + i + "-" + id);
+                tuple.add(id * 0.5 + i);
+                tuple.add(i % 2 == 0);
+            }
+            tuple.add(null);
+            return tuple;
+        }
+    },
+
+    /**
+     * Document-like tuple with nested maps and arrays.
+     */
+    NESTED {
+        @Override
+        public List<?> create(int id) {
+            Map<String, Object> address = new HashMap<>();
+            address.put("city", "Moscow");
+            address.put("street", "Tverskaya");
+            address.put("building", id % 100);
+            Map<String, Object> profile = new HashMap<>();
+            profile.put("email", "user" + id + "@example.com");
+            profile.put("tags", Arrays.asList("alpha", "beta", "gamma"));
+            profile.put("address", address);
+            return Arrays.asList(id, profile, Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)));
+        }
+    },
+
+    /**
+     * Tuple carrying a 1 KiB binary payload.
+     */
+    BINARY {
+        @Override
+        public List<?> create(int id) {
+            byte[] payload = new byte[1024];
+            Arrays.fill(payload, (byte) id);
+            return Arrays.asList(id, payload);
+        }
+    };
+
+    /**
+     * Creates a tuple of this shape.
+     *
+     * @param id primary key of the tuple
+     *
+     * @return new tuple
+     */
+    public abstract List<?> create(int id);
+
+    /**
+     * Creates tuples of this shape with sequential ids.
+     *
+     * @param count number of tuples
+     *
+     * @return new tuples
+     */
+    public List<List<?>> createMany(int count) {
+        List<List<?>> tuples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tuples.add(create(i));
+        }
+        return Collections.unmodifiableList(tuples);
+    }
+
+}
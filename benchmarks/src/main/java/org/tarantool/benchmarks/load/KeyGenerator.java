@@ -0,0 +1,40 @@
+package org.tarantool.benchmarks.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates keys in range {@code [0, keyCount)}.
+ * <p>
+ * Implementations are safe to be used by many threads.
+ */
+public interface KeyGenerator {
+
+    long nextKey();
+
+    /**
+     * Creates a generator which chooses every key
+     * with the same probability.
+     *
+     * @param keyCount number of keys
+     *
+     * @return key generator
+     */
+    static KeyGenerator uniform(long keyCount) {
+        return () -> ThreadLocalRandom.current().nextLong(keyCount);
+    }
+
+    /**
+     * Creates a generator which chooses keys by the
+     * Zipf's law, so the key {@code 0} is the most
+     * popular one.
+     *
+     * @param keyCount number of keys
+     * @param theta    skew of the distribution in range (0, 1)
+     *
+     * @return key generator
+     */
+    static KeyGenerator zipfian(long keyCount, double theta) {
+        return new ZipfianKeyGenerator(keyCount, theta);
+    }
+
+}
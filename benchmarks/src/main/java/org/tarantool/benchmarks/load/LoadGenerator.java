@@ -0,0 +1,435 @@
+package org.tarantool.benchmarks.load;
+
+import org.tarantool.TarantoolClient;
+import org.tarantool.TarantoolClientConfig;
+import org.tarantool.TarantoolClientImpl;
+import org.tarantool.TarantoolClusterClient;
+import org.tarantool.TarantoolClusterClientConfig;
+import org.tarantool.metrics.LatencyHistogram;
+import org.tarantool.metrics.LatencySnapshot;
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeSqlResult;
+import org.tarantool.server.FakeTarantoolServer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open model load generator.
+ * <p>
+ * Requests are sent at the fixed target rate regardless
+ * of the responses, so a slow server or client cannot
+ * slow down the load. Latencies are measured from the
+ * time a request was scheduled to be sent instead of
+ * the time it was actually sent. It avoids the coordinated
+ * omission: a stall delays the requests queued behind it
+ * and their latencies include the stall. Both the corrected
+ * response time and the uncorrected service time are
+ * reported to make the difference visible.
+ * <p>
+ * Run it from the benchmarks jar:
+ * <pre>
+ * java -cp target/benchmarks.jar org.tarantool.benchmarks.load.LoadGenerator \
+ *   --addresses=localhost:3301 --username=admin --password=secret \
+ *   --rate=20000 --connections=2 --mix=select:90,upsert:10 --keys=zipfian
+ * </pre>
+ * See {@link LoadOptions} for all the options.
+ */
+public class LoadGenerator implements AutoCloseable {
+
+    private static final String SETUP_SCRIPT = "local name = ...\n" +
+        "local space = box.schema.space.create(name, {if_not_exists = true, format = {" +
+        "{name = 'id', type = 'unsigned'}, {name = 'value', type = 'string'}}})\n" +
+        "space:create_index('primary', {if_not_exists = true, parts = {'id'}})\n" +
+        "space:truncate()";
+
+    private static final int PRELOAD_BATCH_SIZE = 1000;
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 99.99, 100 };
+
+    private final LoadOptions options;
+    private final List<FakeTarantoolServer> fakeServers = new ArrayList<>();
+    private final List<TarantoolClient> clients = new ArrayList<>();
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final KeyGenerator keyGenerator;
+    private final AtomicLong nextInsertKey;
+
+    private final Phase warmup;
+    private final Phase measurement;
+    private volatile LatencyHistogram interval;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    private long measurementStartNanos;
+    private long endNanos;
+
+    public LoadGenerator(LoadOptions options) {
+        this.options = options;
+        List<Operation> weighted = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : options.mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                weighted.add(entry.getKey());
+                weights.add(total);
+            }
+        }
+        this.operations = weighted.toArray(new Operation[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+        this.keyGenerator = options.createKeyGenerator();
+        this.nextInsertKey = new AtomicLong(options.keyCount);
+        this.warmup = new Phase(options.connections);
+        this.measurement = new Phase(options.connections);
+        this.interval = new LatencyHistogram(options.connections);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        try (LoadGenerator generator = new LoadGenerator(options)) {
+            generator.start();
+            generator.run(System.out);
+        }
+    }
+
+    /**
+     * Starts the fake servers if needed, connects the
+     * clients and preloads the keys.
+     *
+     * @throws IOException if a fake server cannot be started
+     */
+    public void start() throws IOException {
+        List<String> addresses = options.addresses;
+        if (options.fakeNodes > 0) {
+            addresses = new ArrayList<>();
+            for (int i = 0; i < options.fakeNodes; i++) {
+                FakeTarantoolServer server = startFakeServer();
+                fakeServers.add(server);
+                addresses.add(server.getAddress());
+            }
+        }
+        for (int i = 0; i < options.connections; i++) {
+            clients.add(createClient(addresses, i));
+        }
+        if (!options.skipPreload && fakeServers.isEmpty()) {
+            preload(clients.get(0));
+        }
+    }
+
+    /**
+     * Generates the load and prints the progress and
+     * the results.
+     *
+     * @param out output for the report
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    public void run(PrintStream out) throws InterruptedException {
+        out.println("Options: " + options);
+        long startNanos = System.nanoTime();
+        measurementStartNanos = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        endNanos = measurementStartNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) * (double) options.connections / options.rate;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < options.connections; i++) {
+            TarantoolClient client = clients.get(i);
+            long firstNanos = startNanos + (long) (intervalNanos * i / options.connections);
+            Thread worker = new Thread(() -> generate(client, firstNanos, intervalNanos), "loadgen-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long lastCompleted = 0;
+        for (int second = 1; System.nanoTime() < endNanos; second++) {
+            long nextReport = startNanos + TimeUnit.SECONDS.toNanos(second);
+            sleepUntil(nextReport);
+            long done = completed.sum();
+            LatencySnapshot snapshot = interval.getSnapshot();
+            interval = new LatencyHistogram(options.connections);
+            out.printf(
+                "%4ds %s %8d req/s, in flight %6d, p50 %s, p99 %s, max %s%n",
+                second,
+                nextReport <= measurementStartNanos ? "warmup " : "measure",
+                done - lastCompleted,
+                sent.sum() - done,
+                formatNanos(snapshot.getValueAtPercentile(50)),
+                formatNanos(snapshot.getValueAtPercentile(99)),
+                formatNanos(snapshot.getMax())
+            );
+            lastCompleted = done;
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        awaitCompletion();
+        printResults(out);
+    }
+
+    @Override
+    public void close() {
+        for (TarantoolClient client : clients) {
+            client.close();
+        }
+        for (FakeTarantoolServer server : fakeServers) {
+            server.close();
+        }
+    }
+
+    /**
+     * Sends the requests at the scheduled times. A worker
+     * behind the schedule sends the overdue requests one
+     * after another without waiting, so the rate is kept
+     * while the delay is accounted in the latencies.
+     */
+    private void generate(TarantoolClient client, long firstNanos, double intervalNanos) {
+        for (long i = 0; ; i++) {
+            long intendedNanos = firstNanos + (long) (intervalNanos * i);
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            sleepUntil(intendedNanos);
+            send(client, intendedNanos);
+        }
+    }
+
+    private void send(TarantoolClient client, long intendedNanos) {
+        final Phase phase = intendedNanos < measurementStartNanos ? warmup : measurement;
+        Operation operation = nextOperation();
+        long key = operation == Operation.INSERT ? nextInsertKey.getAndIncrement() : keyGenerator.nextKey();
+        sent.increment();
+        long sentNanos = System.nanoTime();
+        phase.sendLag.accumulate(sentNanos - intendedNanos);
+        CompletionStage<?> result;
+        try {
+            result = toStage(operation.submit(client, options.api, options, key));
+        } catch (RuntimeException e) {
+            CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            result = failed;
+        }
+        result.whenComplete((value, error) -> {
+            long doneNanos = System.nanoTime();
+            phase.record(operation, doneNanos - intendedNanos, doneNanos - sentNanos, error != null);
+            interval.record(doneNanos - intendedNanos);
+            completed.increment();
+        });
+    }
+
+    private Operation nextOperation() {
+        if (operations.length == 1) {
+            return operations[0];
+        }
+        int weight = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (weight < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Waits for the responses to the sent requests but not
+     * longer than they can be pending before the expiration.
+     */
+    private void awaitCompletion() throws InterruptedException {
+        long deadline = System.nanoTime() +
+            TimeUnit.MILLISECONDS.toNanos(options.operationExpiryTimeMillis + 1000);
+        while (completed.sum() < sent.sum() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void printResults(PrintStream out) {
+        LatencySnapshot response = measurement.response.getSnapshot();
+        LatencySnapshot service = measurement.service.getSnapshot();
+        out.println();
+        out.printf(
+            "Target rate %d req/s, achieved %.1f req/s over %d s%n",
+            options.rate,
+            (double) response.getCount() / options.durationSeconds,
+            options.durationSeconds
+        );
+        out.printf(
+            "Completed %d, failed %d, not completed %d, max send lag %s%n",
+            response.getCount(),
+            measurement.errors.sum(),
+            sent.sum() - completed.sum(),
+            formatNanos(measurement.sendLag.get())
+        );
+        out.println();
+        out.printf("%-12s %14s %14s%n", "percentile", "response time", "service time");
+        for (double percentile : PERCENTILES) {
+            out.printf(
+                "%-12s %14s %14s%n",
+                formatPercentile(percentile),
+                formatNanos(response.getValueAtPercentile(percentile)),
+                formatNanos(service.getValueAtPercentile(percentile))
+            );
+        }
+        out.printf(
+            "%-12s %14s %14s%n", "mean", formatNanos((long) response.getMean()), formatNanos((long) service.getMean())
+        );
+        out.println();
+        out.printf("%-12s %10s %12s %12s %12s %12s%n", "operation", "count", "p50", "p99", "p99.9", "max");
+        for (Map.Entry<Operation, LatencyHistogram> entry : measurement.operations.entrySet()) {
+            LatencySnapshot snapshot = entry.getValue().getSnapshot();
+            if (snapshot.getCount() == 0) {
+                continue;
+            }
+            out.printf(
+                "%-12s %10d %12s %12s %12s %12s%n",
+                entry.getKey().name().toLowerCase(),
+                snapshot.getCount(),
+                formatNanos(snapshot.getValueAtPercentile(50)),
+                formatNanos(snapshot.getValueAtPercentile(99)),
+                formatNanos(snapshot.getValueAtPercentile(99.9)),
+                formatNanos(snapshot.getMax())
+            );
+        }
+    }
+
+    private TarantoolClient createClient(List<String> addresses, int index) {
+        if (options.cluster) {
+            TarantoolClusterClientConfig config = new TarantoolClusterClientConfig();
+            configure(config);
+            return new TarantoolClusterClient(config, addresses.toArray(new String[0]));
+        }
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        configure(config);
+        return new TarantoolClientImpl(addresses.get(index % addresses.size()), config);
+    }
+
+    private void configure(TarantoolClientConfig config) {
+        config.username = options.username;
+        config.password = options.password;
+        config.sharedBufferSize = options.sharedBufferSize;
+        config.directWriteFactor = options.directWriteFactor;
+        config.operationExpiryTimeMillis = options.operationExpiryTimeMillis;
+    }
+
+    /**
+     * Creates the load space on a real server and fills
+     * it with the keys using pipelined requests.
+     */
+    private void preload(TarantoolClient client) {
+        client.syncOps().eval(SETUP_SCRIPT, options.space);
+        List<CompletableFuture<?>> batch = new ArrayList<>(PRELOAD_BATCH_SIZE);
+        for (long key = 0; key < options.keyCount; key++) {
+            batch.add(
+                client.composableAsyncOps()
+                    .replace(options.space, Arrays.asList(key, options.getValue()))
+                    .toCompletableFuture()
+            );
+            if (batch.size() == PRELOAD_BATCH_SIZE || key == options.keyCount - 1) {
+                CompletableFuture.allOf(batch.toArray(new CompletableFuture[0])).join();
+                batch.clear();
+            }
+        }
+    }
+
+    private FakeTarantoolServer startFakeServer() throws IOException {
+        FakeTarantoolServer server = new FakeTarantoolServer().start();
+        if (options.username != null && options.password != null) {
+            server.addUser(options.username, options.password);
+        }
+        final FakeSpace space = server.createSpace(options.space, "id", "value");
+        for (long key = 0; key < options.keyCount; key++) {
+            space.insert(Arrays.asList(key, options.getValue()));
+        }
+        server.registerFunction(options.getFunction(), args -> {
+            List<?> tuple = space.get(args.get(0));
+            return tuple == null ? Collections.emptyList() : Collections.singletonList(tuple);
+        });
+        server.registerSql(options.getSql(), args -> {
+            List<?> tuple = space.get(args.get(0));
+            return FakeSqlResult.ofQuery(
+                Collections.singletonList("value"),
+                tuple == null
+                    ? Collections.emptyList()
+                    : Collections.singletonList(Collections.singletonList(tuple.get(1)))
+            );
+        });
+        server.setLatency(options.fakeLatencyMicros, options.fakeJitterMicros, TimeUnit.MICROSECONDS);
+        return server;
+    }
+
+    private static CompletionStage<?> toStage(Object result) {
+        if (result instanceof CompletionStage) {
+            return (CompletionStage<?>) result;
+        }
+        throw new IllegalStateException("Future of " + result.getClass().getName() + " cannot be composed");
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        if (percentile == 100) {
+            return "max";
+        }
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Latencies recorded during the warmup or the measurement.
+     */
+    private static class Phase {
+
+        private final LatencyHistogram response;
+        private final LatencyHistogram service;
+        private final Map<Operation, LatencyHistogram> operations = new EnumMap<>(Operation.class);
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator sendLag = new LongAccumulator(Math::max, 0);
+
+        Phase(int concurrency) {
+            this.response = new LatencyHistogram(concurrency);
+            this.service = new LatencyHistogram(concurrency);
+            for (Operation operation : Operation.values()) {
+                operations.put(operation, new LatencyHistogram(concurrency));
+            }
+        }
+
+        void record(Operation operation, long responseNanos, long serviceNanos, boolean failed) {
+            response.record(responseNanos);
+            service.record(serviceNanos);
+            operations.get(operation).record(responseNanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,295 @@
+package org.tarantool.benchmarks.load;
+
+import org.tarantool.TarantoolClientConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the {@link LoadGenerator} parsed from
+ * {@code --name=value} command line arguments.
+ */
+public class LoadOptions {
+
+    /**
+     * Comma separated list of {@code host:port} addresses.
+     */
+    public List<String> addresses = Collections.singletonList("localhost:3301");
+
+    /**
+     * Uses a {@link org.tarantool.TarantoolClusterClient}
+     * over all the addresses instead of a client per address.
+     */
+    public boolean cluster = false;
+
+    /**
+     * Number of in-process fake servers to be started
+     * instead of connecting to the addresses.
+     */
+    public int fakeNodes = 0;
+
+    /**
+     * Response latency of the fake servers in microseconds.
+     */
+    public long fakeLatencyMicros = 0;
+
+    /**
+     * Response latency jitter of the fake servers in microseconds.
+     */
+    public long fakeJitterMicros = 0;
+
+    public String username;
+    public String password;
+
+    /**
+     * Number of clients sharing the load.
+     */
+    public int connections = 1;
+
+    /**
+     * Target number of requests per second of all the clients.
+     */
+    public int rate = 10_000;
+
+    public int warmupSeconds = 10;
+    public int durationSeconds = 60;
+
+    /**
+     * Weights of the operations in the load.
+     */
+    public Map<Operation, Integer> mix = parseMix("select:80,insert:5,upsert:10,call:5");
+
+    public Operation.ApiStyle api = Operation.ApiStyle.COMPOSABLE;
+
+    /**
+     * Key distribution, either {@code uniform} or {@code zipfian}.
+     */
+    public String keys = "uniform";
+
+    /**
+     * Number of the preloaded keys to be selected and upserted.
+     */
+    public int keyCount = 100_000;
+
+    public double zipfianTheta = 0.99;
+
+    /**
+     * Size of the tuple value field in characters.
+     */
+    public int valueSize = 100;
+
+    public String space = "loadgen";
+
+    /**
+     * Function to be called by the {@link Operation#CALL}.
+     * Defaults to {@code get} of the load space.
+     */
+    public String function;
+
+    /**
+     * Statement to be executed by the {@link Operation#SQL}.
+     * Defaults to a select by the primary key.
+     */
+    public String sql;
+
+    /**
+     * Skips the space creation and the key preloading.
+     */
+    public boolean skipPreload = false;
+
+    public int sharedBufferSize = new TarantoolClientConfig().sharedBufferSize;
+    public double directWriteFactor = new TarantoolClientConfig().directWriteFactor;
+    public int operationExpiryTimeMillis = TarantoolClientConfig.DEFAULT_OPERATION_EXPIRY_TIME_MILLIS;
+
+    private String value;
+
+    /**
+     * Parses the options.
+     *
+     * @param args command line arguments
+     *
+     * @return parsed options
+     *
+     * @throws IllegalArgumentException if an argument is unknown or invalid
+     */
+    public static LoadOptions parse(String... args) {
+        LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            String value = separator < 0 ? "true" : arg.substring(separator + 1);
+            try {
+                options.set(name, value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value of --" + name + ": " + value, e);
+            }
+        }
+        options.validate();
+        return options;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+        case "addresses":
+            addresses = Arrays.asList(value.split(","));
+            break;
+        case "cluster":
+            cluster = Boolean.parseBoolean(value);
+            break;
+        case "fake-nodes":
+            fakeNodes = Integer.parseInt(value);
+            break;
+        case "fake-latency":
+            fakeLatencyMicros = Long.parseLong(value);
+            break;
+        case "fake-jitter":
+            fakeJitterMicros = Long.parseLong(value);
+            break;
+        case "username":
+            username = value;
+            break;
+        case "password":
+            password = value;
+            break;
+        case "connections":
+            connections = Integer.parseInt(value);
+            break;
+        case "rate":
+            rate = Integer.parseInt(value);
+            break;
+        case "warmup":
+            warmupSeconds = Integer.parseInt(value);
+            break;
+        case "duration":
+            durationSeconds = Integer.parseInt(value);
+            break;
+        case "mix":
+            mix = parseMix(value);
+            break;
+        case "api":
+            api = Operation.ApiStyle.valueOf(value.toUpperCase());
+            break;
+        case "keys":
+            keys = value;
+            break;
+        case "key-count":
+            keyCount = Integer.parseInt(value);
+            break;
+        case "zipfian-theta":
+            zipfianTheta = Double.parseDouble(value);
+            break;
+        case "value-size":
+            valueSize = Integer.parseInt(value);
+            break;
+        case "space":
+            space = value;
+            break;
+        case "function":
+            function = value;
+            break;
+        case "sql":
+            sql = value;
+            break;
+        case "skip-preload":
+            skipPreload = Boolean.parseBoolean(value);
+            break;
+        case "shared-buffer-size":
+            sharedBufferSize = Integer.parseInt(value);
+            break;
+        case "direct-write-factor":
+            directWriteFactor = Double.parseDouble(value);
+            break;
+        case "operation-expiry-time":
+            operationExpiryTimeMillis = Integer.parseInt(value);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+
+    private void validate() {
+        if (rate <= 0 || connections <= 0 || durationSeconds <= 0 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("Rate, connections and duration must be positive");
+        }
+        if (keyCount < 2) {
+            throw new IllegalArgumentException("Key count must be at least 2");
+        }
+        if (!keys.equals("uniform") && !keys.equals("zipfian")) {
+            throw new IllegalArgumentException("Key distribution must be uniform or zipfian");
+        }
+    }
+
+    /**
+     * Parses weights in form of {@code select:80,upsert:20}.
+     */
+    static Map<Operation, Integer> parseMix(String text) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String item : text.split(",")) {
+            String[] pair = item.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid operation weight " + item);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Operation weight must not be negative");
+            }
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight");
+        }
+        return weights;
+    }
+
+    KeyGenerator createKeyGenerator() {
+        return keys.equals("zipfian")
+            ? KeyGenerator.zipfian(keyCount, zipfianTheta)
+            : KeyGenerator.uniform(keyCount);
+    }
+
+    String getValue() {
+        if (value == null) {
+            char[] chars = new char[valueSize];
+            Arrays.fill(chars, 'x');
+            value = new String(chars);
+        }
+        return value;
+    }
+
+    String getFunction() {
+        return function != null ? function : "box.space." + space + ":get";
+    }
+
+    String getSql() {
+        return sql != null ? sql : "SELECT \"value\" FROM \"" + space + "\" WHERE \"id\" = ?";
+    }
+
+    /**
+     * Prints the options to be shown along with
+     * the results.
+     */
+    @Override
+    public String toString() {
+        return "addresses=" + addresses +
+            ", cluster=" + cluster +
+            ", fakeNodes=" + fakeNodes +
+            ", connections=" + connections +
+            ", rate=" + rate +
+            ", warmup=" + warmupSeconds + "s" +
+            ", duration=" + durationSeconds + "s" +
+            ", mix=" + mix +
+            ", api=" + api +
+            ", keys=" + keys +
+            ", keyCount=" + keyCount +
+            ", valueSize=" + valueSize +
+            ", sharedBufferSize=" + sharedBufferSize +
+            ", directWriteFactor=" + directWriteFactor;
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.tarantool.benchmarks.load;
+
+import org.tarantool.Iterator;
+import org.tarantool.TarantoolClient;
+import org.tarantool.TarantoolClientOps;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Request types issued by the {@link LoadGenerator}.
+ * <p>
+ * Every operation works with {@code [id, value]} tuples
+ * of the load space and returns a future or a completion
+ * stage depending on the used {@link ApiStyle}.
+ */
+public enum Operation {
+
+    SELECT {
+        @Override
+        Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key) {
+            return api.ops(client).select(
+                options.space, PRIMARY_INDEX, Collections.singletonList(key), 0, 1, Iterator.EQ
+            );
+        }
+    },
+
+    INSERT {
+        @Override
+        Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key) {
+            return api.ops(client).insert(options.space, Arrays.asList(key, options.getValue()));
+        }
+    },
+
+    UPSERT {
+        @Override
+        Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key) {
+            List<?> tuple = Arrays.asList(key, options.getValue());
+            return api.ops(client).upsert(
+                options.space, Collections.singletonList(key), tuple, Arrays.asList("=", 1, options.getValue())
+            );
+        }
+    },
+
+    CALL {
+        @Override
+        Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key) {
+            return api.ops(client).call(options.getFunction(), key);
+        }
+    },
+
+    SQL {
+        @Override
+        Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key) {
+            return client.sqlAsyncOps().query(options.getSql(), key);
+        }
+    };
+
+    static final String PRIMARY_INDEX = "primary";
+
+    /**
+     * Sends a request without waiting for the response.
+     *
+     * @param client  client to be used
+     * @param api     operations to be used
+     * @param options load options
+     * @param key     tuple key
+     *
+     * @return pending result as a {@link java.util.concurrent.Future}
+     *         or a {@link java.util.concurrent.CompletionStage}
+     */
+    abstract Object submit(TarantoolClient client, ApiStyle api, LoadOptions options, long key);
+
+    /**
+     * Client operations used to send the requests.
+     */
+    public enum ApiStyle {
+
+        /**
+         * Uses {@link TarantoolClient#asyncOps()}.
+         */
+        ASYNC {
+            @Override
+            TarantoolClientOps<Integer, List<?>, Object, ?> ops(TarantoolClient client) {
+                return client.asyncOps();
+            }
+        },
+
+        /**
+         * Uses {@link TarantoolClient#composableAsyncOps()}.
+         */
+        COMPOSABLE {
+            @Override
+            TarantoolClientOps<Integer, List<?>, Object, ?> ops(TarantoolClient client) {
+                return client.composableAsyncOps();
+            }
+        };
+
+        abstract TarantoolClientOps<Integer, List<?>, Object, ?> ops(TarantoolClient client);
+
+    }
+
+}
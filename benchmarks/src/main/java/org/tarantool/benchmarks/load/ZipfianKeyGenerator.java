@@ -0,0 +1,58 @@
+package org.tarantool.benchmarks.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipfian key generator using the algorithm from
+ * "Quickly Generating Billion-Record Synthetic Databases"
+ * by Gray et al. in the same way as YCSB does.
+ * <p>
+ * The generator computes the zeta constant on creation
+ * that takes a linear time of the number of keys.
+ */
+class ZipfianKeyGenerator implements KeyGenerator {
+
+    private final long keyCount;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    ZipfianKeyGenerator(long keyCount, double theta) {
+        if (keyCount < 2) {
+            throw new IllegalArgumentException("Key count must be at least 2");
+        }
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("Theta must be in range (0, 1)");
+        }
+        this.keyCount = keyCount;
+        this.theta = theta;
+        this.alpha = 1 / (1 - theta);
+        this.zetaN = zeta(keyCount, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / keyCount, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    @Override
+    public long nextKey() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1) {
+            return 0;
+        }
+        if (uz < 1 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        long key = (long) (keyCount * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(key, keyCount - 1);
+    }
+
+    private static double zeta(long count, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= count; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+}
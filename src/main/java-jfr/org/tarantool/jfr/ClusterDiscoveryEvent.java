@@ -0,0 +1,24 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.ClusterDiscovery")
+@Label("Cluster Discovery")
+@Description("Cluster nodes are discovered")
+@Category({"Tarantool", "Client"})
+@StackTrace(true)
+final class ClusterDiscoveryEvent extends Event {
+
+    @Label("Instances")
+    int instances;
+
+    @Label("Changed")
+    @Description("The discovered instances differ from the previous ones")
+    boolean changed;
+
+}
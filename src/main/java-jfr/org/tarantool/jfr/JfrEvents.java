@@ -0,0 +1,159 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Creates and commits the JFR events.
+ * <p>
+ * This class refers to {@code jdk.jfr} API and must be
+ * loaded only if the API is available at runtime.
+ */
+final class JfrEvents implements FlightRecorderEvents {
+
+    @Override
+    public boolean install() {
+        if (!FlightRecorder.isAvailable()) {
+            return false;
+        }
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                updateRecordingState(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                updateRecordingState(FlightRecorder.getFlightRecorder());
+            }
+        });
+        return true;
+    }
+
+    private static void updateRecordingState(FlightRecorder recorder) {
+        boolean recording = recorder.getRecordings().stream()
+            .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+        TarantoolFlightRecorder.setRecording(recording);
+    }
+
+    private static Object begin(Event event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Object beginRequestSubmit() {
+        return begin(new RequestSubmitEvent());
+    }
+
+    @Override
+    public void endRequestSubmit(Object event, String code, long syncId, boolean delayed) {
+        RequestSubmitEvent submitEvent = (RequestSubmitEvent) event;
+        submitEvent.end();
+        if (submitEvent.shouldCommit()) {
+            submitEvent.code = code;
+            submitEvent.syncId = syncId;
+            submitEvent.delayed = delayed;
+            submitEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginSocketWrite() {
+        return begin(new SocketWriteEvent());
+    }
+
+    @Override
+    public void endSocketWrite(Object event, int bytes, int requests) {
+        SocketWriteEvent writeEvent = (SocketWriteEvent) event;
+        writeEvent.end();
+        if (writeEvent.shouldCommit()) {
+            writeEvent.bytes = bytes;
+            writeEvent.requests = requests;
+            writeEvent.commit();
+        }
+    }
+
+    @Override
+    public void responseRead(long syncId, int bytes, long responseTime) {
+        ResponseReadEvent readEvent = new ResponseReadEvent();
+        if (readEvent.shouldCommit()) {
+            readEvent.syncId = syncId;
+            readEvent.bytes = bytes;
+            readEvent.responseTime = responseTime;
+            readEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginResponseDecode() {
+        return begin(new ResponseDecodeEvent());
+    }
+
+    @Override
+    public void endResponseDecode(Object event, int bytes) {
+        ResponseDecodeEvent decodeEvent = (ResponseDecodeEvent) event;
+        decodeEvent.end();
+        if (decodeEvent.shouldCommit()) {
+            decodeEvent.bytes = bytes;
+            decodeEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginSchemaRefresh() {
+        return begin(new SchemaRefreshEvent());
+    }
+
+    @Override
+    public void endSchemaRefresh(Object event, String kind, int spaces, long schemaVersion) {
+        SchemaRefreshEvent refreshEvent = (SchemaRefreshEvent) event;
+        refreshEvent.end();
+        if (refreshEvent.shouldCommit()) {
+            refreshEvent.kind = kind;
+            refreshEvent.spaces = spaces;
+            refreshEvent.schemaVersion = schemaVersion;
+            refreshEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginReconnect() {
+        return begin(new ReconnectEvent());
+    }
+
+    @Override
+    public void endReconnect(Object event, String address, int attempts, boolean successful) {
+        ReconnectEvent reconnectEvent = (ReconnectEvent) event;
+        reconnectEvent.end();
+        if (reconnectEvent.shouldCommit()) {
+            reconnectEvent.address = address;
+            reconnectEvent.attempts = attempts;
+            reconnectEvent.successful = successful;
+            reconnectEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginClusterDiscovery() {
+        return begin(new ClusterDiscoveryEvent());
+    }
+
+    @Override
+    public void endClusterDiscovery(Object event, int instances, boolean changed) {
+        ClusterDiscoveryEvent discoveryEvent = (ClusterDiscoveryEvent) event;
+        discoveryEvent.end();
+        if (discoveryEvent.shouldCommit()) {
+            discoveryEvent.instances = instances;
+            discoveryEvent.changed = changed;
+            discoveryEvent.commit();
+        }
+    }
+
+}
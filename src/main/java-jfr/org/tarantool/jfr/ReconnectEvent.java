@@ -0,0 +1,26 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.Reconnect")
+@Label("Reconnect")
+@Description("The client (re-)connects to the server")
+@Category({"Tarantool", "Client"})
+@StackTrace(true)
+final class ReconnectEvent extends Event {
+
+    @Label("Address")
+    String address;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Successful")
+    boolean successful;
+
+}
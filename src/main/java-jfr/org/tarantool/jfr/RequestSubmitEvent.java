@@ -0,0 +1,27 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.RequestSubmit")
+@Label("Request Submit")
+@Description("A request is serialized and put to the outgoing buffer")
+@Category({"Tarantool", "Client"})
+@StackTrace(false)
+final class RequestSubmitEvent extends Event {
+
+    @Label("Code")
+    String code;
+
+    @Label("Sync Id")
+    long syncId;
+
+    @Label("Delayed")
+    @Description("The request is postponed until the schema is refreshed")
+    boolean delayed;
+
+}
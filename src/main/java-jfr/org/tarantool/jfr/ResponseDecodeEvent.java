@@ -0,0 +1,22 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.ResponseDecode")
+@Label("Response Decode")
+@Description("A response is unpacked")
+@Category({"Tarantool", "Client"})
+@StackTrace(false)
+final class ResponseDecodeEvent extends Event {
+
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+}
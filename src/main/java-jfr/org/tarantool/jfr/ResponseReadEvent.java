@@ -0,0 +1,31 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.tarantool.ResponseRead")
+@Label("Response Read")
+@Description("A response is read from the socket")
+@Category({"Tarantool", "Client"})
+@StackTrace(false)
+final class ResponseReadEvent extends Event {
+
+    @Label("Sync Id")
+    long syncId;
+
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+    @Label("Response Time")
+    @Description("Time since the request was copied to the outgoing buffer")
+    @Timespan
+    long responseTime;
+
+}
@@ -0,0 +1,27 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.SchemaRefresh")
+@Label("Schema Refresh")
+@Description("The cached schema is fetched from the server")
+@Category({"Tarantool", "Client"})
+@StackTrace(true)
+final class SchemaRefreshEvent extends Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Spaces")
+    @Description("Number of fetched spaces")
+    int spaces;
+
+    @Label("Schema Version")
+    long schemaVersion;
+
+}
@@ -0,0 +1,26 @@
+package org.tarantool.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.tarantool.SocketWrite")
+@Label("Socket Write")
+@Description("Requests are written to the socket")
+@Category({"Tarantool", "Client"})
+@StackTrace(false)
+final class SocketWriteEvent extends Event {
+
+    @Label("Bytes")
+    @DataAmount
+    int bytes;
+
+    @Label("Requests")
+    @Description("Number of requests coalesced in the write")
+    int requests;
+
+}
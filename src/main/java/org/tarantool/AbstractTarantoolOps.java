@@ -3,7 +3,9 @@ package org.tarantool;
 import static org.tarantool.TarantoolRequestArgumentFactory.cacheLookupValue;
 import static org.tarantool.TarantoolRequestArgumentFactory.value;
 
+import org.tarantool.schema.TarantoolIndexRef;
 import org.tarantool.schema.TarantoolSchemaMeta;
+import org.tarantool.schema.TarantoolSpaceRef;
 
 import java.util.List;
 
@@ -45,8 +47,28 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.SELECT,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
-                value(Key.INDEX), cacheLookupValue(() -> getSchemaMeta().getSpaceIndex(space, index).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.INDEX), cacheLookupValue(() -> getSchemaMeta().getCachedSpaceIndex(space, index).getId()),
+                value(Key.KEY), value(key),
+                value(Key.ITERATOR), value(iterator),
+                value(Key.LIMIT), value(limit),
+                value(Key.OFFSET), value(offset)
+            )
+        );
+    }
+
+    @Override
+    public Result select(TarantoolIndexRef index, List<?> key, int offset, int limit, Iterator iterator) {
+        return select(index, key, offset, limit, iterator.getValue());
+    }
+
+    @Override
+    public Result select(TarantoolIndexRef index, List<?> key, int offset, int limit, int iterator) {
+        return exec(
+            new TarantoolRequest(
+                Code.SELECT,
+                value(Key.SPACE), index.getSpace(),
+                value(Key.INDEX), index,
                 value(Key.KEY), value(key),
                 value(Key.ITERATOR), value(iterator),
                 value(Key.LIMIT), value(limit),
@@ -70,7 +92,18 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.INSERT,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.TUPLE), value(tuple)
+            )
+        );
+    }
+
+    @Override
+    public Result insert(TarantoolSpaceRef space, List<?> tuple) {
+        return exec(
+            new TarantoolRequest(
+                Code.INSERT,
+                value(Key.SPACE), space,
                 value(Key.TUPLE), value(tuple)
             )
         );
@@ -92,7 +125,18 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.REPLACE,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.TUPLE), value(tuple)
+            )
+        );
+    }
+
+    @Override
+    public Result replace(TarantoolSpaceRef space, List<?> tuple) {
+        return exec(
+            new TarantoolRequest(
+                Code.REPLACE,
+                value(Key.SPACE), space,
                 value(Key.TUPLE), value(tuple)
             )
         );
@@ -115,7 +159,19 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.UPDATE,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.KEY), value(key),
+                value(Key.TUPLE), value(operations)
+            )
+        );
+    }
+
+    @Override
+    public Result update(TarantoolSpaceRef space, List<?> key, Object... operations) {
+        return exec(
+            new TarantoolRequest(
+                Code.UPDATE,
+                value(Key.SPACE), space,
                 value(Key.KEY), value(key),
                 value(Key.TUPLE), value(operations)
             )
@@ -140,7 +196,20 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.UPSERT,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.KEY), value(key),
+                value(Key.TUPLE), value(defTuple),
+                value(Key.UPSERT_OPS), value(operations)
+            )
+        );
+    }
+
+    @Override
+    public Result upsert(TarantoolSpaceRef space, List<?> key, List<?> defTuple, Object... operations) {
+        return exec(
+            new TarantoolRequest(
+                Code.UPSERT,
+                value(Key.SPACE), space,
                 value(Key.KEY), value(key),
                 value(Key.TUPLE), value(defTuple),
                 value(Key.UPSERT_OPS), value(operations)
@@ -164,7 +233,18 @@ public abstract class AbstractTarantoolOps<Result>
         return exec(
             new TarantoolRequest(
                 Code.DELETE,
-                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getSpace(space).getId()),
+                value(Key.SPACE), cacheLookupValue(() -> getSchemaMeta().getCachedSpace(space).getId()),
+                value(Key.KEY), value(key)
+            )
+        );
+    }
+
+    @Override
+    public Result delete(TarantoolSpaceRef space, List<?> key) {
+        return exec(
+            new TarantoolRequest(
+                Code.DELETE,
+                value(Key.SPACE), space,
                 value(Key.KEY), value(key)
             )
         );
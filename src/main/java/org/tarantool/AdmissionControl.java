@@ -0,0 +1,210 @@
+package org.tarantool;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number and the estimated size of the
+ * requests in flight.
+ * <p>
+ * If the adaptive limit is enabled, the allowed number
+ * of requests follows the AIMD rule: it grows by one per
+ * a window of requests completed within the target latency
+ * and is cut by {@link #DECREASE_FACTOR} when a request is
+ * slower, not more often than once per the target latency.
+ * The limit stays in range [1, max requests].
+ * <p>
+ * This class is not a part of public API.
+ */
+final class AdmissionControl {
+
+    static final double DECREASE_FACTOR = 0.9;
+
+    private final int maxRequests;
+    private final long maxBytes;
+    private final boolean adaptive;
+    private final long targetLatencyNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+    private int requests;
+    private long bytes;
+    private double limit;
+    private long decreasedNanos;
+
+    AdmissionControl(int maxRequests, long maxBytes, boolean adaptive, long targetLatencyMillis) {
+        this.maxRequests = maxRequests;
+        this.maxBytes = maxBytes;
+        this.adaptive = adaptive && maxRequests > 0;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.limit = maxRequests;
+        this.decreasedNanos = System.nanoTime();
+    }
+
+    /**
+     * Admits a request if the limits are not reached
+     * and no other request is queued.
+     *
+     * @param size estimated request size
+     *
+     * @return {@literal true} if the request is admitted
+     */
+    boolean tryAcquire(long size) {
+        lock.lock();
+        try {
+            if (pending.isEmpty() && fits(size)) {
+                take(size);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a request fits the limits.
+     *
+     * @param size         estimated request size
+     * @param timeoutNanos max time to wait
+     *
+     * @return {@literal true} if the request is admitted
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    boolean acquire(long size, long timeoutNanos) throws InterruptedException {
+        long remaining = timeoutNanos;
+        lock.lockInterruptibly();
+        try {
+            while (!pending.isEmpty() || !fits(size)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            take(size);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the action once the request fits the limits.
+     * The action is run by the caller if the request is
+     * admitted immediately or by a thread releasing
+     * another request otherwise.
+     *
+     * @param size   estimated request size
+     * @param action sends the request
+     *
+     * @return {@literal true} if the request is queued
+     */
+    boolean enqueue(long size, Runnable action) {
+        lock.lock();
+        try {
+            if (!pending.isEmpty() || !fits(size)) {
+                pending.add(new Pending(size, action));
+                return true;
+            }
+            take(size);
+        } finally {
+            lock.unlock();
+        }
+        action.run();
+        return false;
+    }
+
+    /**
+     * Releases a completed request.
+     *
+     * @param size         estimated request size
+     * @param latencyNanos time since the request was admitted
+     * @param overloaded   whether the request failed because of a timeout
+     *
+     * @return actions of the queued requests admitted instead
+     */
+    List<Runnable> release(long size, long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            requests--;
+            bytes -= size;
+            if (adaptive) {
+                adapt(latencyNanos, overloaded);
+            }
+            List<Runnable> admitted = new ArrayList<>();
+            while (!pending.isEmpty() && fits(pending.peek().size)) {
+                Pending next = pending.poll();
+                take(next.size);
+                admitted.add(next.action);
+            }
+            released.signalAll();
+            return admitted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return maxRequests == 0 ? 0 : (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getQueued() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adapt(long latencyNanos, boolean overloaded) {
+        if (overloaded || latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            if (now - decreasedNanos >= targetLatencyNanos) {
+                limit = Math.max(1, limit * DECREASE_FACTOR);
+                decreasedNanos = now;
+            }
+        } else {
+            limit = Math.min(maxRequests, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Checks the limits. A request bigger than the max
+     * size is admitted when there is no other request.
+     */
+    private boolean fits(long size) {
+        return (maxRequests == 0 || requests < (int) limit) &&
+            (maxBytes == 0 || bytes == 0 || bytes + size <= maxBytes);
+    }
+
+    private void take(long size) {
+        requests++;
+        bytes += size;
+    }
+
+    private static final class Pending {
+
+        private final long size;
+        private final Runnable action;
+
+        Pending(long size, Runnable action) {
+            this.size = size;
+            this.action = action;
+        }
+
+    }
+
+}
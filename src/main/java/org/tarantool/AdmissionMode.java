@@ -0,0 +1,32 @@
+package org.tarantool;
+
+/**
+ * Describes what happens with a request when the client
+ * reaches its in-flight limits.
+ *
+ * @see TarantoolClientConfig#maxInFlightRequests
+ * @see TarantoolClientConfig#maxInFlightBytes
+ */
+public enum AdmissionMode {
+
+    /**
+     * The request is rejected by a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT,
+
+    /**
+     * The caller waits up to {@link TarantoolClientConfig#admissionWaitMillis}
+     * for a completion of another request and the request is rejected
+     * if the limits are still reached.
+     */
+    WAIT,
+
+    /**
+     * The caller gets a future of the request which is
+     * sent once the other requests are completed. The
+     * request timeout includes the time spent in the queue.
+     */
+    QUEUE
+
+}
@@ -2,7 +2,9 @@ package org.tarantool;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.channels.SocketChannel;
+import java.util.Objects;
 
 public abstract class BaseSocketChannelProvider implements ConfigurableSocketChannelProvider {
 
@@ -16,6 +18,11 @@ public abstract class BaseSocketChannelProvider implements ConfigurableSocketCha
      */
     private int connectionTimeout = NO_TIMEOUT;
 
+    /**
+     * Options applied to the opened channels.
+     */
+    private SocketOptions socketOptions = SocketOptions.DEFAULT;
+
     /**
      * Tries to establish a new connection to the Tarantool instances.
      *
@@ -89,11 +96,58 @@ public abstract class BaseSocketChannelProvider implements ConfigurableSocketCha
         return new InetSocketAddress(host, port);
     }
 
+    /**
+     * Parse a string address in the form of host[:port]
+     * or {@code unix:/path/to.sock} and builds a socket address.
+     * Unix domain socket addresses require Java 16 or newer.
+     *
+     * @param address Server address.
+     *
+     * @return Socket address.
+     *
+     * @see #parseAddress(String)
+     */
+    protected SocketAddress parseSocketAddress(String address) {
+        if (UnixDomainSockets.isUnixAddress(address)) {
+            return UnixDomainSockets.parse(address);
+        }
+        return parseAddress(address);
+    }
+
     protected SocketChannel openChannel(InetSocketAddress socketAddress) throws IOException {
+        return connect(socketAddress);
+    }
+
+    /**
+     * Opens a channel to an internet or a unix domain
+     * socket address.
+     *
+     * @param socketAddress Server address.
+     *
+     * @return connected socket channel
+     *
+     * @throws IOException if any I/O errors occur
+     *
+     * @see #openChannel(InetSocketAddress)
+     */
+    protected SocketChannel openSocketChannel(SocketAddress socketAddress) throws IOException {
+        if (socketAddress instanceof InetSocketAddress) {
+            return openChannel((InetSocketAddress) socketAddress);
+        }
+        return connect(socketAddress);
+    }
+
+    private SocketChannel connect(SocketAddress socketAddress) throws IOException {
         SocketChannel channel = null;
         try {
-            channel = SocketChannel.open();
-            channel.socket().connect(socketAddress, connectionTimeout);
+            channel = UnixDomainSockets.openChannel(socketAddress);
+            socketOptions.apply(channel);
+            if (UnixDomainSockets.isUnixAddress(socketAddress)) {
+                // a local connect does not block
+                channel.connect(socketAddress);
+            } else {
+                channel.socket().connect(socketAddress, connectionTimeout);
+            }
             return channel;
         } catch (IOException e) {
             if (channel != null) {
@@ -135,4 +189,24 @@ public abstract class BaseSocketChannelProvider implements ConfigurableSocketCha
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Gets the options applied to the opened channels.
+     *
+     * @return socket options
+     */
+    public SocketOptions getSocketOptions() {
+        return socketOptions;
+    }
+
+    /**
+     * Sets the options applied to the channels before
+     * they are connected.
+     *
+     * @param socketOptions socket options
+     */
+    @Override
+    public void setSocketOptions(SocketOptions socketOptions) {
+        this.socketOptions = Objects.requireNonNull(socketOptions);
+    }
+
 }
@@ -2,6 +2,7 @@ package org.tarantool;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -19,7 +20,7 @@ public class ByteBufferInputStream extends CountInputStream {
         this.channel = channel;
         channel.configureBlocking(false);
         channel.register(selector, SelectionKey.OP_READ);
-        buffer = ByteBuffer.allocateDirect(channel.socket().getReceiveBufferSize());
+        buffer = ByteBuffer.allocateDirect(channel.getOption(StandardSocketOptions.SO_RCVBUF));
         buffer.flip();
     }
 
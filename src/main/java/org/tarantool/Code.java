@@ -13,8 +13,13 @@ public enum Code  {
     UPSERT(9),
     CALL(10),
     EXECUTE(11),
+    BEGIN(14),
+    COMMIT(15),
+    ROLLBACK(16),
     PING(64),
-    SUBSCRIBE(66);
+    SUBSCRIBE(66),
+    WATCH(74),
+    EVENT(76);
 
     int id;
 
@@ -20,4 +20,13 @@ public interface ConfigurableSocketChannelProvider extends SocketChannelProvider
      */
     void setConnectionTimeout(int timeout);
 
+    /**
+     * Configures the options of the opened
+     * socket channels.
+     *
+     * @param options socket options
+     */
+    default void setSocketOptions(SocketOptions options) {
+    }
+
 }
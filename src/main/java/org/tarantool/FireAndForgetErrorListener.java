@@ -0,0 +1,23 @@
+package org.tarantool;
+
+/**
+ * Receives errors of the requests which were sent in the
+ * future-free fire and forget mode.
+ * <p>
+ * The listener is invoked from the client reader thread,
+ * so it must not block or perform any heavy work.
+ *
+ * @see TarantoolClientConfig#futurelessFireAndForget
+ */
+@FunctionalInterface
+public interface FireAndForgetErrorListener {
+
+    /**
+     * Called when the server rejects a request.
+     *
+     * @param syncId request id returned by the fire and forget operation
+     * @param error  server error
+     */
+    void onError(long syncId, TarantoolException error);
+
+}
@@ -8,6 +8,7 @@ public enum Key implements Callable<Integer> {
     CODE(0x00),
     SYNC(0x01),
     SCHEMA_ID(0x05),
+    STREAM_ID(0x0a),
 
     // body
     SPACE(0x10),
@@ -25,6 +26,10 @@ public enum Key implements Callable<Integer> {
     DATA(0x30),
     ERROR(0x31),
 
+    TIMEOUT(0x56),
+    EVENT_KEY(0x57),
+    EVENT_DATA(0x58),
+
     SQL_FIELD_NAME(0x0),
     SQL_FIELD_TYPE(0x1),
 
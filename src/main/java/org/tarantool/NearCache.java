@@ -0,0 +1,314 @@
+package org.tarantool;
+
+import org.tarantool.metrics.TarantoolClientMetrics;
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.schema.TarantoolSchemaMeta;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Client side cache of the select results for the
+ * read-mostly spaces.
+ * <p>
+ * The entries are keyed by the space, index, key, iterator,
+ * offset and limit of a select. The least recently used
+ * entries are evicted when the estimated size of the cached
+ * tuples exceeds the limit. The entries also expire after
+ * the configured time.
+ * <p>
+ * A write to a cached space made through the same client
+ * invalidates all the entries of the space. The writes made
+ * by other clients or by the stored functions are only
+ * reflected when the entries expire.
+ * <p>
+ * This class is not a part of public API.
+ *
+ * @see TarantoolClientConfig#nearCacheSpaces
+ */
+final class NearCache {
+
+    private static final long ENTRY_OVERHEAD = 64;
+
+    private final TarantoolClientImpl client;
+    private final TarantoolClientMetrics metrics;
+    private final Set<String> spaceNames;
+    private final long maxWeight;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<List<?>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Integer, Long> generations = new HashMap<>();
+    private long globalGeneration;
+    private long weight;
+
+    /**
+     * Identifiers of the cached spaces resolved
+     * within {@link #spaceIdsSchemaVersion}.
+     */
+    private volatile Set<Integer> spaceIds = Collections.emptySet();
+    private volatile long spaceIdsSchemaVersion = -1;
+
+    NearCache(TarantoolClientImpl client, TarantoolClientConfig config) {
+        this.client = client;
+        this.metrics = client.metrics;
+        this.spaceNames = new HashSet<>(config.nearCacheSpaces);
+        this.maxWeight = config.nearCacheMaxWeight;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(config.nearCacheTtlMillis);
+    }
+
+    /**
+     * Gets a select result from the cache or executes
+     * the select and caches its result. The result is
+     * unmodifiable including the nested tuples.
+     *
+     * @param request select request
+     * @param loader  executes the request on the server
+     *
+     * @return select result
+     */
+    Future<?> get(TarantoolRequest request, Function<TarantoolRequest, Future<?>> loader) {
+        List<?> key = toKey(request);
+        if (key == null) {
+            return loader.apply(request);
+        }
+        long generation;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.isAlive()) {
+                    metrics.increment(Counter.NEAR_CACHE_HITS);
+                    return CompletableFuture.completedFuture(entry.value);
+                }
+                remove(key);
+            }
+            generation = getGeneration((Integer) key.get(0));
+        }
+        metrics.increment(Counter.NEAR_CACHE_MISSES);
+        Future<?> result = loader.apply(request);
+        if (!(result instanceof CompletableFuture)) {
+            return result;
+        }
+        // the caller sees the result after it is cached
+        return ((CompletableFuture<?>) result).thenApply(value -> {
+            if (!(value instanceof List)) {
+                return value;
+            }
+            // the cached value is shared by all the callers
+            List<?> shared = (List<?>) SharedResults.toUnmodifiable(value);
+            put(key, shared, generation);
+            return shared;
+        });
+    }
+
+    /**
+     * Invalidates the entries which could be
+     * changed by a request.
+     *
+     * @param request request to be sent
+     */
+    void onRequest(TarantoolRequest request) {
+        switch (request.getCode()) {
+        case INSERT:
+        case REPLACE:
+        case UPDATE:
+        case DELETE:
+        case UPSERT:
+            Integer spaceId = getSpaceId(request);
+            if (spaceId == null) {
+                invalidateAll();
+            } else if (getSpaceIds().contains(spaceId)) {
+                invalidate(spaceId);
+            }
+            break;
+        case EXECUTE:
+            if (!isQuery(request)) {
+                invalidateAll();
+            }
+            break;
+        case COMMIT:
+            invalidateAll();
+            break;
+        default:
+            break;
+        }
+    }
+
+    synchronized void invalidateAll() {
+        globalGeneration++;
+        entries.clear();
+        weight = 0;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    private synchronized void invalidate(int spaceId) {
+        generations.merge(spaceId, 1L, Long::sum);
+        Iterator<Map.Entry<List<?>, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.spaceId == spaceId) {
+                weight -= entry.weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized void put(List<?> key, List<?> value, long generation) {
+        int spaceId = (Integer) key.get(0);
+        // a write has been made while the select was in flight
+        if (getGeneration(spaceId) != generation) {
+            return;
+        }
+        long entryWeight = ENTRY_OVERHEAD + weigh(key) + weigh(value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        remove(key);
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        entries.put(key, new Entry(spaceId, value, entryWeight, expiresAt));
+        weight += entryWeight;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+            metrics.increment(Counter.NEAR_CACHE_EVICTIONS);
+        }
+    }
+
+    private void remove(List<?> key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+
+    private long getGeneration(int spaceId) {
+        return globalGeneration + generations.getOrDefault(spaceId, 0L);
+    }
+
+    /**
+     * Builds the cache key of a select or returns {@literal null}
+     * if the request is not cacheable.
+     */
+    private List<?> toKey(TarantoolRequest request) {
+        List<?> key = RequestKeys.selectKey(request);
+        return key != null && getSpaceIds().contains(key.get(0)) ? key : null;
+    }
+
+    private Integer getSpaceId(TarantoolRequest request) {
+        Map<Object, Object> arguments = RequestKeys.toMap(request);
+        Object spaceId = arguments == null ? null : arguments.get(Key.SPACE);
+        return spaceId instanceof Integer ? (Integer) spaceId : null;
+    }
+
+    private boolean isQuery(TarantoolRequest request) {
+        Map<Object, Object> arguments = RequestKeys.toMap(request);
+        Object sql = arguments == null ? null : arguments.get(Key.SQL_TEXT);
+        return sql instanceof String && ((String) sql).trim().regionMatches(true, 0, "SELECT", 0, 6);
+    }
+
+    /**
+     * Resolves the names of the cached spaces once
+     * per schema version.
+     * <p>
+     * The names are looked up among the cached spaces only,
+     * because this method is called for each request. A space
+     * which is not found is not cacheable until it is fetched
+     * and the names are resolved again.
+     */
+    private Set<Integer> getSpaceIds() {
+        TarantoolSchemaMeta schemaMeta = client.getSchemaMeta();
+        if (!schemaMeta.isInitialized()) {
+            return Collections.emptySet();
+        }
+        long schemaVersion = schemaMeta.getSchemaVersion();
+        if (schemaVersion == spaceIdsSchemaVersion) {
+            return spaceIds;
+        }
+        Set<Integer> ids = new HashSet<>();
+        boolean resolved = true;
+        for (String name : spaceNames) {
+            try {
+                ids.add(schemaMeta.getCachedSpace(name).getId());
+            } catch (RuntimeException ignored) {
+                // the space does not exist or is not fetched yet
+                resolved = false;
+            }
+        }
+        if (!ids.equals(spaceIds)) {
+            invalidateAll();
+        }
+        spaceIds = ids;
+        if (resolved) {
+            spaceIdsSchemaVersion = schemaVersion;
+        }
+        return ids;
+    }
+
+    /**
+     * Estimates the heap size of a decoded value.
+     */
+    static long weigh(Object value) {
+        if (value == null) {
+            return 8;
+        }
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        }
+        if (value instanceof List) {
+            long result = 24;
+            for (Object item : (List<?>) value) {
+                result += 8 + weigh(item);
+            }
+            return result;
+        }
+        if (value instanceof Map) {
+            long result = 48;
+            for (Map.Entry<?, ?> item : ((Map<?, ?>) value).entrySet()) {
+                result += 32 + weigh(item.getKey()) + weigh(item.getValue());
+            }
+            return result;
+        }
+        return 16;
+    }
+
+    private static final class Entry {
+
+        private final int spaceId;
+        private final List<?> value;
+        private final long weight;
+        private final long expiresAt;
+
+        Entry(int spaceId, List<?> value, long weight, long expiresAt) {
+            this.spaceId = spaceId;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isAlive() {
+            return expiresAt == 0 || System.nanoTime() - expiresAt < 0;
+        }
+
+    }
+
+}
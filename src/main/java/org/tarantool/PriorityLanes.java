@@ -0,0 +1,153 @@
+package org.tarantool;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Outbound queues of the packets by their
+ * {@link RequestPriority}.
+ * <p>
+ * The writer drains the queues using the deficit round
+ * robin: on every round a lane earns its weight multiplied
+ * by {@link #QUANTUM} bytes and sends the packets while they
+ * fit the earned bytes. So the lanes share the socket in
+ * proportion to their weights and a high priority packet
+ * waits for at most one round of the other lanes.
+ * <p>
+ * The lanes are guarded by the client buffer lock.
+ * <p>
+ * This class is not a part of public API.
+ */
+final class PriorityLanes {
+
+    static final int QUANTUM = 16 * 1024;
+
+    private final Lane[] lanes;
+    private final int capacity;
+
+    /**
+     * Creates the lanes.
+     *
+     * @param capacity max size of the packets in a lane
+     * @param weights  lane weights in the {@link RequestPriority} order
+     */
+    PriorityLanes(int capacity, int[] weights) {
+        RequestPriority[] priorities = RequestPriority.values();
+        if (weights.length != priorities.length) {
+            throw new IllegalArgumentException("Lane weights must be set for all priorities");
+        }
+        this.capacity = capacity;
+        this.lanes = new Lane[priorities.length];
+        for (int i = 0; i < lanes.length; i++) {
+            if (weights[i] < 1) {
+                throw new IllegalArgumentException("Lane weights must be positive");
+            }
+            lanes[i] = new Lane(weights[i]);
+        }
+    }
+
+    /**
+     * Checks whether a packet can be added to the lane.
+     * A packet bigger than the capacity is accepted by
+     * an empty lane.
+     *
+     * @param priority packet priority
+     * @param size     packet size
+     *
+     * @return {@literal true} if the lane has enough room
+     */
+    boolean hasRoom(RequestPriority priority, int size) {
+        Lane lane = lanes[priority.ordinal()];
+        return lane.bytes == 0 || lane.bytes + size <= capacity;
+    }
+
+    void add(RequestPriority priority, ByteBuffer packet) {
+        Lane lane = lanes[priority.ordinal()];
+        lane.packets.add(packet);
+        lane.bytes += packet.remaining();
+    }
+
+    boolean isEmpty() {
+        for (Lane lane : lanes) {
+            if (!lane.packets.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the packets to the target buffer
+     * until it cannot take the next ones.
+     *
+     * @param target outgoing buffer
+     *
+     * @return number of moved packets
+     */
+    int drainTo(ByteBuffer target) {
+        int count = 0;
+        while (canDrain(target)) {
+            for (Lane lane : lanes) {
+                if (lane.packets.isEmpty()) {
+                    continue;
+                }
+                lane.deficit += (long) lane.weight * QUANTUM;
+                ByteBuffer packet;
+                while ((packet = lane.packets.peek()) != null &&
+                    packet.remaining() <= lane.deficit &&
+                    packet.remaining() <= target.remaining()) {
+                    int size = packet.remaining();
+                    target.put(packet);
+                    lane.packets.poll();
+                    lane.deficit -= size;
+                    lane.bytes -= size;
+                    count++;
+                }
+                if (lane.packets.isEmpty()) {
+                    lane.deficit = 0;
+                }
+            }
+        }
+        return count;
+    }
+
+    long getBytes() {
+        long bytes = 0;
+        for (Lane lane : lanes) {
+            bytes += lane.bytes;
+        }
+        return bytes;
+    }
+
+    void clear() {
+        for (Lane lane : lanes) {
+            lane.packets.clear();
+            lane.bytes = 0;
+            lane.deficit = 0;
+        }
+    }
+
+    private boolean canDrain(ByteBuffer target) {
+        for (Lane lane : lanes) {
+            ByteBuffer packet = lane.packets.peek();
+            if (packet != null && packet.remaining() <= target.remaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Lane {
+
+        private final int weight;
+        private final ArrayDeque<ByteBuffer> packets = new ArrayDeque<>();
+        private long bytes;
+        private long deficit;
+
+        Lane(int weight) {
+            this.weight = weight;
+        }
+
+    }
+
+}
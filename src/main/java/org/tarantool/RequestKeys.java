@@ -0,0 +1,69 @@
+package org.tarantool;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the request arguments identifying
+ * the data a request reads or changes.
+ * <p>
+ * This class is not a part of public API.
+ */
+final class RequestKeys {
+
+    private RequestKeys() {
+    }
+
+    /**
+     * Builds a key which is equal for the selects
+     * returning the same tuples.
+     *
+     * @param request request to be sent
+     *
+     * @return list of the space, index, key, iterator, offset
+     *     and limit or {@literal null} if the request is not a select
+     *     out of a stream or its names are not resolved yet
+     */
+    static List<?> selectKey(TarantoolRequest request) {
+        if (request.getCode() != Code.SELECT || request.getStreamId() != 0) {
+            return null;
+        }
+        Map<Object, Object> arguments = toMap(request);
+        if (arguments == null || !(arguments.get(Key.SPACE) instanceof Integer)) {
+            return null;
+        }
+        return Arrays.asList(
+            arguments.get(Key.SPACE),
+            arguments.get(Key.INDEX),
+            arguments.get(Key.KEY),
+            arguments.get(Key.ITERATOR),
+            arguments.get(Key.OFFSET),
+            arguments.get(Key.LIMIT)
+        );
+    }
+
+    /**
+     * Collects the request arguments by their keys.
+     *
+     * @param request request to be sent
+     *
+     * @return arguments or {@literal null} if the names
+     *     are not resolved yet
+     */
+    static Map<Object, Object> toMap(TarantoolRequest request) {
+        List<Object> arguments;
+        try {
+            arguments = request.getArguments();
+        } catch (RuntimeException e) {
+            return null;
+        }
+        Map<Object, Object> result = new HashMap<>();
+        for (int i = 0; i + 1 < arguments.size(); i += 2) {
+            result.put(arguments.get(i), arguments.get(i + 1));
+        }
+        return result;
+    }
+
+}
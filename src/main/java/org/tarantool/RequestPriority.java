@@ -0,0 +1,27 @@
+package org.tarantool;
+
+/**
+ * Outbound lane of a request.
+ * <p>
+ * The priorities take effect if
+ * {@link TarantoolClientConfig#priorityLanes} is enabled.
+ */
+public enum RequestPriority {
+
+    /**
+     * Health checks, schema loading and other
+     * short latency sensitive requests.
+     */
+    HIGH,
+
+    /**
+     * Regular requests.
+     */
+    NORMAL,
+
+    /**
+     * Bulk or background requests.
+     */
+    LOW
+
+}
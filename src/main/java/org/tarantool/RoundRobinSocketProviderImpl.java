@@ -3,12 +3,19 @@ package org.tarantool;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -24,11 +31,12 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
 
     private static final int UNSET_POSITION = -1;
     private static final int DEFAULT_RETRIES_PER_CONNECTION = 3;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
 
     /**
      * Socket addresses pool.
      */
-    private final List<InetSocketAddress> socketAddresses = new ArrayList<>();
+    private final List<SocketAddress> socketAddresses = new ArrayList<>();
 
     /**
      * Current position within {@link #socketAddresses} list.
@@ -40,7 +48,7 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
      * to look for a new position for the last used address or
      * sets the position to {@link #UNSET_POSITION} otherwise.
      *
-     * @see #getLastObtainedAddress()
+     * @see #getLastObtainedSocketAddress()
      * @see #refreshAddresses(Collection)
      */
     private AtomicInteger currentPosition = new AtomicInteger(UNSET_POSITION);
@@ -53,10 +61,19 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
      */
     private ReadWriteLock addressListLock = new ReentrantReadWriteLock();
 
+    /**
+     * Delay between the starts of the parallel connection
+     * attempts. Zero means the addresses are tried one by one.
+     *
+     * @see #setParallelConnectDelay(int)
+     */
+    private int parallelConnectDelay = 0;
+
     /**
      * Constructs an instance.
      *
      * @param addresses optional array of addresses in a form of host[:port]
+     *                  or unix:/path/to.sock
      *
      * @throws IllegalArgumentException if addresses aren't provided
      */
@@ -72,10 +89,10 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
         Lock writeLock = addressListLock.writeLock();
         writeLock.lock();
         try {
-            InetSocketAddress lastAddress = getLastObtainedAddress();
+            SocketAddress lastAddress = getLastObtainedSocketAddress();
             socketAddresses.clear();
             addresses.stream()
-                .map(this::parseAddress)
+                .map(this::parseSocketAddress)
                 .collect(Collectors.toCollection(() -> socketAddresses));
             if (lastAddress != null) {
                 int recoveredPosition = socketAddresses.indexOf(lastAddress);
@@ -89,7 +106,7 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
     }
 
     /**
-     * Gets parsed and resolved internet addresses.
+     * Gets parsed and resolved socket addresses.
      *
      * @return socket addresses
      */
@@ -102,8 +119,22 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
      *
      * @return last obtained address or <code>null</code>
      *     if {@link #currentPosition} has {@link #UNSET_POSITION} value
+     *     or the address is not an internet one
+     *
+     * @see #getLastObtainedSocketAddress()
      */
     protected InetSocketAddress getLastObtainedAddress() {
+        return toInetAddress(getLastObtainedSocketAddress());
+    }
+
+    /**
+     * Gets last used internet or unix domain socket
+     * address from the pool if it exists.
+     *
+     * @return last obtained address or <code>null</code>
+     *     if {@link #currentPosition} has {@link #UNSET_POSITION} value
+     */
+    protected SocketAddress getLastObtainedSocketAddress() {
         return readGuard(() -> {
             int index = currentPosition.get();
             return index != UNSET_POSITION ? socketAddresses.get(index) : null;
@@ -130,16 +161,22 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
      */
     @Override
     protected SocketChannel makeAttempt(int retryNumber, Throwable lastError) throws IOException {
+        if (parallelConnectDelay > 0 && getAddressCount() > 1) {
+            if (retryNumber >= getRetriesLimit()) {
+                throwFatalError("No more connection attempts are left.", lastError);
+            }
+            return connectInParallel();
+        }
         if (retryNumber > getAddressCount()) {
             throwFatalError("No more connection addresses are left.", lastError);
         }
 
         int retriesLimit = getRetriesLimit();
-        InetSocketAddress socketAddress = getNextSocketAddress();
+        SocketAddress socketAddress = getNextAddress();
         IOException connectionError = null;
         for (int i = 0; i < retriesLimit; i++) {
             try {
-                return openChannel(socketAddress);
+                return openSocketChannel(socketAddress);
             } catch (IOException e) {
                 connectionError = e;
             }
@@ -147,6 +184,172 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
         throw connectionError;
     }
 
+    /**
+     * Connects to the instances in parallel. Attempts are
+     * started one by one in the round-robin order every
+     * {@link #getParallelConnectDelay()} ms or as soon as
+     * the previous attempt fails. The first instance which
+     * sends its greeting wins and the other attempts are
+     * cancelled. The greeting is left unread in the channel.
+     *
+     * @return opened socket channel in the blocking mode
+     *
+     * @throws IOException if all the attempts fail
+     */
+    private SocketChannel connectInParallel() throws IOException {
+        List<SocketAddress> candidates = getCandidateAddresses();
+        int timeout = getConnectionTimeout();
+        Map<SelectionKey, Long> deadlines = new HashMap<>();
+        IOException lastError = null;
+        int nextCandidate = 0;
+        long nextStart = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    if (nextCandidate < candidates.size() && (now - nextStart >= 0 || deadlines.isEmpty())) {
+                        SocketAddress address = candidates.get(nextCandidate++);
+                        try {
+                            SelectionKey key = startConnect(selector, address);
+                            deadlines.put(key, timeout == NO_TIMEOUT ? NO_DEADLINE : now + toNanos(timeout));
+                            nextStart = now + toNanos(parallelConnectDelay);
+                        } catch (IOException e) {
+                            lastError = e;
+                        }
+                        continue;
+                    }
+                    if (deadlines.isEmpty()) {
+                        throw lastError != null ? lastError : new IOException("No addresses to connect to");
+                    }
+                    long waitNanos = nextCandidate < candidates.size() ? nextStart - now : Long.MAX_VALUE;
+                    for (long deadline : deadlines.values()) {
+                        if (deadline != NO_DEADLINE) {
+                            waitNanos = Math.min(waitNanos, deadline - now);
+                        }
+                    }
+                    if (waitNanos == Long.MAX_VALUE) {
+                        selector.select();
+                    } else {
+                        selector.select(TimeUnit.NANOSECONDS.toMillis(Math.max(waitNanos, 0)) + 1);
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        SocketChannel channel = (SocketChannel) key.channel();
+                        try {
+                            if (key.isConnectable() && channel.finishConnect()) {
+                                key.interestOps(SelectionKey.OP_READ);
+                            } else if (key.isReadable()) {
+                                deadlines.remove(key);
+                                key.cancel();
+                                selector.selectNow();
+                                channel.configureBlocking(true);
+                                setLastObtainedAddress((SocketAddress) key.attachment());
+                                return channel;
+                            }
+                        } catch (IOException e) {
+                            lastError = e;
+                            deadlines.remove(key);
+                            closeChannel(channel);
+                            // try the next instance without waiting
+                            nextStart = System.nanoTime();
+                        }
+                    }
+                    selector.selectedKeys().clear();
+                    now = System.nanoTime();
+                    for (Iterator<Map.Entry<SelectionKey, Long>> iterator = deadlines.entrySet().iterator();
+                         iterator.hasNext(); ) {
+                        Map.Entry<SelectionKey, Long> entry = iterator.next();
+                        if (entry.getValue() != NO_DEADLINE && now - entry.getValue() >= 0) {
+                            iterator.remove();
+                            closeChannel((SocketChannel) entry.getKey().channel());
+                            lastError = new SocketTimeoutException(
+                                "Connection to " + entry.getKey().attachment() + " timed out"
+                            );
+                        }
+                    }
+                }
+            } finally {
+                for (SelectionKey key : deadlines.keySet()) {
+                    closeChannel((SocketChannel) key.channel());
+                }
+            }
+        }
+    }
+
+    private SelectionKey startConnect(Selector selector, SocketAddress address) throws IOException {
+        SocketChannel channel = UnixDomainSockets.openChannel(address);
+        try {
+            getSocketOptions().apply(channel);
+            channel.configureBlocking(false);
+            int interest = channel.connect(address) ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT;
+            return channel.register(selector, interest, address);
+        } catch (IOException e) {
+            closeChannel(channel);
+            throw e;
+        }
+    }
+
+    private static long toNanos(int millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // No-op.
+        }
+    }
+
+    /**
+     * Gets all the addresses starting from the next one.
+     */
+    private List<SocketAddress> getCandidateAddresses() {
+        SocketAddress first = getNextAddress();
+        return readGuard(() -> {
+            List<SocketAddress> candidates = new ArrayList<>(socketAddresses.size());
+            candidates.add(first);
+            int position = socketAddresses.indexOf(first);
+            for (int i = 1; i < socketAddresses.size(); i++) {
+                SocketAddress address = socketAddresses.get((position + i) % socketAddresses.size());
+                if (!address.equals(first)) {
+                    candidates.add(address);
+                }
+            }
+            return candidates;
+        });
+    }
+
+    private void setLastObtainedAddress(SocketAddress address) {
+        readGuard(() -> {
+            int position = socketAddresses.indexOf(address);
+            if (position != UNSET_POSITION) {
+                currentPosition.set(position);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Enables parallel connection attempts. An attempt to
+     * the next address is started if the previous one is
+     * not finished within the delay. The connection timeout
+     * is applied to each attempt and the {@link #getRetriesLimit()
+     * retries limit} is applied to the whole rounds.
+     *
+     * @param delay delay in millis or {@literal 0} to try
+     *              the addresses sequentially
+     */
+    public void setParallelConnectDelay(int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Parallel connect delay cannot be negative.");
+        }
+        this.parallelConnectDelay = delay;
+    }
+
+    public int getParallelConnectDelay() {
+        return parallelConnectDelay;
+    }
+
     /**
      * Sets a retries count per instance.
      * 0 (infinite) count is not supported by this provider.
@@ -174,8 +377,21 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
      * Gets next address from the pool to be used to connect.
      *
      * @return Socket address to use for the next reconnection attempt
+     *     or <code>null</code> if the address is not an internet one
+     *
+     * @see #getNextAddress()
      */
     protected InetSocketAddress getNextSocketAddress() {
+        return toInetAddress(getNextAddress());
+    }
+
+    /**
+     * Gets next internet or unix domain socket address
+     * from the pool to be used to connect.
+     *
+     * @return Socket address to use for the next reconnection attempt
+     */
+    protected SocketAddress getNextAddress() {
         return readGuard(() -> {
             int position = currentPosition.updateAndGet(i -> (i + 1) % socketAddresses.size());
             return socketAddresses.get(position);
@@ -190,6 +406,10 @@ public class RoundRobinSocketProviderImpl extends BaseSocketChannelProvider impl
         });
     }
 
+    private static InetSocketAddress toInetAddress(SocketAddress address) {
+        return address instanceof InetSocketAddress ? (InetSocketAddress) address : null;
+    }
+
     private <R> R readGuard(Supplier<R> supplier) {
         Lock readLock = addressListLock.readLock();
         readLock.lock();
@@ -0,0 +1,154 @@
+package org.tarantool;
+
+import static org.tarantool.TarantoolRequestArgumentFactory.cacheLookupValue;
+import static org.tarantool.TarantoolRequestArgumentFactory.value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Fetches the tuples of many keys as a single operation.
+ * <p>
+ * The keys are sent as pipelined selects or, if
+ * {@link TarantoolClientConfig#selectManyFunction} is set,
+ * as one call per chunk of keys. The whole operation has
+ * a single timeout. The outstanding parts are cancelled when
+ * the operation fails, times out or is cancelled. The parts
+ * have the same timeout in case they are shared with other
+ * callers and cannot be cancelled.
+ * <p>
+ * This class is not a part of public API.
+ *
+ * @see TarantoolClientImpl#selectMany(String, String, java.util.Collection)
+ */
+final class SelectMany {
+
+    private final TarantoolClientImpl client;
+    private final String space;
+    private final String index;
+    private final List<? extends List<?>> keys;
+    private final Object[] results;
+    private final CompletableFuture<List<List<?>>> result = new CompletableFuture<>();
+    private final List<CompletableFuture<?>> parts = new ArrayList<>();
+    private final List<CompletableFuture<?>> operations = new ArrayList<>();
+    private Duration timeout;
+
+    SelectMany(TarantoolClientImpl client, String space, String index, List<? extends List<?>> keys) {
+        this.client = client;
+        this.space = space;
+        this.index = index;
+        this.keys = keys;
+        this.results = new Object[keys.size()];
+    }
+
+    CompletableFuture<List<List<?>>> execute(Duration timeout) {
+        this.timeout = timeout == null ? Duration.ZERO : timeout;
+        if (keys.isEmpty()) {
+            result.complete(new ArrayList<>());
+            return result;
+        }
+        setupTimeout(timeout);
+        String function = client.config.selectManyFunction;
+        if (function != null && client.config.useNewCall) {
+            int chunkSize = Math.max(1, client.config.selectManyChunkSize);
+            for (int from = 0; from < keys.size(); from += chunkSize) {
+                callChunk(function, from, Math.min(from + chunkSize, keys.size()));
+            }
+        } else {
+            for (int i = 0; i < keys.size(); i++) {
+                select(i);
+            }
+        }
+        result.whenComplete((ignored, error) -> {
+            if (error != null) {
+                operations.forEach(operation -> operation.cancel(false));
+            }
+        });
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            if (error == null) {
+                List<List<?>> tuples = new ArrayList<>(results.length);
+                for (Object item : results) {
+                    tuples.add((List<?>) item);
+                }
+                result.complete(tuples);
+            }
+        });
+        return result;
+    }
+
+    private void select(int position) {
+        TarantoolRequest request = new TarantoolRequest(
+            Code.SELECT,
+            value(Key.SPACE), cacheLookupValue(() -> client.getSchemaMeta().getCachedSpace(space).getId()),
+            value(Key.INDEX), cacheLookupValue(() -> client.getSchemaMeta().getCachedSpaceIndex(space, index).getId()),
+            value(Key.KEY), value(keys.get(position)),
+            value(Key.ITERATOR), value(Iterator.EQ.getValue()),
+            value(Key.LIMIT), value(Integer.MAX_VALUE),
+            value(Key.OFFSET), value(0)
+        );
+        addPart(request, data -> results[position] = data);
+    }
+
+    private void callChunk(String function, int from, int to) {
+        List<? extends List<?>> chunk = keys.subList(from, to);
+        TarantoolRequest request = new TarantoolRequest(
+            Code.CALL,
+            value(Key.FUNCTION), value(function),
+            value(Key.TUPLE), value(Arrays.asList(space, index, chunk))
+        );
+        addPart(request, data -> {
+            List<?> tuples = data.isEmpty() ? null : (List<?>) data.get(0);
+            if (tuples == null || tuples.size() != chunk.size()) {
+                throw new IllegalStateException(
+                    "Function " + function + " returned " + (tuples == null ? 0 : tuples.size()) +
+                        " results for " + chunk.size() + " keys"
+                );
+            }
+            for (int i = 0; i < tuples.size(); i++) {
+                results[from + i] = tuples.get(i);
+            }
+        });
+    }
+
+    private void addPart(TarantoolRequest request, Consumer<List<?>> consumer) {
+        if (result.isDone()) {
+            return;
+        }
+        // a coalesced select is not affected by the cancellation of its caller
+        request.setTimeout(timeout);
+        CompletableFuture<?> operation = (CompletableFuture<?>) client.exec(request);
+        operations.add(operation);
+        CompletableFuture<?> part = operation.thenAccept(data -> consumer.accept((List<?>) data));
+        part.whenComplete((ignored, error) -> {
+            if (error != null) {
+                fail(error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+        parts.add(part);
+    }
+
+    private void setupTimeout(Duration timeout) {
+        if (timeout == null || timeout.isZero()) {
+            return;
+        }
+        ScheduledFuture<?> timeoutAction = TarantoolOperation.TimeoutScheduler.EXECUTOR.schedule(
+            () -> fail(new TimeoutException()),
+            timeout.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+        result.whenComplete((ignored, error) -> timeoutAction.cancel(false));
+    }
+
+    private void fail(Throwable error) {
+        result.completeExceptionally(error);
+    }
+
+}
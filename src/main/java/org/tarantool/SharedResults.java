@@ -0,0 +1,48 @@
+package org.tarantool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protects the select results shared between several
+ * callers from being modified by one of them.
+ * <p>
+ * This class is not a part of public API.
+ */
+final class SharedResults {
+
+    private SharedResults() {
+    }
+
+    /**
+     * Wraps a decoded value and all the nested lists
+     * and maps into their unmodifiable views.
+     *
+     * @param value decoded value
+     *
+     * @return unmodifiable value
+     */
+    static Object toUnmodifiable(Object value) {
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> result = new ArrayList<>(list.size());
+            for (Object item : list) {
+                result.add(toUnmodifiable(item));
+            }
+            return Collections.unmodifiableList(result);
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                result.put(entry.getKey(), toUnmodifiable(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+        return value;
+    }
+
+}
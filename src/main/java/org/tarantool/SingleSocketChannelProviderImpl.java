@@ -3,7 +3,6 @@ package org.tarantool;
 import org.tarantool.util.StringUtils;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.channels.SocketChannel;
 
@@ -13,7 +12,7 @@ import java.nio.channels.SocketChannel;
  */
 public class SingleSocketChannelProviderImpl extends BaseSocketChannelProvider {
 
-    private InetSocketAddress address;
+    private SocketAddress address;
 
     /**
      *  Creates a simple provider.
@@ -34,7 +33,7 @@ public class SingleSocketChannelProviderImpl extends BaseSocketChannelProvider {
         if (areRetriesExhausted(retryNumber)) {
             throw new CommunicationException("Connection retries exceeded.", lastError);
         }
-        return openChannel(address);
+        return openSocketChannel(address);
     }
 
     /**
@@ -57,7 +56,7 @@ public class SingleSocketChannelProviderImpl extends BaseSocketChannelProvider {
             throw new IllegalArgumentException("address must not be empty");
         }
 
-        this.address = parseAddress(address);
+        this.address = parseSocketAddress(address);
     }
 
 }
@@ -0,0 +1,119 @@
+package org.tarantool;
+
+import java.io.IOException;
+import java.net.SocketOption;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Socket level options applied to the channels
+ * opened by the socket providers.
+ * <p>
+ * The options which are not supported by a channel
+ * (for instance, {@code TCP_NODELAY} for a unix domain
+ * socket) are skipped.
+ *
+ * @see TarantoolClientConfig#tcpNoDelay
+ * @see ConfigurableSocketChannelProvider#setSocketOptions(SocketOptions)
+ */
+public final class SocketOptions {
+
+    /**
+     * Options leaving the OS defaults untouched.
+     */
+    public static final SocketOptions DEFAULT = new SocketOptions(false, false, 0, 0);
+
+    private final boolean tcpNoDelay;
+    private final boolean keepAlive;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+
+    /**
+     * Creates socket options.
+     *
+     * @param tcpNoDelay        whether the Nagle's algorithm is disabled
+     * @param keepAlive         whether TCP keep-alive probes are sent
+     * @param sendBufferSize    size of the socket send buffer in bytes or
+     *                          {@literal 0} to use the OS default
+     * @param receiveBufferSize size of the socket receive buffer in bytes or
+     *                          {@literal 0} to use the OS default
+     */
+    public SocketOptions(boolean tcpNoDelay, boolean keepAlive, int sendBufferSize, int receiveBufferSize) {
+        if (sendBufferSize < 0 || receiveBufferSize < 0) {
+            throw new IllegalArgumentException("Socket buffer size cannot be negative.");
+        }
+        this.tcpNoDelay = tcpNoDelay;
+        this.keepAlive = keepAlive;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+    }
+
+    /**
+     * Collects the socket options of a client.
+     *
+     * @param config client configuration
+     *
+     * @return socket options
+     */
+    public static SocketOptions of(TarantoolClientConfig config) {
+        return new SocketOptions(
+            config.tcpNoDelay,
+            config.keepAlive,
+            config.sendBufferSize,
+            config.receiveBufferSize
+        );
+    }
+
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Applies the options to a channel. The buffer sizes
+     * affect the TCP window only when they are set before
+     * the channel is connected.
+     *
+     * @param channel channel to be configured
+     *
+     * @throws IOException if an option cannot be set
+     */
+    public void apply(SocketChannel channel) throws IOException {
+        setOption(channel, StandardSocketOptions.TCP_NODELAY, tcpNoDelay);
+        setOption(channel, StandardSocketOptions.SO_KEEPALIVE, keepAlive);
+        if (sendBufferSize > 0) {
+            setOption(channel, StandardSocketOptions.SO_SNDBUF, sendBufferSize);
+        }
+        if (receiveBufferSize > 0) {
+            setOption(channel, StandardSocketOptions.SO_RCVBUF, receiveBufferSize);
+        }
+    }
+
+    private static <T> void setOption(SocketChannel channel, SocketOption<T> option, T value) throws IOException {
+        if (channel.supportedOptions().contains(option)) {
+            channel.setOption(option, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SocketOptions{" +
+            "tcpNoDelay=" + tcpNoDelay +
+            ", keepAlive=" + keepAlive +
+            ", sendBufferSize=" + sendBufferSize +
+            ", receiveBufferSize=" + receiveBufferSize +
+            '}';
+    }
+
+}
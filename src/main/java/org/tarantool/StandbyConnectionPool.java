@@ -0,0 +1,320 @@
+package org.tarantool;
+
+import org.tarantool.logging.Logger;
+import org.tarantool.logging.LoggerFactory;
+import org.tarantool.protocol.ProtoUtils;
+import org.tarantool.protocol.TarantoolGreeting;
+import org.tarantool.protocol.TarantoolPacket;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Keeps authenticated connections to the instances which
+ * follow the current one in the address list, so the client
+ * can switch to one of them without the connection setup.
+ * <p>
+ * {@link #maintain()} is expected to be called periodically
+ * by a single thread. It pings the connections, drops the
+ * broken ones and opens the missing ones.
+ * <p>
+ * This class is not a part of public API.
+ */
+class StandbyConnectionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandbyConnectionPool.class);
+    private static final long CLAIM_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Supplier<List<SocketAddress>> addresses;
+    private final int size;
+    private final int timeoutMillis;
+    private final String username;
+    private final String password;
+    private final SocketOptions socketOptions;
+    private final MsgPackLite msgPackLite = MsgPackLite.INSTANCE;
+    private final AtomicLong syncId = new AtomicLong();
+    private final Map<SocketAddress, Standby> standbys = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Address the client is connected to.
+     * Guarded by this pool.
+     */
+    private SocketAddress primaryAddress;
+
+    /**
+     * Creates a pool.
+     *
+     * @param addresses     supplier of the actual instance addresses
+     * @param size          max number of the standby connections
+     * @param timeoutMillis connect and ping timeout
+     * @param username      user name to authenticate
+     * @param password      password to authenticate
+     * @param socketOptions options of the opened channels
+     */
+    StandbyConnectionPool(Supplier<List<SocketAddress>> addresses,
+                          int size,
+                          int timeoutMillis,
+                          String username,
+                          String password,
+                          SocketOptions socketOptions) {
+        this.addresses = addresses;
+        this.size = size;
+        this.timeoutMillis = timeoutMillis;
+        this.username = username;
+        this.password = password;
+        this.socketOptions = socketOptions;
+    }
+
+    int getSize() {
+        return standbys.size();
+    }
+
+    synchronized SocketAddress getPrimaryAddress() {
+        return primaryAddress;
+    }
+
+    /**
+     * Sets the address the client is connected to.
+     *
+     * @param primaryAddress current address
+     */
+    synchronized void setPrimaryAddress(SocketAddress primaryAddress) {
+        this.primaryAddress = primaryAddress;
+    }
+
+    /**
+     * Pings the connections and opens new ones to the
+     * addresses which follow the primary one.
+     */
+    void maintain() {
+        final SocketAddress primaryAddress = getPrimaryAddress();
+        List<SocketAddress> actual = addresses.get();
+        for (Iterator<Standby> iterator = standbys.values().iterator(); iterator.hasNext(); ) {
+            Standby standby = iterator.next();
+            if (!standby.claim()) {
+                continue;
+            }
+            if (standby.address.equals(primaryAddress) || !actual.contains(standby.address) || !ping(standby)) {
+                iterator.remove();
+                standby.close();
+            } else {
+                standby.release();
+            }
+        }
+        for (SocketAddress address : nextAddresses(actual, primaryAddress)) {
+            if (closed || standbys.size() >= size) {
+                break;
+            }
+            if (!standbys.containsKey(address)) {
+                open(address);
+            }
+        }
+        if (closed) {
+            close();
+        }
+    }
+
+    /**
+     * Takes a connection out of the pool. A connection
+     * being pinged is taken once the ping is finished.
+     * The address of the taken connection becomes the
+     * primary one.
+     *
+     * @return standby connection or {@literal null} if
+     *         there are no connections ready
+     */
+    Standby take() {
+        for (SocketAddress address : addresses.get()) {
+            Standby standby = claim(address);
+            if (standby != null) {
+                synchronized (this) {
+                    standbys.remove(address, standby);
+                    primaryAddress = address;
+                }
+                return standby;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Claims the connection to the address waiting for
+     * the ping in progress which takes up to the timeout.
+     */
+    private Standby claim(SocketAddress address) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Standby standby;
+        while ((standby = standbys.get(address)) != null) {
+            if (standby.claim()) {
+                return standby;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            LockSupport.parkNanos(CLAIM_RETRY_NANOS);
+        }
+        return null;
+    }
+
+    void close() {
+        closed = true;
+        for (Iterator<Standby> iterator = standbys.values().iterator(); iterator.hasNext(); ) {
+            Standby standby = iterator.next();
+            if (standby.claim()) {
+                iterator.remove();
+                standby.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the TCP addresses in the list order starting
+     * after the primary one.
+     */
+    private static List<SocketAddress> nextAddresses(List<SocketAddress> addresses, SocketAddress primaryAddress) {
+        int primaryIndex = addresses.indexOf(primaryAddress);
+        List<SocketAddress> result = new ArrayList<>(addresses.size());
+        for (int i = 1; i <= addresses.size(); i++) {
+            SocketAddress address = addresses.get(Math.floorMod(primaryIndex + i, addresses.size()));
+            // the blocking socket view with timeouts is not available for unix sockets
+            if (!address.equals(primaryAddress) && !UnixDomainSockets.isUnixAddress(address)) {
+                result.add(address);
+            }
+        }
+        return result;
+    }
+
+    private void open(SocketAddress address) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            socketOptions.apply(channel);
+            channel.socket().connect(address, timeoutMillis);
+            channel.socket().setSoTimeout(timeoutMillis);
+            // the socket streams respect the timeout unlike the channel
+            TarantoolGreeting greeting = ProtoUtils.connect(channel.socket(), username, password, msgPackLite);
+            Standby standby = new Standby(address, channel, greeting.getServerVersion());
+            // the client could switch to this address while it was being opened
+            if (ping(standby) && putUnlessPrimary(standby)) {
+                return;
+            }
+        } catch (Exception e) {
+            LOGGER.debug(() -> "Could not open a standby connection to " + address, e);
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // no-op
+            }
+        }
+    }
+
+    private synchronized boolean putUnlessPrimary(Standby standby) {
+        if (standby.address.equals(primaryAddress)) {
+            return false;
+        }
+        standbys.put(standby.address, standby);
+        return true;
+    }
+
+    /**
+     * Sends a ping and waits for its response in the
+     * blocking mode.
+     */
+    private boolean ping(Standby standby) {
+        try {
+            ProtoUtils.writeFully(
+                standby.channel,
+                ProtoUtils.createPacket(msgPackLite, Code.PING, syncId.incrementAndGet(), null)
+            );
+            TarantoolPacket packet = ProtoUtils.readPacket(standby.channel.socket().getInputStream(), msgPackLite);
+            if (packet.getCode() != 0) {
+                return false;
+            }
+            standby.schemaVersion = packet.getSchemaId();
+            return true;
+        } catch (Exception e) {
+            LOGGER.debug(() -> "Standby connection to " + standby.address + " is broken", e);
+            return false;
+        }
+    }
+
+    /**
+     * Authenticated connection in the blocking mode.
+     */
+    static class Standby {
+
+        private final SocketAddress address;
+        private final SocketChannel channel;
+        private final String serverVersion;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile long schemaVersion;
+
+        Standby(SocketAddress address, SocketChannel channel, String serverVersion) {
+            this.address = address;
+            this.channel = channel;
+            this.serverVersion = serverVersion;
+        }
+
+        SocketAddress getAddress() {
+            return address;
+        }
+
+        /**
+         * Gets the channel prepared to be used by the client.
+         *
+         * @return channel without the socket timeout
+         *
+         * @throws IOException if the socket is broken
+         */
+        SocketChannel getChannel() throws IOException {
+            channel.socket().setSoTimeout(0);
+            return channel;
+        }
+
+        String getServerVersion() {
+            return serverVersion;
+        }
+
+        /**
+         * Gets the schema version received with
+         * the last ping.
+         *
+         * @return schema version
+         */
+        long getSchemaVersion() {
+            return schemaVersion;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // no-op
+            }
+        }
+
+        private boolean claim() {
+            return busy.compareAndSet(false, true);
+        }
+
+        private void release() {
+            busy.set(false);
+        }
+
+    }
+
+}
@@ -0,0 +1,413 @@
+package org.tarantool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes a large number of tuples into a space keeping
+ * a bounded number of requests in flight, so the client
+ * buffers do not grow with the size of the data set.
+ * <p>
+ * The requests failed because of the connection problems
+ * or timeouts are retried. As an insert cannot be repeated
+ * safely, the {@link Mode#INSERT} requests are retried only
+ * if they failed before being sent. The first error returned
+ * by the server stops the load.
+ * <p>
+ * The tuples can be written one per request or in batches
+ * by a stored function which gets the space name, the
+ * {@link Mode} name and the list of tuples:
+ * <pre>{@code
+ * function load_batch(space, mode, tuples)
+ *     for _, tuple in ipairs(tuples) do
+ *         box.space[space][string.lower(mode)](box.space[space], tuple)
+ *     end
+ * end
+ * }</pre>
+ * <p>
+ * The requests are sent with {@link RequestPriority#LOW}
+ * priority if the client supports it.
+ * <p>
+ * A loader can be reused but it is not thread-safe.
+ */
+public class TarantoolBulkLoader {
+
+    /**
+     * Operation used to write a tuple.
+     */
+    public enum Mode {
+        INSERT,
+        REPLACE,
+        UPSERT
+    }
+
+    private final TarantoolClient client;
+    private final String space;
+
+    private Mode mode = Mode.INSERT;
+    private Function<List<?>, Object[]> upsertOperations;
+    private int windowSize = 128;
+    private String batchFunction;
+    private int batchSize = 1;
+    private int maxRetries = 3;
+    private long retryDelayMillis = 100;
+    private Consumer<Progress> progressListener;
+    private long progressIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+    public TarantoolBulkLoader(TarantoolClient client, String space) {
+        this.client = Objects.requireNonNull(client);
+        this.space = Objects.requireNonNull(space);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the operation used to write the tuples.
+     *
+     * @param mode write operation
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setMode(Mode mode) {
+        this.mode = Objects.requireNonNull(mode);
+        return this;
+    }
+
+    /**
+     * Sets the update operations applied by the upserts
+     * when a tuple with the same key exists.
+     *
+     * @param upsertOperations makes the update operations of a tuple
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setUpsertOperations(Function<List<?>, Object[]> upsertOperations) {
+        this.upsertOperations = upsertOperations;
+        return this;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the max number of requests in flight.
+     *
+     * @param windowSize number of requests
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive.");
+        }
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Sets the stored function writing a batch of tuples
+     * by one call.
+     *
+     * @param function  function name or {@literal null} to write
+     *                  the tuples one per request
+     * @param batchSize max number of the tuples passed to a call
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setBatchFunction(String function, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.batchFunction = function;
+        this.batchSize = function == null ? 1 : batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of retries of a request failed
+     * because of a connection problem or a timeout.
+     * <p>
+     * The {@link Mode#INSERT} requests which could reach
+     * the server are not retried.
+     *
+     * @param maxRetries number of retries
+     * @param delay      delay before a retry
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setRetries(int maxRetries, Duration delay) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Retries count cannot be negative.");
+        }
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = delay.toMillis();
+        return this;
+    }
+
+    /**
+     * Sets the listener receiving the load progress
+     * periodically and once the load is finished.
+     *
+     * @param listener listener called from the client threads
+     * @param interval min time between the reports
+     *
+     * @return this loader
+     */
+    public TarantoolBulkLoader setProgressListener(Consumer<Progress> listener, Duration interval) {
+        this.progressListener = listener;
+        this.progressIntervalNanos = interval.toNanos();
+        return this;
+    }
+
+    /**
+     * Writes the tuples of a stream.
+     *
+     * @param tuples tuples to be written
+     *
+     * @return final progress
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     * @throws TarantoolException   if the server fails a write
+     */
+    public Progress load(Stream<? extends List<?>> tuples) throws InterruptedException {
+        return load(tuples.iterator());
+    }
+
+    /**
+     * Writes the tuples and waits until all of
+     * them are acknowledged.
+     *
+     * @param tuples tuples to be written
+     *
+     * @return final progress
+     *
+     * @throws InterruptedException   if the current thread is interrupted
+     * @throws TarantoolException     if the server fails a write
+     * @throws CommunicationException if a write cannot be retried anymore
+     */
+    public Progress load(Iterator<? extends List<?>> tuples) throws InterruptedException {
+        if (mode == Mode.UPSERT && upsertOperations == null && batchFunction == null) {
+            throw new IllegalStateException("Upsert operations must be set to upsert the tuples.");
+        }
+        Load load = new Load();
+        ScheduledExecutorService retryExecutor =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-loader"));
+        load.retryExecutor = retryExecutor;
+        try {
+            while (tuples.hasNext()) {
+                List<List<?>> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && tuples.hasNext()) {
+                    batch.add(tuples.next());
+                }
+                load.window.acquire();
+                if (load.error.get() != null) {
+                    load.window.release();
+                    break;
+                }
+                load.send(batch, 0);
+            }
+            load.window.acquire(windowSize);
+        } finally {
+            retryExecutor.shutdownNow();
+        }
+        Progress progress = load.snapshot();
+        if (progressListener != null) {
+            progressListener.accept(progress);
+        }
+        Throwable error = load.error.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error != null) {
+            throw new CommunicationException("Bulk load failed", error);
+        }
+        return progress;
+    }
+
+    /**
+     * State of a single load.
+     */
+    private class Load {
+
+        private final Semaphore window = new Semaphore(windowSize);
+        private final AtomicLong loaded = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong lastReportNanos = new AtomicLong(startNanos);
+        private final TarantoolClientOps<Integer, List<?>, Object, CompletionStage<List<?>>> ops =
+            client instanceof TarantoolClientImpl
+                ? ((TarantoolClientImpl) client).composableAsyncOps(RequestPriority.LOW)
+                : client.composableAsyncOps();
+        private ScheduledExecutorService retryExecutor;
+
+        /**
+         * Sends a batch holding a window permit which is
+         * released once the batch is acknowledged or failed.
+         */
+        void send(List<List<?>> batch, int attempt) {
+            CompletionStage<List<?>> result;
+            try {
+                result = write(batch);
+            } catch (RuntimeException e) {
+                complete(batch, attempt, e, false);
+                return;
+            }
+            result.whenComplete((ignored, error) -> complete(batch, attempt, error, true));
+        }
+
+        private CompletionStage<List<?>> write(List<List<?>> batch) {
+            if (batchFunction != null) {
+                return ops.call(batchFunction, space, mode.name(), batch);
+            }
+            List<?> tuple = batch.get(0);
+            switch (mode) {
+            case REPLACE:
+                return ops.replace(space, tuple);
+            case UPSERT:
+                return ops.upsert(space, tuple, tuple, upsertOperations.apply(tuple));
+            default:
+                return ops.insert(space, tuple);
+            }
+        }
+
+        /**
+         * Completes a batch or schedules its retry.
+         *
+         * @param sent whether the request could reach the server,
+         *             so a failed insert may be applied already
+         */
+        private void complete(List<List<?>> batch, int attempt, Throwable error, boolean sent) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause == null) {
+                loaded.addAndGet(batch.size());
+            } else if (isRetriable(cause, sent) && attempt < maxRetries && this.error.get() == null) {
+                retried.incrementAndGet();
+                try {
+                    retryExecutor.schedule(() -> send(batch, attempt + 1), retryDelayMillis, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (RuntimeException e) {
+                    // the load is being finished
+                    failed.addAndGet(batch.size());
+                    this.error.compareAndSet(null, cause);
+                }
+            } else {
+                failed.addAndGet(batch.size());
+                this.error.compareAndSet(null, cause);
+            }
+            window.release();
+            report();
+        }
+
+        private boolean isRetriable(Throwable cause, boolean sent) {
+            return !(cause instanceof TarantoolException) && (!sent || mode != Mode.INSERT);
+        }
+
+        private void report() {
+            if (progressListener == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            long last = lastReportNanos.get();
+            if (now - last >= progressIntervalNanos && lastReportNanos.compareAndSet(last, now)) {
+                progressListener.accept(snapshot());
+            }
+        }
+
+        Progress snapshot() {
+            return new Progress(loaded.get(), retried.get(), failed.get(), System.nanoTime() - startNanos);
+        }
+
+    }
+
+    /**
+     * Point-in-time state of a load.
+     */
+    public static final class Progress {
+
+        private final long loaded;
+        private final long retried;
+        private final long failed;
+        private final long elapsedNanos;
+
+        Progress(long loaded, long retried, long failed, long elapsedNanos) {
+            this.loaded = loaded;
+            this.retried = retried;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the number of the acknowledged tuples.
+         *
+         * @return number of tuples
+         */
+        public long getLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Gets the number of the retried requests.
+         *
+         * @return number of retries
+         */
+        public long getRetried() {
+            return retried;
+        }
+
+        /**
+         * Gets the number of the tuples which
+         * could not be written.
+         *
+         * @return number of tuples
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        /**
+         * Gets the average number of the tuples
+         * written per second.
+         *
+         * @return throughput
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : loaded * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Progress{" +
+                "loaded=" + loaded +
+                ", retried=" + retried +
+                ", failed=" + failed +
+                ", elapsed=" + getElapsed() +
+                ", throughput=" + String.format("%.1f", getThroughput()) +
+                '}';
+        }
+
+    }
+
+}
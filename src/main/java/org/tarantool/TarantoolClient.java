@@ -1,6 +1,7 @@
 package org.tarantool;
 
 import org.tarantool.schema.TarantoolSchemaMeta;
+import org.tarantool.schema.TarantoolSpaceRef;
 
 import java.util.List;
 import java.util.Map;
@@ -33,4 +34,18 @@ public interface TarantoolClient {
 
     TarantoolSchemaMeta getSchemaMeta();
 
+    /**
+     * Gets a handle of the space which caches the resolved
+     * space ID until the schema version is changed.
+     *
+     * @param spaceName name of target space
+     *
+     * @return space handle
+     *
+     * @see TarantoolSpaceRef#index(String)
+     */
+    default TarantoolSpaceRef space(String spaceName) {
+        return new TarantoolSpaceRef(getSchemaMeta(), spaceName);
+    }
+
 }
@@ -1,5 +1,10 @@
 package org.tarantool;
 
+import org.tarantool.metrics.TarantoolMetricsExporter;
+
+import java.util.Collections;
+import java.util.Set;
+
 public class TarantoolClientConfig {
 
     public static final int DEFAULT_OPERATION_EXPIRY_TIME_MILLIS = 1000;
@@ -71,9 +76,224 @@ public class TarantoolClientConfig {
      */
     public int retryCount = 3;
 
+    /**
+     * Disables the Nagle's algorithm on the TCP connections,
+     * so small requests are not delayed waiting for the
+     * acknowledgements of the previous ones.
+     */
+    public boolean tcpNoDelay = true;
+
+    /**
+     * Enables TCP keep-alive probes on the connections.
+     */
+    public boolean keepAlive = false;
+
+    /**
+     * Socket send buffer size in bytes.
+     * {@code 0} means the OS default.
+     */
+    public int sendBufferSize = 0;
+
+    /**
+     * Socket receive buffer size in bytes.
+     * {@code 0} means the OS default.
+     * <p>
+     * The client reads the responses ahead
+     * into a buffer of the same size.
+     */
+    public int receiveBufferSize = 0;
+
     /**
      * Operation expiration period.
      */
     public int operationExpiryTimeMillis = DEFAULT_OPERATION_EXPIRY_TIME_MILLIS;
 
+    /**
+     * Subscribes to {@code box.schema} events (available since
+     * Tarantool 2.10) to refresh the cached schema as soon as
+     * it is changed on the server. The option is ignored by
+     * the servers which do not support watchers.
+     */
+    public boolean watchSchemaChanges = true;
+
+    /**
+     * Optional exporter of the client metrics.
+     *
+     * @see org.tarantool.metrics.JmxMetricsExporter
+     */
+    public TarantoolMetricsExporter metricsExporter;
+
+    /**
+     * Sends fire and forget requests without registering
+     * futures and timeouts for them. The responses are dropped
+     * by the reader and the errors are only counted in
+     * {@link TarantoolClientStats} and passed to the
+     * {@link #fireAndForgetErrorListener} if any.
+     * <p>
+     * Such requests are not kept by the client, so they are
+     * neither retried after a reconnection nor sent again
+     * after a schema version error.
+     */
+    public boolean futurelessFireAndForget = false;
+
+    /**
+     * Optional listener of the failed fire and forget requests.
+     *
+     * @see #futurelessFireAndForget
+     */
+    public FireAndForgetErrorListener fireAndForgetErrorListener;
+
+    /**
+     * Names of the read-mostly spaces whose select results
+     * are cached by the client. The results are shared
+     * between the callers, so they are unmodifiable
+     * including the nested tuples.
+     * <p>
+     * The cache is disabled if there is no space.
+     */
+    public Set<String> nearCacheSpaces = Collections.emptySet();
+
+    /**
+     * Max estimated size of the near cache entries in bytes.
+     * The least recently used entries are evicted when the
+     * size is exceeded.
+     */
+    public long nearCacheMaxWeight = 16 * 1024 * 1024;
+
+    /**
+     * Time since an entry is cached until it expires.
+     * {@code 0} means the entries do not expire.
+     */
+    public long nearCacheTtlMillis = 1000;
+
+    /**
+     * Attaches a select to an identical one which is in
+     * flight instead of sending it again. The coalesced
+     * selects share the result, so the select results are
+     * unmodifiable including the nested tuples.
+     */
+    public boolean coalesceReads = false;
+
+    /**
+     * Stored function used by
+     * {@link TarantoolClientImpl#selectMany(String, String, java.util.Collection)}
+     * to fetch a chunk of keys at once. The function is called
+     * with the space name, the index name and the keys and has
+     * to return a list of the tuple lists in the key order.
+     * <p>
+     * The keys are sent as separate selects if it is not set.
+     */
+    public String selectManyFunction;
+
+    /**
+     * Max number of keys passed to a {@link #selectManyFunction} call.
+     */
+    public int selectManyChunkSize = 100;
+
+    /**
+     * Max number of requests waiting for their responses.
+     * {@code 0} means there is no limit.
+     *
+     * @see #admissionMode
+     */
+    public int maxInFlightRequests = 0;
+
+    /**
+     * Max estimated size of the arguments of the requests
+     * waiting for their responses in bytes. A request is
+     * admitted regardless of its size if there is no other
+     * request in flight. {@code 0} means there is no limit.
+     *
+     * @see #admissionMode
+     */
+    public long maxInFlightBytes = 0;
+
+    /**
+     * Action taken when a request exceeds the in-flight limits.
+     */
+    public AdmissionMode admissionMode = AdmissionMode.WAIT;
+
+    /**
+     * Max time a caller waits for the in-flight limits
+     * in {@link AdmissionMode#WAIT} mode.
+     */
+    public long admissionWaitMillis = 1000;
+
+    /**
+     * Adapts the in-flight requests limit to the observed
+     * latency: the limit grows while the requests are completed
+     * within {@link #adaptiveLatencyTargetMillis} and shrinks
+     * when they are slower or time out. {@link #maxInFlightRequests}
+     * is the upper bound of the limit.
+     */
+    public boolean adaptiveInFlightLimit = false;
+
+    /**
+     * Target request latency of the adaptive in-flight limit.
+     */
+    public long adaptiveLatencyTargetMillis = 100;
+
+    /**
+     * Queues the buffered requests by their {@link RequestPriority}
+     * instead of a single shared buffer. Each lane holds up to
+     * {@link #sharedBufferSize} bytes.
+     */
+    public boolean priorityLanes = false;
+
+    /**
+     * Shares of the socket writes given to the
+     * {@link RequestPriority#HIGH}, {@link RequestPriority#NORMAL}
+     * and {@link RequestPriority#LOW} lanes.
+     */
+    public int[] priorityLaneWeights = { 16, 4, 1 };
+
+    /**
+     * Copies the connection options to be used by an
+     * auxiliary client. The metrics exporter is not copied
+     * so the auxiliary client metrics are not published
+     * under the same name. The near cache is not copied
+     * either because the writes made through one auxiliary
+     * client would not invalidate the others.
+     *
+     * @param config source options
+     *
+     * @return copied options
+     */
+    static TarantoolClientConfig copyOf(TarantoolClientConfig config) {
+        TarantoolClientConfig copy = new TarantoolClientConfig();
+        copy.username = config.username;
+        copy.password = config.password;
+        copy.defaultRequestSize = config.defaultRequestSize;
+        copy.predictedFutures = config.predictedFutures;
+        copy.writerThreadPriority = config.writerThreadPriority;
+        copy.readerThreadPriority = config.readerThreadPriority;
+        copy.sharedBufferSize = config.sharedBufferSize;
+        copy.directWriteFactor = config.directWriteFactor;
+        copy.writeTimeoutMillis = config.writeTimeoutMillis;
+        copy.useNewCall = config.useNewCall;
+        copy.initTimeoutMillis = config.initTimeoutMillis;
+        copy.connectionTimeout = config.connectionTimeout;
+        copy.retryCount = config.retryCount;
+        copy.tcpNoDelay = config.tcpNoDelay;
+        copy.keepAlive = config.keepAlive;
+        copy.sendBufferSize = config.sendBufferSize;
+        copy.receiveBufferSize = config.receiveBufferSize;
+        copy.operationExpiryTimeMillis = config.operationExpiryTimeMillis;
+        copy.watchSchemaChanges = config.watchSchemaChanges;
+        copy.futurelessFireAndForget = config.futurelessFireAndForget;
+        copy.fireAndForgetErrorListener = config.fireAndForgetErrorListener;
+        copy.coalesceReads = config.coalesceReads;
+        copy.selectManyFunction = config.selectManyFunction;
+        copy.selectManyChunkSize = config.selectManyChunkSize;
+        copy.maxInFlightRequests = config.maxInFlightRequests;
+        copy.maxInFlightBytes = config.maxInFlightBytes;
+        copy.admissionMode = config.admissionMode;
+        copy.admissionWaitMillis = config.admissionWaitMillis;
+        copy.adaptiveInFlightLimit = config.adaptiveInFlightLimit;
+        copy.adaptiveLatencyTargetMillis = config.adaptiveLatencyTargetMillis;
+        copy.priorityLanes = config.priorityLanes;
+        copy.priorityLaneWeights = config.priorityLaneWeights.clone();
+        return copy;
+    }
+
 }
@@ -1,7 +1,11 @@
 package org.tarantool;
 
+import org.tarantool.jfr.TarantoolFlightRecorder;
 import org.tarantool.logging.Logger;
 import org.tarantool.logging.LoggerFactory;
+import org.tarantool.metrics.TarantoolClientMetrics;
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.metrics.TarantoolClientMetrics.Latency;
 import org.tarantool.protocol.ProtoConstants;
 import org.tarantool.protocol.ProtoUtils;
 import org.tarantool.protocol.ReadableViaSelectorChannel;
@@ -15,13 +19,20 @@ import org.tarantool.util.TupleTwo;
 
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -31,19 +42,24 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
 
 public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements TarantoolClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TarantoolClientImpl.class);
 
+    private static final String SCHEMA_EVENT_KEY = "box.schema";
+
     protected TarantoolClientConfig config;
     protected Duration operationTimeout;
 
@@ -64,10 +80,67 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     protected Map<Long, TarantoolOperation> futures;
     protected AtomicInteger pendingResponsesCount = new AtomicInteger();
 
+    /**
+     * Bit set in the ids of the requests sent without
+     * registering futures to recognize their responses.
+     *
+     * @see TarantoolClientConfig#futurelessFireAndForget
+     */
+    protected static final long FIRE_AND_FORGET_SYNC = 1L << 62;
+
+    /**
+     * Number of the sent requests which do not have
+     * registered futures.
+     *
+     * @see TarantoolClientConfig#futurelessFireAndForget
+     */
+    protected AtomicInteger pendingFireAndForgetCount = new AtomicInteger();
+
+    /**
+     * Id of the last sent schema watch request.
+     *
+     * @see TarantoolClientConfig#watchSchemaChanges
+     */
+    protected volatile long schemaWatchSyncId = -1;
+
+    /**
+     * Id of the last created stream.
+     *
+     * @see #newStream()
+     */
+    protected AtomicLong lastStreamId = new AtomicLong();
+
+    /**
+     * Streams which have a delayed request by their ids.
+     * The further requests of such a stream wait for the
+     * delayed one, so the requests of a transaction are
+     * sent in the order they are submitted.
+     */
+    private final Map<Long, StreamBacklog> blockedStreams = new HashMap<>();
+
+    /**
+     * Number of the established connections. Transactions
+     * of the streams do not survive a reconnection.
+     */
+    protected AtomicLong connectionEpoch = new AtomicLong();
+
     /**
      * Write properties.
      */
     protected ByteBuffer sharedBuffer;
+
+    /**
+     * Number of requests in the shared buffer.
+     * Guarded by {@link #bufferLock}.
+     */
+    protected int bufferedRequests;
+
+    /**
+     * Outbound queues by the request priorities used instead
+     * of {@link #sharedBuffer} or {@literal null} if disabled.
+     * Guarded by {@link #bufferLock}.
+     */
+    private PriorityLanes lanes;
     protected ReentrantLock bufferLock = new ReentrantLock(false);
     protected Condition bufferNotEmpty = bufferLock.newCondition();
     protected Condition bufferEmpty = bufferLock.newCondition();
@@ -82,11 +155,30 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     protected FireAndForgetOps fireAndForgetOps;
     protected ComposableAsyncOps composableAsyncOps;
     protected UnsafeSchemaOps unsafeSchemaOps;
+    protected UnsafeSchemaAsyncOps unsafeSchemaAsyncOps;
 
     /**
      * Inner.
      */
-    protected TarantoolClientStats stats;
+    protected TarantoolClientMetrics metrics;
+
+    /**
+     * Cache of the select results or {@literal null}
+     * if it is disabled.
+     */
+    private NearCache nearCache;
+
+    /**
+     * Results of the selects in flight by their keys and
+     * timeouts or {@literal null} if the reads are not coalesced.
+     */
+    private Map<List<?>, InFlightRead> inFlightReads;
+
+    /**
+     * Limits of the requests in flight or
+     * {@literal null} if they are not limited.
+     */
+    private AdmissionControl admission;
     protected StateHelper state = new StateHelper(StateHelper.RECONNECT);
     protected Thread reader;
     protected Thread writer;
@@ -117,6 +209,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
             ConfigurableSocketChannelProvider configurableProvider = (ConfigurableSocketChannelProvider) socketProvider;
             configurableProvider.setConnectionTimeout(config.connectionTimeout);
             configurableProvider.setRetriesLimit(config.retryCount);
+            configurableProvider.setSocketOptions(SocketOptions.of(config));
         }
         startConnector(config.initTimeoutMillis);
     }
@@ -126,19 +219,38 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         this.initialRequestSize = config.defaultRequestSize;
         this.operationTimeout = Duration.ofMillis(config.operationExpiryTimeMillis);
         this.socketProvider = socketProvider;
-        this.stats = new TarantoolClientStats();
         this.futures = new ConcurrentHashMap<>(config.predictedFutures);
         this.delayedOperationsQueue = new PriorityBlockingQueue<>(128);
         this.workExecutor =
             Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-worker"));
         this.sharedBuffer = ByteBuffer.allocateDirect(config.sharedBufferSize);
         this.writerBuffer = ByteBuffer.allocateDirect(sharedBuffer.capacity());
+        if (config.priorityLanes) {
+            this.lanes = new PriorityLanes(config.sharedBufferSize, config.priorityLaneWeights);
+        }
+        this.metrics = new TarantoolClientMetrics();
+        if (!config.nearCacheSpaces.isEmpty()) {
+            this.nearCache = new NearCache(this, config);
+        }
+        if (config.coalesceReads) {
+            this.inFlightReads = new ConcurrentHashMap<>();
+        }
+        if (config.maxInFlightRequests > 0 || config.maxInFlightBytes > 0) {
+            this.admission = new AdmissionControl(
+                config.maxInFlightRequests,
+                config.maxInFlightBytes,
+                config.adaptiveInFlightLimit,
+                config.adaptiveLatencyTargetMillis
+            );
+        }
+        registerGauges();
         this.connector.setDaemon(true);
         this.connector.setName("Tarantool connector");
         this.syncOps = new SyncOps();
         this.composableAsyncOps = new ComposableAsyncOps();
         this.fireAndForgetOps = new FireAndForgetOps();
         this.unsafeSchemaOps = new UnsafeSchemaOps();
+        this.unsafeSchemaAsyncOps = new UnsafeSchemaAsyncOps();
         if (!config.useNewCall) {
             setCallCode(Code.OLD_CALL);
             this.syncOps.setCallCode(Code.OLD_CALL);
@@ -147,6 +259,33 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         }
     }
 
+    private void registerGauges() {
+        metrics.registerGauge("inFlightRequests", futures::size);
+        metrics.registerGauge("pendingResponses", pendingResponsesCount::get);
+        metrics.registerGauge("pendingFireAndForgetResponses", pendingFireAndForgetCount::get);
+        metrics.registerGauge("delayedRequests", delayedOperationsQueue::size);
+        metrics.registerGauge("sharedBufferUsedBytes", sharedBuffer::position);
+        metrics.registerGauge("sharedBufferCapacityBytes", sharedBuffer::capacity);
+        if (nearCache != null) {
+            metrics.registerGauge("nearCacheEntries", nearCache::size);
+            metrics.registerGauge("nearCacheWeightBytes", nearCache::getWeight);
+        }
+        if (lanes != null) {
+            metrics.registerGauge("priorityLanesUsedBytes", lanes::getBytes);
+        }
+        if (admission != null) {
+            metrics.registerGauge("admissionLimit", admission::getLimit);
+            metrics.registerGauge("admissionQueuedRequests", admission::getQueued);
+        }
+        if (config.metricsExporter != null) {
+            try {
+                config.metricsExporter.register(metrics);
+            } catch (Exception e) {
+                LOGGER.warn("Could not register the client metrics", e);
+            }
+        }
+    }
+
     private void startConnector(long initTimeoutMillis) {
         connector.start();
         try {
@@ -167,6 +306,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     }
 
     protected void reconnect(Throwable lastError) {
+        Object event = TarantoolFlightRecorder.beginReconnect();
         SocketChannel channel = null;
         int retryNumber = 0;
         while (!Thread.currentThread().isInterrupted()) {
@@ -185,6 +325,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
                 closeChannel(channel);
                 lastError = e;
                 if (!(e instanceof SocketProviderTransientException)) {
+                    TarantoolFlightRecorder.endReconnect(event, null, retryNumber, false);
                     close(e);
                     return;
                 }
@@ -192,6 +333,8 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
             try {
                 if (channel != null) {
                     connect(channel);
+                    String address = String.valueOf(channel.getRemoteAddress());
+                    TarantoolFlightRecorder.endReconnect(event, address, retryNumber, true);
                     return;
                 }
             } catch (Exception e) {
@@ -202,6 +345,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
                 }
             }
         }
+        TarantoolFlightRecorder.endReconnect(event, null, retryNumber, false);
     }
 
     protected void connect(final SocketChannel channel) throws Exception {
@@ -212,20 +356,49 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
             closeChannel(channel);
             throw new CommunicationException("Couldn't connect to tarantool", e);
         }
+        start(channel, true);
+    }
 
+    /**
+     * Starts the IO threads over an authenticated channel.
+     *
+     * @param channel      channel which has passed the greeting and
+     *                     the authentication
+     * @param reloadSchema whether the cached schema has to be refreshed
+     *                     before the names are resolved again
+     *
+     * @throws Exception if the channel cannot be used
+     */
+    protected void start(final SocketChannel channel, boolean reloadSchema) throws Exception {
+        connectionEpoch.incrementAndGet();
+        if (nearCache != null) {
+            // the writes made while disconnected are unknown
+            nearCache.invalidateAll();
+        }
         channel.configureBlocking(false);
         this.channel = channel;
-        this.readChannel = new ReadableViaSelectorChannel(channel);
+        int readBufferSize = config.receiveBufferSize > 0
+            ? config.receiveBufferSize
+            : channel.getOption(StandardSocketOptions.SO_RCVBUF);
+        this.readChannel = new ReadableViaSelectorChannel(channel, readBufferSize);
 
         bufferLock.lock();
         try {
             sharedBuffer.clear();
+            if (lanes != null) {
+                lanes.clear();
+            }
         } finally {
             bufferLock.unlock();
         }
         this.thumbstone = null;
-        startThreads(channel.socket().getRemoteSocketAddress().toString());
-        updateSchema();
+        startThreads(String.valueOf(channel.getRemoteAddress()));
+        if (reloadSchema || !delayedOperationsQueue.isEmpty()) {
+            updateSchema();
+        }
+        if (config.watchSchemaChanges) {
+            watchSchema();
+        }
     }
 
     protected void startThreads(String threadName) throws InterruptedException {
@@ -290,32 +463,245 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
      */
     @Override
     protected Future<?> exec(TarantoolRequest request) {
+        if (nearCache != null) {
+            return nearCache.get(request, this::execRemote);
+        }
+        return execRemote(request);
+    }
+
+    /**
+     * Executes an operation on the server bypassing
+     * the near cache.
+     * <p>
+     * If {@link TarantoolClientConfig#coalesceReads} is enabled,
+     * a select identical to an in-flight one with the same timeout
+     * waits for the result of the latter. Every caller gets its own
+     * future, so cancelling it does not affect the other callers.
+     * A result shared by several callers is unmodifiable including
+     * the nested tuples.
+     *
+     * @param request operation data
+     *
+     * @return deferred result
+     */
+    protected Future<?> execRemote(TarantoolRequest request) {
+        List<?> key = inFlightReads == null ? null : RequestKeys.selectKey(request);
+        if (key == null) {
+            return send(request);
+        }
+        // the reads with different timeouts must not fail each other
+        List<?> inFlightKey = Arrays.asList(key, request.getTimeout());
+        InFlightRead read = new InFlightRead();
+        InFlightRead inFlight;
+        while ((inFlight = inFlightReads.putIfAbsent(inFlightKey, read)) != null) {
+            if (inFlight.attach()) {
+                metrics.increment(Counter.COALESCED_READS);
+                return inFlight.result.thenApply(Function.identity());
+            }
+            // the read is being completed and is removed already
+        }
+        CompletableFuture<Object> shared = read.result;
+        try {
+            send(request).whenComplete((result, error) -> {
+                inFlightReads.remove(inFlightKey, read);
+                if (error != null) {
+                    shared.completeExceptionally(error);
+                } else if (read.close()) {
+                    shared.complete(SharedResults.toUnmodifiable(result));
+                } else {
+                    shared.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightReads.remove(inFlightKey, read);
+            read.close();
+            shared.completeExceptionally(e);
+            throw e;
+        }
+        // each caller gets its own future to cancel or complete
+        return shared.thenApply(Function.identity());
+    }
+
+    /**
+     * Sends an operation to the server.
+     * <p>
+     * If {@link TarantoolClientConfig#coalesceReads} is enabled,
+     * {@link #execRemote(TarantoolRequest)} sends only one of the
+     * identical concurrent selects using this method.
+     *
+     * @param request operation data
+     *
+     * @return deferred result
+     */
+    protected CompletableFuture<?> send(TarantoolRequest request) {
         return doExec(request).getResult();
     }
 
+    /**
+     * Registers a new operation.
+     * <p>
+     * The operation is sent under an optimistic schema read when
+     * the schema is loaded and all space / index names are resolved.
+     * Otherwise, it falls back to the schema read lock in order to
+     * postpone the operation until the schema is refreshed.
+     *
+     * @param request operation data
+     *
+     * @return registered operation
+     *
+     * @throws RejectedExecutionException if the in-flight limits are reached
+     * @see TarantoolClientConfig#admissionMode
+     */
     protected TarantoolOperation doExec(TarantoolRequest request) {
+        if (nearCache != null) {
+            nearCache.onRequest(request);
+        }
+        return admit(request);
+    }
+
+    /**
+     * Submits a request within the in-flight limits.
+     */
+    private TarantoolOperation admit(TarantoolRequest request) {
+        if (admission == null) {
+            return doSubmit(request);
+        }
+        final long size = config.maxInFlightBytes > 0 ? estimateSize(request) : 0;
+        if (config.admissionMode == AdmissionMode.QUEUE) {
+            return enqueue(request, size);
+        }
+        boolean admitted;
+        if (config.admissionMode == AdmissionMode.WAIT) {
+            try {
+                admitted = admission.acquire(size, TimeUnit.MILLISECONDS.toNanos(config.admissionWaitMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for the in-flight limits", e);
+            }
+        } else {
+            admitted = admission.tryAcquire(size);
+        }
+        if (!admitted) {
+            metrics.increment(Counter.ADMISSION_REJECTS);
+            throw new RejectedExecutionException("Too many requests in flight");
+        }
+        long startNanos = System.nanoTime();
+        TarantoolOperation operation;
+        try {
+            operation = doSubmit(request);
+        } catch (RuntimeException e) {
+            releaseAdmission(size, 0, false);
+            throw e;
+        }
+        releaseOnCompletion(operation, size, startNanos);
+        return operation;
+    }
+
+    /**
+     * Creates an operation which is sent once
+     * it fits the in-flight limits.
+     */
+    private TarantoolOperation enqueue(TarantoolRequest request, long size) {
+        if (request.getTimeout() == null) {
+            request.setTimeout(operationTimeout);
+        }
+        TarantoolOperation operation = request.toOperation(syncId.incrementAndGet(), schemaMeta.getSchemaVersion());
+        boolean queued = admission.enqueue(size, () -> {
+            // the operation timed out or was cancelled in the queue
+            if (operation.getResult().isDone()) {
+                releaseAdmission(size, 0, true);
+                return;
+            }
+            long startNanos = System.nanoTime();
+            submitLocked(operation);
+            releaseOnCompletion(operation, size, startNanos);
+        });
+        if (queued) {
+            metrics.increment(Counter.ADMISSION_QUEUED);
+        }
+        return operation;
+    }
+
+    private void releaseOnCompletion(TarantoolOperation operation, long size, long startNanos) {
+        operation.getResult().whenComplete((result, error) -> releaseAdmission(
+            size,
+            System.nanoTime() - startNanos,
+            error instanceof TimeoutException
+        ));
+    }
+
+    private void releaseAdmission(long size, long latencyNanos, boolean overloaded) {
+        for (Runnable action : admission.release(size, latencyNanos, overloaded)) {
+            try {
+                workExecutor.execute(action);
+            } catch (RejectedExecutionException e) {
+                // the client is closed, the action fails the operation
+                action.run();
+            }
+        }
+    }
+
+    private static long estimateSize(TarantoolRequest request) {
+        try {
+            return NearCache.weigh(request.getArguments());
+        } catch (RuntimeException e) {
+            // the names are not resolved yet
+            return 0;
+        }
+    }
+
+    private TarantoolOperation doSubmit(TarantoolRequest request) {
+        Object event = TarantoolFlightRecorder.beginRequestSubmit();
+        TarantoolOperation operation = submit(request);
+        if (event != null) {
+            boolean delayed = operation.getSentNanos() == 0 && !operation.getResult().isDone();
+            TarantoolFlightRecorder.endRequestSubmit(event, operation.getCode(), operation.getId(), delayed);
+        }
+        return operation;
+    }
+
+    private TarantoolOperation submit(TarantoolRequest request) {
+        if (request.getTimeout() == null) {
+            request.setTimeout(operationTimeout);
+        }
+        long stamp = schemaLock.tryOptimisticRead();
+        TarantoolOperation operation = request.toOperation(syncId.incrementAndGet(), schemaMeta.getSchemaVersion());
+        // no schema update has been started while the names were being resolved
+        if (operation.getStreamId() == 0 && isSchemaLoaded() && operation.isSerializable() &&
+            schemaLock.validate(stamp)) {
+            return registerOperation(operation);
+        }
+        return submitLocked(operation);
+    }
+
+    /**
+     * Sends an operation under the schema read lock
+     * or postpones it until the schema is loaded.
+     */
+    private TarantoolOperation submitLocked(TarantoolOperation operation) {
         long stamp = schemaLock.readLock();
         try {
-            if (request.getTimeout() == null) {
-                request.setTimeout(operationTimeout);
+            if (enqueueToBlockedStream(operation)) {
+                return operation;
+            }
+            long schemaVersion = schemaMeta.getSchemaVersion();
+            if (operation.getSentSchemaId() != schemaVersion) {
+                operation.setSentSchemaId(schemaVersion);
             }
-            TarantoolOperation operation = request.toOperation(syncId.incrementAndGet(), schemaMeta.getSchemaVersion());
             // space or index names could not be found in the cache
             if (!operation.isSerializable()) {
-                delayedOperationsQueue.add(operation);
-                // It's possible the client keeps the outdated schema.
-                // Send a preflight ping request to check the schema
-                // version and refresh it if one is obsolete
+                delay(operation);
+                // The names could be evicted from the cache or
+                // the client keeps the outdated schema. Fetch
+                // the missing spaces and check the schema version
                 if (isSchemaLoaded()) {
-                    TarantoolOperation ping = new TarantoolRequest(Code.PING)
-                        .toPreflightOperation(syncId.incrementAndGet(), schemaMeta.getSchemaVersion(), operation);
-                    registerOperation(ping);
+                    workExecutor.execute(createLoadMissingSchemaTask(operation));
                 }
                 return operation;
             }
             // postpone operation if the schema is not ready
             if (!isSchemaLoaded()) {
-                delayedOperationsQueue.add(operation);
+                delay(operation);
                 return operation;
             }
             return registerOperation(operation);
@@ -324,12 +710,148 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         }
     }
 
+    /**
+     * Postpones an operation until the schema is loaded.
+     * The operation of a stream blocks the further requests
+     * of the stream until it is sent.
+     */
+    private void delay(TarantoolOperation operation) {
+        long streamId = operation.getStreamId();
+        if (streamId != 0) {
+            synchronized (blockedStreams) {
+                blockedStreams.computeIfAbsent(streamId, id -> new StreamBacklog()).head = operation;
+            }
+            // the failed operation does not block the stream anymore
+            operation.getResult().whenComplete((result, error) -> releaseStream(operation));
+        }
+        delayedOperationsQueue.add(operation);
+    }
+
+    /**
+     * Puts an operation after the delayed operation
+     * of the same stream if there is one.
+     *
+     * @return {@literal true} if the operation is put
+     */
+    private boolean enqueueToBlockedStream(TarantoolOperation operation) {
+        if (operation.getStreamId() == 0) {
+            return false;
+        }
+        synchronized (blockedStreams) {
+            StreamBacklog backlog = blockedStreams.get(operation.getStreamId());
+            if (backlog == null) {
+                return false;
+            }
+            backlog.waiting.add(operation);
+            return true;
+        }
+    }
+
+    private boolean isStreamBlocked(long streamId) {
+        synchronized (blockedStreams) {
+            return blockedStreams.containsKey(streamId);
+        }
+    }
+
+    /**
+     * Sends the operations of the stream which have been
+     * waiting for the delayed one until another operation
+     * has to be delayed.
+     *
+     * @param operation delayed operation which is sent or failed
+     */
+    private void releaseStream(TarantoolOperation operation) {
+        long streamId = operation.getStreamId();
+        if (streamId == 0) {
+            return;
+        }
+        while (true) {
+            TarantoolOperation next;
+            synchronized (blockedStreams) {
+                StreamBacklog backlog = blockedStreams.get(streamId);
+                if (backlog == null || backlog.head != operation) {
+                    return;
+                }
+                next = backlog.waiting.poll();
+                if (next == null) {
+                    blockedStreams.remove(streamId);
+                    return;
+                }
+                backlog.head = next;
+                if (next.getResult().isDone()) {
+                    operation = next;
+                    continue;
+                }
+                next.setSentSchemaId(schemaMeta.getSchemaVersion());
+                if (!isSchemaLoaded() || !next.isSerializable()) {
+                    // the stream is blocked by the next operation now
+                    next.getResult().whenComplete((result, error) -> releaseStream(next));
+                    delayedOperationsQueue.add(next);
+                    if (isSchemaLoaded()) {
+                        workExecutor.execute(createLoadMissingSchemaTask(next));
+                    }
+                    return;
+                }
+            }
+            registerOperation(next);
+            operation = next;
+        }
+    }
+
+    /**
+     * Sends a request without registering its future.
+     * <p>
+     * The request falls back to {@link #doExec(TarantoolRequest)}
+     * when it cannot be sent immediately, i.e. the schema
+     * is not loaded yet or space / index names are not resolved.
+     *
+     * @param request operation data
+     *
+     * @return request id
+     *
+     * @throws Exception if the request cannot be written
+     */
+    protected long doFireAndForget(TarantoolRequest request) throws Exception {
+        long stamp = schemaLock.tryOptimisticRead();
+        long schemaVersion = schemaMeta.getSchemaVersion();
+        List<Object> arguments = null;
+        if (isSchemaLoaded()) {
+            try {
+                arguments = request.getArguments();
+            } catch (TarantoolSchemaException ignored) {
+                // resolve the names using the regular path
+            }
+        }
+        boolean blocked = request.getStreamId() != 0 && isStreamBlocked(request.getStreamId());
+        if (arguments != null && !blocked && schemaLock.validate(stamp)) {
+            if (nearCache != null) {
+                nearCache.onRequest(request);
+            }
+            long id = syncId.incrementAndGet() | FIRE_AND_FORGET_SYNC;
+            pendingFireAndForgetCount.incrementAndGet();
+            try {
+                if (request.getStreamId() == 0) {
+                    write(request.getPriority(), request.getCode(), id, schemaVersion, arguments.toArray());
+                } else {
+                    writeToStream(request.getPriority(), request.getStreamId(), request.getCode(), id, schemaVersion,
+                        arguments.toArray());
+                }
+                metrics.recordRequest(request.getCode());
+            } catch (Exception e) {
+                pendingFireAndForgetCount.decrementAndGet();
+                throw e;
+            }
+            return id;
+        }
+        return doExec(request).getId();
+    }
+
     /**
      * Checks whether the schema is fully cached.
      *
      * @return {@literal true} if the schema is loaded
      */
-    private boolean isSchemaLoaded() {
+    boolean isSchemaLoaded() {
         return schemaMeta.isInitialized() && !state.isStateSet(StateHelper.SCHEMA_UPDATING);
     }
 
@@ -343,12 +865,22 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
             return operation;
         }
         try {
-            write(
-                operation.getCode(),
-                operation.getId(),
-                operation.getSentSchemaId(),
-                operation.getArguments().toArray()
-            );
+            Object[] arguments = operation.resolveArguments();
+            if (operation.getStreamId() == 0) {
+                write(operation.getPriority(), operation.getCode(), operation.getId(), operation.getSentSchemaId(),
+                    arguments);
+            } else {
+                // a rollback does not depend on the schema, so it is
+                // not rejected even though the stream requests are
+                long schemaId = operation.getCode() == Code.ROLLBACK ? 0 : operation.getSentSchemaId();
+                writeToStream(operation.getPriority(), operation.getStreamId(), operation.getCode(), operation.getId(),
+                    schemaId, arguments);
+            }
+            // the operation is only buffered here, the writer thread flushes it later
+            long sentNanos = System.nanoTime();
+            operation.setSentNanos(sentNanos);
+            metrics.recordRequest(operation.getCode());
+            metrics.recordLatency(Latency.ENQUEUE, sentNanos - operation.getCreatedNanos());
         } catch (Exception e) {
             futures.remove(operation.getId());
             fail(operation, e);
@@ -378,12 +910,24 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         while ((operation = delayedOperationsQueue.poll()) != null) {
             fail(operation, error);
         }
+        List<TarantoolOperation> waitingOperations = new ArrayList<>();
+        synchronized (blockedStreams) {
+            for (StreamBacklog backlog : blockedStreams.values()) {
+                waitingOperations.addAll(backlog.waiting);
+            }
+            blockedStreams.clear();
+        }
+        waitingOperations.forEach(waiting -> fail(waiting, error));
 
         pendingResponsesCount.set(0);
+        pendingFireAndForgetCount.set(0);
 
         bufferLock.lock();
         try {
             sharedBuffer.clear();
+            if (lanes != null) {
+                lanes.clear();
+            }
             bufferEmpty.signalAll();
         } finally {
             bufferLock.unlock();
@@ -393,35 +937,113 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
     @Override
     public void ping() {
-        syncGet(exec(new TarantoolRequest(Code.PING)));
+        TarantoolRequest request = new TarantoolRequest(Code.PING);
+        request.setPriority(RequestPriority.HIGH);
+        syncGet(exec(request));
     }
 
     protected void write(Code code, Long syncId, Long schemaId, Object... args)
+        throws Exception {
+        write(RequestPriority.NORMAL, code, syncId, schemaId, args);
+    }
+
+    /**
+     * Writes a request to the lane of its priority.
+     *
+     * @param priority request priority
+     * @param code     request code
+     * @param syncId   request id
+     * @param schemaId schema version
+     * @param args     body keys and values
+     *
+     * @throws Exception if the request cannot be written
+     */
+    protected void write(RequestPriority priority, Code code, Long syncId, Long schemaId, Object... args)
         throws Exception {
         ByteBuffer buffer = ProtoUtils.createPacket(msgPackLite, code, syncId, schemaId, args);
 
         if (directWrite(buffer)) {
             return;
         }
-        sharedWrite(buffer);
+        sharedWrite(buffer, priority);
+    }
 
+    /**
+     * Writes a request bound to a stream.
+     *
+     * @param streamId stream id
+     * @param code     request code
+     * @param syncId   request id
+     * @param schemaId schema version
+     * @param args     body keys and values
+     *
+     * @throws Exception if the request cannot be written
+     *
+     * @see TarantoolStream
+     */
+    protected void writeToStream(long streamId, Code code, Long syncId, Long schemaId, Object... args)
+        throws Exception {
+        writeToStream(RequestPriority.NORMAL, streamId, code, syncId, schemaId, args);
+    }
+
+    /**
+     * Writes a request bound to a stream to the lane of its priority.
+     *
+     * @param priority request priority
+     * @param streamId stream id
+     * @param code     request code
+     * @param syncId   request id
+     * @param schemaId schema version
+     * @param args     body keys and values
+     *
+     * @throws Exception if the request cannot be written
+     */
+    protected void writeToStream(RequestPriority priority,
+                                 long streamId,
+                                 Code code,
+                                 Long syncId,
+                                 Long schemaId,
+                                 Object... args) throws Exception {
+        ByteBuffer buffer = ProtoUtils.createPacket(
+            initialRequestSize, msgPackLite, code, syncId, schemaId, streamId, args
+        );
+        if (directWrite(buffer)) {
+            return;
+        }
+        sharedWrite(buffer, priority);
     }
 
     protected void sharedWrite(ByteBuffer buffer) throws InterruptedException, TimeoutException {
+        sharedWrite(buffer, RequestPriority.NORMAL);
+    }
+
+    /**
+     * Buffers a request until the writer sends it.
+     * The priority is taken into account if
+     * {@link TarantoolClientConfig#priorityLanes} is enabled.
+     *
+     * @param buffer   request packet
+     * @param priority request priority
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     * @throws TimeoutException     if there is no room within the write timeout
+     */
+    protected void sharedWrite(ByteBuffer buffer, RequestPriority priority)
+        throws InterruptedException, TimeoutException {
         long start = System.currentTimeMillis();
         if (bufferLock.tryLock(config.writeTimeoutMillis, TimeUnit.MILLISECONDS)) {
             try {
                 int rem = buffer.remaining();
-                stats.sharedMaxPacketSize = Math.max(stats.sharedMaxPacketSize, rem);
+                metrics.recordSharedPacketSize(rem);
                 if (rem > initialRequestSize) {
-                    stats.sharedPacketSizeGrowth++;
+                    metrics.increment(Counter.SHARED_PACKET_SIZE_GROWTH);
                 }
-                while (sharedBuffer.remaining() < buffer.limit()) {
-                    stats.sharedEmptyAwait++;
+                while (!hasRoom(buffer, priority)) {
+                    metrics.increment(Counter.SHARED_EMPTY_AWAITS);
                     long remaining = config.writeTimeoutMillis - (System.currentTimeMillis() - start);
                     try {
                         if (remaining < 1 || !bufferEmpty.await(remaining, TimeUnit.MILLISECONDS)) {
-                            stats.sharedEmptyAwaitTimeouts++;
+                            metrics.increment(Counter.SHARED_EMPTY_AWAIT_TIMEOUTS);
                             throw new TimeoutException(
                                 config.writeTimeoutMillis +
                                     "ms is exceeded while waiting for empty buffer. " +
@@ -432,15 +1054,20 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
                         throw new CommunicationException("Interrupted", e);
                     }
                 }
-                sharedBuffer.put(buffer);
+                if (lanes == null) {
+                    sharedBuffer.put(buffer);
+                    bufferedRequests++;
+                } else {
+                    lanes.add(priority, buffer);
+                }
                 pendingResponsesCount.incrementAndGet();
                 bufferNotEmpty.signalAll();
-                stats.buffered++;
+                metrics.increment(Counter.BUFFERED);
             } finally {
                 bufferLock.unlock();
             }
         } else {
-            stats.sharedWriteLockTimeouts++;
+            metrics.increment(Counter.SHARED_WRITE_LOCK_TIMEOUTS);
             throw new TimeoutException(
                 config.writeTimeoutMillis +
                     "ms is exceeded while waiting for shared buffer lock. " +
@@ -449,24 +1076,32 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         }
     }
 
+    private boolean hasRoom(ByteBuffer buffer, RequestPriority priority) {
+        return lanes == null
+            ? sharedBuffer.remaining() >= buffer.limit()
+            : lanes.hasRoom(priority, buffer.limit());
+    }
+
     private boolean directWrite(ByteBuffer buffer) throws InterruptedException, IOException, TimeoutException {
         if (sharedBuffer.capacity() * config.directWriteFactor <= buffer.limit()) {
             if (writeLock.tryLock(config.writeTimeoutMillis, TimeUnit.MILLISECONDS)) {
                 try {
                     int rem = buffer.remaining();
-                    stats.directMaxPacketSize = Math.max(stats.directMaxPacketSize, rem);
+                    metrics.recordDirectPacketSize(rem);
                     if (rem > initialRequestSize) {
-                        stats.directPacketSizeGrowth++;
+                        metrics.increment(Counter.DIRECT_PACKET_SIZE_GROWTH);
                     }
+                    Object event = TarantoolFlightRecorder.beginSocketWrite();
                     writeFully(channel, buffer);
-                    stats.directWrite++;
+                    TarantoolFlightRecorder.endSocketWrite(event, rem, 1);
+                    metrics.increment(Counter.DIRECT_WRITES);
                     pendingResponsesCount.incrementAndGet();
                 } finally {
                     writeLock.unlock();
                 }
                 return true;
             } else {
-                stats.directWriteLockTimeouts++;
+                metrics.increment(Counter.DIRECT_WRITE_LOCK_TIMEOUTS);
                 throw new TimeoutException(
                     config.writeTimeoutMillis +
                         "ms is exceeded while waiting for channel lock. " +
@@ -480,15 +1115,40 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     protected void readThread() {
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                TarantoolPacket packet = ProtoUtils.readPacket(readChannel, msgPackLite);
-
-                Map<Integer, Object> headers = packet.getHeaders();
+                ByteBuffer packetBytes = ProtoUtils.readPacketBytes(readChannel, msgPackLite);
+                long receivedNanos = System.nanoTime();
+                Object decodeEvent = TarantoolFlightRecorder.beginResponseDecode();
+                Map<Integer, Object> headers = ProtoUtils.decodeHeaders(packetBytes, msgPackLite);
 
                 Long syncId = (Long) headers.get(Key.SYNC.getId());
+                metrics.increment(Counter.RECEIVED);
+                TarantoolPacket packet;
+                if (TarantoolPacket.isEvent(headers) || (syncId != null && syncId == schemaWatchSyncId)) {
+                    packet = decodeBody(headers, packetBytes, receivedNanos, decodeEvent);
+                    completeSchemaWatch(packet);
+                    continue;
+                }
                 TarantoolOperation request = futures.remove(syncId);
-                stats.received++;
                 pendingResponsesCount.decrementAndGet();
-                complete(packet, request);
+                boolean fireAndForget = request == null && syncId != null && (syncId & FIRE_AND_FORGET_SYNC) != 0;
+                if (fireAndForget) {
+                    pendingFireAndForgetCount.decrementAndGet();
+                }
+                if (request == null ? !fireAndForget : request.getResult().isDone()) {
+                    // nobody waits for the response, e.g. the operation is expired or cancelled
+                    TarantoolFlightRecorder.endResponseDecode(decodeEvent, packetBytes.limit());
+                    skipResponse(new TarantoolPacket(headers, null));
+                    continue;
+                }
+                packet = decodeBody(headers, packetBytes, receivedNanos, decodeEvent);
+                if (request == null) {
+                    completeFireAndForget(packet);
+                } else {
+                    long responseNanos = receivedNanos - request.getSentNanos();
+                    metrics.recordLatency(Latency.ROUND_TRIP, responseNanos);
+                    TarantoolFlightRecorder.responseRead(syncId, packetBytes.limit(), responseNanos);
+                    complete(packet, request);
+                }
             } catch (Exception e) {
                 die("Cant read answer", e);
                 return;
@@ -496,18 +1156,38 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         }
     }
 
+    private TarantoolPacket decodeBody(Map<Integer, Object> headers,
+                                       ByteBuffer packetBytes,
+                                       long receivedNanos,
+                                       Object decodeEvent) throws IOException {
+        TarantoolPacket packet = ProtoUtils.decodeBody(headers, packetBytes, msgPackLite);
+        TarantoolFlightRecorder.endResponseDecode(decodeEvent, packetBytes.limit());
+        metrics.recordLatency(Latency.DECODE, System.nanoTime() - receivedNanos);
+        return packet;
+    }
+
     protected void writeThread() {
         writerBuffer.clear();
         while (!Thread.currentThread().isInterrupted()) {
             try {
+                int requests;
                 bufferLock.lock();
                 try {
-                    while (sharedBuffer.position() == 0) {
-                        bufferNotEmpty.await();
+                    if (lanes == null) {
+                        while (sharedBuffer.position() == 0) {
+                            bufferNotEmpty.await();
+                        }
+                        sharedBuffer.flip();
+                        writerBuffer.put(sharedBuffer);
+                        sharedBuffer.clear();
+                        requests = bufferedRequests;
+                        bufferedRequests = 0;
+                    } else {
+                        while (lanes.isEmpty()) {
+                            bufferNotEmpty.await();
+                        }
+                        requests = lanes.drainTo(writerBuffer);
                     }
-                    sharedBuffer.flip();
-                    writerBuffer.put(sharedBuffer);
-                    sharedBuffer.clear();
                     bufferEmpty.signalAll();
                 } finally {
                     bufferLock.unlock();
@@ -515,12 +1195,15 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
                 writerBuffer.flip();
                 writeLock.lock();
                 try {
+                    Object event = TarantoolFlightRecorder.beginSocketWrite();
+                    int bytes = writerBuffer.remaining();
                     writeFully(channel, writerBuffer);
+                    TarantoolFlightRecorder.endSocketWrite(event, bytes, requests);
                 } finally {
                     writeLock.unlock();
                 }
                 writerBuffer.clear();
-                stats.sharedWrites++;
+                metrics.increment(Counter.SHARED_WRITES);
             } catch (Exception e) {
                 die("Cant write bytes", e);
                 return;
@@ -540,33 +1223,27 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
         long code = packet.getCode();
         long schemaId = packet.getSchemaId();
-        boolean isPreflightPing = operation.getDependedOperation() != null;
         if (code == ProtoConstants.SUCCESS) {
             operation.setCompletedSchemaId(schemaId);
-            if (isPreflightPing) {
-                // the schema wasn't changed
-                // try to evaluate an unserializable target operation
-                // in order to complete the operation exceptionally.
-                TarantoolOperation target = operation.getDependedOperation();
-                delayedOperationsQueue.remove(target);
-                try {
-                    target.getArguments();
-                } catch (TarantoolSchemaException cause) {
-                    fail(target, cause);
-                }
-            } else if (operation.getCode() == Code.EXECUTE) {
+            if (operation.getCode() == Code.EXECUTE) {
                 completeSql(operation, packet);
             } else {
                 ((CompletableFuture) result).complete(packet.getData());
             }
         } else if (code == ProtoConstants.ERR_WRONG_SCHEMA_VERSION) {
-            if (schemaId > schemaMeta.getSchemaVersion()) {
+            metrics.recordError(operation.getCode(), code);
+            if (operation.getStreamId() != 0) {
+                // the further requests of the stream may be
+                // executed already, so the request is not resent
+                fail(operation, serverError(code, packet.getError()));
+            } else if (schemaId > schemaMeta.getSchemaVersion()) {
                 delayedOperationsQueue.add(operation);
             } else {
                 operation.setSentSchemaId(schemaMeta.getSchemaVersion());
                 registerOperation(operation);
             }
         } else {
+            metrics.recordError(operation.getCode(), code);
             Object error = packet.getError();
             fail(operation, serverError(code, error));
         }
@@ -581,6 +1258,98 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         }
     }
 
+    /**
+     * Handles a response to a request sent without
+     * registering its future.
+     * <p>
+     * The request is not kept by the client, so one rejected
+     * because of the outdated schema is not sent again and
+     * its error is reported as any other.
+     *
+     * @param packet received response
+     *
+     * @see TarantoolClientConfig#futurelessFireAndForget
+     */
+    protected void completeFireAndForget(TarantoolPacket packet) {
+        metrics.increment(Counter.FIRE_AND_FORGET_RECEIVED);
+        long code = packet.getCode();
+        if (code != ProtoConstants.SUCCESS) {
+            metrics.recordError(null, code);
+            notifyFireAndForgetError(packet.getSync(), serverError(code, packet.getError()));
+        }
+        if (packet.getSchemaId() > schemaMeta.getSchemaVersion()) {
+            updateSchema();
+        }
+    }
+
+    private void notifyFireAndForgetError(long id, TarantoolException error) {
+        metrics.increment(Counter.FIRE_AND_FORGET_ERRORS);
+        FireAndForgetErrorListener listener = config.fireAndForgetErrorListener;
+        if (listener != null) {
+            try {
+                listener.onError(id, error);
+            } catch (Exception e) {
+                LOGGER.warn("Fire and forget error listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Handles a response nobody waits for, i.e. its operation
+     * is expired or cancelled or its request is unknown.
+     * The response body is not decoded.
+     *
+     * @param packet received response headers
+     */
+    protected void skipResponse(TarantoolPacket packet) {
+        if (packet.getSchemaId() > schemaMeta.getSchemaVersion()) {
+            updateSchema();
+        }
+    }
+
+    /**
+     * Sends a watch request for the schema version.
+     * The server answers with an event when the version
+     * is changed, and the request has to be sent again
+     * to receive the next one.
+     *
+     * @see TarantoolClientConfig#watchSchemaChanges
+     */
+    protected void watchSchema() {
+        long id = syncId.incrementAndGet();
+        schemaWatchSyncId = id;
+        try {
+            write(Code.WATCH, id, 0L, Key.EVENT_KEY, SCHEMA_EVENT_KEY);
+            // the event may never come, so it's not a pending response
+            pendingResponsesCount.decrementAndGet();
+        } catch (Exception e) {
+            LOGGER.warn("Could not watch the schema changes", e);
+        }
+    }
+
+    /**
+     * Handles a schema event or an error response to
+     * the schema watch request.
+     *
+     * @param packet received packet
+     */
+    protected void completeSchemaWatch(TarantoolPacket packet) {
+        if (!packet.isEvent()) {
+            LOGGER.debug("The server does not support schema watching: {0}", packet.getError());
+            return;
+        }
+        Map<Integer, Object> body = packet.getBody();
+        if (body == null || !SCHEMA_EVENT_KEY.equals(body.get(Key.EVENT_KEY.getId()))) {
+            return;
+        }
+        Object data = body.get(Key.EVENT_DATA.getId());
+        Object version = data instanceof Map ? ((Map<?, ?>) data).get("version") : null;
+        if (version instanceof Number && ((Number) version).longValue() > schemaMeta.getSchemaVersion()) {
+            updateSchema();
+        }
+        watchSchema();
+    }
+
     private void updateSchema() {
         performSchemaAction(() -> {
             if (state.acquire(StateHelper.SCHEMA_UPDATING)) {
@@ -592,7 +1361,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     private Runnable createUpdateSchemaTask() {
         return () -> {
             try {
-                schemaMeta.refresh();
+                schemaMeta.refreshIncrementally();
             } catch (Exception cause) {
                 workExecutor.schedule(createUpdateSchemaTask(), 300L, TimeUnit.MILLISECONDS);
                 return;
@@ -607,15 +1376,61 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         };
     }
 
+    /**
+     * Creates a task which fetches the spaces and indexes
+     * the operation refers to and then sends the operation.
+     * The operation fails if the names are still unknown
+     * for the current schema version.
+     *
+     * @param operation delayed unserializable operation
+     *
+     * @return load task
+     */
+    private Runnable createLoadMissingSchemaTask(TarantoolOperation operation) {
+        return () -> {
+            long schemaVersion;
+            try {
+                schemaVersion = schemaMeta.loadMissing();
+            } catch (Exception cause) {
+                // the operation is completed by its timeout
+                // or is rescheduled by a next schema update
+                return;
+            }
+            if (schemaVersion > schemaMeta.getSchemaVersion()) {
+                // the operation will be rescheduled after the refresh
+                updateSchema();
+                return;
+            }
+            performSchemaAction(() -> {
+                if (!state.isStateSet(StateHelper.SCHEMA_UPDATING) && delayedOperationsQueue.remove(operation)) {
+                    operation.setSentSchemaId(schemaMeta.getSchemaVersion());
+                    registerOperation(operation);
+                    releaseStream(operation);
+                }
+            });
+        };
+    }
+
     private void rescheduleDelayedOperations() {
+        List<TarantoolOperation> unresolvedOperations = new ArrayList<>();
         TarantoolOperation operation;
         while ((operation = delayedOperationsQueue.poll()) != null) {
             CompletableFuture<?> result = operation.getResult();
             if (!result.isDone()) {
                 operation.setSentSchemaId(schemaMeta.getSchemaVersion());
-                registerOperation(operation);
+                if (operation.isSerializable()) {
+                    registerOperation(operation);
+                    releaseStream(operation);
+                } else {
+                    // the names may refer to the spaces evicted by the refresh
+                    unresolvedOperations.add(operation);
+                }
             }
         }
+        for (TarantoolOperation unresolved : unresolvedOperations) {
+            delayedOperationsQueue.add(unresolved);
+            workExecutor.execute(createLoadMissingSchemaTask(unresolved));
+        }
     }
 
     protected void completeSql(TarantoolOperation operation, TarantoolPacket pack) {
@@ -681,6 +1496,13 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
             }
             connector.interrupt();
             die(e.getMessage(), e);
+            if (config.metricsExporter != null) {
+                try {
+                    config.metricsExporter.unregister(metrics);
+                } catch (Exception cause) {
+                    LOGGER.warn("Could not unregister the client metrics", cause);
+                }
+            }
         }
     }
 
@@ -744,6 +1566,20 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         return syncOps;
     }
 
+    /**
+     * Gets the sync operations sending the requests
+     * with the given priority.
+     *
+     * @param priority requests priority
+     *
+     * @return sync operations
+     *
+     * @see TarantoolClientConfig#priorityLanes
+     */
+    public TarantoolClientOps<Integer, List<?>, Object, List<?>> syncOps(RequestPriority priority) {
+        return withPriority(new SyncOps(), priority);
+    }
+
     @Override
     public TarantoolClientOps<Integer, List<?>, Object, Future<List<?>>> asyncOps() {
         return (TarantoolClientOps) this;
@@ -754,6 +1590,29 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         return composableAsyncOps;
     }
 
+    /**
+     * Gets the composable async operations sending
+     * the requests with the given priority.
+     *
+     * @param priority requests priority
+     *
+     * @return composable async operations
+     *
+     * @see TarantoolClientConfig#priorityLanes
+     */
+    public TarantoolClientOps<Integer, List<?>, Object, CompletionStage<List<?>>> composableAsyncOps(
+        RequestPriority priority) {
+        return withPriority(new ComposableAsyncOps(), priority);
+    }
+
+    private <R, T extends BaseClientOps<R>> T withPriority(T ops, RequestPriority priority) {
+        ops.priority = Objects.requireNonNull(priority);
+        if (!config.useNewCall) {
+            ops.setCallCode(Code.OLD_CALL);
+        }
+        return ops;
+    }
+
     @Override
     public TarantoolClientOps<Integer, List<?>, Object, Long> fireAndForgetOps() {
         return fireAndForgetOps;
@@ -763,6 +1622,47 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         return unsafeSchemaOps;
     }
 
+    /**
+     * Gets the asynchronous version of {@link #unsafeSchemaOps()}
+     * used to pipeline the schema requests.
+     *
+     * @return schema operations
+     */
+    public TarantoolClientOps<Integer, List<?>, Object, CompletableFuture<TupleTwo<List<?>, Long>>>
+        unsafeSchemaAsyncOps() {
+        return unsafeSchemaAsyncOps;
+    }
+
+    /**
+     * Selects the tuples of many keys as a single operation
+     * limited by the client operation timeout.
+     * <p>
+     * The keys are sent as pipelined selects or, if
+     * {@link TarantoolClientConfig#selectManyFunction} is
+     * set, as calls of the function per chunk of keys.
+     *
+     * @param space space name
+     * @param index index name
+     * @param keys  keys to be found
+     *
+     * @return lists of the tuples matching the keys in the key order
+     */
+    public CompletionStage<List<List<?>>> selectMany(String space,
+                                                     String index,
+                                                     Collection<? extends List<?>> keys) {
+        return new SelectMany(this, space, index, new ArrayList<>(keys)).execute(operationTimeout);
+    }
+
+    /**
+     * Creates a new stream over the connection of this client.
+     * Requires Tarantool 2.10 or newer.
+     *
+     * @return new stream
+     */
+    public TarantoolStream newStream() {
+        return new TarantoolStream(this, lastStreamId.incrementAndGet());
+    }
+
     protected TarantoolRequest makeSqlRequest(String sql, List<Object> bind) {
         return new TarantoolRequest(
             Code.EXECUTE,
@@ -807,6 +1707,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
         @Override
         protected List<?> exec(TarantoolRequest request) {
+            request.setPriority(priority);
             return (List) syncGet(TarantoolClientImpl.this.exec(request));
         }
 
@@ -816,9 +1717,12 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
         @Override
         protected Long exec(TarantoolRequest request) {
+            request.setPriority(priority);
             if (thumbstone == null) {
                 try {
-                    return doExec(request).getId();
+                    return config.futurelessFireAndForget
+                        ? doFireAndForget(request)
+                        : doExec(request).getId();
                 } catch (Exception e) {
                     throw new CommunicationException("Execute failed", e);
                 }
@@ -849,10 +1753,36 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
         return thumbstone;
     }
 
+    /**
+     * Gets a snapshot of the transport counters.
+     *
+     * @return client stats
+     *
+     * @see #getMetrics()
+     */
     public TarantoolClientStats getStats() {
+        TarantoolClientStats stats = new TarantoolClientStats(metrics.getStartTime());
+        stats.buffered = metrics.getCount(Counter.BUFFERED);
+        stats.received = metrics.getCount(Counter.RECEIVED);
+        stats.sharedWrites = metrics.getCount(Counter.SHARED_WRITES);
+        stats.directWrite = metrics.getCount(Counter.DIRECT_WRITES);
+        stats.directMaxPacketSize = metrics.getMaxDirectPacketSize();
+        stats.sharedMaxPacketSize = metrics.getMaxSharedPacketSize();
+        stats.directPacketSizeGrowth = metrics.getCount(Counter.DIRECT_PACKET_SIZE_GROWTH);
+        stats.sharedPacketSizeGrowth = metrics.getCount(Counter.SHARED_PACKET_SIZE_GROWTH);
+        stats.sharedEmptyAwait = metrics.getCount(Counter.SHARED_EMPTY_AWAITS);
+        stats.sharedWriteLockTimeouts = metrics.getCount(Counter.SHARED_WRITE_LOCK_TIMEOUTS);
+        stats.directWriteLockTimeouts = metrics.getCount(Counter.DIRECT_WRITE_LOCK_TIMEOUTS);
+        stats.sharedEmptyAwaitTimeouts = metrics.getCount(Counter.SHARED_EMPTY_AWAIT_TIMEOUTS);
+        stats.fireAndForgetReceived = metrics.getCount(Counter.FIRE_AND_FORGET_RECEIVED);
+        stats.fireAndForgetErrors = metrics.getCount(Counter.FIRE_AND_FORGET_ERRORS);
         return stats;
     }
 
+    public TarantoolClientMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Manages state changes.
      */
@@ -1056,6 +1986,7 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
         @Override
         protected CompletionStage<List<?>> exec(TarantoolRequest request) {
+            request.setPriority(priority);
             return (CompletionStage<List<?>>) TarantoolClientImpl.this.exec(request);
         }
 
@@ -1072,16 +2003,30 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
     protected class UnsafeSchemaOps extends BaseClientOps<TupleTwo<List<?>, Long>> {
 
         protected TupleTwo<List<?>, Long> exec(TarantoolRequest request) {
+            return syncGet(unsafeSchemaAsyncOps.exec(request));
+        }
+
+    }
+
+    protected class UnsafeSchemaAsyncOps extends BaseClientOps<CompletableFuture<TupleTwo<List<?>, Long>>> {
+
+        protected CompletableFuture<TupleTwo<List<?>, Long>> exec(TarantoolRequest request) {
             long syncId = TarantoolClientImpl.this.syncId.incrementAndGet();
+            request.setPriority(RequestPriority.HIGH);
             TarantoolOperation operation = request.toOperation(syncId, 0L);
-            List<?> result = (List<?>) syncGet(registerOperation(operation).getResult());
-            return TupleTwo.of(result, operation.getCompletedSchemaId());
+            return registerOperation(operation).getResult()
+                .thenApply(result -> TupleTwo.of((List<?>) result, operation.getCompletedSchemaId()));
         }
 
     }
 
     protected abstract class BaseClientOps<R> extends AbstractTarantoolOps<R> {
 
+        /**
+         * Priority of the requests sent by these operations.
+         */
+        protected RequestPriority priority = RequestPriority.NORMAL;
+
         @Override
         protected TarantoolSchemaMeta getSchemaMeta() {
             return TarantoolClientImpl.this.getSchemaMeta();
@@ -1094,4 +2039,49 @@ public class TarantoolClientImpl extends TarantoolBase<Future<?>> implements Tar
 
     }
 
+    /**
+     * Select in flight which the identical selects attach to.
+     */
+    private static class InFlightRead {
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        private boolean attached;
+        private boolean closed;
+
+        /**
+         * Attaches one more caller to the read.
+         *
+         * @return {@literal false} if the read is being completed
+         */
+        synchronized boolean attach() {
+            if (closed) {
+                return false;
+            }
+            attached = true;
+            return true;
+        }
+
+        /**
+         * Stops attaching the callers to the read.
+         *
+         * @return {@literal true} if the result is shared
+         */
+        synchronized boolean close() {
+            closed = true;
+            return attached;
+        }
+
+    }
+
+    /**
+     * Delayed operation of a stream and the operations
+     * of the same stream submitted after it.
+     */
+    private static class StreamBacklog {
+
+        private TarantoolOperation head;
+        private final Queue<TarantoolOperation> waiting = new ArrayDeque<>();
+
+    }
+
 }
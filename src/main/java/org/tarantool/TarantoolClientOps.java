@@ -1,7 +1,14 @@
 package org.tarantool;
 
+import org.tarantool.schema.TarantoolIndexRef;
+import org.tarantool.schema.TarantoolSpaceRef;
+
 /**
  * Provides a set of typical operations with data in Tarantool.
+ * <p>
+ * The operations with space and index references fall back to
+ * the operations with their names unless an implementation
+ * uses the cached identifiers of the references.
  *
  * @param <T> represents space/index identifiers (not used anymore)
  * @param <O> represents tuple keys and/or tuples
@@ -17,26 +24,57 @@ public interface TarantoolClientOps<T, O, P, R> {
 
     R select(String space, String index, O key, int offset, int limit, Iterator iterator);
 
+    default R select(TarantoolIndexRef index, O key, int offset, int limit, int iterator) {
+        return select(index.getSpace().getName(), index.getName(), key, offset, limit, iterator);
+    }
+
+    default R select(TarantoolIndexRef index, O key, int offset, int limit, Iterator iterator) {
+        return select(index.getSpace().getName(), index.getName(), key, offset, limit, iterator);
+    }
+
     R insert(Integer space, O tuple);
 
     R insert(String space, O tuple);
 
+    default R insert(TarantoolSpaceRef space, O tuple) {
+        return insert(space.getName(), tuple);
+    }
+
     R replace(Integer space, O tuple);
 
     R replace(String space, O tuple);
 
+    default R replace(TarantoolSpaceRef space, O tuple) {
+        return replace(space.getName(), tuple);
+    }
+
     R update(Integer space, O key, P... tuple);
 
     R update(String space, O key, P... tuple);
 
+    // @SafeVarargs is not allowed on the interface methods
+    @SuppressWarnings("unchecked")
+    default R update(TarantoolSpaceRef space, O key, P... tuple) {
+        return update(space.getName(), key, tuple);
+    }
+
     R upsert(Integer space, O key, O defTuple, P... ops);
 
     R upsert(String space, O key, O defTuple, P... ops);
 
+    @SuppressWarnings("unchecked")
+    default R upsert(TarantoolSpaceRef space, O key, O defTuple, P... ops) {
+        return upsert(space.getName(), key, defTuple, ops);
+    }
+
     R delete(Integer space, O key);
 
     R delete(String space, O key);
 
+    default R delete(TarantoolSpaceRef space, O key) {
+        return delete(space.getName(), key);
+    }
+
     R call(String function, Object... args);
 
     R eval(String expression, Object... args);
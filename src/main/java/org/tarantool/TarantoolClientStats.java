@@ -1,7 +1,12 @@
 package org.tarantool;
 
+/**
+ * Snapshot of the client transport counters.
+ *
+ * @see org.tarantool.metrics.TarantoolClientMetrics
+ */
 public class TarantoolClientStats {
-    final long start = System.currentTimeMillis();
+    final long start;
     public long buffered;
     public long received;
     public long sharedWrites;
@@ -14,6 +19,16 @@ public class TarantoolClientStats {
     public long sharedWriteLockTimeouts;
     public long directWriteLockTimeouts;
     public long sharedEmptyAwaitTimeouts;
+    public long fireAndForgetReceived;
+    public long fireAndForgetErrors;
+
+    public TarantoolClientStats() {
+        this(System.currentTimeMillis());
+    }
+
+    TarantoolClientStats(long start) {
+        this.start = start;
+    }
 
     @Override
     public String toString() {
@@ -30,6 +45,8 @@ public class TarantoolClientStats {
                 "\ndirectWriteLockTimeouts = " + directWriteLockTimeouts +
                 "\nsharedWriteLockTimeouts = " + sharedWriteLockTimeouts +
                 "\ndirectWrite = " + directWrite +
-                "\nsharedWrites = " + sharedWrites + "\n";
+                "\nsharedWrites = " + sharedWrites +
+                "\nfireAndForgetReceived = " + fireAndForgetReceived +
+                "\nfireAndForgetErrors = " + fireAndForgetErrors + "\n";
     }
 }
@@ -1,23 +1,38 @@
 package org.tarantool;
 
+import org.tarantool.cluster.HedgedReadPolicy;
 import org.tarantool.cluster.TarantoolClusterDiscoverer;
 import org.tarantool.cluster.TarantoolClusterStoredFunctionDiscoverer;
+import org.tarantool.jfr.TarantoolFlightRecorder;
 import org.tarantool.logging.Logger;
 import org.tarantool.logging.LoggerFactory;
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
 import org.tarantool.protocol.TarantoolPacket;
+import org.tarantool.schema.TarantoolSchemaException;
 import org.tarantool.util.StringUtils;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Collectors;
 
 /**
  * Basic implementation of a client that may work with the cluster
@@ -30,6 +45,8 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TarantoolClusterClient.class);
 
+    private static final long HEDGE_DELAY_REFRESH_MILLIS = 100;
+
     /**
      * Need some execution context to retry writes.
      */
@@ -46,6 +63,24 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
      */
     private ConcurrentHashMap<Long, TarantoolOperation> retries = new ConcurrentHashMap<>();
 
+    /**
+     * Hedged reads are sent to another instance
+     * using a secondary connection.
+     */
+    private HedgedReadPolicy hedgedReadPolicy;
+    private Set<String> readOnlyFunctions;
+    private RoundRobinSocketProviderImpl hedgeSocketProvider;
+    private ScheduledExecutorService hedgeExecutor;
+    private volatile TarantoolClientImpl hedgeClient;
+    private final AtomicBoolean hedgeClientConnecting = new AtomicBoolean();
+
+    /**
+     * Authenticated connections to switch to
+     * on a connection loss.
+     */
+    private StandbyConnectionPool standbyPool;
+    private ScheduledExecutorService standbyExecutor;
+
     /**
      * Constructs a new cluster client.
      *
@@ -53,7 +88,7 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
      * @param addresses Array of addresses in the form of host[:port].
      */
     public TarantoolClusterClient(TarantoolClusterClientConfig config, String... addresses) {
-        this(config, makeClusterSocketProvider(addresses));
+        this(config, makeClusterSocketProvider(config, addresses));
     }
 
     /**
@@ -84,8 +119,223 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
                 TimeUnit.MILLISECONDS
             );
         }
+
+        if (config.hedgedReads) {
+            initHedgedReads(config);
+        }
+
+        if (config.standbyConnections > 0) {
+            initStandbyConnections(config);
+        }
+    }
+
+    private void initHedgedReads(TarantoolClusterClientConfig config) {
+        RefreshableSocketProvider provider = getRefreshableSocketProvider();
+        if (provider == null || provider.getAddresses().size() < 2) {
+            LOGGER.warn("Hedged reads are disabled because there is no other instance to send them to");
+            return;
+        }
+        this.readOnlyFunctions = config.readOnlyFunctions == null
+            ? new HashSet<>()
+            : new HashSet<>(config.readOnlyFunctions);
+        this.hedgedReadPolicy = new HedgedReadPolicy(
+            config.hedgeDelayPercentile,
+            config.hedgeMinDelayMillis,
+            config.hedgeBudgetPercent
+        );
+        this.hedgeSocketProvider = new HedgeSocketProvider(toStrings(provider.getAddresses()));
+        this.hedgeSocketProvider.setConnectionTimeout(config.connectionTimeout);
+        this.hedgeSocketProvider.setRetriesLimit(config.retryCount);
+        this.hedgeSocketProvider.setSocketOptions(SocketOptions.of(config));
+        // the work executor can be blocked by schema reloads
+        this.hedgeExecutor =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-hedge"));
+        this.hedgeExecutor.scheduleWithFixedDelay(
+            hedgedReadPolicy::refresh,
+            HEDGE_DELAY_REFRESH_MILLIS,
+            HEDGE_DELAY_REFRESH_MILLIS,
+            TimeUnit.MILLISECONDS
+        );
+        connectHedgeClient();
+    }
+
+    private void initStandbyConnections(TarantoolClusterClientConfig config) {
+        RefreshableSocketProvider provider = getRefreshableSocketProvider();
+        if (provider == null || provider.getAddresses().size() < 2) {
+            LOGGER.warn("Standby connections are disabled because there is no other instance to connect to");
+            return;
+        }
+        this.standbyPool = new StandbyConnectionPool(
+            () -> new ArrayList<>(provider.getAddresses()),
+            config.standbyConnections,
+            config.connectionTimeout,
+            config.username,
+            config.password,
+            SocketOptions.of(config)
+        );
+        this.standbyPool.setPrimaryAddress(getCurrentAddressOrNull());
+        this.standbyExecutor =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-standby"));
+        this.standbyExecutor.scheduleWithFixedDelay(
+            standbyPool::maintain,
+            0,
+            config.standbyPingIntervalMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Gets the number of the standby connections ready
+     * to be used.
+     *
+     * @return number of connections
+     */
+    int getStandbyConnectionCount() {
+        return standbyPool == null ? 0 : standbyPool.getSize();
+    }
+
+    /**
+     * Checks the connection used for the hedged
+     * reads is established.
+     *
+     * @return {@literal true} if the reads can be hedged
+     */
+    boolean isHedgeClientAlive() {
+        TarantoolClientImpl client = hedgeClient;
+        return client != null && client.isAlive();
+    }
+
+    /**
+     * Switches to a standby connection if there is one
+     * and falls back to the regular reconnection otherwise.
+     *
+     * @param lastError the error the connection was lost with
+     */
+    @Override
+    protected void reconnect(Throwable lastError) {
+        if (lastError != null && standbyPool != null && promoteStandby()) {
+            return;
+        }
+        super.reconnect(lastError);
     }
 
+    @Override
+    protected void start(SocketChannel channel, boolean reloadSchema) throws Exception {
+        super.start(channel, reloadSchema);
+        if (standbyPool != null) {
+            standbyPool.setPrimaryAddress(channel.getRemoteAddress());
+        }
+    }
+
+    /**
+     * Starts the IO over a standby connection. The cached
+     * schema is kept if the standby instance reported the
+     * same schema version with its last ping.
+     *
+     * @return whether a standby connection is in use
+     */
+    private boolean promoteStandby() {
+        StandbyConnectionPool.Standby standby;
+        while (!Thread.currentThread().isInterrupted() && (standby = standbyPool.take()) != null) {
+            Object event = TarantoolFlightRecorder.beginReconnect();
+            String address = String.valueOf(standby.getAddress());
+            try {
+                serverVersion = standby.getServerVersion();
+                start(standby.getChannel(), standby.getSchemaVersion() != schemaMeta.getSchemaVersion());
+                metrics.increment(Counter.STANDBY_FAILOVERS);
+                TarantoolFlightRecorder.endReconnect(event, address, 0, true);
+                LOGGER.info("Switched to the standby connection to {0}", address);
+                return true;
+            } catch (Exception e) {
+                standby.close();
+                TarantoolFlightRecorder.endReconnect(event, address, 0, false);
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes an operation and hedges it if the
+     * operation is a read.
+     *
+     * @param request operation data
+     *
+     * @return deferred result
+     */
+    @Override
+    protected CompletableFuture<?> send(TarantoolRequest request) {
+        TarantoolOperation operation = doExec(request);
+        if (hedgedReadPolicy == null || !isHedgeable(request)) {
+            return operation.getResult();
+        }
+        return new HedgedRead(request, operation.getResult()).result;
+    }
+
+    private boolean isHedgeable(TarantoolRequest request) {
+        if (request.getStreamId() != 0) {
+            return false;
+        }
+        switch (request.getCode()) {
+        case SELECT:
+            return true;
+        case CALL:
+        case OLD_CALL:
+            if (readOnlyFunctions.isEmpty()) {
+                return false;
+            }
+            List<Object> arguments = request.getArguments();
+            return arguments.size() > 1 && readOnlyFunctions.contains(arguments.get(1));
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Gets the secondary connection if it is ready to accept
+     * hedged reads. A closed connection is re-established in
+     * background.
+     *
+     * @return secondary client or {@literal null}
+     */
+    private TarantoolClientImpl getHedgeClient() {
+        TarantoolClientImpl client = hedgeClient;
+        if (client == null || client.isClosed()) {
+            connectHedgeClient();
+            return null;
+        }
+        if (!client.isAlive()) {
+            return null;
+        }
+        SocketAddress primaryAddress = getCurrentAddressOrNull();
+        return primaryAddress != null && primaryAddress.equals(getRemoteAddressOrNull(client)) ? null : client;
+    }
+
+    private void connectHedgeClient() {
+        if (isClosed() || !hedgeClientConnecting.compareAndSet(false, true)) {
+            return;
+        }
+        Thread connector = new TarantoolThreadDaemonFactory("tarantool-hedge-connector").newThread(() -> {
+            try {
+                TarantoolClientImpl client =
+                    new TarantoolClientImpl(hedgeSocketProvider, TarantoolClientConfig.copyOf(config));
+                hedgeClient = client;
+                // the client could be closed concurrently
+                if (isClosed()) {
+                    client.close();
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Could not connect to an instance for hedged reads", e);
+            } finally {
+                hedgeClientConnecting.set(false);
+            }
+        });
+        connector.start();
+    }
+
+
     @Override
     protected boolean isDead(TarantoolOperation operation) {
         if ((state.getState() & StateHelper.CLOSED) != 0) {
@@ -124,7 +374,8 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
     }
 
     protected boolean checkFail(TarantoolOperation operation, Exception cause) {
-        if (!isTransientError(cause)) {
+        // a stream transaction is lost with the connection
+        if (!isTransientError(cause) || operation.getStreamId() != 0) {
             operation.getResult().completeExceptionally(cause);
             return true;
         } else {
@@ -147,6 +398,18 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
         for (TarantoolOperation operation : retries.values()) {
             operation.getResult().completeExceptionally(e);
         }
+
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+        if (standbyExecutor != null) {
+            standbyExecutor.shutdownNow();
+            standbyPool.close();
+        }
+        TarantoolClientImpl client = hedgeClient;
+        if (client != null) {
+            client.close();
+        }
     }
 
     protected boolean isTransientError(Exception e) {
@@ -192,12 +455,33 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
         }
     }
 
+    @Override
+    protected void completeFireAndForget(TarantoolPacket packet) {
+        super.completeFireAndForget(packet);
+        RefreshableSocketProvider provider = getRefreshableSocketProvider();
+        if (provider != null) {
+            renewConnectionIfRequired(provider.getAddresses());
+        }
+    }
+
+    @Override
+    protected void skipResponse(TarantoolPacket packet) {
+        super.skipResponse(packet);
+        RefreshableSocketProvider provider = getRefreshableSocketProvider();
+        if (provider != null) {
+            renewConnectionIfRequired(provider.getAddresses());
+        }
+    }
+
     protected void onInstancesRefreshed(Set<String> instances) {
         RefreshableSocketProvider provider = getRefreshableSocketProvider();
         if (provider != null) {
             provider.refreshAddresses(instances);
             renewConnectionIfRequired(provider.getAddresses());
         }
+        if (hedgeSocketProvider != null) {
+            hedgeSocketProvider.refreshAddresses(instances);
+        }
     }
 
     private RefreshableSocketProvider getRefreshableSocketProvider() {
@@ -227,8 +511,15 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
     }
 
     private SocketAddress getCurrentAddressOrNull() {
+        return getRemoteAddressOrNull(this);
+    }
+
+    private static SocketAddress getRemoteAddressOrNull(TarantoolClientImpl client) {
+        if (client.channel == null) {
+            return null;
+        }
         try {
-            return channel.getRemoteAddress();
+            return client.channel.getRemoteAddress();
         } catch (IOException ignored) {
             return null;
         }
@@ -240,8 +531,24 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
         }
     }
 
-    private static RoundRobinSocketProviderImpl makeClusterSocketProvider(String[] addresses) {
-        return new RoundRobinSocketProviderImpl(addresses);
+    private static RoundRobinSocketProviderImpl makeClusterSocketProvider(TarantoolClusterClientConfig config,
+                                                                          String[] addresses) {
+        RoundRobinSocketProviderImpl provider = new RoundRobinSocketProviderImpl(addresses);
+        provider.setParallelConnectDelay(config.parallelConnectDelayMillis);
+        return provider;
+    }
+
+    private static String[] toStrings(Collection<SocketAddress> addresses) {
+        return addresses.stream()
+            .map(address -> {
+                if (UnixDomainSockets.isUnixAddress(address)) {
+                    return UnixDomainSockets.format(address);
+                }
+                InetSocketAddress inetAddress = (InetSocketAddress) address;
+                return inetAddress.getHostString() + ":" + inetAddress.getPort();
+            })
+            .collect(Collectors.toList())
+            .toArray(new String[0]);
     }
 
     private Runnable createDiscoveryTask(TarantoolClusterDiscoverer serviceDiscoverer) {
@@ -251,17 +558,126 @@ public class TarantoolClusterClient extends TarantoolClientImpl {
 
             @Override
             public synchronized void run() {
+                Object event = TarantoolFlightRecorder.beginClusterDiscovery();
                 try {
                     Set<String> freshInstances = serviceDiscoverer.getInstances();
-                    if (!(freshInstances.isEmpty() || Objects.equals(lastInstances, freshInstances))) {
+                    boolean changed = !(freshInstances.isEmpty() || Objects.equals(lastInstances, freshInstances));
+                    if (changed) {
                         lastInstances = freshInstances;
                         onInstancesRefreshed(lastInstances);
                     }
+                    TarantoolFlightRecorder.endClusterDiscovery(event, freshInstances.size(), changed);
                 } catch (Exception ignored) {
-                    // no-op
+                    TarantoolFlightRecorder.endClusterDiscovery(event, 0, false);
                 }
             }
         };
     }
 
+    /**
+     * Read sent to the primary connection and, if it is
+     * not completed in time, duplicated to the secondary one.
+     * The first successful response wins, the late one is
+     * ignored. The read fails when all the attempts fail.
+     */
+    private class HedgedRead {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final TarantoolRequest request;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger pendingAttempts = new AtomicInteger(1);
+        private volatile Throwable primaryError;
+        private volatile Throwable hedgeError;
+        private volatile ScheduledFuture<?> timer;
+
+        HedgedRead(TarantoolRequest request, CompletableFuture<?> primary) {
+            this.request = request;
+            hedgedReadPolicy.onRead();
+            if (!primary.isDone()) {
+                try {
+                    timer = hedgeExecutor.schedule(this::hedge, hedgedReadPolicy.getDelayNanos(), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException ignored) {
+                    // the client is being closed
+                }
+            }
+            primary.whenComplete((value, error) -> onComplete(value, error, false));
+        }
+
+        private void hedge() {
+            if (result.isDone() || !hedgedReadPolicy.tryAcquire()) {
+                return;
+            }
+            TarantoolClientImpl client = getHedgeClient();
+            if (client == null || !isResolved(request)) {
+                return;
+            }
+            // do not start a new attempt if all the previous ones failed
+            if (pendingAttempts.getAndUpdate(count -> count > 0 ? count + 1 : count) == 0) {
+                return;
+            }
+            metrics.increment(Counter.HEDGED_READS);
+            client.doExec(request).getResult().whenComplete((value, error) -> onComplete(value, error, true));
+        }
+
+        /**
+         * Checks the space and index names of the read are
+         * resolved. A read postponed until the names are
+         * loaded by the primary connection is not hedged.
+         */
+        private boolean isResolved(TarantoolRequest request) {
+            try {
+                request.getArguments();
+                return true;
+            } catch (TarantoolSchemaException e) {
+                return false;
+            }
+        }
+
+        private void onComplete(Object value, Throwable error, boolean hedged) {
+            if (!hedged && timer != null) {
+                timer.cancel(false);
+            }
+            if (error == null) {
+                if (result.complete(value)) {
+                    hedgedReadPolicy.recordLatency(System.nanoTime() - startNanos);
+                    if (hedged) {
+                        metrics.increment(Counter.HEDGED_READ_WINS);
+                    }
+                }
+                return;
+            }
+            if (hedged) {
+                hedgeError = error;
+            } else {
+                primaryError = error;
+            }
+            if (pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(primaryError != null ? primaryError : hedgeError);
+            }
+        }
+
+    }
+
+    /**
+     * Connects the secondary client to an instance other than
+     * the primary connection uses.
+     */
+    private class HedgeSocketProvider extends RoundRobinSocketProviderImpl {
+
+        HedgeSocketProvider(String... addresses) {
+            super(addresses);
+        }
+
+        @Override
+        protected SocketAddress getNextAddress() {
+            SocketAddress primaryAddress = getCurrentAddressOrNull();
+            SocketAddress address = super.getNextAddress();
+            if (address.equals(primaryAddress) && getAddressCount() > 1) {
+                address = super.getNextAddress();
+            }
+            return address;
+        }
+
+    }
+
 }
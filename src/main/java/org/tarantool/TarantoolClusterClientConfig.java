@@ -1,5 +1,7 @@
 package org.tarantool;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
@@ -26,4 +28,56 @@ public class TarantoolClusterClientConfig extends TarantoolClientConfig {
      */
     public int clusterDiscoveryDelayMillis = DEFAULT_CLUSTER_DISCOVERY_DELAY_MILLIS;
 
+    /**
+     * Delay between the starts of the parallel connection
+     * attempts to the instances. The first instance which
+     * sends its greeting is used. Zero means the instances
+     * are tried one by one.
+     */
+    public int parallelConnectDelayMillis = 0;
+
+    /**
+     * Sends a duplicate of a slow read to another
+     * instance and takes the first response.
+     * Selects and calls of {@link #readOnlyFunctions}
+     * are considered as reads.
+     */
+    public boolean hedgedReads = false;
+
+    /**
+     * Percentile of the recent read latencies after
+     * which a read is hedged.
+     */
+    public double hedgeDelayPercentile = 95;
+
+    /**
+     * Min delay before a read is hedged. It is also used
+     * until enough read latencies are collected.
+     */
+    public long hedgeMinDelayMillis = 5;
+
+    /**
+     * Max percentage of the reads which can be hedged.
+     */
+    public int hedgeBudgetPercent = 10;
+
+    /**
+     * Names of the stored functions which do not change
+     * data and can be hedged.
+     */
+    public Set<String> readOnlyFunctions = Collections.emptySet();
+
+    /**
+     * Number of authenticated connections kept to the
+     * next instances in the list. On a connection loss
+     * the client switches to one of them instead of
+     * connecting anew. Zero disables standby connections.
+     */
+    public int standbyConnections = 0;
+
+    /**
+     * Period of the standby connections health checks.
+     */
+    public long standbyPingIntervalMillis = 1_000;
+
 }
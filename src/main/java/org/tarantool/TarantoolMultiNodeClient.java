@@ -0,0 +1,442 @@
+package org.tarantool;
+
+import org.tarantool.cluster.TarantoolNode;
+import org.tarantool.cluster.TarantoolNodeStats;
+import org.tarantool.logging.Logger;
+import org.tarantool.logging.LoggerFactory;
+import org.tarantool.schema.TarantoolSchemaMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Client which keeps a connection to every given instance
+ * and balances the requests between them.
+ * <p>
+ * A node for each request is chosen by the configured
+ * {@link org.tarantool.cluster.NodeSelector} using the
+ * node statistics, so slow or failing instances receive
+ * less traffic. A node failed because of a connection
+ * problem or a timeout is put into the penalty box for
+ * {@link TarantoolMultiNodeClientConfig#nodePenaltyMillis}.
+ * <p>
+ * The client does not distinguish reads and writes, so
+ * the instances are expected to be read-only replicas
+ * or masters of the same replica set. Space and index
+ * names are resolved by the schema of any alive node.
+ */
+public class TarantoolMultiNodeClient implements TarantoolClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TarantoolMultiNodeClient.class);
+
+    private final TarantoolMultiNodeClientConfig config;
+    private final List<Node> nodes = new ArrayList<>();
+    private final ExecutorService connectExecutor;
+    private final ScheduledExecutorService maintenanceExecutor;
+    private volatile boolean closed;
+
+    private final SyncOps syncOps = new SyncOps();
+    private final AsyncOps asyncOps = new AsyncOps();
+    private final ComposableAsyncOps composableAsyncOps = new ComposableAsyncOps();
+    private final FireAndForgetOps fireAndForgetOps = new FireAndForgetOps();
+
+    /**
+     * Constructs a new client and waits until any
+     * of the nodes is connected.
+     *
+     * @param config    Configuration.
+     * @param addresses Array of addresses in the form of host[:port].
+     *
+     * @throws CommunicationException if no node is connected in
+     *                                {@link TarantoolClientConfig#initTimeoutMillis}
+     */
+    public TarantoolMultiNodeClient(TarantoolMultiNodeClientConfig config, String... addresses) {
+        if (addresses.length == 0) {
+            throw new IllegalArgumentException("At least one address must be provided");
+        }
+        this.config = config;
+        for (String address : addresses) {
+            nodes.add(new Node(address, new TarantoolNodeStats(config.nodeStatsWeight)));
+        }
+        if (!config.useNewCall) {
+            syncOps.setCallCode(Code.OLD_CALL);
+            asyncOps.setCallCode(Code.OLD_CALL);
+            composableAsyncOps.setCallCode(Code.OLD_CALL);
+            fireAndForgetOps.setCallCode(Code.OLD_CALL);
+        }
+        this.connectExecutor = Executors.newCachedThreadPool(new TarantoolThreadDaemonFactory("tarantool-node"));
+        this.maintenanceExecutor =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-nodes"));
+        nodes.forEach(Node::connect);
+        try {
+            if (!waitAlive(config.initTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                close();
+                throw new CommunicationException(
+                    config.initTimeoutMillis + "ms is exceeded when waiting for any node to be connected"
+                );
+            }
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        maintenanceExecutor.scheduleWithFixedDelay(
+            this::reconnectNodes,
+            config.nodeReconnectDelayMillis,
+            config.nodeReconnectDelayMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Gets the nodes of the client.
+     *
+     * @return unmodifiable list of the nodes
+     */
+    public List<TarantoolNode> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    @Override
+    public TarantoolClientOps<Integer, List<?>, Object, List<?>> syncOps() {
+        return syncOps;
+    }
+
+    @Override
+    public TarantoolClientOps<Integer, List<?>, Object, Future<List<?>>> asyncOps() {
+        return asyncOps;
+    }
+
+    @Override
+    public TarantoolClientOps<Integer, List<?>, Object, CompletionStage<List<?>>> composableAsyncOps() {
+        return composableAsyncOps;
+    }
+
+    @Override
+    public TarantoolClientOps<Integer, List<?>, Object, Long> fireAndForgetOps() {
+        return fireAndForgetOps;
+    }
+
+    @Override
+    public TarantoolSQLOps<Object, Long, List<Map<String, Object>>> sqlSyncOps() {
+        return new TarantoolSQLOps<Object, Long, List<Map<String, Object>>>() {
+            @Override
+            public Long update(String sql, Object... bind) {
+                Node node = selectNode();
+                return (Long) node.client.syncGet(
+                    execOnNode(node, node.client.makeSqlRequest(sql, Arrays.asList(bind)))
+                );
+            }
+
+            @Override
+            public List<Map<String, Object>> query(String sql, Object... bind) {
+                Node node = selectNode();
+                return (List<Map<String, Object>>) node.client.syncGet(
+                    execOnNode(node, node.client.makeSqlRequest(sql, Arrays.asList(bind)))
+                );
+            }
+        };
+    }
+
+    @Override
+    public TarantoolSQLOps<Object, Future<Long>, Future<List<Map<String, Object>>>> sqlAsyncOps() {
+        return new TarantoolSQLOps<Object, Future<Long>, Future<List<Map<String, Object>>>>() {
+            @Override
+            public Future<Long> update(String sql, Object... bind) {
+                Node node = selectNode();
+                return (Future<Long>) execOnNode(node, node.client.makeSqlRequest(sql, Arrays.asList(bind)));
+            }
+
+            @Override
+            public Future<List<Map<String, Object>>> query(String sql, Object... bind) {
+                Node node = selectNode();
+                return (Future<List<Map<String, Object>>>) execOnNode(
+                    node, node.client.makeSqlRequest(sql, Arrays.asList(bind))
+                );
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        maintenanceExecutor.shutdownNow();
+        connectExecutor.shutdownNow();
+        for (Node node : nodes) {
+            node.close();
+        }
+    }
+
+    @Override
+    public boolean isAlive() {
+        for (Node node : nodes) {
+            if (node.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void waitAlive() throws InterruptedException {
+        while (!waitAlive(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            // wait until any node is connected
+        }
+    }
+
+    @Override
+    public boolean waitAlive(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isAlive()) {
+            if (closed || deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the schema of any alive node.
+     *
+     * @return schema metadata
+     *
+     * @throws CommunicationException if there are no alive nodes
+     */
+    @Override
+    public TarantoolSchemaMeta getSchemaMeta() {
+        Node fallback = null;
+        for (Node node : nodes) {
+            if (node.isAlive()) {
+                // a node becomes alive before its schema is loaded
+                if (node.client.isSchemaLoaded()) {
+                    return node.client.getSchemaMeta();
+                }
+                if (fallback == null) {
+                    fallback = node;
+                }
+            }
+        }
+        if (fallback == null) {
+            throw new CommunicationException("There are no alive nodes");
+        }
+        return fallback.client.getSchemaMeta();
+    }
+
+    /**
+     * Chooses a node among the alive ones. Penalized nodes
+     * are only chosen when there are no other alive nodes.
+     */
+    private Node selectNode() {
+        List<TarantoolNode> candidates = new ArrayList<>(nodes.size());
+        List<TarantoolNode> penalized = null;
+        for (Node node : nodes) {
+            if (!node.isAlive()) {
+                continue;
+            }
+            if (node.stats.isPenalized()) {
+                if (penalized == null) {
+                    penalized = new ArrayList<>(nodes.size());
+                }
+                penalized.add(node);
+            } else {
+                candidates.add(node);
+            }
+        }
+        if (candidates.isEmpty()) {
+            if (penalized == null) {
+                throw new CommunicationException("There are no alive nodes");
+            }
+            candidates = penalized;
+        }
+        return (Node) config.nodeSelector.select(candidates);
+    }
+
+    private CompletableFuture<?> execOnNode(Node node, TarantoolRequest request) {
+        final TarantoolNodeStats stats = node.stats;
+        stats.onRequestStarted();
+        final long startNanos = System.nanoTime();
+        CompletableFuture<?> result;
+        try {
+            result = (CompletableFuture<?>) node.client.exec(request);
+        } catch (RuntimeException e) {
+            onCompleted(stats, System.nanoTime() - startNanos, e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> onCompleted(stats, System.nanoTime() - startNanos, error));
+        return result;
+    }
+
+    private void onCompleted(TarantoolNodeStats stats, long latencyNanos, Throwable error) {
+        boolean failed = error != null && isNodeFailure(error);
+        stats.onRequestCompleted(latencyNanos, failed);
+        if (failed) {
+            stats.penalize(TimeUnit.MILLISECONDS.toNanos(config.nodePenaltyMillis));
+        }
+    }
+
+    /**
+     * Checks whether an error is caused by the node state
+     * rather than the request itself.
+     */
+    private static boolean isNodeFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+        if (cause instanceof CommunicationException || cause instanceof TimeoutException) {
+            return true;
+        }
+        return cause instanceof TarantoolException && ((TarantoolException) cause).isTransient();
+    }
+
+    private void reconnectNodes() {
+        for (Node node : nodes) {
+            if (node.isDisconnected()) {
+                node.connect();
+            }
+        }
+    }
+
+    private class Node implements TarantoolNode {
+
+        private final String address;
+        private final TarantoolNodeStats stats;
+        private final AtomicBoolean connecting = new AtomicBoolean();
+        private volatile TarantoolClientImpl client;
+
+        Node(String address, TarantoolNodeStats stats) {
+            this.address = address;
+            this.stats = stats;
+        }
+
+        @Override
+        public String getAddress() {
+            return address;
+        }
+
+        @Override
+        public TarantoolNodeStats getStats() {
+            return stats;
+        }
+
+        @Override
+        public boolean isAlive() {
+            TarantoolClientImpl current = client;
+            return current != null && current.isAlive();
+        }
+
+        boolean isDisconnected() {
+            TarantoolClientImpl current = client;
+            return current == null || current.isClosed();
+        }
+
+        void connect() {
+            if (closed || !connecting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                connectExecutor.execute(() -> {
+                    try {
+                        client = new TarantoolClientImpl(address, TarantoolClientConfig.copyOf(config));
+                        // the client could be closed concurrently
+                        if (closed) {
+                            client.close();
+                        }
+                    } catch (Exception e) {
+                        LOGGER.warn("Could not connect to " + address, e);
+                    } finally {
+                        connecting.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException ignored) {
+                connecting.set(false);
+            }
+        }
+
+        void close() {
+            TarantoolClientImpl current = client;
+            if (current != null) {
+                current.close();
+            }
+        }
+
+    }
+
+    private abstract class BaseOps<R> extends AbstractTarantoolOps<R> {
+
+        @Override
+        protected TarantoolSchemaMeta getSchemaMeta() {
+            return TarantoolMultiNodeClient.this.getSchemaMeta();
+        }
+
+        @Override
+        public void close() {
+            throw new IllegalStateException("You should close TarantoolClient instead.");
+        }
+
+    }
+
+    private class SyncOps extends BaseOps<List<?>> {
+
+        @Override
+        protected List<?> exec(TarantoolRequest request) {
+            Node node = selectNode();
+            return (List<?>) node.client.syncGet(execOnNode(node, request));
+        }
+
+    }
+
+    private class AsyncOps extends BaseOps<Future<List<?>>> {
+
+        @Override
+        protected Future<List<?>> exec(TarantoolRequest request) {
+            return (Future<List<?>>) execOnNode(selectNode(), request);
+        }
+
+    }
+
+    private class ComposableAsyncOps extends BaseOps<CompletionStage<List<?>>> {
+
+        @Override
+        protected CompletionStage<List<?>> exec(TarantoolRequest request) {
+            return (CompletionStage<List<?>>) execOnNode(selectNode(), request);
+        }
+
+    }
+
+    private class FireAndForgetOps extends BaseOps<Long> {
+
+        @Override
+        protected Long exec(TarantoolRequest request) {
+            Node node = selectNode();
+            try {
+                return config.futurelessFireAndForget
+                    ? node.client.doFireAndForget(request)
+                    : node.client.doExec(request).getId();
+            } catch (Exception e) {
+                throw new CommunicationException("Execute failed", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.tarantool;
+
+import org.tarantool.cluster.NodeSelector;
+
+/**
+ * Configuration for the {@link TarantoolMultiNodeClient}.
+ */
+public class TarantoolMultiNodeClientConfig extends TarantoolClientConfig {
+
+    /**
+     * Strategy to choose a node for a request.
+     */
+    public NodeSelector nodeSelector = NodeSelector.powerOfTwoChoices();
+
+    /**
+     * Period while a node which has just failed
+     * does not receive new requests.
+     */
+    public long nodePenaltyMillis = 5_000;
+
+    /**
+     * Weight of a new value in the moving averages of
+     * the node latencies and error rates.
+     */
+    public double nodeStatsWeight = 0.2;
+
+    /**
+     * Delay between attempts to re-establish
+     * the connections to the failed nodes.
+     */
+    public long nodeReconnectDelayMillis = 1_000;
+
+}
@@ -2,6 +2,7 @@ package org.tarantool;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -9,7 +10,6 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.stream.Collectors;
 
 /**
  * Describes an internal state of a registered request.
@@ -41,6 +41,12 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
      */
     private final List<TarantoolRequestArgument> arguments;
 
+    /**
+     * Argument values evaluated for the current
+     * {@link #sentSchemaId}.
+     */
+    private volatile ResolvedArguments resolvedArguments;
+
     /**
      * Future request result.
      */
@@ -52,22 +58,32 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
     private final Duration timeout;
 
     /**
-     * Optional operation which is used for
-     * schema synchronization purposes.
+     * Stream the operation is bound to or {@literal 0}.
      */
-    private TarantoolOperation dependedOperation;
+    private final long streamId;
+
+    /**
+     * Outbound lane of the operation.
+     */
+    private volatile RequestPriority priority = RequestPriority.NORMAL;
+
+    /**
+     * Time in nanoseconds when the operation was created.
+     */
+    private final long createdNanos = System.nanoTime();
+
+    /**
+     * Time in nanoseconds when the operation was
+     * written to the outgoing buffer last time.
+     */
+    private volatile long sentNanos;
 
     public TarantoolOperation(Code code,
                               List<TarantoolRequestArgument> arguments,
                               long id,
                               long schemaId,
                               Duration timeout) {
-        this.id = id;
-        this.sentSchemaId = schemaId;
-        this.code = Objects.requireNonNull(code);
-        this.arguments = new ArrayList<>(arguments);
-        this.timeout =  timeout;
-        setupTimeout(timeout);
+        this(code, arguments, id, schemaId, timeout, 0);
     }
 
     public TarantoolOperation(Code code,
@@ -75,13 +91,13 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
                               long id,
                               long schemaId,
                               Duration timeout,
-                              TarantoolOperation dependedOperation) {
+                              long streamId) {
         this.id = id;
+        this.streamId = streamId;
         this.sentSchemaId = schemaId;
         this.code = Objects.requireNonNull(code);
         this.arguments = new ArrayList<>(arguments);
         this.timeout =  timeout;
-        this.dependedOperation = dependedOperation;
         setupTimeout(timeout);
     }
 
@@ -89,12 +105,44 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
         return id;
     }
 
+    public long getStreamId() {
+        return streamId;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(RequestPriority priority) {
+        this.priority = priority;
+    }
+
     public long getSentSchemaId() {
         return sentSchemaId;
     }
 
+    /**
+     * Sets a schema version to be sent with the operation.
+     * The arguments are evaluated again when the operation
+     * is registered next time.
+     *
+     * @param sentSchemaId schema version
+     */
     public void setSentSchemaId(long sentSchemaId) {
         this.sentSchemaId = sentSchemaId;
+        this.resolvedArguments = null;
+    }
+
+    long getCreatedNanos() {
+        return createdNanos;
+    }
+
+    long getSentNanos() {
+        return sentNanos;
+    }
+
+    void setSentNanos(long sentNanos) {
+        this.sentNanos = sentNanos;
     }
 
     public long getCompletedSchemaId() {
@@ -113,10 +161,6 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
         return code;
     }
 
-    public TarantoolOperation getDependedOperation() {
-        return dependedOperation;
-    }
-
     public Duration getTimeout() {
         return timeout;
     }
@@ -129,11 +173,39 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
      * @return {@literal true} if this request is serializable
      */
     public boolean isSerializable() {
-        return arguments.stream().allMatch(TarantoolRequestArgument::isSerializable);
+        try {
+            resolveArguments();
+        } catch (Exception ignored) {
+            return false;
+        }
+        return true;
     }
 
     public List<Object> getArguments() {
-        return arguments.stream().map(TarantoolRequestArgument::getValue).collect(Collectors.toList());
+        return Arrays.asList(resolveArguments());
+    }
+
+    /**
+     * Evaluates the arguments once per a sent schema version.
+     * Subsequent calls return the same values until
+     * {@link #setSentSchemaId(long)} is called.
+     *
+     * @return argument values
+     *
+     * @throws RuntimeException if any argument cannot be evaluated
+     */
+    Object[] resolveArguments() {
+        ResolvedArguments resolved = resolvedArguments;
+        long schemaId = sentSchemaId;
+        if (resolved == null || resolved.schemaId != schemaId) {
+            Object[] values = new Object[arguments.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arguments.get(i).getValue();
+            }
+            resolved = new ResolvedArguments(schemaId, values);
+            resolvedArguments = resolved;
+        }
+        return resolved.values;
     }
 
     @Override
@@ -166,6 +238,21 @@ public class TarantoolOperation implements Comparable<TarantoolOperation> {
         });
     }
 
+    /**
+     * Immutable snapshot of the evaluated arguments.
+     */
+    private static final class ResolvedArguments {
+
+        private final long schemaId;
+        private final Object[] values;
+
+        private ResolvedArguments(long schemaId, Object[] values) {
+            this.schemaId = schemaId;
+            this.values = values;
+        }
+
+    }
+
     /**
      * Runs timeout operation as a delayed task.
      */
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +27,16 @@ public class TarantoolRequest {
      */
     private Duration timeout;
 
+    /**
+     * Stream the request is bound to or {@literal 0}.
+     */
+    private long streamId;
+
+    /**
+     * Outbound lane of the request.
+     */
+    private RequestPriority priority = RequestPriority.NORMAL;
+
     public TarantoolRequest(Code code) {
         this.code = code;
         this.arguments = new ArrayList<>();
@@ -43,19 +54,9 @@ public class TarantoolRequest {
      * @param schemaId schema version
      */
     TarantoolOperation toOperation(long sid, long schemaId) {
-        return new TarantoolOperation(code, arguments, sid, schemaId, timeout);
-    }
-
-    /**
-     * Initializes a preflight operation that
-     * will be processed before the dependent.
-     *
-     * @param sid       internal request id
-     * @param schemaId  schema version
-     * @param operation depended operation
-     */
-    TarantoolOperation toPreflightOperation(long sid, long schemaId, TarantoolOperation operation) {
-        return new TarantoolOperation(code, arguments, sid, schemaId, timeout, operation);
+        TarantoolOperation operation = new TarantoolOperation(code, arguments, sid, schemaId, timeout, streamId);
+        operation.setPriority(priority);
+        return operation;
     }
 
 
@@ -75,6 +76,22 @@ public class TarantoolRequest {
         this.timeout = timeout;
     }
 
+    public long getStreamId() {
+        return streamId;
+    }
+
+    public void setStreamId(long streamId) {
+        this.streamId = streamId;
+    }
+
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(RequestPriority priority) {
+        this.priority = Objects.requireNonNull(priority);
+    }
+
     public List<Object> getArguments() {
         return arguments.stream().map(TarantoolRequestArgument::getValue).collect(Collectors.toList());
     }
@@ -50,10 +50,11 @@ public class TarantoolRequestArgumentFactory {
      * it is requested.
      * <p>
      * It works like a function, where {@code argument = f(key)}.
+     * The lookup is expected to be thread-safe.
      */
     private static class LookupArgument implements TarantoolRequestArgument {
 
-        Supplier<Object> lookup;
+        private final Supplier<Object> lookup;
 
         LookupArgument(Supplier<Object> lookup) {
             this.lookup = Objects.requireNonNull(lookup);
@@ -70,7 +71,7 @@ public class TarantoolRequestArgumentFactory {
         }
 
         @Override
-        public synchronized Object getValue() {
+        public Object getValue() {
             return lookup.get();
         }
 
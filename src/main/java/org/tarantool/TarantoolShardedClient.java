@@ -0,0 +1,353 @@
+package org.tarantool;
+
+import org.tarantool.cluster.BucketMap;
+import org.tarantool.logging.Logger;
+import org.tarantool.logging.LoggerFactory;
+import org.tarantool.schema.TarantoolSchemaMeta;
+import org.tarantool.util.StringUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Client which sends the requests of a shard key directly to
+ * the replica set storing the key bucket, bypassing a router.
+ * <p>
+ * The bucket map is fetched from any of the given instances by
+ * {@link TarantoolShardedClientConfig#bucketMapFunction}. It is
+ * refreshed periodically and when a storage answers with
+ * a {@code WRONG_BUCKET} error. The failed request is sent
+ * again to the new owner of the bucket.
+ * <p>
+ * Storages do not check the buckets of native operations, so
+ * such operations may reach the previous owner while the
+ * buckets are being moved. Wrap the operations into stored
+ * functions which check the bucket ownership if it matters.
+ */
+public class TarantoolShardedClient implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TarantoolShardedClient.class);
+
+    private static final String WRONG_BUCKET = "WRONG_BUCKET";
+
+    private final TarantoolShardedClientConfig config;
+    private final TarantoolClientImpl mapClient;
+    private final Map<String, TarantoolClientImpl> replicaSets = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refreshExecutor;
+    private volatile BucketMap bucketMap;
+    private final AtomicReference<CompletableFuture<Void>> pendingRefresh = new AtomicReference<>();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new client and loads the bucket map.
+     *
+     * @param config    Configuration.
+     * @param addresses Array of addresses in the form of host[:port]
+     *                  of the instances the bucket map is fetched from.
+     */
+    public TarantoolShardedClient(TarantoolShardedClientConfig config, String... addresses) {
+        if (StringUtils.isBlank(config.bucketMapFunction)) {
+            throw new IllegalArgumentException("Bucket map function must be set");
+        }
+        if (config.bucketCount < 1) {
+            throw new IllegalArgumentException("Bucket count must be positive");
+        }
+        this.config = config;
+        this.mapClient = new TarantoolClientImpl(
+            new RoundRobinSocketProviderImpl(addresses),
+            TarantoolClientConfig.copyOf(config)
+        );
+        this.refreshExecutor =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolThreadDaemonFactory("tarantool-buckets"));
+        try {
+            refreshBucketMap();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        refreshExecutor.scheduleWithFixedDelay(
+            this::tryRefreshBucketMap,
+            config.bucketMapRefreshMillis,
+            config.bucketMapRefreshMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Computes a bucket id of a key using the configured
+     * {@link TarantoolShardedClientConfig#bucketIdFunction}.
+     *
+     * @param shardKey shard key
+     *
+     * @return bucket id
+     */
+    public int getBucketId(Object shardKey) {
+        return config.bucketIdFunction.getBucketId(shardKey, config.bucketCount);
+    }
+
+    /**
+     * Gets a connection to the replica set which stores
+     * the key bucket. Requests sent through it are not
+     * re-routed on a wrong bucket error.
+     *
+     * @param shardKey shard key
+     *
+     * @return replica set client
+     *
+     * @throws CommunicationException if the bucket has no available replica set
+     */
+    public TarantoolClient getReplicaSet(Object shardKey) {
+        return route(getBucketId(shardKey));
+    }
+
+    /**
+     * Gets synchronous operations for a shard key.
+     *
+     * @param shardKey shard key
+     *
+     * @return operations routed to the key replica set
+     */
+    public TarantoolClientOps<Integer, List<?>, Object, List<?>> syncOps(Object shardKey) {
+        return new SyncOps(getBucketId(shardKey));
+    }
+
+    /**
+     * Gets asynchronous operations for a shard key.
+     *
+     * @param shardKey shard key
+     *
+     * @return operations routed to the key replica set
+     */
+    public TarantoolClientOps<Integer, List<?>, Object, CompletionStage<List<?>>> composableAsyncOps(Object shardKey) {
+        return new ComposableAsyncOps(getBucketId(shardKey));
+    }
+
+    /**
+     * Gets the bucket map in use.
+     *
+     * @return bucket map snapshot
+     */
+    public BucketMap getBucketMap() {
+        return bucketMap;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        refreshExecutor.shutdownNow();
+        mapClient.close();
+        for (TarantoolClientImpl client : replicaSets.values()) {
+            client.close();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private TarantoolClientImpl route(int bucketId) {
+        String owner = bucketMap.getOwner(bucketId);
+        TarantoolClientImpl client = owner == null ? null : replicaSets.get(owner);
+        if (client == null) {
+            throw new CommunicationException("Bucket " + bucketId + " has no available replica set");
+        }
+        return client;
+    }
+
+    /**
+     * Sends a request to the bucket owner. The request is sent
+     * again after the bucket map is refreshed if the owner
+     * reports the bucket is not there.
+     */
+    private CompletableFuture<List<?>> execRouted(int bucketId, TarantoolRequest request, int attempt) {
+        final long version = bucketMap.getVersion();
+        CompletableFuture<?> result;
+        try {
+            result = (CompletableFuture<?>) route(bucketId).exec(request);
+        } catch (RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        return result.handle((value, error) -> {
+            if (attempt < config.wrongBucketRetries && isWrongBucket(value, error)) {
+                return scheduleRefresh(version)
+                    .handle((ignored, refreshError) -> null)
+                    .thenCompose(ignored -> execRouted(bucketId, request, attempt + 1));
+            }
+            CompletableFuture<List<?>> completed = new CompletableFuture<>();
+            if (error == null) {
+                completed.complete((List<?>) value);
+            } else {
+                completed.completeExceptionally(error);
+            }
+            return completed;
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Checks whether a storage has rejected a request because
+     * it does not store the bucket. vshard reports it either as
+     * a returned error object or as a raised error.
+     */
+    private static boolean isWrongBucket(Object value, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+            return cause instanceof TarantoolException &&
+                cause.getMessage() != null &&
+                cause.getMessage().contains(WRONG_BUCKET);
+        }
+        if (!(value instanceof List)) {
+            return false;
+        }
+        List<?> result = (List<?>) value;
+        if (result.size() < 2 || result.get(0) != null || !(result.get(1) instanceof Map)) {
+            return false;
+        }
+        return WRONG_BUCKET.equals(((Map<?, ?>) result.get(1)).get("name"));
+    }
+
+    /**
+     * Schedules a bucket map refresh unless the map has
+     * been refreshed since the given version was seen.
+     * <p>
+     * This method is called by the response handlers, so it
+     * does not block and joins the pending refresh if any.
+     */
+    private CompletableFuture<Void> scheduleRefresh(long seenVersion) {
+        while (true) {
+            if (bucketMap.getVersion() > seenVersion) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> pending = pendingRefresh.get();
+            if (pending != null && !pending.isDone()) {
+                return pending;
+            }
+            CompletableFuture<Void> refresh = new CompletableFuture<>();
+            if (pendingRefresh.compareAndSet(pending, refresh)) {
+                try {
+                    refreshExecutor.execute(() -> {
+                        try {
+                            refreshBucketMap();
+                            refresh.complete(null);
+                        } catch (Throwable e) {
+                            refresh.completeExceptionally(e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    refresh.completeExceptionally(e);
+                }
+                return refresh;
+            }
+        }
+    }
+
+    private void tryRefreshBucketMap() {
+        try {
+            refreshBucketMap();
+        } catch (Exception e) {
+            LOGGER.warn("Could not refresh the bucket map", e);
+        }
+    }
+
+    /**
+     * Fetches the bucket map and connects to the new
+     * replica sets. The connections to the replica sets
+     * which are not in the map anymore are closed.
+     * <p>
+     * The map is refreshed by the constructor and then only
+     * by the refresh thread, so the refreshes do not overlap
+     * and the connections are made without locking.
+     */
+    private void refreshBucketMap() {
+        List<?> result = mapClient.syncOps().call(config.bucketMapFunction);
+        BucketMap map = BucketMap.parse(result, config.bucketCount, bucketMap == null ? 1 : bucketMap.getVersion() + 1);
+        Set<String> addresses = map.getReplicaSets();
+        for (String address : addresses) {
+            TarantoolClientImpl client = replicaSets.get(address);
+            if (client != null && !client.isClosed()) {
+                continue;
+            }
+            try {
+                replicaSets.put(address, new TarantoolClientImpl(address, TarantoolClientConfig.copyOf(config)));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not connect to the replica set " + address, e);
+            }
+        }
+        bucketMap = map;
+        for (Iterator<Map.Entry<String, TarantoolClientImpl>> iterator = replicaSets.entrySet().iterator();
+             iterator.hasNext(); ) {
+            Map.Entry<String, TarantoolClientImpl> entry = iterator.next();
+            if (!addresses.contains(entry.getKey())) {
+                iterator.remove();
+                entry.getValue().close();
+            }
+        }
+        if (closed) {
+            replicaSets.values().forEach(TarantoolClientImpl::close);
+        }
+    }
+
+    private abstract class RoutedOps<R> extends AbstractTarantoolOps<R> {
+
+        protected final int bucketId;
+
+        RoutedOps(int bucketId) {
+            this.bucketId = bucketId;
+            if (!config.useNewCall) {
+                setCallCode(Code.OLD_CALL);
+            }
+        }
+
+        @Override
+        protected TarantoolSchemaMeta getSchemaMeta() {
+            return route(bucketId).getSchemaMeta();
+        }
+
+        @Override
+        public void close() {
+            throw new IllegalStateException("You should close TarantoolShardedClient instead.");
+        }
+
+    }
+
+    private class SyncOps extends RoutedOps<List<?>> {
+
+        SyncOps(int bucketId) {
+            super(bucketId);
+        }
+
+        @Override
+        protected List<?> exec(TarantoolRequest request) {
+            return mapClient.syncGet(execRouted(bucketId, request, 0));
+        }
+
+    }
+
+    private class ComposableAsyncOps extends RoutedOps<CompletionStage<List<?>>> {
+
+        ComposableAsyncOps(int bucketId) {
+            super(bucketId);
+        }
+
+        @Override
+        protected CompletionStage<List<?>> exec(TarantoolRequest request) {
+            return execRouted(bucketId, request, 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.tarantool;
+
+import org.tarantool.cluster.BucketIdFunction;
+
+/**
+ * Configuration for the {@link TarantoolShardedClient}.
+ */
+public class TarantoolShardedClientConfig extends TarantoolClientConfig {
+
+    /**
+     * Total number of buckets. It must match
+     * {@code bucket_count} of the cluster.
+     */
+    public int bucketCount = 3000;
+
+    /**
+     * Function to compute a bucket id of a shard key.
+     */
+    public BucketIdFunction bucketIdFunction = BucketIdFunction.strCrc32();
+
+    /**
+     * Name of the stored function which returns
+     * the bucket ranges of every replica set.
+     *
+     * @see org.tarantool.cluster.BucketMap#parse
+     */
+    public String bucketMapFunction;
+
+    /**
+     * Period of the bucket map refresh.
+     */
+    public long bucketMapRefreshMillis = 60_000;
+
+    /**
+     * Max number of times a request is re-routed
+     * after a wrong bucket error.
+     */
+    public int wrongBucketRetries = 3;
+
+}
@@ -0,0 +1,385 @@
+package org.tarantool;
+
+import org.tarantool.schema.TarantoolIndexMeta;
+import org.tarantool.schema.TarantoolSpaceMeta;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads all the tuples of a space page by page
+ * using the primary key of the last read tuple
+ * to fetch the next page.
+ * <p>
+ * If the first part of the primary index is an
+ * integer, the key range between the lowest and the
+ * highest keys can be split into partitions scanned
+ * concurrently. The partitions are distributed among
+ * the given clients. Otherwise, the space is scanned
+ * as a single partition.
+ * <p>
+ * The primary index must support the {@link Iterator#GT}
+ * iterator (i.e. be a TREE index). The selects are sent with
+ * {@link RequestPriority#LOW} priority if the client supports it.
+ * <p>
+ * A scanner can be reused but it is not thread-safe.
+ */
+public class TarantoolSpaceScanner {
+
+    private static final Object END = new Object();
+
+    private final List<? extends TarantoolClient> clients;
+    private final String space;
+
+    private int pageSize = 1000;
+    private int partitions = 1;
+    private int bufferSize = 1000;
+
+    public TarantoolSpaceScanner(TarantoolClient client, String space) {
+        this(Collections.singletonList(client), space);
+    }
+
+    /**
+     * Creates a scanner using a pool of clients.
+     *
+     * @param clients clients connected to the same instance or its replicas
+     * @param space   space name
+     */
+    public TarantoolSpaceScanner(List<? extends TarantoolClient> clients, String space) {
+        if (clients.isEmpty()) {
+            throw new IllegalArgumentException("At least one client is required.");
+        }
+        this.clients = new ArrayList<>(clients);
+        this.space = Objects.requireNonNull(space);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of the tuples fetched by one select.
+     *
+     * @param pageSize number of tuples
+     *
+     * @return this scanner
+     */
+    public TarantoolSpaceScanner setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Sets the max number of the key ranges
+     * scanned concurrently.
+     *
+     * @param partitions number of partitions
+     *
+     * @return this scanner
+     */
+    public TarantoolSpaceScanner setPartitions(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partitions count must be positive.");
+        }
+        this.partitions = partitions;
+        return this;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the max number of the tuples read ahead
+     * of a {@link #stream()} consumer.
+     *
+     * @param bufferSize number of tuples
+     *
+     * @return this scanner
+     */
+    public TarantoolSpaceScanner setBufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Passes all the tuples of the space to the consumer
+     * and waits until the scan is finished.
+     * <p>
+     * If there are several partitions, the consumer is
+     * called concurrently and the tuples of different
+     * partitions are not ordered.
+     *
+     * @param consumer tuples consumer
+     *
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    public void scan(Consumer<? super List<?>> consumer) throws InterruptedException {
+        List<Partition> ranges = split();
+        if (ranges.size() == 1) {
+            ranges.get(0).scan(consumer);
+            return;
+        }
+        ExecutorService executor =
+            Executors.newFixedThreadPool(ranges.size(), new TarantoolThreadDaemonFactory("tarantool-scanner"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Partition partition : ranges) {
+                futures.add(executor.submit(() -> partition.scan(consumer)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CommunicationException("Space scan failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Opens a stream of all the tuples of the space.
+     * <p>
+     * The tuples are read by a background thread which
+     * stops when the buffer is full until the stream
+     * consumer takes the buffered tuples. The stream
+     * should be closed if it is not read to the end.
+     *
+     * @return stream of tuples
+     */
+    public Stream<List<?>> stream() {
+        BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        AtomicBoolean closed = new AtomicBoolean();
+        Thread producer = new TarantoolThreadDaemonFactory("tarantool-scanner").newThread(() -> {
+            Object last = END;
+            try {
+                scan(tuple -> {
+                    try {
+                        buffer.put(tuple);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CancellationException();
+                    }
+                });
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable e) {
+                last = e;
+            }
+            // the interruption can be swallowed by a sync select
+            if (closed.get()) {
+                return;
+            }
+            try {
+                buffer.put(last);
+            } catch (InterruptedException ignored) {
+                // the stream is closed
+            }
+        });
+        producer.start();
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(new BufferIterator(buffer), Spliterator.NONNULL),
+            false
+        ).onClose(() -> {
+            closed.set(true);
+            producer.interrupt();
+        });
+    }
+
+    /**
+     * Splits the key range of the space.
+     */
+    private List<Partition> split() {
+        TarantoolClient client = clients.get(0);
+        TarantoolSpaceMeta spaceMeta = client.getSchemaMeta().fetchSpace(space);
+        TarantoolIndexMeta primary = spaceMeta.getIndexes().values().stream()
+            .filter(index -> index.getId() == 0)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Space " + space + " has no primary index"));
+        List<Integer> fields = primary.getParts().stream()
+            .map(TarantoolIndexMeta.IndexPart::getFieldNumber)
+            .collect(Collectors.toList());
+
+        List<Partition> ranges = new ArrayList<>();
+        BigInteger low = partitions > 1 ? firstKeyPart(client, spaceMeta.getId(), fields.get(0), Iterator.ALL) : null;
+        BigInteger high = partitions > 1 ? firstKeyPart(client, spaceMeta.getId(), fields.get(0), Iterator.LE) : null;
+        if (low == null || high == null) {
+            ranges.add(new Partition(client, spaceMeta.getId(), fields, null, null));
+            return ranges;
+        }
+        BigInteger span = high.subtract(low).add(BigInteger.ONE);
+        int count = span.min(BigInteger.valueOf(partitions)).intValue();
+        BigInteger from = null;
+        for (int i = 0; i < count; i++) {
+            BigInteger to = i + 1 < count
+                ? low.add(span.multiply(BigInteger.valueOf(i + 1)).divide(BigInteger.valueOf(count)))
+                : null;
+            ranges.add(new Partition(clients.get(i % clients.size()), spaceMeta.getId(), fields, from, to));
+            from = to;
+        }
+        return ranges;
+    }
+
+    /**
+     * Gets the first key part of the lowest or
+     * the highest tuple if it is an integer.
+     */
+    private BigInteger firstKeyPart(TarantoolClient client, int spaceId, int field, Iterator iterator) {
+        List<?> tuples = client.syncOps().select(spaceId, 0, Collections.emptyList(), 0, 1, iterator);
+        if (tuples.isEmpty()) {
+            return null;
+        }
+        return toInteger(((List<?>) tuples.get(0)).get(field));
+    }
+
+    private static BigInteger toInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    /**
+     * Key range {@code [from, to)} of the first
+     * primary key part where {@literal null} is
+     * an unlimited bound.
+     */
+    private class Partition {
+
+        private final TarantoolClient client;
+        private final int spaceId;
+        private final List<Integer> fields;
+        private final BigInteger from;
+        private final BigInteger to;
+
+        Partition(TarantoolClient client, int spaceId, List<Integer> fields, BigInteger from, BigInteger to) {
+            this.client = client;
+            this.spaceId = spaceId;
+            this.fields = fields;
+            this.from = from;
+            this.to = to;
+        }
+
+        void scan(Consumer<? super List<?>> consumer) {
+            List<?> key = from == null ? Collections.emptyList() : Collections.singletonList(from);
+            Iterator iterator = from == null ? Iterator.ALL : Iterator.GE;
+            TarantoolClientOps<Integer, List<?>, Object, List<?>> ops = client instanceof TarantoolClientImpl
+                ? ((TarantoolClientImpl) client).syncOps(RequestPriority.LOW)
+                : client.syncOps();
+            while (true) {
+                List<?> page = ops.select(spaceId, 0, key, 0, pageSize, iterator);
+                for (Object item : page) {
+                    List<?> tuple = (List<?>) item;
+                    if (isAbove(tuple)) {
+                        return;
+                    }
+                    consumer.accept(tuple);
+                }
+                if (page.size() < pageSize || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                key = keyOf((List<?>) page.get(page.size() - 1));
+                iterator = Iterator.GT;
+            }
+        }
+
+        private boolean isAbove(List<?> tuple) {
+            if (to == null) {
+                return false;
+            }
+            Object value = tuple.get(fields.get(0));
+            BigInteger integer = toInteger(value);
+            if (integer != null) {
+                return integer.compareTo(to) >= 0;
+            }
+            return value instanceof Number && ((Number) value).doubleValue() >= to.doubleValue();
+        }
+
+        private List<?> keyOf(List<?> tuple) {
+            List<Object> key = new ArrayList<>(fields.size());
+            for (Integer field : fields) {
+                key.add(tuple.get(field));
+            }
+            return key;
+        }
+
+    }
+
+    /**
+     * Takes the tuples read by the scan.
+     */
+    private static class BufferIterator implements java.util.Iterator<List<?>> {
+
+        private final BlockingQueue<Object> buffer;
+        private Object next;
+
+        BufferIterator(BlockingQueue<Object> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = buffer.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException();
+                }
+            }
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            if (next instanceof Throwable) {
+                throw new CommunicationException("Space scan failed", (Throwable) next);
+            }
+            return next != END;
+        }
+
+        @Override
+        public List<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<?> tuple = (List<?>) next;
+            next = null;
+            return tuple;
+        }
+
+    }
+
+}
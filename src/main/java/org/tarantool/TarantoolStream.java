@@ -0,0 +1,213 @@
+package org.tarantool;
+
+import static org.tarantool.TarantoolRequestArgumentFactory.value;
+
+import org.tarantool.schema.TarantoolSchemaMeta;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Sequence of requests sharing the connection of a client.
+ * The server executes the requests of a stream one by one,
+ * so they may run within an interactive transaction while
+ * other requests of the connection are processed
+ * concurrently.
+ * <p>
+ * Interactive transactions require Tarantool 2.10 or newer
+ * and the {@code memtx_use_mvcc_engine} option enabled for
+ * memtx spaces.
+ * <p>
+ * The server rolls back the transaction when the connection
+ * is lost. The requests sent after a reconnection fail until
+ * the transaction is finished by {@link #rollback()}.
+ * <p>
+ * This class is not thread-safe. Use one stream per
+ * transaction and thread.
+ *
+ * @see TarantoolClientImpl#newStream()
+ */
+public class TarantoolStream {
+
+    private final TarantoolClientImpl client;
+    private final long id;
+    private final SyncOps syncOps;
+    private final ComposableAsyncOps composableAsyncOps;
+
+    /**
+     * Connection epoch the transaction was started within
+     * or {@literal 0} if there is no transaction.
+     */
+    private volatile long transactionEpoch;
+
+    TarantoolStream(TarantoolClientImpl client, long id) {
+        this.client = client;
+        this.id = id;
+        this.syncOps = new SyncOps();
+        this.composableAsyncOps = new ComposableAsyncOps();
+        if (!client.config.useNewCall) {
+            syncOps.setCallCode(Code.OLD_CALL);
+            composableAsyncOps.setCallCode(Code.OLD_CALL);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Checks whether a transaction is started and
+     * not finished yet.
+     *
+     * @return {@literal true} if there is an active transaction
+     */
+    public boolean isInTransaction() {
+        return transactionEpoch != 0;
+    }
+
+    /**
+     * Checks whether the transaction has been rolled back
+     * by the server because the connection was lost.
+     *
+     * @return {@literal true} if the transaction is lost
+     */
+    public boolean isAborted() {
+        long epoch = transactionEpoch;
+        return epoch != 0 && epoch != client.connectionEpoch.get();
+    }
+
+    public TarantoolClientOps<Integer, List<?>, Object, List<?>> syncOps() {
+        return syncOps;
+    }
+
+    public TarantoolClientOps<Integer, List<?>, Object, CompletionStage<List<?>>> composableAsyncOps() {
+        return composableAsyncOps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public TarantoolSQLOps<Object, Long, List<Map<String, Object>>> sqlSyncOps() {
+        return new TarantoolSQLOps<Object, Long, List<Map<String, Object>>>() {
+            @Override
+            public Long update(String sql, Object... bind) {
+                return (Long) client.syncGet(exec(client.makeSqlRequest(sql, Arrays.asList(bind))));
+            }
+
+            @Override
+            public List<Map<String, Object>> query(String sql, Object... bind) {
+                return (List<Map<String, Object>>) client.syncGet(
+                    exec(client.makeSqlRequest(sql, Arrays.asList(bind)))
+                );
+            }
+        };
+    }
+
+    /**
+     * Begins a transaction which is not limited in time
+     * by the server.
+     */
+    public void begin() {
+        begin(null);
+    }
+
+    /**
+     * Begins a transaction. The server rolls the transaction
+     * back if it is not committed within the timeout.
+     *
+     * @param timeout transaction timeout or {@literal null}
+     *                to use the server default
+     */
+    public void begin(Duration timeout) {
+        if (isInTransaction()) {
+            throw new IllegalStateException("Transaction is already started in stream " + id);
+        }
+        TarantoolRequest request = new TarantoolRequest(Code.BEGIN);
+        if (timeout != null) {
+            request.addArguments(value(Key.TIMEOUT), value(timeout.toNanos() / 1e9));
+        }
+        final long epoch = client.connectionEpoch.get();
+        client.syncGet(exec(request));
+        transactionEpoch = epoch;
+    }
+
+    /**
+     * Commits the current transaction.
+     *
+     * @throws CommunicationException if the transaction has been
+     *                                lost because of a reconnection
+     */
+    public void commit() {
+        finish(Code.COMMIT);
+    }
+
+    /**
+     * Rolls the current transaction back. The transaction
+     * lost because of a reconnection is finished locally.
+     */
+    public void rollback() {
+        finish(Code.ROLLBACK);
+    }
+
+    private void finish(Code code) {
+        boolean aborted = isAborted();
+        transactionEpoch = 0;
+        if (aborted) {
+            if (code == Code.ROLLBACK) {
+                return;
+            }
+            throw abortedError();
+        }
+        client.syncGet(exec(new TarantoolRequest(code)));
+    }
+
+    private CompletableFuture<?> exec(TarantoolRequest request) {
+        if (isAborted()) {
+            CompletableFuture<?> result = new CompletableFuture<>();
+            result.completeExceptionally(abortedError());
+            return result;
+        }
+        request.setStreamId(id);
+        return (CompletableFuture<?>) client.exec(request);
+    }
+
+    private CommunicationException abortedError() {
+        return new CommunicationException("Transaction of stream " + id + " was aborted by a reconnection");
+    }
+
+    private abstract class StreamOps<R> extends AbstractTarantoolOps<R> {
+
+        @Override
+        protected TarantoolSchemaMeta getSchemaMeta() {
+            return client.getSchemaMeta();
+        }
+
+        @Override
+        public void close() {
+            throw new IllegalStateException("You should close TarantoolClient instead.");
+        }
+
+    }
+
+    private class SyncOps extends StreamOps<List<?>> {
+
+        @Override
+        protected List<?> exec(TarantoolRequest request) {
+            return (List<?>) client.syncGet(TarantoolStream.this.exec(request));
+        }
+
+    }
+
+    private class ComposableAsyncOps extends StreamOps<CompletionStage<List<?>>> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected CompletionStage<List<?>> exec(TarantoolRequest request) {
+            return (CompletionStage<List<?>>) TarantoolStream.this.exec(request);
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.tarantool;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Support of the unix domain socket addresses in the form
+ * of {@code unix:/path/to.sock} or {@code unix/:/path/to.sock}.
+ * <p>
+ * The connector is built for Java 8, so the unix domain
+ * socket API appeared in Java 16 is accessed reflectively.
+ * An attempt to use such an address on an older runtime
+ * fails with {@link UnsupportedOperationException}.
+ * <p>
+ * This class is not a part of public API.
+ */
+final class UnixDomainSockets {
+
+    static final String PREFIX = "unix:";
+    static final String TARANTOOL_PREFIX = "unix/:";
+
+    private static final String ADDRESS_CLASS_NAME = "java.net.UnixDomainSocketAddress";
+
+    private UnixDomainSockets() {
+    }
+
+    /**
+     * Checks whether a string address points to
+     * a unix domain socket.
+     *
+     * @param address string address
+     *
+     * @return {@literal true} if the address has a unix prefix
+     */
+    static boolean isUnixAddress(String address) {
+        return address.startsWith(PREFIX) || address.startsWith(TARANTOOL_PREFIX);
+    }
+
+    static boolean isUnixAddress(SocketAddress address) {
+        return address != null && address.getClass().getName().equals(ADDRESS_CLASS_NAME);
+    }
+
+    /**
+     * Parses a unix domain socket address.
+     *
+     * @param address address with a unix prefix
+     *
+     * @return unix domain socket address
+     *
+     * @throws UnsupportedOperationException if the runtime does not
+     *                                       support unix domain sockets
+     */
+    static SocketAddress parse(String address) {
+        String path = address.startsWith(TARANTOOL_PREFIX)
+            ? address.substring(TARANTOOL_PREFIX.length())
+            : address.substring(PREFIX.length());
+        if (path.isEmpty()) {
+            throw new IllegalArgumentException("Socket path must not be empty: " + address);
+        }
+        try {
+            Method of = Class.forName(ADDRESS_CLASS_NAME).getMethod("of", String.class);
+            return (SocketAddress) of.invoke(null, path);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or newer", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException("Invalid socket path: " + path, e.getCause());
+        }
+    }
+
+    /**
+     * Formats a unix domain socket address so that
+     * it can be parsed back by {@link #parse(String)}.
+     *
+     * @param address unix domain socket address
+     *
+     * @return string address
+     */
+    static String format(SocketAddress address) {
+        return PREFIX + address;
+    }
+
+    /**
+     * Opens an unconnected channel of the family
+     * suitable for the address.
+     *
+     * @param address address to connect to
+     *
+     * @return new channel
+     *
+     * @throws IOException if the channel cannot be opened
+     */
+    static SocketChannel openChannel(SocketAddress address) throws IOException {
+        if (!isUnixAddress(address)) {
+            return SocketChannel.open();
+        }
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            Method open = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            return (SocketChannel) open.invoke(null, unix);
+        } catch (IllegalArgumentException | NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or newer", e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Could not open a unix domain socket channel", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.tarantool.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Computes a bucket id of a shard key.
+ * <p>
+ * Implementations must be thread-safe and return the
+ * same values as the function used by the storages.
+ */
+@FunctionalInterface
+public interface BucketIdFunction {
+
+    /**
+     * Computes a bucket id.
+     *
+     * @param shardKey    key value, a list of values for a composite key
+     * @param bucketCount total number of buckets
+     *
+     * @return bucket id in range [1, bucketCount]
+     */
+    int getBucketId(Object shardKey, int bucketCount);
+
+    /**
+     * Creates a function compatible with {@code vshard.router.bucket_id_strcrc32}.
+     * A key is converted to a string using {@link String#valueOf(Object)},
+     * which matches Lua {@code tostring} for strings and integers. Parts
+     * of a composite key are concatenated.
+     *
+     * @return crc32 based function
+     */
+    static BucketIdFunction strCrc32() {
+        return (shardKey, bucketCount) -> {
+            String key;
+            if (shardKey instanceof List) {
+                StringBuilder builder = new StringBuilder();
+                for (Object part : (List<?>) shardKey) {
+                    builder.append(part);
+                }
+                key = builder.toString();
+            } else {
+                key = String.valueOf(shardKey);
+            }
+            long crc = Integer.toUnsignedLong(Crc32c.calculate(key.getBytes(StandardCharsets.UTF_8)));
+            return (int) (crc % bucketCount) + 1;
+        };
+    }
+
+    /**
+     * CRC-32C in the form of Tarantool {@code digest.crc32}:
+     * the initial value is {@code 0xFFFFFFFF} and the result
+     * is not inverted.
+     */
+    final class Crc32c {
+
+        private static final int POLYNOMIAL = 0x82F63B78;
+        private static final int[] TABLE = new int[256];
+
+        static {
+            for (int i = 0; i < TABLE.length; i++) {
+                int value = i;
+                for (int bit = 0; bit < 8; bit++) {
+                    value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+                }
+                TABLE[i] = value;
+            }
+        }
+
+        private Crc32c() {
+        }
+
+        static int calculate(byte[] bytes) {
+            int crc = 0xFFFFFFFF;
+            for (byte b : bytes) {
+                crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+            }
+            return crc;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.tarantool.cluster;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the bucket to replica set mapping.
+ * <p>
+ * This class is not a part of public API.
+ */
+public class BucketMap {
+
+    private final String[] owners;
+    private final long version;
+
+    private BucketMap(String[] owners, long version) {
+        this.owners = owners;
+        this.version = version;
+    }
+
+    /**
+     * Parses a result of the bucket map function. The contract is
+     * a map from a replica set address in the {@code host[:port]}
+     * form to an array of inclusive bucket ranges, for instance,
+     * <code>{["host1:3301"] = {{1, 1500}}, ["host2:3301"] = {{1501, 3000}}}</code>.
+     *
+     * @param result      function result
+     * @param bucketCount total number of buckets
+     * @param version     version of the new map
+     *
+     * @return parsed map
+     *
+     * @throws IllegalDiscoveryFunctionResult if the result breaks the contract
+     */
+    public static BucketMap parse(List<?> result, int bucketCount, long version) {
+        if (result == null || result.isEmpty() || !(result.get(0) instanceof Map)) {
+            throw new IllegalDiscoveryFunctionResult("The first value must be a map of bucket ranges");
+        }
+        String[] owners = new String[bucketCount];
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) result.get(0)).entrySet()) {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof List)) {
+                throw new IllegalDiscoveryFunctionResult("Replica set " + entry.getKey() + " has no bucket ranges");
+            }
+            String address = (String) entry.getKey();
+            for (Object item : (List<?>) entry.getValue()) {
+                List<?> range = item instanceof List ? (List<?>) item : null;
+                if (range == null || range.size() != 2 ||
+                    !(range.get(0) instanceof Number) || !(range.get(1) instanceof Number)) {
+                    throw new IllegalDiscoveryFunctionResult("Bucket range must be a pair of numbers: " + item);
+                }
+                int first = ((Number) range.get(0)).intValue();
+                int last = ((Number) range.get(1)).intValue();
+                if (first < 1 || last > bucketCount || first > last) {
+                    throw new IllegalDiscoveryFunctionResult("Bucket range is out of bounds: " + item);
+                }
+                Arrays.fill(owners, first - 1, last, address);
+            }
+        }
+        return new BucketMap(owners, version);
+    }
+
+    /**
+     * Gets an address of the replica set which stores the bucket.
+     *
+     * @param bucketId bucket id
+     *
+     * @return replica set address or {@literal null} if the bucket
+     *         is not mapped
+     */
+    public String getOwner(int bucketId) {
+        return bucketId < 1 || bucketId > owners.length ? null : owners[bucketId - 1];
+    }
+
+    public Set<String> getReplicaSets() {
+        Set<String> replicaSets = new LinkedHashSet<>();
+        for (String owner : owners) {
+            if (owner != null) {
+                replicaSets.add(owner);
+            }
+        }
+        return replicaSets;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.tarantool.cluster;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides when a read is duplicated to another instance.
+ * <p>
+ * A read is hedged if it is not completed within the
+ * configured percentile of the recent read latencies.
+ * The policy keeps a ring of the last {@link #SAMPLE_COUNT}
+ * latencies and recomputes the delay on {@link #refresh()}.
+ * <p>
+ * Extra load is limited by a token bucket: every read
+ * earns the budget percentage of a token and every hedge
+ * spends a whole token.
+ */
+public class HedgedReadPolicy {
+
+    static final int SAMPLE_COUNT = 1024;
+    static final int MIN_SAMPLE_COUNT = 32;
+
+    private static final long TOKEN = 100;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int budgetPercent;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_COUNT);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private volatile long delayNanos;
+
+    /**
+     * Creates a policy.
+     *
+     * @param percentile     latency percentile in range (0, 100]
+     * @param minDelayMillis min delay before a read is hedged
+     * @param budgetPercent  max percentage of hedged reads
+     */
+    public HedgedReadPolicy(double percentile, long minDelayMillis, int budgetPercent) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in range (0, 100]");
+        }
+        if (minDelayMillis < 0 || budgetPercent < 0) {
+            throw new IllegalArgumentException("Delay and budget must not be negative");
+        }
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.budgetPercent = budgetPercent;
+        this.delayNanos = minDelayNanos;
+    }
+
+    /**
+     * Records a latency of a completed read.
+     *
+     * @param nanos read latency
+     */
+    public void recordLatency(long nanos) {
+        long index = sampleCount.getAndIncrement();
+        samples.set((int) (index % SAMPLE_COUNT), nanos);
+    }
+
+    /**
+     * Gets the current delay after which a read should
+     * be hedged.
+     *
+     * @return delay in nanoseconds
+     */
+    public long getDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Recomputes the delay using the recent latencies.
+     * The min delay is used until enough latencies are
+     * recorded.
+     */
+    public void refresh() {
+        int count = (int) Math.min(sampleCount.get(), SAMPLE_COUNT);
+        if (count < MIN_SAMPLE_COUNT) {
+            delayNanos = minDelayNanos;
+            return;
+        }
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            latencies[i] = samples.get(i);
+        }
+        Arrays.sort(latencies);
+        int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+        delayNanos = Math.max(minDelayNanos, latencies[Math.max(rank, 0)]);
+    }
+
+    /**
+     * Adds the read share to the hedging budget.
+     */
+    public void onRead() {
+        if (tokens.get() < MAX_TOKENS) {
+            tokens.accumulateAndGet(budgetPercent, (current, share) -> Math.min(MAX_TOKENS, current + share));
+        }
+    }
+
+    /**
+     * Takes a token from the hedging budget.
+     *
+     * @return {@literal true} if a read can be hedged
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+}
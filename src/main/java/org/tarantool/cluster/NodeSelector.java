@@ -0,0 +1,84 @@
+package org.tarantool.cluster;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses a node to send a request to.
+ * <p>
+ * The candidates are the alive nodes which are not
+ * penalized for the recent failures. Penalized nodes are
+ * only offered when all the alive nodes are penalized.
+ * Implementations must be thread-safe.
+ */
+public interface NodeSelector {
+
+    /**
+     * Chooses a node.
+     *
+     * @param candidates non-empty list of the candidates
+     *
+     * @return chosen node
+     */
+    TarantoolNode select(List<TarantoolNode> candidates);
+
+    /**
+     * Creates a selector which rotates the nodes.
+     *
+     * @return round-robin selector
+     */
+    static NodeSelector roundRobin() {
+        AtomicInteger counter = new AtomicInteger();
+        return candidates -> candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Creates a selector which chooses a node with the
+     * least number of requests in flight. Ties are broken
+     * by the latency.
+     *
+     * @return least-loaded selector
+     */
+    static NodeSelector leastLoaded() {
+        return candidates -> {
+            TarantoolNode best = candidates.get(0);
+            for (int i = 1; i < candidates.size(); i++) {
+                TarantoolNode node = candidates.get(i);
+                int difference = node.getStats().getInFlight() - best.getStats().getInFlight();
+                if (difference < 0 ||
+                    difference == 0 && node.getStats().getLatencyNanos() < best.getStats().getLatencyNanos()) {
+                    best = node;
+                }
+            }
+            return best;
+        };
+    }
+
+    /**
+     * Creates a selector which picks two random nodes and
+     * chooses one with the lower {@link TarantoolNodeStats#getScore() score}.
+     * It avoids both the herding to the single best node
+     * and the traffic to the slow ones.
+     *
+     * @return power of two choices selector
+     */
+    static NodeSelector powerOfTwoChoices() {
+        return candidates -> {
+            int size = candidates.size();
+            if (size == 1) {
+                return candidates.get(0);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            TarantoolNode left = candidates.get(first);
+            TarantoolNode right = candidates.get(second);
+            return left.getStats().getScore() <= right.getStats().getScore() ? left : right;
+        };
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.tarantool.cluster;
+
+/**
+ * Instance of a multi-node client which can be
+ * chosen by a {@link NodeSelector}.
+ */
+public interface TarantoolNode {
+
+    /**
+     * Gets the node address in {@code host[:port]} format.
+     *
+     * @return node address
+     */
+    String getAddress();
+
+    /**
+     * Gets the request statistics of the node.
+     *
+     * @return node statistics
+     */
+    TarantoolNodeStats getStats();
+
+    /**
+     * Checks whether the node is connected.
+     *
+     * @return {@literal true} if the node can accept requests
+     */
+    boolean isAlive();
+
+}
@@ -0,0 +1,129 @@
+package org.tarantool.cluster;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Request statistics of a {@link TarantoolNode}.
+ * <p>
+ * Latencies and failures are smoothed using exponentially
+ * weighted moving averages, so the recent requests affect
+ * the values more than the old ones.
+ */
+public class TarantoolNodeStats {
+
+    /**
+     * Error rate above which a node is considered
+     * as almost always failing.
+     */
+    private static final double MAX_ERROR_RATE = 0.99;
+
+    private final double weight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicLong errorRateBits = new AtomicLong(Double.doubleToLongBits(0));
+
+    /**
+     * End of the penalty by {@link System#nanoTime()}
+     * or {@literal 0} if the node is not penalized.
+     */
+    private volatile long penaltyDeadlineNanos;
+
+    /**
+     * Creates statistics.
+     *
+     * @param weight weight of a new value in the moving averages
+     *               in range (0, 1]
+     */
+    public TarantoolNodeStats(double weight) {
+        if (weight <= 0 || weight > 1) {
+            throw new IllegalArgumentException("Weight must be in range (0, 1]");
+        }
+        this.weight = weight;
+    }
+
+    public void onRequestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param latencyNanos request latency
+     * @param failed       whether the request failed because of the node
+     */
+    public void onRequestCompleted(long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        update(latencyBits, latency -> latency == 0 ? latencyNanos : latency + weight * (latencyNanos - latency));
+        update(errorRateBits, rate -> rate + weight * ((failed ? 1 : 0) - rate));
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the moving average of the latencies.
+     *
+     * @return latency in nanoseconds or {@literal 0} if
+     *         no requests are completed yet
+     */
+    public double getLatencyNanos() {
+        return Double.longBitsToDouble(latencyBits.get());
+    }
+
+    /**
+     * Gets the moving average of the failures.
+     *
+     * @return error rate in range [0, 1]
+     */
+    public double getErrorRate() {
+        return Double.longBitsToDouble(errorRateBits.get());
+    }
+
+    /**
+     * Gets a cost of sending a request to the node.
+     * The cost grows with the latency, the number of
+     * requests in flight and the error rate.
+     *
+     * @return node cost, the lower is the better
+     */
+    public double getScore() {
+        double latency = Math.max(getLatencyNanos(), 1);
+        double errorRate = Math.min(getErrorRate(), MAX_ERROR_RATE);
+        return latency * (getInFlight() + 1) / (1 - errorRate);
+    }
+
+    /**
+     * Excludes the node from the selection for a while.
+     *
+     * @param durationNanos penalty duration
+     */
+    public void penalize(long durationNanos) {
+        long deadline = System.nanoTime() + durationNanos;
+        // zero is reserved for no penalty
+        penaltyDeadlineNanos = deadline == 0 ? 1 : deadline;
+    }
+
+    /**
+     * Checks whether the node is in the penalty box.
+     *
+     * @return {@literal true} if the node has failed recently
+     */
+    public boolean isPenalized() {
+        long deadline = penaltyDeadlineNanos;
+        return deadline != 0 && System.nanoTime() - deadline < 0;
+    }
+
+    private static void update(AtomicLong bits, DoubleUnaryOperator function) {
+        while (true) {
+            long current = bits.get();
+            double updated = function.applyAsDouble(Double.longBitsToDouble(current));
+            if (bits.compareAndSet(current, Double.doubleToLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import org.tarantool.TarantoolClientConfig;
 import org.tarantool.TarantoolClientImpl;
 import org.tarantool.TarantoolOperation;
 import org.tarantool.TarantoolRequest;
+import org.tarantool.TarantoolStream;
 import org.tarantool.protocol.TarantoolPacket;
 import org.tarantool.util.JdbcConstants;
 import org.tarantool.util.SQLStates;
@@ -45,6 +46,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -79,6 +81,10 @@ public class SQLConnection implements TarantoolConnection {
     }
 
     private String makeAddress(Properties properties) throws SQLException {
+        String socket = SQLProperty.SOCKET.getString(properties);
+        if (socket != null && !socket.isEmpty()) {
+            return "unix:" + socket;
+        }
         String host = SQLProperty.HOST.getString(properties);
         int port = SQLProperty.PORT.getInt(properties);
         return host + ":" + port;
@@ -91,6 +97,10 @@ public class SQLConnection implements TarantoolConnection {
 
         clientConfig.operationExpiryTimeMillis = SQLProperty.QUERY_TIMEOUT.getInt(properties);
         clientConfig.initTimeoutMillis = SQLProperty.LOGIN_TIMEOUT.getInt(properties);
+        clientConfig.tcpNoDelay = SQLProperty.TCP_NO_DELAY.getBoolean(properties);
+        clientConfig.keepAlive = SQLProperty.KEEP_ALIVE.getBoolean(properties);
+        clientConfig.sendBufferSize = SQLProperty.SEND_BUFFER_SIZE.getInt(properties);
+        clientConfig.receiveBufferSize = SQLProperty.RECEIVE_BUFFER_SIZE.getInt(properties);
 
         return clientConfig;
     }
@@ -104,7 +114,7 @@ public class SQLConnection implements TarantoolConnection {
                 SQLStates.INVALID_TRANSACTION_STATE.getSqlState()
             );
         }
-        throw new SQLFeatureNotSupportedException();
+        finishTransaction(TarantoolStream::commit);
     }
 
     @Override
@@ -195,15 +205,25 @@ public class SQLConnection implements TarantoolConnection {
     @Override
     public void setAutoCommit(boolean autoCommit) throws SQLException {
         checkNotClosed();
-        if (!autoCommit) {
-            throw new SQLFeatureNotSupportedException();
+        if (autoCommit == getAutoCommit()) {
+            return;
+        }
+        if (autoCommit) {
+            // the active transaction is committed as the spec requires
+            try {
+                finishTransaction(TarantoolStream::commit);
+            } finally {
+                client.stream = null;
+            }
+        } else {
+            client.stream = client.newStream();
         }
     }
 
     @Override
     public boolean getAutoCommit() throws SQLException {
         checkNotClosed();
-        return true;
+        return client.stream == null;
     }
 
     @Override
@@ -220,7 +240,7 @@ public class SQLConnection implements TarantoolConnection {
                 SQLStates.INVALID_TRANSACTION_STATE.getSqlState()
             );
         }
-        throw new SQLFeatureNotSupportedException();
+        finishTransaction(TarantoolStream::rollback);
     }
 
     @Override
@@ -296,18 +316,31 @@ public class SQLConnection implements TarantoolConnection {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The stream transactions are serializable, so the
+     * weaker levels are replaced by
+     * {@link Connection#TRANSACTION_SERIALIZABLE}.
+     */
     @Override
     public void setTransactionIsolation(int level) throws SQLException {
         checkNotClosed();
-        if (level != Connection.TRANSACTION_NONE) {
-            throw new SQLFeatureNotSupportedException();
+        if (level != Connection.TRANSACTION_READ_UNCOMMITTED &&
+            level != Connection.TRANSACTION_READ_COMMITTED &&
+            level != Connection.TRANSACTION_REPEATABLE_READ &&
+            level != Connection.TRANSACTION_SERIALIZABLE) {
+            throw new SQLNonTransientException(
+                "Unsupported transaction isolation level " + level,
+                SQLStates.INVALID_PARAMETER_VALUE.getSqlState()
+            );
         }
     }
 
     @Override
     public int getTransactionIsolation() throws SQLException {
         checkNotClosed();
-        return Connection.TRANSACTION_NONE;
+        return Connection.TRANSACTION_SERIALIZABLE;
     }
 
     @Override
@@ -530,6 +563,7 @@ public class SQLConnection implements TarantoolConnection {
     @Override
     public SQLResultHolder execute(long timeout, SQLQueryHolder query) throws SQLException {
         checkNotClosed();
+        beginTransactionIfRequired();
         return (useNetworkTimeout(timeout))
             ? executeWithNetworkTimeout(query)
             : executeWithQueryTimeout(timeout, query);
@@ -539,6 +573,7 @@ public class SQLConnection implements TarantoolConnection {
     public SQLBatchResultHolder executeBatch(long timeout, List<SQLQueryHolder> queries)
         throws SQLException {
         checkNotClosed();
+        beginTransactionIfRequired();
         SQLTarantoolClientImpl.SQLRawOps sqlOps = client.sqlRawOps();
         SQLBatchResultHolder batchResult = useNetworkTimeout(timeout)
             ? sqlOps.executeBatch(queries)
@@ -602,7 +637,12 @@ public class SQLConnection implements TarantoolConnection {
     protected List<?> nativeSelect(Integer space, Integer index, List<?> key, int offset, int limit, int iterator)
         throws SQLException {
         checkNotClosed();
+        beginTransactionIfRequired();
         try {
+            TarantoolStream stream = client.stream;
+            if (stream != null) {
+                return stream.syncOps().select(space, index, key, offset, limit, iterator);
+            }
             return client.syncOps().select(space, index, key, offset, limit, iterator);
         } catch (Exception e) {
             handleException(e);
@@ -610,6 +650,47 @@ public class SQLConnection implements TarantoolConnection {
         }
     }
 
+    /**
+     * Starts a transaction before the first statement
+     * executed in the manual commit mode.
+     *
+     * @throws SQLException if the transaction cannot be started
+     *                      or it has been lost because of a reconnection
+     */
+    private void beginTransactionIfRequired() throws SQLException {
+        TarantoolStream stream = client.stream;
+        if (stream == null) {
+            return;
+        }
+        if (stream.isAborted()) {
+            throw new SQLNonTransientException(
+                "Transaction was rolled back because the connection was lost.",
+                SQLStates.INVALID_TRANSACTION_STATE.getSqlState()
+            );
+        }
+        if (!stream.isInTransaction()) {
+            try {
+                stream.begin();
+            } catch (Exception e) {
+                handleException(e);
+                throw new SQLException("Could not begin a transaction", e);
+            }
+        }
+    }
+
+    private void finishTransaction(Consumer<TarantoolStream> action) throws SQLException {
+        TarantoolStream stream = client.stream;
+        if (stream == null || !stream.isInTransaction()) {
+            return;
+        }
+        try {
+            action.accept(stream);
+        } catch (Exception e) {
+            handleException(e);
+            throw new SQLException("Could not finish the transaction", e);
+        }
+    }
+
     protected String getServerVersion() {
         return client.getServerVersion();
     }
@@ -736,16 +817,31 @@ public class SQLConnection implements TarantoolConnection {
 
     static class SQLTarantoolClientImpl extends TarantoolClientImpl {
 
+        /**
+         * Stream of the manual commit mode or {@literal null}
+         * in the auto-commit mode.
+         */
+        volatile TarantoolStream stream;
+
         private Future<?> executeQuery(SQLQueryHolder queryHolder) {
-            return exec(makeSqlRequest(queryHolder.getQuery(), queryHolder.getParams()));
+            return exec(makeRequest(queryHolder));
         }
 
         private Future<?> executeQuery(SQLQueryHolder queryHolder, long timeoutMillis) {
-            TarantoolRequest request = makeSqlRequest(queryHolder.getQuery(), queryHolder.getParams());
+            TarantoolRequest request = makeRequest(queryHolder);
             request.setTimeout(Duration.of(timeoutMillis, ChronoUnit.MILLIS));
             return exec(request);
         }
 
+        private TarantoolRequest makeRequest(SQLQueryHolder queryHolder) {
+            TarantoolRequest request = makeSqlRequest(queryHolder.getQuery(), queryHolder.getParams());
+            TarantoolStream current = stream;
+            if (current != null) {
+                request.setStreamId(current.getId());
+            }
+            return request;
+        }
+
         final SQLRawOps sqlRawOps = new SQLRawOps() {
             @Override
             public SQLResultHolder execute(SQLQueryHolder query) {
@@ -284,7 +284,7 @@ public class SQLDatabaseMetadata implements DatabaseMetaData {
 
     @Override
     public boolean supportsMultipleTransactions() throws SQLException {
-        return false;
+        return true;
     }
 
     @Override
@@ -599,17 +599,23 @@ public class SQLDatabaseMetadata implements DatabaseMetaData {
 
     @Override
     public int getDefaultTransactionIsolation() throws SQLException {
-        return Connection.TRANSACTION_NONE;
+        return Connection.TRANSACTION_SERIALIZABLE;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The manual commit mode runs interactive transactions
+     * which require Tarantool 2.10 or newer.
+     */
     @Override
     public boolean supportsTransactions() throws SQLException {
-        return false;
+        return true;
     }
 
     @Override
     public boolean supportsTransactionIsolationLevel(int level) throws SQLException {
-        return false;
+        return level == Connection.TRANSACTION_SERIALIZABLE;
     }
 
     @Override
@@ -619,7 +625,7 @@ public class SQLDatabaseMetadata implements DatabaseMetaData {
 
     @Override
     public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
-        return false;
+        return true;
     }
 
     @Override
@@ -100,15 +100,19 @@ public class SQLDriver implements Driver {
             throw new SQLException("Port is out of range: " + port, SQLStates.INVALID_PARAMETER_VALUE.getSqlState());
         }
 
-        checkTimeout(SQLProperty.LOGIN_TIMEOUT, urlProperties);
-        checkTimeout(SQLProperty.QUERY_TIMEOUT, urlProperties);
+        checkNotNegative(SQLProperty.LOGIN_TIMEOUT, urlProperties);
+        checkNotNegative(SQLProperty.QUERY_TIMEOUT, urlProperties);
+        checkNotNegative(SQLProperty.SEND_BUFFER_SIZE, urlProperties);
+        checkNotNegative(SQLProperty.RECEIVE_BUFFER_SIZE, urlProperties);
+        SQLProperty.TCP_NO_DELAY.getBoolean(urlProperties);
+        SQLProperty.KEEP_ALIVE.getBoolean(urlProperties);
 
         return urlProperties;
     }
 
-    private void checkTimeout(SQLProperty sqlProperty, Properties properties) throws SQLException {
-        int timeout = sqlProperty.getInt(properties);
-        if (timeout < 0) {
+    private void checkNotNegative(SQLProperty sqlProperty, Properties properties) throws SQLException {
+        int value = sqlProperty.getInt(properties);
+        if (value < 0) {
             throw new SQLException(
                 "Property " + sqlProperty.getName() + " must not be negative.",
                 SQLStates.INVALID_PARAMETER_VALUE.getSqlState()
@@ -20,6 +20,14 @@ public enum SQLProperty {
         null,
         true
     ),
+    SOCKET(
+        "socket",
+        "Path to the Tarantool unix domain socket. The host and port are ignored when it is set. " +
+            "Requires Java 16 or newer.",
+        null,
+        null,
+        false
+    ),
     SOCKET_CHANNEL_PROVIDER(
         "socketChannelProvider",
         "SocketProvider class implements org.tarantool.SocketChannelProvider",
@@ -56,6 +64,38 @@ public enum SQLProperty {
         "0",
         null,
         false
+    ),
+    TCP_NO_DELAY(
+        "tcpNoDelay",
+        "Whether the Nagle's algorithm is disabled on the connection. " +
+            "The default value is true.",
+        "true",
+        null,
+        false
+    ),
+    KEEP_ALIVE(
+        "keepAlive",
+        "Whether TCP keep-alive probes are sent. " +
+            "The default value is false.",
+        "false",
+        null,
+        false
+    ),
+    SEND_BUFFER_SIZE(
+        "sendBufferSize",
+        "The socket send buffer size in bytes. " +
+            "The default value is 0 (the OS default).",
+        "0",
+        null,
+        false
+    ),
+    RECEIVE_BUFFER_SIZE(
+        "receiveBufferSize",
+        "The socket receive buffer size in bytes. " +
+            "The default value is 0 (the OS default).",
+        "0",
+        null,
+        false
     );
 
     private final String name;
@@ -124,4 +164,19 @@ public enum SQLProperty {
     public void setInt(Properties properties, int value) {
         setString(properties, Integer.toString(value));
     }
+
+    public boolean getBoolean(Properties properties) throws SQLException {
+        String property = getString(properties);
+        if (!"true".equalsIgnoreCase(property) && !"false".equalsIgnoreCase(property)) {
+            throw new SQLException(
+                "Property " + name + " must be either true or false.",
+                SQLStates.INVALID_PARAMETER_VALUE.getSqlState()
+            );
+        }
+        return Boolean.parseBoolean(property);
+    }
+
+    public void setBoolean(Properties properties, boolean value) {
+        setString(properties, Boolean.toString(value));
+    }
 }
@@ -95,6 +95,16 @@ public class SQLDataSource implements TarantoolDataSource, DataSource {
         SQLProperty.PORT.setInt(properties, port);
     }
 
+    @Override
+    public String getSocket() {
+        return SQLProperty.SOCKET.getString(properties);
+    }
+
+    @Override
+    public void setSocket(String path) {
+        SQLProperty.SOCKET.setString(properties, path);
+    }
+
     @Override
     public String getUser() {
         return SQLProperty.USER.getString(properties);
@@ -151,6 +161,46 @@ public class SQLDataSource implements TarantoolDataSource, DataSource {
         SQLProperty.QUERY_TIMEOUT.setInt(properties, (int) TimeUnit.SECONDS.toMillis(seconds));
     }
 
+    @Override
+    public boolean getTcpNoDelay() throws SQLException {
+        return SQLProperty.TCP_NO_DELAY.getBoolean(properties);
+    }
+
+    @Override
+    public void setTcpNoDelay(boolean tcpNoDelay) {
+        SQLProperty.TCP_NO_DELAY.setBoolean(properties, tcpNoDelay);
+    }
+
+    @Override
+    public boolean getKeepAlive() throws SQLException {
+        return SQLProperty.KEEP_ALIVE.getBoolean(properties);
+    }
+
+    @Override
+    public void setKeepAlive(boolean keepAlive) {
+        SQLProperty.KEEP_ALIVE.setBoolean(properties, keepAlive);
+    }
+
+    @Override
+    public int getSendBufferSize() throws SQLException {
+        return SQLProperty.SEND_BUFFER_SIZE.getInt(properties);
+    }
+
+    @Override
+    public void setSendBufferSize(int bytes) {
+        SQLProperty.SEND_BUFFER_SIZE.setInt(properties, bytes);
+    }
+
+    @Override
+    public int getReceiveBufferSize() throws SQLException {
+        return SQLProperty.RECEIVE_BUFFER_SIZE.getInt(properties);
+    }
+
+    @Override
+    public void setReceiveBufferSize(int bytes) {
+        SQLProperty.RECEIVE_BUFFER_SIZE.setInt(properties, bytes);
+    }
+
     private String makeUrl() {
         return "jdbc:tarantool://" +
             SQLProperty.HOST.getString(properties) + ":" + SQLProperty.PORT.getString(properties);
@@ -15,6 +15,10 @@ public interface TarantoolDataSource {
 
     void setPortNumber(int port) throws SQLException;
 
+    String getSocket() throws SQLException;
+
+    void setSocket(String path) throws SQLException;
+
     String getUser() throws SQLException;
 
     void setUser(String userName) throws SQLException;
@@ -37,4 +41,20 @@ public interface TarantoolDataSource {
 
     void setQueryTimeout(int seconds) throws SQLException;
 
+    boolean getTcpNoDelay() throws SQLException;
+
+    void setTcpNoDelay(boolean tcpNoDelay) throws SQLException;
+
+    boolean getKeepAlive() throws SQLException;
+
+    void setKeepAlive(boolean keepAlive) throws SQLException;
+
+    int getSendBufferSize() throws SQLException;
+
+    void setSendBufferSize(int bytes) throws SQLException;
+
+    int getReceiveBufferSize() throws SQLException;
+
+    void setReceiveBufferSize(int bytes) throws SQLException;
+
 }
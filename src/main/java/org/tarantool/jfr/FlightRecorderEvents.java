@@ -0,0 +1,45 @@
+package org.tarantool.jfr;
+
+/**
+ * Creates and commits the JFR events.
+ * <p>
+ * The implementation refers to {@code jdk.jfr} API, so it
+ * is compiled only by the JDKs providing the API and is
+ * loaded reflectively.
+ */
+interface FlightRecorderEvents {
+
+    /**
+     * Tracks the running recordings.
+     *
+     * @return {@literal true} if JFR is available
+     */
+    boolean install();
+
+    Object beginRequestSubmit();
+
+    void endRequestSubmit(Object event, String code, long syncId, boolean delayed);
+
+    Object beginSocketWrite();
+
+    void endSocketWrite(Object event, int bytes, int requests);
+
+    void responseRead(long syncId, int bytes, long responseTime);
+
+    Object beginResponseDecode();
+
+    void endResponseDecode(Object event, int bytes);
+
+    Object beginSchemaRefresh();
+
+    void endSchemaRefresh(Object event, String kind, int spaces, long schemaVersion);
+
+    Object beginReconnect();
+
+    void endReconnect(Object event, String address, int attempts, boolean successful);
+
+    Object beginClusterDiscovery();
+
+    void endClusterDiscovery(Object event, int instances, boolean changed);
+
+}
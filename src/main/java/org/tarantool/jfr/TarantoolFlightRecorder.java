@@ -0,0 +1,128 @@
+package org.tarantool.jfr;
+
+import org.tarantool.Code;
+
+/**
+ * Emits Java Flight Recorder events of the client.
+ * <p>
+ * The events are created only while there is a running
+ * recording, otherwise each method costs a volatile read.
+ * A {@code begin*} method returns an event handle (or
+ * {@literal null}) that must be passed to the paired
+ * {@code end*} method.
+ * <p>
+ * JFR API is optional at build time and at runtime. If it
+ * is not available (i.e. Java 8 before 8u262) the events
+ * are never emitted.
+ * <p>
+ * This class is not a part of public API.
+ */
+public final class TarantoolFlightRecorder {
+
+    private static final FlightRecorderEvents EVENTS = install();
+    private static final boolean AVAILABLE = EVENTS != null;
+
+    private static volatile boolean recording;
+
+    private TarantoolFlightRecorder() {
+    }
+
+    /**
+     * Loads the events implementation if both JFR API and
+     * the implementation compiled against it are available.
+     *
+     * @return events or {@literal null} if JFR is not available
+     */
+    private static FlightRecorderEvents install() {
+        try {
+            ClassLoader loader = TarantoolFlightRecorder.class.getClassLoader();
+            Class.forName("jdk.jfr.FlightRecorder", false, loader);
+            FlightRecorderEvents events = (FlightRecorderEvents) Class
+                .forName("org.tarantool.jfr.JfrEvents", true, loader)
+                .getDeclaredConstructor()
+                .newInstance();
+            return events.install() ? events : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    static void setRecording(boolean recording) {
+        TarantoolFlightRecorder.recording = recording;
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static boolean isRecording() {
+        return AVAILABLE && recording;
+    }
+
+    public static Object beginRequestSubmit() {
+        return isRecording() ? EVENTS.beginRequestSubmit() : null;
+    }
+
+    public static void endRequestSubmit(Object event, Code code, long syncId, boolean delayed) {
+        if (event != null) {
+            EVENTS.endRequestSubmit(event, code.name(), syncId, delayed);
+        }
+    }
+
+    public static Object beginSocketWrite() {
+        return isRecording() ? EVENTS.beginSocketWrite() : null;
+    }
+
+    public static void endSocketWrite(Object event, int bytes, int requests) {
+        if (event != null) {
+            EVENTS.endSocketWrite(event, bytes, requests);
+        }
+    }
+
+    public static void responseRead(long syncId, int bytes, long responseNanos) {
+        if (isRecording()) {
+            EVENTS.responseRead(syncId, bytes, responseNanos);
+        }
+    }
+
+    public static Object beginResponseDecode() {
+        return isRecording() ? EVENTS.beginResponseDecode() : null;
+    }
+
+    public static void endResponseDecode(Object event, int bytes) {
+        if (event != null) {
+            EVENTS.endResponseDecode(event, bytes);
+        }
+    }
+
+    public static Object beginSchemaRefresh() {
+        return isRecording() ? EVENTS.beginSchemaRefresh() : null;
+    }
+
+    public static void endSchemaRefresh(Object event, String kind, int spaces, long schemaVersion) {
+        if (event != null) {
+            EVENTS.endSchemaRefresh(event, kind, spaces, schemaVersion);
+        }
+    }
+
+    public static Object beginReconnect() {
+        return isRecording() ? EVENTS.beginReconnect() : null;
+    }
+
+    public static void endReconnect(Object event, String address, int attempts, boolean successful) {
+        if (event != null) {
+            EVENTS.endReconnect(event, address, attempts, successful);
+        }
+    }
+
+    public static Object beginClusterDiscovery() {
+        return isRecording() ? EVENTS.beginClusterDiscovery() : null;
+    }
+
+    public static void endClusterDiscovery(Object event, int instances, boolean changed) {
+        if (event != null) {
+            EVENTS.endClusterDiscovery(event, instances, changed);
+        }
+    }
+
+}
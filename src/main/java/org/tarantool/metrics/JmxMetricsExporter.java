@@ -0,0 +1,138 @@
+package org.tarantool.metrics;
+
+import org.tarantool.Code;
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.metrics.TarantoolClientMetrics.Latency;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exports client metrics as an MXBean named
+ * {@code org.tarantool:type=ClientMetrics,name=<name>}.
+ */
+public class JmxMetricsExporter implements TarantoolMetricsExporter {
+
+    private final MBeanServer server;
+    private final ObjectName objectName;
+
+    public JmxMetricsExporter(String name) {
+        this(ManagementFactory.getPlatformMBeanServer(), name);
+    }
+
+    public JmxMetricsExporter(MBeanServer server, String name) {
+        this.server = server;
+        try {
+            this.objectName = new ObjectName("org.tarantool:type=ClientMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metrics name " + name, e);
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public void register(TarantoolClientMetrics metrics) {
+        try {
+            server.registerMBean(new MetricsBean(metrics), objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + objectName, e);
+        }
+    }
+
+    @Override
+    public void unregister(TarantoolClientMetrics metrics) {
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister " + objectName, e);
+        }
+    }
+
+    private static class MetricsBean implements TarantoolClientMetricsBean {
+
+        private final TarantoolClientMetrics metrics;
+
+        MetricsBean(TarantoolClientMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (Counter counter : Counter.values()) {
+                result.put(counter.name(), metrics.getCount(counter));
+            }
+            result.put("MAX_SHARED_PACKET_SIZE", metrics.getMaxSharedPacketSize());
+            result.put("MAX_DIRECT_PACKET_SIZE", metrics.getMaxDirectPacketSize());
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getRequests() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (Code code : Code.values()) {
+                result.put(code.name(), metrics.getRequestCount(code));
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getErrors() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (Code code : Code.values()) {
+                result.put(code.name(), metrics.getErrorCount(code));
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getServerErrors() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            metrics.getServerErrorCounts().forEach((errorCode, count) -> result.put(errorCode.toString(), count));
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getGauges() {
+            return metrics.getGauges();
+        }
+
+        @Override
+        public Map<String, Long> getEnqueueLatency() {
+            return toMap(metrics.getLatency(Latency.ENQUEUE));
+        }
+
+        @Override
+        public Map<String, Long> getRoundTripLatency() {
+            return toMap(metrics.getLatency(Latency.ROUND_TRIP));
+        }
+
+        @Override
+        public Map<String, Long> getDecodeLatency() {
+            return toMap(metrics.getLatency(Latency.DECODE));
+        }
+
+        private Map<String, Long> toMap(LatencySnapshot snapshot) {
+            Map<String, Long> result = new LinkedHashMap<>();
+            result.put("count", snapshot.getCount());
+            result.put("mean", Math.round(snapshot.getMean()));
+            result.put("p50", snapshot.getValueAtPercentile(50));
+            result.put("p90", snapshot.getValueAtPercentile(90));
+            result.put("p99", snapshot.getValueAtPercentile(99));
+            result.put("p999", snapshot.getValueAtPercentile(99.9));
+            result.put("max", snapshot.getMax());
+            return result;
+        }
+
+    }
+
+}
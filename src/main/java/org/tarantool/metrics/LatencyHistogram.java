@@ -0,0 +1,97 @@
+package org.tarantool.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear histogram of latencies in nanoseconds.
+ * <p>
+ * Each power of two range is split into {@code 16} linear
+ * sub-buckets, so recorded values keep about 6% precision
+ * in the same manner as HdrHistogram does. The values are
+ * recorded into one of the stripes chosen by the current
+ * thread to reduce contention between concurrent writers.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Max trackable value is about 70 minutes.
+     * Bigger values are recorded as the max one.
+     */
+    private static final int MAX_MAGNITUDE = 41;
+    private static final long MAX_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a histogram.
+     *
+     * @param concurrency expected number of concurrent writers
+     */
+    public LatencyHistogram(int concurrency) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, concurrency));
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        stripe.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Takes a snapshot of the recorded values.
+     * The snapshot is not atomic in respect to
+     * the concurrent recordings.
+     *
+     * @return histogram snapshot
+     */
+    public LatencySnapshot getSnapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return new LatencySnapshot(counts, sum.sum(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.tarantool.metrics;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ */
+public class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long sum, long max) {
+        this.counts = counts;
+        this.sum = sum;
+        this.max = max;
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets a mean of the recorded values.
+     *
+     * @return mean value in nanoseconds or {@literal 0}
+     *         if there are no values
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets a value below which the given percentage
+     * of the recorded values falls.
+     *
+     * @param percentile percentile in range [0, 100]
+     *
+     * @return value in nanoseconds or {@literal 0}
+     *         if there are no values
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in range [0, 100]");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+}
@@ -0,0 +1,205 @@
+package org.tarantool.metrics;
+
+import org.tarantool.Code;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects client metrics.
+ * <p>
+ * All the recording methods are thread-safe and do
+ * not block. Read methods return point-in-time views
+ * which are not atomic in respect to concurrent updates.
+ *
+ * @see TarantoolMetricsExporter
+ */
+public class TarantoolClientMetrics {
+
+    /**
+     * Transport and cluster level counters.
+     */
+    public enum Counter {
+        BUFFERED,
+        RECEIVED,
+        SHARED_WRITES,
+        DIRECT_WRITES,
+        SHARED_PACKET_SIZE_GROWTH,
+        DIRECT_PACKET_SIZE_GROWTH,
+        SHARED_EMPTY_AWAITS,
+        SHARED_EMPTY_AWAIT_TIMEOUTS,
+        SHARED_WRITE_LOCK_TIMEOUTS,
+        DIRECT_WRITE_LOCK_TIMEOUTS,
+        FIRE_AND_FORGET_RECEIVED,
+        FIRE_AND_FORGET_ERRORS,
+        HEDGED_READS,
+        HEDGED_READ_WINS,
+        STANDBY_FAILOVERS,
+        NEAR_CACHE_HITS,
+        NEAR_CACHE_MISSES,
+        NEAR_CACHE_EVICTIONS,
+        COALESCED_READS,
+        ADMISSION_REJECTS,
+        ADMISSION_QUEUED
+    }
+
+    /**
+     * Request lifecycle phases.
+     */
+    public enum Latency {
+        /**
+         * Since an operation is submitted until
+         * it is copied to the outgoing buffer.
+         */
+        ENQUEUE,
+        /**
+         * Since an operation is copied to the outgoing
+         * buffer until its response is read from the
+         * socket, including the wait for the writer
+         * to flush the buffer.
+         */
+        ROUND_TRIP,
+        /**
+         * Time to unpack a response.
+         */
+        DECODE
+    }
+
+    private final long startTime = System.currentTimeMillis();
+
+    private final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+    private final LongAccumulator maxSharedPacketSize = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxDirectPacketSize = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder[] requests = newAdders(Code.values().length);
+    private final LongAdder[] errors = newAdders(Code.values().length);
+    private final ConcurrentMap<Long, LongAdder> serverErrors = new ConcurrentHashMap<>();
+
+    private final Map<Latency, LatencyHistogram> latencies = new EnumMap<>(Latency.class);
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    public TarantoolClientMetrics() {
+        for (Counter counter : Counter.values()) {
+            counters.put(counter, new LongAdder());
+        }
+        // responses are read and decoded by the single reader thread
+        latencies.put(Latency.ENQUEUE, new LatencyHistogram(Runtime.getRuntime().availableProcessors()));
+        latencies.put(Latency.ROUND_TRIP, new LatencyHistogram(1));
+        latencies.put(Latency.DECODE, new LatencyHistogram(1));
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void increment(Counter counter) {
+        counters.get(counter).increment();
+    }
+
+    public long getCount(Counter counter) {
+        return counters.get(counter).sum();
+    }
+
+    public void recordSharedPacketSize(long size) {
+        maxSharedPacketSize.accumulate(size);
+    }
+
+    public long getMaxSharedPacketSize() {
+        return maxSharedPacketSize.get();
+    }
+
+    public void recordDirectPacketSize(long size) {
+        maxDirectPacketSize.accumulate(size);
+    }
+
+    public long getMaxDirectPacketSize() {
+        return maxDirectPacketSize.get();
+    }
+
+    /**
+     * Records a request sent to the server.
+     *
+     * @param code request code
+     */
+    public void recordRequest(Code code) {
+        requests[code.ordinal()].increment();
+    }
+
+    public long getRequestCount(Code code) {
+        return requests[code.ordinal()].sum();
+    }
+
+    /**
+     * Records an error response.
+     *
+     * @param code      request code or {@literal null} if
+     *                  the request is unknown
+     * @param errorCode Tarantool error code
+     */
+    public void recordError(Code code, long errorCode) {
+        if (code != null) {
+            errors[code.ordinal()].increment();
+        }
+        serverErrors.computeIfAbsent(errorCode, key -> new LongAdder()).increment();
+    }
+
+    public long getErrorCount(Code code) {
+        return errors[code.ordinal()].sum();
+    }
+
+    /**
+     * Gets numbers of errors by Tarantool error codes.
+     *
+     * @return error counts
+     */
+    public Map<Long, Long> getServerErrorCounts() {
+        Map<Long, Long> result = new TreeMap<>();
+        serverErrors.forEach((errorCode, count) -> result.put(errorCode, count.sum()));
+        return result;
+    }
+
+    public void recordLatency(Latency latency, long nanos) {
+        latencies.get(latency).record(nanos);
+    }
+
+    public LatencySnapshot getLatency(Latency latency) {
+        return latencies.get(latency).getSnapshot();
+    }
+
+    /**
+     * Registers a gauge.
+     *
+     * @param name  gauge name
+     * @param gauge current value supplier
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Gets current values of the registered gauges.
+     *
+     * @return gauge values by names
+     */
+    public Map<String, Long> getGauges() {
+        Map<String, Long> result = new TreeMap<>();
+        gauges.forEach((name, gauge) -> result.put(name, gauge.getAsLong()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+}
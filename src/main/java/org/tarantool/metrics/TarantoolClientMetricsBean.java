@@ -0,0 +1,32 @@
+package org.tarantool.metrics;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * JMX view of {@link TarantoolClientMetrics}.
+ * <p>
+ * Latency attributes contain {@code count}, {@code mean},
+ * {@code p50}, {@code p90}, {@code p99}, {@code p999} and
+ * {@code max} values in nanoseconds.
+ */
+@MXBean
+public interface TarantoolClientMetricsBean {
+
+    Map<String, Long> getCounters();
+
+    Map<String, Long> getRequests();
+
+    Map<String, Long> getErrors();
+
+    Map<String, Long> getServerErrors();
+
+    Map<String, Long> getGauges();
+
+    Map<String, Long> getEnqueueLatency();
+
+    Map<String, Long> getRoundTripLatency();
+
+    Map<String, Long> getDecodeLatency();
+
+}
@@ -0,0 +1,30 @@
+package org.tarantool.metrics;
+
+/**
+ * Publishes client metrics to a monitoring system.
+ * <p>
+ * An exporter is registered when a client is created
+ * and is unregistered when the client is closed. The
+ * exporter is expected to read the metrics on demand,
+ * i.e. to bind them as gauges and function counters in
+ * terms of Micrometer-like registries.
+ *
+ * @see JmxMetricsExporter
+ */
+public interface TarantoolMetricsExporter {
+
+    /**
+     * Starts publishing the metrics.
+     *
+     * @param metrics client metrics
+     */
+    void register(TarantoolClientMetrics metrics);
+
+    /**
+     * Stops publishing the metrics.
+     *
+     * @param metrics client metrics
+     */
+    void unregister(TarantoolClientMetrics metrics);
+
+}
@@ -75,7 +75,25 @@ public abstract class ProtoUtils {
      */
     public static TarantoolPacket readPacket(ReadableByteChannel bufferReader, MsgPackLite msgPackLite)
         throws CommunicationException, IOException {
+        return decodePacket(readPacketBytes(bufferReader, msgPackLite), msgPackLite);
+    }
 
+    /**
+     * Reads raw bytes of a tarantool's binary protocol packet
+     * without its size prefix.
+     *
+     * @param bufferReader readable channel that have to be in blocking mode
+     *                     or instance of {@link ReadableViaSelectorChannel}
+     * @param msgPackLite MessagePack decoder instance
+     *
+     * @return packet bytes ready to be decoded
+     *
+     * @throws IOException if any IO-error occurred during read from the channel
+     *
+     * @see #decodePacket(ByteBuffer, MsgPackLite)
+     */
+    public static ByteBuffer readPacketBytes(ReadableByteChannel bufferReader, MsgPackLite msgPackLite)
+        throws IOException {
         ByteBuffer buffer = ByteBuffer.allocate(LENGTH_OF_SIZE_MESSAGE);
         bufferReader.read(buffer);
 
@@ -86,8 +104,42 @@ public abstract class ProtoUtils {
         bufferReader.read(buffer);
 
         buffer.flip();
-        ByteBufferBackedInputStream msgBytesStream = new ByteBufferBackedInputStream(buffer);
-        Object unpackedHeaders = msgPackLite.unpack(msgBytesStream);
+        return buffer;
+    }
+
+    /**
+     * Decodes a tarantool's binary protocol packet.
+     *
+     * @param buffer      packet bytes
+     * @param msgPackLite MessagePack decoder instance
+     *
+     * @return tarantool binary protocol message wrapped by instance of {@link TarantoolPacket}
+     *
+     * @throws IOException            if the bytes cannot be unpacked
+     * @throws CommunicationException bytes constitute msg pack message in wrong format
+     */
+    public static TarantoolPacket decodePacket(ByteBuffer buffer, MsgPackLite msgPackLite)
+        throws CommunicationException, IOException {
+        return decodeBody(decodeHeaders(buffer, msgPackLite), buffer, msgPackLite);
+    }
+
+    /**
+     * Decodes the headers of a tarantool's binary protocol packet
+     * leaving the buffer positioned at the packet body.
+     *
+     * @param buffer      packet bytes
+     * @param msgPackLite MessagePack decoder instance
+     *
+     * @return packet headers
+     *
+     * @throws IOException            if the bytes cannot be unpacked
+     * @throws CommunicationException bytes constitute msg pack message in wrong format
+     *
+     * @see #decodeBody(Map, ByteBuffer, MsgPackLite)
+     */
+    public static Map<Integer, Object> decodeHeaders(ByteBuffer buffer, MsgPackLite msgPackLite)
+        throws CommunicationException, IOException {
+        Object unpackedHeaders = msgPackLite.unpack(new ByteBufferBackedInputStream(buffer));
         if (!(unpackedHeaders instanceof Map)) {
             //noinspection ConstantConditions
             throw new CommunicationException(
@@ -97,11 +149,27 @@ public abstract class ProtoUtils {
             );
         }
         //noinspection unchecked (checked above)
-        Map<Integer, Object> headers = (Map<Integer, Object>) unpackedHeaders;
+        return (Map<Integer, Object>) unpackedHeaders;
+    }
 
+    /**
+     * Decodes the body of a tarantool's binary protocol packet
+     * which headers are already decoded.
+     *
+     * @param headers     decoded packet headers
+     * @param buffer      packet bytes positioned at the body
+     * @param msgPackLite MessagePack decoder instance
+     *
+     * @return tarantool binary protocol message wrapped by instance of {@link TarantoolPacket}
+     *
+     * @throws IOException            if the bytes cannot be unpacked
+     * @throws CommunicationException bytes constitute msg pack message in wrong format
+     */
+    public static TarantoolPacket decodeBody(Map<Integer, Object> headers, ByteBuffer buffer, MsgPackLite msgPackLite)
+        throws CommunicationException, IOException {
         Map<Integer, Object> body = null;
-        if (msgBytesStream.hasAvailable()) {
-            Object unpackedBody = msgPackLite.unpack(msgBytesStream);
+        if (buffer.hasRemaining()) {
+            Object unpackedBody = msgPackLite.unpack(new ByteBufferBackedInputStream(buffer));
             if (!(unpackedBody instanceof Map)) {
                 //noinspection ConstantConditions
                 throw new CommunicationException(
@@ -280,6 +348,34 @@ public abstract class ProtoUtils {
                                           Long syncId,
                                           Long schemaId,
                                           Object... args) throws IOException {
+        return createPacket(initialRequestSize, msgPackLite, code, syncId, schemaId, 0L, args);
+    }
+
+    /**
+     * Creates a request packet bound to a stream. The requests
+     * of one stream are executed by the server sequentially
+     * and may share an interactive transaction.
+     *
+     * @param initialRequestSize initial buffer size
+     * @param msgPackLite        packer
+     * @param code               request code
+     * @param syncId             request id
+     * @param schemaId           schema version or {@literal null}
+     * @param streamId           stream id or {@literal 0} if the request
+     *                           is not bound to a stream
+     * @param args               body keys and values
+     *
+     * @return packet ready to be written
+     *
+     * @throws IOException if the packet cannot be packed
+     */
+    public static ByteBuffer createPacket(int initialRequestSize,
+                                          MsgPackLite msgPackLite,
+                                          Code code,
+                                          Long syncId,
+                                          Long schemaId,
+                                          long streamId,
+                                          Object... args) throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream(initialRequestSize);
         bos.write(new byte[5]);
         final DataOutputStream ds = new DataOutputStream(bos);
@@ -290,6 +386,9 @@ public abstract class ProtoUtils {
         if (schemaId != null) {
             header.put(Key.SCHEMA_ID, schemaId);
         }
+        if (streamId != 0) {
+            header.put(Key.STREAM_ID, streamId);
+        }
         if (args != null) {
             for (int i = 0, e = args.length; i < e; i += 2) {
                 Object value = args[i + 1];
@@ -19,7 +19,28 @@ public class ReadableViaSelectorChannel implements ReadableByteChannel {
     private final SocketChannel channel;
     private final Selector selector;
 
+    /**
+     * Bytes read ahead from the channel or {@literal null}
+     * if the reads are not buffered.
+     */
+    private final ByteBuffer readAhead;
+
     public ReadableViaSelectorChannel(SocketChannel channel) throws IOException {
+        this(channel, 0);
+    }
+
+    /**
+     * Creates a channel which reads the bytes ahead, so
+     * that a few small packets are fetched by a single
+     * system call.
+     *
+     * @param channel    non-blocking channel
+     * @param bufferSize size of the read-ahead buffer or
+     *                   {@literal 0} to read the bytes on demand
+     *
+     * @throws IOException if the selector cannot be opened
+     */
+    public ReadableViaSelectorChannel(SocketChannel channel, int bufferSize) throws IOException {
         if (channel.isBlocking()) {
             throw new IllegalArgumentException("Channel have to be non-blocking");
         }
@@ -27,10 +48,39 @@ public class ReadableViaSelectorChannel implements ReadableByteChannel {
         this.channel = channel;
         selector = SelectorProvider.provider().openSelector();
         channel.register(selector, SelectionKey.OP_READ);
+        if (bufferSize > 0) {
+            readAhead = ByteBuffer.allocateDirect(bufferSize);
+            readAhead.flip();
+        } else {
+            readAhead = null;
+        }
     }
 
     @Override
     public int read(ByteBuffer buffer) throws IOException {
+        if (readAhead == null) {
+            return readFully(buffer);
+        }
+        int count = 0;
+        while (buffer.hasRemaining()) {
+            if (readAhead.hasRemaining()) {
+                count += transfer(readAhead, buffer);
+            } else if (buffer.remaining() >= readAhead.capacity()) {
+                // a large packet goes to its buffer directly
+                count += readFully(buffer);
+            } else {
+                readAhead.clear();
+                try {
+                    readSome(readAhead);
+                } finally {
+                    readAhead.flip();
+                }
+            }
+        }
+        return count;
+    }
+
+    private int readFully(ByteBuffer buffer) throws IOException {
         int count;
         int n;
 
@@ -51,6 +101,33 @@ public class ReadableViaSelectorChannel implements ReadableByteChannel {
         return count;
     }
 
+    /**
+     * Reads at least one byte.
+     */
+    private void readSome(ByteBuffer buffer) throws IOException {
+        int n = channel.read(buffer);
+        while (n == 0) {
+            selector.select();
+            n = channel.read(buffer);
+        }
+        if (n < 0) {
+            throw new CommunicationException("Channel read failed: " + formatReadBytes(n));
+        }
+    }
+
+    private static int transfer(ByteBuffer source, ByteBuffer target) {
+        int count = Math.min(source.remaining(), target.remaining());
+        if (count == source.remaining()) {
+            target.put(source);
+        } else {
+            ByteBuffer slice = source.slice();
+            slice.limit(count);
+            target.put(slice);
+            source.position(source.position() + count);
+        }
+        return count;
+    }
+
     @Override
     public boolean isOpen() {
         return channel.isOpen();
@@ -1,5 +1,6 @@
 package org.tarantool.protocol;
 
+import org.tarantool.Code;
 import org.tarantool.Key;
 
 import java.util.Map;
@@ -34,6 +35,29 @@ public class TarantoolPacket {
         return code == 0 ? code : ProtoUtils.extractErrorCode(code);
     }
 
+    /**
+     * Checks whether the packet is a server event
+     * instead of a response to a request.
+     *
+     * @return {@literal true} if the packet is an event
+     */
+    public boolean isEvent() {
+        return isEvent(headers);
+    }
+
+    /**
+     * Checks whether the packet headers belong to a server
+     * event, so the body can be decoded accordingly.
+     *
+     * @param headers decoded packet headers
+     *
+     * @return {@literal true} if the packet is an event
+     */
+    public static boolean isEvent(Map<Integer, Object> headers) {
+        Object code = headers.get(Key.CODE.getId());
+        return code instanceof Long && (Long) code == Code.EVENT.getId();
+    }
+
     public Long getSync() {
         return (Long) getHeaders().get(Key.SYNC.getId());
     }
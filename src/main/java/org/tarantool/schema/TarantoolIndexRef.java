@@ -0,0 +1,74 @@
+package org.tarantool.schema;
+
+import org.tarantool.TarantoolRequestArgument;
+
+import java.util.Objects;
+
+/**
+ * Handle of a space index that is referenced by its name.
+ * <p>
+ * Works in the same way as {@link TarantoolSpaceRef} does.
+ *
+ * @see TarantoolSpaceRef#index(String)
+ */
+public class TarantoolIndexRef implements TarantoolRequestArgument {
+
+    private final TarantoolSpaceRef space;
+    private final String name;
+
+    private volatile TarantoolSpaceRef.ResolvedId resolvedId;
+
+    public TarantoolIndexRef(TarantoolSpaceRef space, String name) {
+        this.space = Objects.requireNonNull(space);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    public TarantoolSpaceRef getSpace() {
+        return space;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the index ID according to the current schema.
+     *
+     * @return index ID
+     *
+     * @throws TarantoolSpaceNotFoundException if the space is not found
+     * @throws TarantoolIndexNotFoundException if the index is not found
+     */
+    public int getId() {
+        TarantoolSchemaMeta schemaMeta = space.getSchemaMeta();
+        long schemaVersion = schemaMeta.getSchemaVersion();
+        TarantoolSpaceRef.ResolvedId resolved = resolvedId;
+        if (resolved == null || resolved.schemaVersion != schemaVersion) {
+            int id = schemaMeta.getCachedSpaceIndex(space.getName(), name).getId();
+            resolved = new TarantoolSpaceRef.ResolvedId(schemaVersion, id);
+            resolvedId = resolved;
+        }
+        return resolved.id;
+    }
+
+    @Override
+    public boolean isSerializable() {
+        try {
+            getId();
+        } catch (TarantoolSchemaException ignored) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object getValue() {
+        return getId();
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolIndexRef{space='" + space.getName() + "', name='" + name + "'}";
+    }
+
+}
@@ -1,15 +1,23 @@
 package org.tarantool.schema;
 
+import org.tarantool.CommunicationException;
 import org.tarantool.Iterator;
 import org.tarantool.TarantoolClientImpl;
 import org.tarantool.TarantoolClientOps;
+import org.tarantool.jfr.TarantoolFlightRecorder;
 import org.tarantool.util.TupleTwo;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -17,12 +25,29 @@ import java.util.stream.Collectors;
  * <p>
  * Caches meta spaces {@code _vspace} and {@code _vindex}.
  * <p>
+ * The first {@link #refresh()} fetches the whole schema.
+ * Further {@link #refreshIncrementally()} calls fetch only
+ * the schema version and the names which were not found in
+ * the cache. Each cached space remembers the schema version
+ * it was fetched at. The spaces which have not been used
+ * since the previous refresh are evicted, the used ones are
+ * kept but are not given out to resolve the requests until
+ * they are checked again by id. So only the spaces that are
+ * actually accessed after a schema change are fetched, by
+ * {@link #fetchSpace(String)} or, for the requests being
+ * sent, by {@link #loadMissing()}.
+ * <p>
+ * The point selects of a fetch are pipelined, so the fetch
+ * takes one round trip per lookup step rather than two round
+ * trips per space.
+ * <p>
  * This class is not a part of public API.
  */
 public class TarantoolMetaSpacesCache implements TarantoolSchemaMeta {
 
     private static final int VSPACE_ID = 281;
     private static final int VSPACE_ID_INDEX_ID = 0;
+    private static final int VSPACE_NAME_INDEX_ID = 2;
 
     private static final int VINDEX_ID = 289;
     private static final int VINDEX_ID_INDEX_ID = 0;
@@ -35,26 +60,118 @@ public class TarantoolMetaSpacesCache implements TarantoolSchemaMeta {
 
     private TarantoolClientImpl client;
 
-    private volatile Map<String, TarantoolSpaceMeta> cachedSpaces = Collections.emptyMap();
+    private volatile Map<String, CachedSpace> cachedSpaces = Collections.emptyMap();
     private volatile long schemaVersion;
 
+    /**
+     * Names of the spaces which were requested by the
+     * requests being sent but not found in the cache.
+     * They are removed by the next {@link #loadMissing()}
+     * or {@link #refreshIncrementally()}.
+     */
+    private final Set<String> missingSpaces = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Ids of the cached spaces which were requested
+     * for indexes not found in the cache.
+     */
+    private final Set<Integer> staleSpaces = ConcurrentHashMap.newKeySet();
+
     public TarantoolMetaSpacesCache(TarantoolClientImpl client) {
         this.client = client;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The space may be cached at the previous schema version.
+     * A space which is not cached is fetched by the next
+     * refresh.
+     */
     @Override
     public TarantoolSpaceMeta getSpace(String spaceName) {
-        TarantoolSpaceMeta space = cachedSpaces.get(spaceName);
+        CachedSpace space = cachedSpaces.get(spaceName);
         if (space == null) {
+            missingSpaces.add(spaceName);
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
-        return space;
+        space.markUsed();
+        return space.getMeta();
     }
 
     @Override
     public TarantoolIndexMeta getSpaceIndex(String spaceName, String indexName) {
-        TarantoolIndexMeta index = getSpace(spaceName).getIndex(indexName);
+        TarantoolSpaceMeta space = getSpace(spaceName);
+        TarantoolIndexMeta index = space.getIndex(indexName);
         if (index == null) {
+            staleSpaces.add(space.getId());
+            throw new TarantoolIndexNotFoundException(spaceName, indexName);
+        }
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A space which is not cached or is cached at the
+     * previous schema version is fetched from the server.
+     */
+    @Override
+    public TarantoolSpaceMeta fetchSpace(String spaceName) {
+        CachedSpace space = cachedSpaces.get(spaceName);
+        if (space != null && space.getVersion() == schemaVersion) {
+            space.markUsed();
+            return space.getMeta();
+        }
+        TarantoolSpaceMeta fetched = load(Collections.emptySet(), Collections.singleton(spaceName));
+        if (fetched == null) {
+            throw new TarantoolSpaceNotFoundException(spaceName);
+        }
+        return fetched;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A space which does not have the index cached
+     * is fetched from the server again.
+     */
+    @Override
+    public TarantoolIndexMeta fetchSpaceIndex(String spaceName, String indexName) {
+        TarantoolSpaceMeta space = fetchSpace(spaceName);
+        TarantoolIndexMeta index = space.getIndex(indexName);
+        if (index == null) {
+            TarantoolSpaceMeta fetched = load(Collections.singleton(space.getId()), Collections.emptySet());
+            index = fetched == null ? null : fetched.getIndex(indexName);
+        }
+        if (index == null) {
+            throw new TarantoolIndexNotFoundException(spaceName, indexName);
+        }
+        return index;
+    }
+
+    @Override
+    public TarantoolSpaceMeta getCachedSpace(String spaceName) {
+        CachedSpace space = cachedSpaces.get(spaceName);
+        if (space == null) {
+            missingSpaces.add(spaceName);
+            throw new TarantoolSpaceNotFoundException(spaceName);
+        }
+        if (space.getVersion() != schemaVersion) {
+            // the space has to be checked against the actual schema
+            staleSpaces.add(space.getMeta().getId());
+            throw new TarantoolSpaceNotFoundException(spaceName);
+        }
+        space.markUsed();
+        return space.getMeta();
+    }
+
+    @Override
+    public TarantoolIndexMeta getCachedSpaceIndex(String spaceName, String indexName) {
+        TarantoolSpaceMeta space = getCachedSpace(spaceName);
+        TarantoolIndexMeta index = space.getIndex(indexName);
+        if (index == null) {
+            staleSpaces.add(space.getId());
             throw new TarantoolIndexNotFoundException(spaceName, indexName);
         }
         return index;
@@ -67,18 +184,116 @@ public class TarantoolMetaSpacesCache implements TarantoolSchemaMeta {
 
     @Override
     public synchronized long refresh() {
+        Object event = TarantoolFlightRecorder.beginSchemaRefresh();
         TupleTwo<List<TarantoolSpaceMeta>, Long> result = fetchSpaces();
-        cachedSpaces = result.getFirst()
-            .stream()
-            .collect(
-                Collectors.toConcurrentMap(
-                    TarantoolSpaceMeta::getName,
-                    Function.identity(),
-                    (oldValue, newValue) -> newValue,
-                    ConcurrentHashMap::new
-                )
-            );
-        return schemaVersion = result.getSecond();
+        cachedSpaces = toCache(result.getFirst(), result.getSecond());
+        schemaVersion = result.getSecond();
+        TarantoolFlightRecorder.endSchemaRefresh(event, "full", result.getFirst().size(), schemaVersion);
+        return schemaVersion;
+    }
+
+    @Override
+    public synchronized long refreshIncrementally() {
+        if (!isInitialized()) {
+            return refresh();
+        }
+        final Object event = TarantoolFlightRecorder.beginSchemaRefresh();
+        Set<String> requestedNames = new HashSet<>(missingSpaces);
+        Set<Integer> requestedIds = new HashSet<>(staleSpaces);
+        Set<String> spaceNames = new HashSet<>(requestedNames);
+        spaceNames.addAll(getNames(cachedSpaces, requestedIds));
+
+        TupleTwo<List<TarantoolSpaceMeta>, Long> result = fetchSpaces(requestedIds, spaceNames);
+        Map<String, CachedSpace> updatedSpaces = new HashMap<>();
+        for (CachedSpace space : cachedSpaces.values()) {
+            int spaceId = space.getMeta().getId();
+            if (space.isUsed() && !requestedIds.contains(spaceId)) {
+                // keep the version the space was fetched at
+                updatedSpaces.put(space.getMeta().getName(), new CachedSpace(space.getMeta(), space.getVersion()));
+            }
+        }
+        merge(updatedSpaces, result.getFirst(), result.getSecond());
+        cachedSpaces = updatedSpaces;
+        missingSpaces.removeAll(requestedNames);
+        staleSpaces.removeAll(requestedIds);
+        schemaVersion = result.getSecond();
+        TarantoolFlightRecorder.endSchemaRefresh(event, "incremental", result.getFirst().size(), schemaVersion);
+        return schemaVersion;
+    }
+
+    @Override
+    public synchronized long loadMissing() {
+        Map<String, CachedSpace> spaces = cachedSpaces;
+        Set<String> requestedNames = new HashSet<>(missingSpaces);
+        Set<Integer> spaceIds = new HashSet<>(staleSpaces);
+        Set<String> spaceNames = requestedNames.stream()
+            .filter(name -> !spaces.containsKey(name))
+            .collect(Collectors.toSet());
+        if (spaceNames.isEmpty() && spaceIds.isEmpty()) {
+            missingSpaces.removeAll(requestedNames);
+            return schemaVersion;
+        }
+        // the name of a stale space may refer to another space now
+        spaceNames.addAll(getNames(spaces, spaceIds));
+
+        Object event = TarantoolFlightRecorder.beginSchemaRefresh();
+        TupleTwo<List<TarantoolSpaceMeta>, Long> result = fetchSpaces(spaceIds, spaceNames);
+        TarantoolFlightRecorder.endSchemaRefresh(event, "missing", result.getFirst().size(), result.getSecond());
+        if (result.getSecond() != schemaVersion) {
+            // keep the requests for the coming refresh
+            return result.getSecond();
+        }
+        Map<String, CachedSpace> updatedSpaces = new HashMap<>(spaces);
+        updatedSpaces.values().removeIf(space -> spaceIds.contains(space.getMeta().getId()));
+        merge(updatedSpaces, result.getFirst(), schemaVersion);
+        cachedSpaces = updatedSpaces;
+        missingSpaces.removeAll(requestedNames);
+        staleSpaces.removeAll(spaceIds);
+        return schemaVersion;
+    }
+
+    /**
+     * Fetches a single space and caches it if the
+     * schema version has not been changed.
+     *
+     * @return fetched space or {@literal null} if it is not found
+     */
+    private TarantoolSpaceMeta load(Set<Integer> spaceIds, Set<String> spaceNames) {
+        TupleTwo<List<TarantoolSpaceMeta>, Long> result = fetchSpaces(spaceIds, spaceNames);
+        if (result.getFirst().isEmpty()) {
+            return null;
+        }
+        TarantoolSpaceMeta space = result.getFirst().get(0);
+        synchronized (this) {
+            if (result.getSecond() == schemaVersion) {
+                Map<String, CachedSpace> updatedSpaces = new HashMap<>(cachedSpaces);
+                merge(updatedSpaces, Collections.singletonList(space), schemaVersion);
+                updatedSpaces.get(space.getName()).markUsed();
+                cachedSpaces = updatedSpaces;
+            }
+        }
+        return space;
+    }
+
+    private static Set<String> getNames(Map<String, CachedSpace> spaces, Set<Integer> spaceIds) {
+        return spaces.values().stream()
+            .filter(space -> spaceIds.contains(space.getMeta().getId()))
+            .map(space -> space.getMeta().getName())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Puts the fetched spaces replacing the cached
+     * ones with the same ids.
+     */
+    private static void merge(Map<String, CachedSpace> spaces, List<TarantoolSpaceMeta> fetched, long version) {
+        Set<Integer> fetchedIds = fetched.stream()
+            .map(TarantoolSpaceMeta::getId)
+            .collect(Collectors.toSet());
+        spaces.values().removeIf(space -> fetchedIds.contains(space.getMeta().getId()));
+        for (TarantoolSpaceMeta space : fetched) {
+            spaces.put(space.getName(), new CachedSpace(space, version));
+        }
     }
 
     @Override
@@ -86,23 +301,32 @@ public class TarantoolMetaSpacesCache implements TarantoolSchemaMeta {
         return schemaVersion != 0;
     }
 
+    private Map<String, CachedSpace> toCache(List<TarantoolSpaceMeta> spaces, long version) {
+        return spaces.stream()
+            .collect(
+                Collectors.toMap(
+                    TarantoolSpaceMeta::getName,
+                    space -> new CachedSpace(space, version),
+                    (oldValue, newValue) -> newValue,
+                    HashMap::new
+                )
+            );
+    }
+
     private TupleTwo<List<TarantoolSpaceMeta>, Long> fetchSpaces() {
-        TarantoolClientOps<Integer, List<?>, Object, TupleTwo<List<?>, Long>> clientOps = client.unsafeSchemaOps();
-
-        long firstRequestSchema = -1;
-        long secondRequestSchema = 0;
-        List<?> spaces = null;
-        List<?> indexes = null;
-        while (firstRequestSchema != secondRequestSchema) {
-            TupleTwo<List<?>, Long> spacesResult = clientOps
-                .select(VSPACE_ID, VSPACE_ID_INDEX_ID, Collections.emptyList(), 0, Integer.MAX_VALUE, Iterator.ALL);
-            TupleTwo<List<?>, Long> indexesResult = clientOps
-                .select(VINDEX_ID, VINDEX_ID_INDEX_ID, Collections.emptyList(), 0, Integer.MAX_VALUE, Iterator.ALL);
-            spaces = spacesResult.getFirst();
-            indexes = indexesResult.getFirst();
-            firstRequestSchema = spacesResult.getSecond();
-            secondRequestSchema = indexesResult.getSecond();
-        }
+        List<?> spaces;
+        List<?> indexes;
+        ConsistentSelector selector;
+        do {
+            selector = new ConsistentSelector(client.unsafeSchemaAsyncOps());
+            List<?> all = Collections.emptyList();
+            CompletableFuture<List<?>> spacesResult =
+                selector.select(VSPACE_ID, VSPACE_ID_INDEX_ID, all, Integer.MAX_VALUE, Iterator.ALL);
+            CompletableFuture<List<?>> indexesResult =
+                selector.select(VINDEX_ID, VINDEX_ID_INDEX_ID, all, Integer.MAX_VALUE, Iterator.ALL);
+            spaces = await(spacesResult);
+            indexes = await(indexesResult);
+        } while (!selector.isConsistent());
 
         Map<Integer, List<List<?>>> indexesBySpace = indexes.stream()
             .map(tuple -> (List<?>) tuple)
@@ -116,7 +340,165 @@ public class TarantoolMetaSpacesCache implements TarantoolSchemaMeta {
             )
             .collect(Collectors.toList());
 
-        return TupleTwo.of(cachedMeta, firstRequestSchema);
+        return TupleTwo.of(cachedMeta, selector.getSchemaVersion());
+    }
+
+    /**
+     * Fetches the requested spaces using point selects.
+     * The selects of the spaces and then the selects of
+     * their indexes are sent at once. They are repeated
+     * until all of them are executed against the same
+     * schema version.
+     *
+     * @param spaceIds   ids of spaces to be fetched
+     * @param spaceNames names of spaces to be fetched
+     *
+     * @return found spaces and their schema version
+     */
+    private TupleTwo<List<TarantoolSpaceMeta>, Long> fetchSpaces(Set<Integer> spaceIds, Set<String> spaceNames) {
+        while (true) {
+            ConsistentSelector selector = new ConsistentSelector(client.unsafeSchemaAsyncOps());
+            List<CompletableFuture<List<?>>> spacesResults = new ArrayList<>();
+            Map<Integer, CompletableFuture<List<?>>> indexesResults = new HashMap<>();
+            if (spaceIds.isEmpty() && spaceNames.isEmpty()) {
+                // nothing to fetch but the actual schema version
+                List<?> all = Collections.emptyList();
+                spacesResults.add(selector.select(VSPACE_ID, VSPACE_ID_INDEX_ID, all, 0, Iterator.ALL));
+            }
+            for (Integer spaceId : spaceIds) {
+                List<?> key = Collections.singletonList(spaceId);
+                spacesResults.add(selector.select(VSPACE_ID, VSPACE_ID_INDEX_ID, key, 1, Iterator.EQ));
+                indexesResults.put(
+                    spaceId,
+                    selector.select(VINDEX_ID, VINDEX_ID_INDEX_ID, key, MAX_TUPLES, Iterator.EQ)
+                );
+            }
+            for (String spaceName : spaceNames) {
+                List<?> key = Collections.singletonList(spaceName);
+                spacesResults.add(selector.select(VSPACE_ID, VSPACE_NAME_INDEX_ID, key, 1, Iterator.EQ));
+            }
+
+            Map<Integer, List<?>> spaces = new LinkedHashMap<>();
+            for (CompletableFuture<List<?>> spacesResult : spacesResults) {
+                for (Object tuple : await(spacesResult)) {
+                    spaces.put((Integer) ((List<?>) tuple).get(0), (List<?>) tuple);
+                }
+            }
+            // the ids of the spaces requested by name are known now
+            for (Integer spaceId : spaces.keySet()) {
+                indexesResults.computeIfAbsent(
+                    spaceId,
+                    id -> selector.select(VINDEX_ID, VINDEX_ID_INDEX_ID, Collections.singletonList(id), MAX_TUPLES,
+                        Iterator.EQ)
+                );
+            }
+
+            List<TarantoolSpaceMeta> fetchedMeta = new ArrayList<>(spaces.size());
+            for (Map.Entry<Integer, List<?>> space : spaces.entrySet()) {
+                List<List<?>> indexes = await(indexesResults.get(space.getKey()))
+                    .stream()
+                    .map(tuple -> (List<?>) tuple)
+                    .collect(Collectors.toList());
+                fetchedMeta.add(TarantoolSpaceMeta.fromTuple(space.getValue(), indexes));
+            }
+            // wait for the indexes of the absent spaces too
+            indexesResults.values().forEach(TarantoolMetaSpacesCache::await);
+
+            if (selector.isConsistent()) {
+                return TupleTwo.of(fetchedMeta, selector.getSchemaVersion());
+            }
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Schema fetch is interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CommunicationException("Schema fetch failed", e.getCause());
+        }
+    }
+
+    /**
+     * Cache entry which tracks the schema version the
+     * space was fetched at and whether the space is used
+     * since the previous refresh.
+     */
+    private static class CachedSpace {
+
+        private final TarantoolSpaceMeta meta;
+        private final long version;
+        private volatile boolean used;
+
+        CachedSpace(TarantoolSpaceMeta meta, long version) {
+            this.meta = meta;
+            this.version = version;
+        }
+
+        TarantoolSpaceMeta getMeta() {
+            return meta;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        boolean isUsed() {
+            return used;
+        }
+
+        void markUsed() {
+            if (!used) {
+                used = true;
+            }
+        }
+
+    }
+
+    /**
+     * Performs selects and checks whether all of them
+     * are executed against the same schema version.
+     */
+    private static class ConsistentSelector {
+
+        private final TarantoolClientOps<Integer, List<?>, Object, CompletableFuture<TupleTwo<List<?>, Long>>>
+            clientOps;
+        private long schemaVersion = -1;
+        private boolean consistent = true;
+
+        ConsistentSelector(
+            TarantoolClientOps<Integer, List<?>, Object, CompletableFuture<TupleTwo<List<?>, Long>>> clientOps) {
+            this.clientOps = clientOps;
+        }
+
+        CompletableFuture<List<?>> select(int spaceId, int indexId, List<?> key, int limit, Iterator iterator) {
+            return clientOps.select(spaceId, indexId, key, 0, limit, iterator)
+                .thenApply(result -> {
+                    check(result.getSecond());
+                    return result.getFirst();
+                });
+        }
+
+        private synchronized void check(long resultSchemaVersion) {
+            if (schemaVersion != -1 && schemaVersion != resultSchemaVersion) {
+                consistent = false;
+            }
+            schemaVersion = resultSchemaVersion;
+        }
+
+        synchronized long getSchemaVersion() {
+            return schemaVersion;
+        }
+
+        synchronized boolean isConsistent() {
+            return consistent;
+        }
+
     }
 
 }
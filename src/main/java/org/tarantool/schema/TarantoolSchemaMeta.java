@@ -7,23 +7,98 @@ public interface TarantoolSchemaMeta {
 
     /**
      * Finds a space by name if any.
+     * <p>
+     * This method never fetches the schema and can be
+     * called from any thread.
      *
      * @param spaceName name of target space
      *
      * @return found space
+     *
+     * @see #fetchSpace(String)
      */
     TarantoolSpaceMeta getSpace(String spaceName);
 
     /**
      * Finds a space index by name if any.
+     * <p>
+     * This method never fetches the schema and can be
+     * called from any thread.
      *
      * @param spaceName name of target space
      * @param indexName name of target index
      *
      * @return found index meta
+     *
+     * @see #fetchSpaceIndex(String, String)
      */
     TarantoolIndexMeta getSpaceIndex(String spaceName, String indexName);
 
+    /**
+     * Finds a space by name and fetches it from the server
+     * if it is not cached. The method blocks until the space
+     * is fetched, so it must not be called from the client
+     * callbacks.
+     * <p>
+     * Calls {@link #getSpace(String)} by default.
+     *
+     * @param spaceName name of target space
+     *
+     * @return found space
+     */
+    default TarantoolSpaceMeta fetchSpace(String spaceName) {
+        return getSpace(spaceName);
+    }
+
+    /**
+     * Finds a space index by name and fetches the space
+     * from the server if the index is not cached.
+     * <p>
+     * Calls {@link #getSpaceIndex(String, String)} by default.
+     *
+     * @param spaceName name of target space
+     * @param indexName name of target index
+     *
+     * @return found index meta
+     *
+     * @see #fetchSpace(String)
+     */
+    default TarantoolIndexMeta fetchSpaceIndex(String spaceName, String indexName) {
+        return getSpaceIndex(spaceName, indexName);
+    }
+
+    /**
+     * Finds a space by name among the cached ones which are
+     * known to be actual for the current schema version, so
+     * it can be used to resolve the names of the requests
+     * being sent.
+     * <p>
+     * Calls {@link #getSpace(String)} by default.
+     *
+     * @param spaceName name of target space
+     *
+     * @return found space
+     */
+    default TarantoolSpaceMeta getCachedSpace(String spaceName) {
+        return getSpace(spaceName);
+    }
+
+    /**
+     * Finds a space index by name among the cached ones.
+     * <p>
+     * Calls {@link #getSpaceIndex(String, String)} by default.
+     *
+     * @param spaceName name of target space
+     * @param indexName name of target index
+     *
+     * @return found index meta
+     *
+     * @see #getCachedSpace(String)
+     */
+    default TarantoolIndexMeta getCachedSpaceIndex(String spaceName, String indexName) {
+        return getSpaceIndex(spaceName, indexName);
+    }
+
     /**
      * Gets current schema version that is cached.
      *
@@ -38,6 +113,35 @@ public interface TarantoolSchemaMeta {
      */
     long refresh();
 
+    /**
+     * Fetches the actual schema version and schema metadata
+     * of the spaces that have been requested but not found.
+     * The cached spaces may be evicted or kept until they are
+     * checked again on demand by {@link #fetchSpace(String)}
+     * or {@link #loadMissing()}.
+     * <p>
+     * Performs the full {@link #refresh()} by default.
+     *
+     * @return fetched schema metadata version
+     */
+    default long refreshIncrementally() {
+        return refresh();
+    }
+
+    /**
+     * Fetches schema metadata of the spaces and indexes
+     * that have been requested but not found. The cache
+     * is left untouched if the fetched schema version
+     * differs from the cached one.
+     * <p>
+     * Performs the full {@link #refresh()} by default.
+     *
+     * @return fetched schema metadata version
+     */
+    default long loadMissing() {
+        return refresh();
+    }
+
     /**
      * Checks whether a schema fully cached or not.
      *
@@ -0,0 +1,104 @@
+package org.tarantool.schema;
+
+import org.tarantool.TarantoolRequestArgument;
+
+import java.util.Objects;
+
+/**
+ * Handle of a space that is referenced by its name.
+ * <p>
+ * The handle keeps the resolved space ID along with the schema
+ * version it was resolved against and looks the name up again
+ * only when the cached schema version changes. Thus, the handle
+ * can be used as a request argument to avoid name lookups per
+ * request.
+ * <p>
+ * The handle is bound to the schema of the client which created
+ * it and should be used with operations of the same client only.
+ *
+ * @see org.tarantool.TarantoolClient#space(String)
+ */
+public class TarantoolSpaceRef implements TarantoolRequestArgument {
+
+    private final TarantoolSchemaMeta schemaMeta;
+    private final String name;
+
+    private volatile ResolvedId resolvedId;
+
+    public TarantoolSpaceRef(TarantoolSchemaMeta schemaMeta, String name) {
+        this.schemaMeta = Objects.requireNonNull(schemaMeta);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    TarantoolSchemaMeta getSchemaMeta() {
+        return schemaMeta;
+    }
+
+    /**
+     * Gets a handle of the space index.
+     *
+     * @param indexName name of target index
+     *
+     * @return index handle
+     */
+    public TarantoolIndexRef index(String indexName) {
+        return new TarantoolIndexRef(this, indexName);
+    }
+
+    /**
+     * Gets the space ID according to the current schema.
+     *
+     * @return space ID
+     *
+     * @throws TarantoolSpaceNotFoundException if the space is not found
+     */
+    public int getId() {
+        long schemaVersion = schemaMeta.getSchemaVersion();
+        ResolvedId resolved = resolvedId;
+        if (resolved == null || resolved.schemaVersion != schemaVersion) {
+            resolved = new ResolvedId(schemaVersion, schemaMeta.getCachedSpace(name).getId());
+            resolvedId = resolved;
+        }
+        return resolved.id;
+    }
+
+    @Override
+    public boolean isSerializable() {
+        try {
+            getId();
+        } catch (TarantoolSchemaException ignored) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object getValue() {
+        return getId();
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolSpaceRef{name='" + name + "'}";
+    }
+
+    /**
+     * Resolved ID tagged by a schema version.
+     */
+    static final class ResolvedId {
+
+        final long schemaVersion;
+        final int id;
+
+        ResolvedId(long schemaVersion, int id) {
+            this.schemaVersion = schemaVersion;
+            this.id = id;
+        }
+
+    }
+
+}
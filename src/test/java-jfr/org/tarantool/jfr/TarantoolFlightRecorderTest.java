@@ -0,0 +1,57 @@
+package org.tarantool.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.tarantool.Code;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@DisplayName("A flight recorder")
+public class TarantoolFlightRecorderTest {
+
+    @Test
+    @DisplayName("emitted events only while recording")
+    public void testEvents() throws Exception {
+        assumeTrue(TarantoolFlightRecorder.isAvailable());
+        assertNull(TarantoolFlightRecorder.beginRequestSubmit());
+
+        Path file = Files.createTempFile("tarantool", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.tarantool.RequestSubmit");
+            recording.enable("org.tarantool.SocketWrite");
+            recording.start();
+
+            Object submitEvent = TarantoolFlightRecorder.beginRequestSubmit();
+            TarantoolFlightRecorder.endRequestSubmit(submitEvent, Code.SELECT, 42, false);
+            Object writeEvent = TarantoolFlightRecorder.beginSocketWrite();
+            TarantoolFlightRecorder.endSocketWrite(writeEvent, 128, 3);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        assertNull(TarantoolFlightRecorder.beginRequestSubmit());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("org.tarantool."))
+            .collect(Collectors.toList());
+        Files.delete(file);
+
+        assertEquals(2, events.size());
+        assertEquals("SELECT", events.get(0).getString("code"));
+        assertEquals(42, events.get(0).getLong("syncId"));
+        assertEquals(128, events.get(1).getInt("bytes"));
+        assertEquals(3, events.get(1).getInt("requests"));
+    }
+
+}
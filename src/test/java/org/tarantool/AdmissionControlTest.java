@@ -0,0 +1,136 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("An admission control")
+public class AdmissionControlTest {
+
+    private FakeTarantoolServer server;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        server.createSpace("users", "id", "name").insert(Arrays.asList(1, "alice"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        server.close();
+    }
+
+    @Test
+    @DisplayName("rejected the requests over the limit")
+    public void testReject() {
+        client = makeClient(AdmissionMode.REJECT, 2);
+        server.setLatency(200, 0, TimeUnit.MILLISECONDS);
+        final CompletionStage<List<?>> first = selectUser();
+        final CompletionStage<List<?>> second = selectUser();
+        assertThrows(RejectedExecutionException.class, this::selectUser);
+        assertEquals(1, client.getMetrics().getCount(Counter.ADMISSION_REJECTS));
+
+        first.toCompletableFuture().join();
+        second.toCompletableFuture().join();
+        assertEquals(Collections.singletonList(Arrays.asList(1, "alice")), selectUser().toCompletableFuture().join());
+    }
+
+    @Test
+    @DisplayName("waited for the completion of the requests in flight")
+    public void testWait() {
+        client = makeClient(AdmissionMode.WAIT, 1);
+        client.config.admissionWaitMillis = 50;
+        server.setLatency(300, 0, TimeUnit.MILLISECONDS);
+        CompletionStage<List<?>> first = selectUser();
+        assertThrows(RejectedExecutionException.class, this::selectUser);
+
+        client.config.admissionWaitMillis = 1000;
+        CompletionStage<List<?>> second = selectUser();
+        assertTrue(first.toCompletableFuture().isDone());
+        second.toCompletableFuture().join();
+    }
+
+    @Test
+    @DisplayName("queued the requests over the limit")
+    public void testQueue() {
+        client = makeClient(AdmissionMode.QUEUE, 2);
+        server.setLatency(20, 0, TimeUnit.MILLISECONDS);
+        final long selects = server.getRequestCount(Code.SELECT);
+        List<CompletionStage<List<?>>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(selectUser());
+        }
+        assertTrue(server.getRequestCount(Code.SELECT) - selects <= 2);
+        for (CompletionStage<List<?>> result : results) {
+            assertEquals(
+                Collections.singletonList(Arrays.asList(1, "alice")),
+                result.toCompletableFuture().join()
+            );
+        }
+        assertEquals(selects + 10, server.getRequestCount(Code.SELECT));
+        assertEquals(8, client.getMetrics().getCount(Counter.ADMISSION_QUEUED));
+    }
+
+    @Test
+    @DisplayName("decreased the adaptive limit when the requests were slow")
+    public void testAdaptiveLimit() {
+        AdmissionControl admission = new AdmissionControl(100, 0, true, 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(admission.tryAcquire(0));
+            admission.release(0, TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        assertEquals(34, admission.getLimit());
+
+        admission = new AdmissionControl(100, 0, true, 1000);
+        admission.tryAcquire(0);
+        admission.release(0, TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertEquals(100, admission.getLimit());
+    }
+
+    @Test
+    @DisplayName("admitted a request bigger than the bytes limit alone")
+    public void testBytesLimit() {
+        AdmissionControl admission = new AdmissionControl(0, 100, false, 0);
+        assertTrue(admission.tryAcquire(500));
+        assertFalse(admission.tryAcquire(1));
+        assertTrue(admission.enqueue(50, () -> { }));
+        assertEquals(1, admission.release(500, 0, false).size());
+        assertFalse(admission.tryAcquire(60));
+        assertTrue(admission.tryAcquire(50));
+    }
+
+    private TarantoolClientImpl makeClient(AdmissionMode mode, int maxInFlightRequests) {
+        return makeFakeServerClient(server, config -> {
+            config.maxInFlightRequests = maxInFlightRequests;
+            config.admissionMode = mode;
+        });
+    }
+
+    private CompletionStage<List<?>> selectUser() {
+        return client.composableAsyncOps()
+            .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+    }
+
+}
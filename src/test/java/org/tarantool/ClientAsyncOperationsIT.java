@@ -8,7 +8,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tarantool.TestAssertions.checkRawTupleResult;
 
 import org.tarantool.schema.TarantoolIndexNotFoundException;
+import org.tarantool.schema.TarantoolIndexRef;
 import org.tarantool.schema.TarantoolSpaceNotFoundException;
+import org.tarantool.schema.TarantoolSpaceRef;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -228,6 +230,25 @@ class ClientAsyncOperationsIT {
         provider.close();
     }
 
+    @ParameterizedTest
+    @MethodSource("getAsyncOps")
+    void testSpaceRefOperations(AsyncOpsProvider provider)
+        throws ExecutionException, InterruptedException, TimeoutException {
+        TarantoolSpaceRef space = provider.getClient().space("basic_test");
+        TarantoolIndexRef primary = space.index("pk");
+
+        provider.getAsyncOps().insert(space, Arrays.asList(1, "one")).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        Future<List<?>> result = provider.getAsyncOps()
+            .select(primary, Collections.singletonList(1), 0, 1, Iterator.EQ);
+
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "one")),
+            result.get(TIMEOUT, TimeUnit.MILLISECONDS)
+        );
+
+        provider.close();
+    }
+
     @ParameterizedTest
     @MethodSource("getAsyncOps")
     void testStringInsert(AsyncOpsProvider provider) throws ExecutionException, InterruptedException, TimeoutException {
@@ -519,6 +540,16 @@ class ClientAsyncOperationsIT {
             return originOps.select(space, index, key, offset, limit, iterator).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> select(TarantoolIndexRef index, List<?> key, int offset, int limit, int iterator) {
+            return originOps.select(index, key, offset, limit, iterator).toCompletableFuture();
+        }
+
+        @Override
+        public Future<List<?>> select(TarantoolIndexRef index, List<?> key, int offset, int limit, Iterator iterator) {
+            return originOps.select(index, key, offset, limit, iterator).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> insert(Integer space, List<?> tuple) {
             return originOps.insert(space, tuple).toCompletableFuture();
@@ -529,6 +560,11 @@ class ClientAsyncOperationsIT {
             return originOps.insert(space, tuple).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> insert(TarantoolSpaceRef space, List<?> tuple) {
+            return originOps.insert(space, tuple).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> replace(Integer space, List<?> tuple) {
             return originOps.replace(space, tuple).toCompletableFuture();
@@ -539,6 +575,11 @@ class ClientAsyncOperationsIT {
             return originOps.replace(space, tuple).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> replace(TarantoolSpaceRef space, List<?> tuple) {
+            return originOps.replace(space, tuple).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> update(Integer space, List<?> key, Object... tuple) {
             return originOps.update(space, key, tuple).toCompletableFuture();
@@ -549,6 +590,11 @@ class ClientAsyncOperationsIT {
             return originOps.update(space, key, tuple).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> update(TarantoolSpaceRef space, List<?> key, Object... tuple) {
+            return originOps.update(space, key, tuple).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> upsert(Integer space, List<?> key, List<?> defTuple, Object... ops) {
             return originOps.upsert(space, key, defTuple, ops).toCompletableFuture();
@@ -559,6 +605,11 @@ class ClientAsyncOperationsIT {
             return originOps.upsert(space, key, defTuple, ops).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> upsert(TarantoolSpaceRef space, List<?> key, List<?> defTuple, Object... ops) {
+            return originOps.upsert(space, key, defTuple, ops).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> delete(Integer space, List<?> key) {
             return originOps.delete(space, key).toCompletableFuture();
@@ -569,6 +620,11 @@ class ClientAsyncOperationsIT {
             return originOps.delete(space, key).toCompletableFuture();
         }
 
+        @Override
+        public Future<List<?>> delete(TarantoolSpaceRef space, List<?> key) {
+            return originOps.delete(space, key).toCompletableFuture();
+        }
+
         @Override
         public Future<List<?>> call(String function, Object... args) {
             return originOps.call(function, args).toCompletableFuture();
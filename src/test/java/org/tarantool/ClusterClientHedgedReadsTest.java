@@ -0,0 +1,90 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A cluster client with hedged reads")
+public class ClusterClientHedgedReadsTest {
+
+    private static final long SLOW_LATENCY_MILLIS = 1000;
+
+    private FakeTarantoolServer slowServer;
+    private FakeTarantoolServer fastServer;
+    private TarantoolClusterClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        slowServer = new FakeTarantoolServer().start();
+        fastServer = new FakeTarantoolServer().start();
+        slowServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "slow"));
+        fastServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "fast"));
+        slowServer.registerFunction("get_name", args -> Collections.singletonList("slow"));
+        fastServer.registerFunction("get_name", args -> Collections.singletonList("fast"));
+
+        TarantoolClusterClientConfig config = new TarantoolClusterClientConfig();
+        config.initTimeoutMillis = 2000;
+        config.operationExpiryTimeMillis = 5000;
+        config.hedgedReads = true;
+        config.hedgeMinDelayMillis = 20;
+        config.readOnlyFunctions = Collections.singleton("get_name");
+        client = new TarantoolClusterClient(config, slowServer.getAddress(), fastServer.getAddress());
+        // the connection is accepted before the hedge client is ready
+        awaitTrue(() -> fastServer.getConnectionCount() == 1 && client.isHedgeClientAlive());
+        // load the schema before the primary node slows down
+        // without a select which could be hedged on a cold start
+        awaitTrue(client::isSchemaLoaded);
+        slowServer.setLatency(SLOW_LATENCY_MILLIS, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        slowServer.close();
+        fastServer.close();
+    }
+
+    @Test
+    @DisplayName("took the response of the hedged select")
+    public void testHedgedSelect() {
+        long start = System.nanoTime();
+        List<?> result = client.syncOps()
+            .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, "fast")), result);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(SLOW_LATENCY_MILLIS));
+        assertEquals(1, client.getMetrics().getCount(Counter.HEDGED_READS));
+        awaitTrue(() -> client.getMetrics().getCount(Counter.HEDGED_READ_WINS) == 1);
+    }
+
+    @Test
+    @DisplayName("hedged only the read-only functions")
+    public void testHedgedCall() {
+        assertEquals(Collections.singletonList("fast"), client.syncOps().call("get_name"));
+        assertEquals(1, fastServer.getRequestCount(Code.CALL));
+    }
+
+    @Test
+    @DisplayName("did not hedge the writes")
+    public void testWritesNotHedged() {
+        client.syncOps().insert("users", Arrays.asList(2, "new"));
+
+        assertEquals(2, slowServer.getSpace("users").size());
+        assertEquals(1, fastServer.getSpace("users").size());
+        assertEquals(0, client.getMetrics().getCount(Counter.HEDGED_READS));
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.tarantool.TestUtils.awaitTrue;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@DisplayName("A cluster client with standby connections")
+public class ClusterClientStandbyTest {
+
+    private FakeTarantoolServer primaryServer;
+    private FakeTarantoolServer standbyServer;
+    private TarantoolClusterClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        primaryServer = new FakeTarantoolServer().start();
+        standbyServer = new FakeTarantoolServer().start();
+        primaryServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "primary"));
+        standbyServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "standby"));
+
+        TarantoolClusterClientConfig config = new TarantoolClusterClientConfig();
+        config.initTimeoutMillis = 2000;
+        config.operationExpiryTimeMillis = 5000;
+        config.standbyConnections = 1;
+        config.standbyPingIntervalMillis = 50;
+        client = new TarantoolClusterClient(config, primaryServer.getAddress(), standbyServer.getAddress());
+        awaitTrue(() -> client.getStandbyConnectionCount() == 1);
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "primary")),
+            client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ)
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        primaryServer.close();
+        standbyServer.close();
+    }
+
+    @Test
+    @DisplayName("switched to the standby connection")
+    public void testFailover() {
+        final long standbySelects = standbyServer.getRequestCount(Code.SELECT);
+        primaryServer.close();
+
+        List<?> result = client.syncOps()
+            .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, "standby")), result);
+        // the failover is counted after the pending requests are resent
+        awaitTrue(() -> client.getMetrics().getCount(Counter.STANDBY_FAILOVERS) == 1);
+        assertEquals(1, standbyServer.getConnectionCount());
+        // the schema is the same, so only the user select is sent
+        assertEquals(standbySelects + 1, standbyServer.getRequestCount(Code.SELECT));
+    }
+
+    @Test
+    @DisplayName("reopened the standby connection when it was lost")
+    public void testStandbyReopened() {
+        final int accepted = standbyServer.getAcceptedConnectionCount();
+        standbyServer.disconnectClients();
+        // the broken connection is dropped before a new one is opened
+        // and the new one is pooled after its first ping
+        awaitTrue(() -> standbyServer.getAcceptedConnectionCount() > accepted &&
+            client.getStandbyConnectionCount() == 1);
+
+        primaryServer.close();
+        List<?> result = client.syncOps()
+            .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+        assertEquals(Collections.singletonList(Arrays.asList(1, "standby")), result);
+        awaitTrue(() -> client.getMetrics().getCount(Counter.STANDBY_FAILOVERS) == 1);
+        assertEquals(accepted + 1, standbyServer.getAcceptedConnectionCount());
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A client coalescing the reads")
+public class CoalescedReadsTest {
+
+    private FakeTarantoolServer server;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        server.createSpace("users", "id", "name").insert(Arrays.asList(1, "alice"));
+        client = makeFakeServerClient(server, config -> config.coalesceReads = true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("sent the identical concurrent selects once")
+    public void testCoalescing() {
+        final long selects = server.getRequestCount(Code.SELECT);
+        server.setLatency(100, 0, TimeUnit.MILLISECONDS);
+        List<CompletionStage<List<?>>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(selectUser(1));
+        }
+        selectUser(2);
+        for (CompletionStage<List<?>> result : results) {
+            assertEquals(
+                Collections.singletonList(Arrays.asList(1, "alice")),
+                result.toCompletableFuture().join()
+            );
+        }
+
+        assertEquals(selects + 2, server.getRequestCount(Code.SELECT));
+        assertEquals(49, client.getMetrics().getCount(Counter.COALESCED_READS));
+    }
+
+    @Test
+    @DisplayName("sent the selects again once the previous one completed")
+    public void testSequentialReads() {
+        final long selects = server.getRequestCount(Code.SELECT);
+        selectUser(1).toCompletableFuture().join();
+        client.syncOps().replace("users", Arrays.asList(1, "alicia"));
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "alicia")),
+            selectUser(1).toCompletableFuture().join()
+        );
+        // a result which is not shared is not copied
+        selectUser(1).toCompletableFuture().join().clear();
+        assertEquals(selects + 3, server.getRequestCount(Code.SELECT));
+        assertEquals(0, client.getMetrics().getCount(Counter.COALESCED_READS));
+    }
+
+    @Test
+    @DisplayName("kept the other coalesced selects when one was cancelled")
+    public void testCancellation() {
+        final long selects = server.getRequestCount(Code.SELECT);
+        server.setLatency(100, 0, TimeUnit.MILLISECONDS);
+        CompletableFuture<List<?>> first = selectUser(1).toCompletableFuture();
+        CompletableFuture<List<?>> second = selectUser(1).toCompletableFuture();
+        CompletableFuture<List<?>> third = selectUser(1).toCompletableFuture();
+
+        first.cancel(true);
+        second.completeExceptionally(new IllegalStateException());
+        assertEquals(Collections.singletonList(Arrays.asList(1, "alice")), third.join());
+        // the shared result cannot be changed by one of the callers
+        assertThrows(UnsupportedOperationException.class, () -> third.join().clear());
+        assertEquals(selects + 1, server.getRequestCount(Code.SELECT));
+        assertEquals(2, client.getMetrics().getCount(Counter.COALESCED_READS));
+    }
+
+    private CompletionStage<List<?>> selectUser(int id) {
+        return client.composableAsyncOps()
+            .select("users", "primary", Collections.singletonList(id), 0, 1, Iterator.EQ);
+    }
+
+}
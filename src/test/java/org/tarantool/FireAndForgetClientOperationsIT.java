@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -203,6 +204,34 @@ public class FireAndForgetClientOperationsIT {
         checkRawTupleResult(consoleSelect(SPACE_NAME, 3000), Arrays.asList(3000, "3k"));
     }
 
+    @Test
+    public void testFuturelessFireAndForgetOperations() {
+        testHelper.executeLua("box.space.basic_test:insert{1, '1'}");
+
+        List<Long> failedSyncIds = new ArrayList<>();
+        TarantoolClientConfig config = makeDefaultClientConfig();
+        config.futurelessFireAndForget = true;
+        config.fireAndForgetErrorListener = (syncId, error) -> failedSyncIds.add(syncId);
+        TarantoolClientImpl futurelessClient = (TarantoolClientImpl) makeTestClient(config, RESTART_TIMEOUT);
+        try {
+            TarantoolClientOps<Integer, List<?>, Object, Long> ffOps = futurelessClient.fireAndForgetOps();
+
+            ffOps.insert(spaceId, Arrays.asList(2, "2"));
+            ffOps.insert(SPACE_NAME, Arrays.asList(3, "3"));
+            final Long duplicateSyncId = ffOps.insert(spaceId, Arrays.asList(1, "one"));
+
+            futurelessClient.syncOps().ping();
+
+            checkRawTupleResult(consoleSelect(SPACE_NAME, 2), Arrays.asList(2, "2"));
+            checkRawTupleResult(consoleSelect(SPACE_NAME, 3), Arrays.asList(3, "3"));
+            checkRawTupleResult(consoleSelect(SPACE_NAME, 1), Arrays.asList(1, "1"));
+            assertEquals(Collections.singletonList(duplicateSyncId), failedSyncIds);
+            assertEquals(1, futurelessClient.getStats().fireAndForgetErrors);
+        } finally {
+            futurelessClient.close();
+        }
+    }
+
     private List<?> consoleSelect(String spaceName, Object key) {
         return testHelper.evaluate(toLuaSelect(spaceName, key));
     }
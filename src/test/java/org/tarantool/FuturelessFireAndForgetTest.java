@@ -0,0 +1,89 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tarantool.TestUtils.awaitTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.metrics.TarantoolClientMetrics.Latency;
+import org.tarantool.protocol.ProtoConstants;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A client sending the fire and forget requests without futures")
+public class FuturelessFireAndForgetTest {
+
+    private final List<TarantoolException> errors = new CopyOnWriteArrayList<>();
+    private FakeTarantoolServer server;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        server.createSpace("users", "id", "name").insert(Arrays.asList(1, "alice"));
+        client = makeFakeServerClient(server, config -> {
+            config.futurelessFireAndForget = true;
+            config.watchSchemaChanges = false;
+            config.fireAndForgetErrorListener = (syncId, error) -> errors.add(error);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("skipped a late response without decoding its body")
+    public void testLateResponse() {
+        server.setLatency(100, 0, TimeUnit.MILLISECONDS);
+        client.setOperationTimeout(20);
+        List<?> key = Collections.singletonList(1);
+        assertThrows(
+            CompletionException.class,
+            () -> client.composableAsyncOps().select("users", "primary", key, 0, 1, Iterator.EQ)
+                .toCompletableFuture().join()
+        );
+        client.setOperationTimeout(1000);
+        final long received = client.getMetrics().getCount(Counter.RECEIVED);
+        final long decoded = client.getMetrics().getLatency(Latency.DECODE).getCount();
+        server.setLatency(1000, 0, TimeUnit.MILLISECONDS);
+        client.fireAndForgetOps().insert("users", Arrays.asList(2, "bob"));
+
+        awaitTrue(() -> client.getMetrics().getCount(Counter.RECEIVED) == received + 1);
+        assertEquals(1L, client.getMetrics().getGauges().get("pendingFireAndForgetResponses").longValue());
+        assertEquals(0, client.getMetrics().getCount(Counter.FIRE_AND_FORGET_RECEIVED));
+        assertEquals(decoded, client.getMetrics().getLatency(Latency.DECODE).getCount());
+
+        awaitTrue(() -> client.getMetrics().getCount(Counter.FIRE_AND_FORGET_RECEIVED) == 1);
+        assertEquals(0L, client.getMetrics().getGauges().get("pendingFireAndForgetResponses").longValue());
+    }
+
+    @Test
+    @DisplayName("reported a request rejected because of the schema change")
+    public void testWrongSchemaVersion() {
+        server.createSpace("orders", "id", "user");
+        client.fireAndForgetOps().insert("users", Arrays.asList(2, "bob"));
+
+        awaitTrue(() -> errors.size() == 1);
+        assertEquals(ProtoConstants.ERR_WRONG_SCHEMA_VERSION, errors.get(0).getCode());
+        assertEquals(1, client.getMetrics().getCount(Counter.FIRE_AND_FORGET_ERRORS));
+        assertEquals(1, server.getSpace("users").size());
+        awaitTrue(() -> client.getSchemaMeta().getSchemaVersion() == server.getSchemaVersion());
+        assertEquals(0L, client.getMetrics().getGauges().get("pendingFireAndForgetResponses").longValue());
+    }
+
+}
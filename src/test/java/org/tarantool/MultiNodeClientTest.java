@@ -0,0 +1,103 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+
+import org.tarantool.cluster.TarantoolNode;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A multi-node client")
+public class MultiNodeClientTest {
+
+    private FakeTarantoolServer firstServer;
+    private FakeTarantoolServer secondServer;
+    private TarantoolMultiNodeClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        firstServer = new FakeTarantoolServer().start();
+        secondServer = new FakeTarantoolServer().start();
+        firstServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "first"));
+        secondServer.createSpace("users", "id", "name").insert(Arrays.asList(1, "second"));
+
+        TarantoolMultiNodeClientConfig config = new TarantoolMultiNodeClientConfig();
+        config.initTimeoutMillis = 2000;
+        config.nodeReconnectDelayMillis = 100;
+        client = new TarantoolMultiNodeClient(config, firstServer.getAddress(), secondServer.getAddress());
+        awaitTrue(() -> client.getNodes().stream().allMatch(TarantoolNode::isAlive));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        firstServer.close();
+        secondServer.close();
+    }
+
+    @Test
+    @DisplayName("sent less requests to the slow node")
+    public void testSlowNodeAvoided() {
+        // a single slow sample of the cold code path could keep
+        // the node out of the selection for the whole test
+        TarantoolMultiNodeClientConfig config = new TarantoolMultiNodeClientConfig();
+        config.initTimeoutMillis = 2000;
+        TarantoolMultiNodeClient warmClient =
+            new TarantoolMultiNodeClient(config, firstServer.getAddress(), secondServer.getAddress());
+        try {
+            awaitTrue(() -> warmClient.getNodes().stream().allMatch(TarantoolNode::isAlive));
+            for (int i = 0; i < 100; i++) {
+                warmClient.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+            }
+        } finally {
+            warmClient.close();
+        }
+        client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+        client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+        final long warmFastSelects = firstServer.getRequestCount(Code.SELECT);
+        final long warmSlowSelects = secondServer.getRequestCount(Code.SELECT);
+        secondServer.setLatency(20, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 200; i++) {
+            client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+        }
+        long fastSelects = firstServer.getRequestCount(Code.SELECT) - warmFastSelects;
+        long slowSelects = secondServer.getRequestCount(Code.SELECT) - warmSlowSelects;
+        assertTrue(fastSelects > slowSelects * 4, fastSelects + " vs " + slowSelects);
+    }
+
+    @Test
+    @DisplayName("moved the requests off the failed node")
+    public void testFailedNodeSkipped() {
+        secondServer.close();
+        awaitTrue(() -> !client.getNodes().get(1).isAlive());
+        client.syncOps().ping();
+        final long selects = firstServer.getRequestCount(Code.SELECT);
+        for (int i = 0; i < 10; i++) {
+            List<?> result = client.syncOps()
+                .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+            assertEquals(Collections.singletonList(Arrays.asList(1, "first")), result);
+        }
+        assertEquals(selects + 10, firstServer.getRequestCount(Code.SELECT));
+    }
+
+    @Test
+    @DisplayName("failed when all the nodes were down")
+    public void testNoAliveNodes() {
+        firstServer.close();
+        secondServer.close();
+        awaitTrue(() -> !client.isAlive());
+        assertThrows(CommunicationException.class, () -> client.syncOps().ping());
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.metrics.TarantoolClientMetrics.Counter;
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@DisplayName("A client with the near cache")
+public class NearCacheTest {
+
+    private FakeTarantoolServer server;
+    private FakeSpace flags;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        flags = server.createSpace("flags", "id", "value");
+        server.createSpace("events", "id", "value");
+        flags.insert(Arrays.asList(1, "on"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("served the repeated selects from the cache")
+    public void testHits() {
+        client = makeClient(1000, 1024 * 1024);
+        final long selects = server.getRequestCount(Code.SELECT);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Collections.singletonList(Arrays.asList(1, "on")), selectFlag(1));
+        }
+        selectEvent(1);
+        selectEvent(1);
+
+        assertEquals(selects + 3, server.getRequestCount(Code.SELECT));
+        assertEquals(9, client.getMetrics().getCount(Counter.NEAR_CACHE_HITS));
+        assertEquals(1, client.getMetrics().getCount(Counter.NEAR_CACHE_MISSES));
+    }
+
+    @Test
+    @DisplayName("invalidated the entries on a write through the client")
+    public void testInvalidation() {
+        client = makeClient(0, 1024 * 1024);
+        selectFlag(1);
+        client.syncOps().replace("flags", Arrays.asList(1, "off"));
+        assertEquals(Collections.singletonList(Arrays.asList(1, "off")), selectFlag(1));
+
+        // a write by someone else is not seen until the entry expires
+        flags.replace(Arrays.asList(1, "on"));
+        assertEquals(Collections.singletonList(Arrays.asList(1, "off")), selectFlag(1));
+    }
+
+    @Test
+    @DisplayName("expired the entries")
+    public void testExpiration() throws InterruptedException {
+        client = makeClient(50, 1024 * 1024);
+        selectFlag(1);
+        flags.replace(Arrays.asList(1, "off"));
+        Thread.sleep(100);
+        assertEquals(Collections.singletonList(Arrays.asList(1, "off")), selectFlag(1));
+        assertEquals(2, client.getMetrics().getCount(Counter.NEAR_CACHE_MISSES));
+    }
+
+    @Test
+    @DisplayName("evicted the least recently used entries")
+    public void testEviction() {
+        long weight = NearCache.weigh(Collections.singletonList(Arrays.asList(1, "on")));
+        client = makeClient(0, 3 * (weight + 512));
+        for (int i = 1; i <= 10; i++) {
+            flags.insert(Arrays.asList(i + 1, "on"));
+            selectFlag(i);
+        }
+        assertTrue(client.getMetrics().getCount(Counter.NEAR_CACHE_EVICTIONS) > 0);
+        selectFlag(10);
+        assertEquals(1, client.getMetrics().getCount(Counter.NEAR_CACHE_HITS));
+        selectFlag(1);
+        assertEquals(1, client.getMetrics().getCount(Counter.NEAR_CACHE_HITS));
+    }
+
+    @Test
+    @DisplayName("protected the cached tuples from the callers")
+    @SuppressWarnings("unchecked")
+    public void testUnmodifiable() {
+        client = makeClient(0, 1024 * 1024);
+        List<?> missed = selectFlag(1);
+        List<?> hit = selectFlag(1);
+
+        assertThrows(UnsupportedOperationException.class, missed::clear);
+        assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) hit.get(0)).set(1, "off"));
+        assertEquals(Collections.singletonList(Arrays.asList(1, "on")), selectFlag(1));
+        assertEquals(2, client.getMetrics().getCount(Counter.NEAR_CACHE_HITS));
+    }
+
+    @Test
+    @DisplayName("cached the selects again after the schema was changed")
+    public void testSchemaChange() {
+        client = makeClient(0, 1024 * 1024);
+        selectFlag(1);
+        server.createSpace("orders", "id");
+        awaitTrue(() -> client.getSchemaMeta().getSchemaVersion() == server.getSchemaVersion());
+
+        // the first select fetches the space again
+        selectFlag(1);
+        selectFlag(1);
+        selectFlag(1);
+        assertTrue(client.getMetrics().getCount(Counter.NEAR_CACHE_HITS) >= 2);
+    }
+
+    private TarantoolClientImpl makeClient(long ttlMillis, long maxWeight) {
+        return makeFakeServerClient(server, config -> {
+            config.nearCacheSpaces = Collections.singleton("flags");
+            config.nearCacheTtlMillis = ttlMillis;
+            config.nearCacheMaxWeight = maxWeight;
+        });
+    }
+
+    private List<?> selectFlag(int id) {
+        return client.syncOps().select("flags", "primary", Collections.singletonList(id), 0, 1, Iterator.EQ);
+    }
+
+    private List<?> selectEvent(int id) {
+        return client.syncOps().select("events", "primary", Collections.singletonList(id), 0, 1, Iterator.EQ);
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+@DisplayName("The priority lanes")
+public class PriorityLanesTest {
+
+    private static final int KB = 1024;
+
+    @Test
+    @DisplayName("sent a high priority packet ahead of the queued ones")
+    public void testHighPriority() {
+        PriorityLanes lanes = new PriorityLanes(1024 * KB, new int[] { 16, 4, 1 });
+        for (int i = 0; i < 100; i++) {
+            lanes.add(RequestPriority.LOW, makePacket(RequestPriority.LOW, KB));
+            lanes.add(RequestPriority.NORMAL, makePacket(RequestPriority.NORMAL, KB));
+        }
+        lanes.add(RequestPriority.HIGH, makePacket(RequestPriority.HIGH, 100));
+
+        ByteBuffer target = ByteBuffer.allocate(4 * KB);
+        assertEquals(4, lanes.drainTo(target));
+        target.flip();
+        assertEquals(RequestPriority.HIGH.ordinal(), target.get(0));
+        assertEquals(RequestPriority.NORMAL.ordinal(), target.get(100));
+    }
+
+    @Test
+    @DisplayName("shared the writes in proportion to the weights")
+    public void testWeights() {
+        PriorityLanes lanes = new PriorityLanes(1024 * KB, new int[] { 4, 2, 1 });
+        for (int i = 0; i < 64; i++) {
+            lanes.add(RequestPriority.LOW, makePacket(RequestPriority.LOW, 4 * KB));
+            lanes.add(RequestPriority.NORMAL, makePacket(RequestPriority.NORMAL, 4 * KB));
+        }
+
+        ByteBuffer target = ByteBuffer.allocate(3 * PriorityLanes.QUANTUM);
+        assertEquals(12, lanes.drainTo(target));
+        target.flip();
+        int[] counts = new int[RequestPriority.values().length];
+        for (int position = 0; position < target.limit(); position += 4 * KB) {
+            counts[target.get(position)]++;
+        }
+        assertEquals(8, counts[RequestPriority.NORMAL.ordinal()]);
+        assertEquals(4, counts[RequestPriority.LOW.ordinal()]);
+        assertEquals((64 + 64 - 12) * 4 * KB, lanes.getBytes());
+    }
+
+    @Test
+    @DisplayName("limited the size of a lane")
+    public void testCapacity() {
+        PriorityLanes lanes = new PriorityLanes(10 * KB, new int[] { 1, 1, 1 });
+        assertTrue(lanes.hasRoom(RequestPriority.LOW, 20 * KB));
+        lanes.add(RequestPriority.LOW, makePacket(RequestPriority.LOW, 6 * KB));
+        assertFalse(lanes.hasRoom(RequestPriority.LOW, 6 * KB));
+        assertTrue(lanes.hasRoom(RequestPriority.NORMAL, 6 * KB));
+
+        lanes.clear();
+        assertTrue(lanes.isEmpty());
+        assertEquals(0, lanes.getBytes());
+    }
+
+    @Test
+    @DisplayName("sent the requests of all priorities")
+    public void testClient() throws Exception {
+        try (FakeTarantoolServer server = new FakeTarantoolServer().start()) {
+            server.createSpace("users", "id", "name").insert(Arrays.asList(1, "alice"));
+            TarantoolClientImpl client = makeFakeServerClient(server, config -> config.priorityLanes = true);
+            try {
+                client.ping();
+                List<?> expected = Collections.singletonList(Arrays.asList(1, "alice"));
+                for (RequestPriority priority : RequestPriority.values()) {
+                    CompletionStage<List<?>> result = client.composableAsyncOps(priority)
+                        .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+                    assertEquals(expected, result.toCompletableFuture().join());
+                    assertEquals(
+                        expected,
+                        client.syncOps(priority).select("users", "primary", Collections.singletonList(1), 0, 1, 0)
+                    );
+                }
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    private ByteBuffer makePacket(RequestPriority priority, int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) priority.ordinal());
+        return ByteBuffer.wrap(bytes);
+    }
+
+}
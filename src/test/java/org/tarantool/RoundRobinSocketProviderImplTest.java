@@ -3,6 +3,7 @@ package org.tarantool;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -12,15 +13,20 @@ import static org.mockito.Mockito.when;
 import static org.tarantool.TestUtils.asRawHostAndPort;
 import static org.tarantool.TestUtils.extractRawHostAndPortString;
 
+import org.tarantool.server.FakeTarantoolServer;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @DisplayName("A RR socket provider")
 public class RoundRobinSocketProviderImplTest {
@@ -162,6 +168,46 @@ public class RoundRobinSocketProviderImplTest {
         assertThrows(SocketProviderTransientException.class, () -> socketProvider.get(0, null));
     }
 
+    @Test
+    @DisplayName("connected to the responsive instance when the first one hung")
+    public void testParallelConnect() throws IOException {
+        try (ServerSocket hungServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             FakeTarantoolServer server = new FakeTarantoolServer().start()) {
+            String hungAddress = "127.0.0.1:" + hungServer.getLocalPort();
+            RoundRobinSocketProviderImpl socketProvider = new RoundRobinSocketProviderImpl(
+                hungAddress, server.getAddress()
+            );
+            socketProvider.setConnectionTimeout(10_000);
+            socketProvider.setParallelConnectDelay(50);
+
+            long start = System.nanoTime();
+            try (SocketChannel channel = socketProvider.get(0, null)) {
+                assertTrue(channel.isBlocking());
+                assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+                assertEquals(server.getAddress(), extractRawHostAndPortString(socketProvider.getLastObtainedAddress()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("failed the parallel connection when all the instances were down")
+    public void testParallelConnectFailure() throws IOException {
+        int firstPort;
+        int secondPort;
+        try (ServerSocket first = new ServerSocket(0); ServerSocket second = new ServerSocket(0)) {
+            firstPort = first.getLocalPort();
+            secondPort = second.getLocalPort();
+        }
+        RoundRobinSocketProviderImpl socketProvider = new RoundRobinSocketProviderImpl(
+            "127.0.0.1:" + firstPort, "127.0.0.1:" + secondPort
+        );
+        socketProvider.setParallelConnectDelay(50);
+        socketProvider.setRetriesLimit(1);
+
+        assertThrows(SocketProviderTransientException.class, () -> socketProvider.get(0, null));
+        assertThrows(CommunicationException.class, () -> socketProvider.get(1, null));
+    }
+
     private <T extends BaseSocketChannelProvider> T wrapWithMockChannelProvider(T source) throws IOException {
         T wrapper = spy(source);
         doReturn(makeSocketChannel()).when(wrapper).openChannel(anyObject());
@@ -0,0 +1,143 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@DisplayName("A multi-get of the client")
+public class SelectManyTest {
+
+    private FakeTarantoolServer server;
+    private FakeSpace users;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        users = server.createSpace("users", "id", "name");
+        for (int i = 0; i < 20; i += 2) {
+            users.insert(Arrays.asList(i, "user" + i));
+        }
+        server.registerFunction("select_many", args -> {
+            List<List<?>> results = new ArrayList<>();
+            for (Object key : (List<?>) args.get(2)) {
+                List<?> tuple = users.get(((List<?>) key).get(0));
+                results.add(tuple == null ? Collections.emptyList() : Collections.singletonList(tuple));
+            }
+            return Collections.singletonList(results);
+        });
+        server.registerFunction("select_none", args -> Collections.singletonList(Collections.emptyList()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("sent the keys as pipelined selects")
+    public void testSelects() {
+        client = makeClient(null);
+        final long selects = server.getRequestCount(Code.SELECT);
+        checkResults(client.selectMany("users", "primary", makeKeys()).toCompletableFuture().join());
+        assertEquals(selects + 20, server.getRequestCount(Code.SELECT));
+    }
+
+    @Test
+    @DisplayName("sent the chunks of keys to the function")
+    public void testFunction() {
+        client = makeClient("select_many");
+        final long selects = server.getRequestCount(Code.SELECT);
+        checkResults(client.selectMany("users", "primary", makeKeys()).toCompletableFuture().join());
+        assertEquals(3, server.getRequestCount(Code.CALL));
+        assertEquals(selects, server.getRequestCount(Code.SELECT));
+        assertEquals(
+            Collections.emptyList(),
+            client.selectMany("users", "primary", Collections.emptyList()).toCompletableFuture().join()
+        );
+    }
+
+    @Test
+    @DisplayName("failed when the function returned the wrong number of results")
+    public void testWrongFunction() {
+        client = makeClient("select_none");
+        CompletionException error = assertThrows(
+            CompletionException.class,
+            () -> client.selectMany("users", "primary", makeKeys()).toCompletableFuture().join()
+        );
+        assertTrue(error.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("failed by a single timeout")
+    public void testTimeout() {
+        client = makeClient(null);
+        client.setOperationTimeout(100);
+        server.setLatency(500, 0, TimeUnit.MILLISECONDS);
+        CompletionException error = assertThrows(
+            CompletionException.class,
+            () -> client.selectMany("users", "primary", makeKeys()).toCompletableFuture().join()
+        );
+        assertTrue(error.getCause() instanceof TimeoutException);
+        assertFalse(client.futures.isEmpty());
+        awaitTrue(() -> client.futures.values().stream().allMatch(operation -> operation.getResult().isDone()));
+    }
+
+    @Test
+    @DisplayName("cancelled the parts when the caller cancelled the operation")
+    public void testCancellation() {
+        client = makeClient("select_many");
+        server.setLatency(500, 0, TimeUnit.MILLISECONDS);
+        client.selectMany("users", "primary", makeKeys()).toCompletableFuture().cancel(false);
+
+        assertEquals(3, client.futures.size());
+        assertTrue(client.futures.values().stream().allMatch(operation -> operation.getResult().isCancelled()));
+    }
+
+    private TarantoolClientImpl makeClient(String function) {
+        return makeFakeServerClient(server, config -> {
+            config.selectManyFunction = function;
+            config.selectManyChunkSize = 7;
+        });
+    }
+
+    private List<List<?>> makeKeys() {
+        List<List<?>> keys = new ArrayList<>();
+        for (int i = 19; i >= 0; i--) {
+            keys.add(Collections.singletonList(i));
+        }
+        return keys;
+    }
+
+    private void checkResults(List<List<?>> results) {
+        assertEquals(20, results.size());
+        for (int i = 0; i < 20; i++) {
+            int id = 19 - i;
+            List<?> expected = id % 2 == 0
+                ? Collections.singletonList(Arrays.asList(id, "user" + id))
+                : Collections.emptyList();
+            assertEquals(expected, results.get(i));
+        }
+    }
+
+}
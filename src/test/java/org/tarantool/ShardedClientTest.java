@@ -0,0 +1,111 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("A sharded client")
+public class ShardedClientTest {
+
+    private FakeTarantoolServer firstServer;
+    private FakeTarantoolServer secondServer;
+    private TarantoolShardedClient client;
+    private volatile Map<String, Object> bucketRanges;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        firstServer = new FakeTarantoolServer().start();
+        secondServer = new FakeTarantoolServer().start();
+        firstServer.createSpace("users", "id", "name");
+        secondServer.createSpace("users", "id", "name");
+        bucketRanges = makeRanges(2);
+        firstServer.registerFunction("bucket_map", args -> Collections.singletonList(bucketRanges));
+
+        TarantoolShardedClientConfig config = new TarantoolShardedClientConfig();
+        config.initTimeoutMillis = 2000;
+        config.bucketCount = 4;
+        config.bucketMapFunction = "bucket_map";
+        config.bucketIdFunction = (key, bucketCount) -> ((Number) key).intValue();
+        client = new TarantoolShardedClient(config, firstServer.getAddress());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        firstServer.close();
+        secondServer.close();
+    }
+
+    @Test
+    @DisplayName("sent the requests to the bucket owners")
+    public void testRouting() {
+        for (int key = 1; key <= 4; key++) {
+            client.syncOps(key).insert("users", Arrays.asList(key, "user-" + key));
+        }
+        assertEquals(2, firstServer.getSpace("users").size());
+        assertEquals(2, secondServer.getSpace("users").size());
+        assertEquals(Arrays.asList(4, "user-4"), secondServer.getSpace("users").get(4));
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "user-1")),
+            client.composableAsyncOps(1)
+                .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ)
+                .toCompletableFuture()
+                .join()
+        );
+    }
+
+    @Test
+    @DisplayName("re-routed the call after a wrong bucket error")
+    public void testWrongBucket() {
+        Map<String, Object> wrongBucket = new HashMap<>();
+        wrongBucket.put("type", "ShardingError");
+        wrongBucket.put("name", "WRONG_BUCKET");
+        wrongBucket.put("code", 1);
+        firstServer.registerFunction("get_name", args -> Arrays.asList(null, wrongBucket));
+        secondServer.registerFunction("get_name", args -> Collections.singletonList("moved"));
+        final long version = client.getBucketMap().getVersion();
+
+        // the second bucket is moved to the second replica set
+        bucketRanges = makeRanges(1);
+        List<?> result = client.syncOps(2).call("get_name");
+
+        assertEquals(Collections.singletonList("moved"), result);
+        assertEquals(version + 1, client.getBucketMap().getVersion());
+        assertEquals(secondServer.getAddress(), client.getBucketMap().getOwner(2));
+    }
+
+    @Test
+    @DisplayName("returned the wrong bucket error after the retries")
+    public void testWrongBucketRetriesExceeded() {
+        Map<String, Object> wrongBucket = Collections.singletonMap("name", "WRONG_BUCKET");
+        firstServer.registerFunction("get_name", args -> Arrays.asList(null, wrongBucket));
+
+        List<?> result = client.syncOps(1).call("get_name");
+        assertNull(result.get(0));
+        assertEquals(wrongBucket, result.get(1));
+    }
+
+    /**
+     * Assigns the buckets up to the given one to the first
+     * server and the rest of them to the second one.
+     */
+    private Map<String, Object> makeRanges(int lastFirstBucket) {
+        Map<String, Object> ranges = new HashMap<>();
+        ranges.put(firstServer.getAddress(), Collections.singletonList(Arrays.asList(1, lastFirstBucket)));
+        ranges.put(secondServer.getAddress(), Collections.singletonList(Arrays.asList(lastFirstBucket + 1, 4)));
+        return ranges;
+    }
+
+}
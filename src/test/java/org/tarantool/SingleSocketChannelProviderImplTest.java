@@ -1,7 +1,9 @@
 package org.tarantool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -13,7 +15,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.StandardSocketOptions;
 import java.nio.channels.SocketChannel;
 
 @DisplayName("A single socket provider")
@@ -74,6 +78,30 @@ class SingleSocketChannelProviderImplTest {
         }
     }
 
+    @Test
+    @DisplayName("applied the socket options to the channels")
+    public void testSocketOptions() throws IOException {
+        try (ServerSocket server = new ServerSocket(0)) {
+            SingleSocketChannelProviderImpl socketProvider
+                = new SingleSocketChannelProviderImpl("localhost:" + server.getLocalPort());
+            socketProvider.setSocketOptions(new SocketOptions(true, true, 0, 0));
+            try (SocketChannel channel = socketProvider.get(0, null)) {
+                assertTrue(channel.getOption(StandardSocketOptions.TCP_NODELAY));
+                assertTrue(channel.getOption(StandardSocketOptions.SO_KEEPALIVE));
+            }
+            socketProvider.setSocketOptions(SocketOptions.DEFAULT);
+            try (SocketChannel channel = socketProvider.get(0, null)) {
+                assertFalse(channel.getOption(StandardSocketOptions.TCP_NODELAY));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rejected negative socket buffer sizes")
+    public void testWrongSocketOptions() {
+        assertThrows(IllegalArgumentException.class, () -> new SocketOptions(true, false, -1, 0));
+    }
+
     private <T extends BaseSocketChannelProvider> T wrapWithMockChannelProvider(T source) throws IOException {
         T wrapper = spy(source);
         doReturn(makeSocketChannel()).when(wrapper).openChannel(anyObject());
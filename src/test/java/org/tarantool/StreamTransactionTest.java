@@ -0,0 +1,147 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A stream of the client")
+public class StreamTransactionTest {
+
+    private FakeTarantoolServer server;
+    private FakeSpace users;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        users = server.createSpace("users", "id", "name");
+        client = makeFakeServerClient(server);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("committed and rolled back the transactions")
+    public void testCommitAndRollback() {
+        TarantoolStream stream = client.newStream();
+        stream.begin(Duration.ofSeconds(10));
+        stream.syncOps().insert("users", Arrays.asList(1, "alice"));
+        stream.syncOps().replace("users", Arrays.asList(2, "bob"));
+        assertTrue(stream.isInTransaction());
+        stream.commit();
+        assertFalse(stream.isInTransaction());
+        assertEquals(2, users.size());
+
+        stream.begin();
+        stream.syncOps().update("users", Collections.singletonList(1), Arrays.asList("=", 1, "alicia"));
+        stream.syncOps().delete("users", Collections.singletonList(2));
+        stream.syncOps().insert("users", Arrays.asList(3, "carol"));
+        stream.rollback();
+
+        assertEquals(Arrays.asList(1, "alice"), users.get(1));
+        assertEquals(Arrays.asList(2, "bob"), users.get(2));
+        assertNull(users.get(3));
+        assertEquals(2, server.getRequestCount(Code.BEGIN));
+        assertEquals(1, server.getRequestCount(Code.COMMIT));
+        assertEquals(1, server.getRequestCount(Code.ROLLBACK));
+    }
+
+    @Test
+    @DisplayName("kept the requests outside the stream out of the transaction")
+    public void testInterleavedRequests() {
+        TarantoolStream first = client.newStream();
+        TarantoolStream second = client.newStream();
+        first.begin();
+        second.begin();
+        first.composableAsyncOps().insert("users", Arrays.asList(1, "alice"));
+        second.syncOps().insert("users", Arrays.asList(2, "bob"));
+        client.syncOps().insert("users", Arrays.asList(3, "carol"));
+        first.rollback();
+        second.commit();
+
+        assertNull(users.get(1));
+        assertEquals(Arrays.asList(2, "bob"), users.get(2));
+        assertEquals(Arrays.asList(3, "carol"), users.get(3));
+    }
+
+    @Test
+    @DisplayName("kept the order of the requests delayed until the space was fetched")
+    public void testDelayedRequest() throws Exception {
+        final FakeSpace orders = server.createSpace("orders", "id");
+        awaitTrue(() -> client.getSchemaMeta().getSchemaVersion() == server.getSchemaVersion());
+        TarantoolStream stream = client.newStream();
+        stream.begin();
+        CompletableFuture<List<?>> insert = stream.composableAsyncOps()
+            .insert("orders", Collections.singletonList(1))
+            .toCompletableFuture();
+        stream.rollback();
+
+        assertEquals(Collections.singletonList(Collections.singletonList(1)), insert.get(5, TimeUnit.SECONDS));
+        assertEquals(0, orders.size());
+    }
+
+    @Test
+    @DisplayName("failed the request rejected because of the schema version")
+    public void testWrongSchemaVersion() {
+        client.close();
+        client = makeFakeServerClient(server, config -> config.watchSchemaChanges = false);
+
+        TarantoolStream stream = client.newStream();
+        stream.begin();
+        server.createSpace("orders", "id");
+        assertThrows(
+            TarantoolException.class,
+            () -> stream.syncOps().insert("users", Arrays.asList(1, "alice"))
+        );
+        stream.rollback();
+        assertEquals(0, users.size());
+    }
+
+    @Test
+    @DisplayName("failed the transaction lost on a reconnection")
+    public void testReconnect() {
+        TarantoolStream stream = client.newStream();
+        stream.begin();
+        stream.syncOps().insert("users", Arrays.asList(1, "alice"));
+
+        server.disconnectClients();
+        awaitTrue(() -> client.isAlive() && server.getConnectionCount() == 1);
+
+        assertTrue(stream.isAborted());
+        assertThrows(
+            CommunicationException.class,
+            () -> stream.syncOps().insert("users", Arrays.asList(2, "bob"))
+        );
+        assertEquals(0, users.size());
+        assertThrows(CommunicationException.class, stream::commit);
+
+        stream.begin();
+        stream.syncOps().insert("users", Arrays.asList(2, "bob"));
+        stream.commit();
+        assertEquals(1, users.size());
+    }
+
+}
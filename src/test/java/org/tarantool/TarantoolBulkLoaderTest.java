@@ -0,0 +1,153 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@DisplayName("A bulk loader")
+public class TarantoolBulkLoaderTest {
+
+    private FakeTarantoolServer server;
+    private FakeSpace users;
+    private TarantoolClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        users = server.createSpace("users", "id", "name");
+        client = makeFakeServerClient(server);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("inserted the tuples and reported the progress")
+    public void testInsert() throws Exception {
+        List<TarantoolBulkLoader.Progress> reports = new CopyOnWriteArrayList<>();
+        TarantoolBulkLoader.Progress progress = new TarantoolBulkLoader(client, "users")
+            .setWindowSize(8)
+            .setProgressListener(reports::add, Duration.ZERO)
+            .load(makeTuples(500));
+
+        assertEquals(500, progress.getLoaded());
+        assertEquals(0, progress.getFailed());
+        assertTrue(progress.getThroughput() > 0);
+        assertEquals(500, users.size());
+        assertEquals(500, server.getRequestCount(Code.INSERT));
+        assertFalse(reports.isEmpty());
+        assertEquals(500, reports.get(reports.size() - 1).getLoaded());
+    }
+
+    @Test
+    @DisplayName("replaced and upserted the existing tuples")
+    public void testReplaceAndUpsert() throws Exception {
+        users.insert(Arrays.asList(1, "alice"));
+        new TarantoolBulkLoader(client, "users")
+            .setMode(TarantoolBulkLoader.Mode.REPLACE)
+            .load(Stream.of(Arrays.asList(1, "alicia"), Arrays.asList(2, "bob")));
+        assertEquals(Arrays.asList(1, "alicia"), users.get(1));
+        assertEquals(Arrays.asList(2, "bob"), users.get(2));
+
+        new TarantoolBulkLoader(client, "users")
+            .setMode(TarantoolBulkLoader.Mode.UPSERT)
+            .setUpsertOperations(tuple -> new Object[] { Arrays.asList("=", 1, tuple.get(1)) })
+            .load(Stream.of(Arrays.asList(2, "robert"), Arrays.asList(3, "carol")));
+        assertEquals(Arrays.asList(2, "robert"), users.get(2));
+        assertEquals(Arrays.asList(3, "carol"), users.get(3));
+        assertEquals(2, server.getRequestCount(Code.UPSERT));
+    }
+
+    @Test
+    @DisplayName("kept the number of the calls in flight within the window")
+    public void testBatchFunction() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        server.registerFunction("load_batch", args -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            assertEquals("users", args.get(0));
+            assertEquals("INSERT", args.get(1));
+            for (Object tuple : (List<?>) args.get(2)) {
+                users.insert((List<?>) tuple);
+            }
+            inFlight.decrementAndGet();
+            return Collections.emptyList();
+        });
+        server.setLatency(5, 0, TimeUnit.MILLISECONDS);
+
+        TarantoolBulkLoader.Progress progress = new TarantoolBulkLoader(client, "users")
+            .setWindowSize(3)
+            .setBatchFunction("load_batch", 10)
+            .load(makeTuples(95));
+
+        assertEquals(95, progress.getLoaded());
+        assertEquals(95, users.size());
+        assertEquals(10, server.getRequestCount(Code.CALL));
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    @DisplayName("retried the requests lost on the way")
+    public void testRetries() throws Exception {
+        client.setOperationTimeout(100);
+        server.setDropRate(0.2);
+        TarantoolBulkLoader.Progress progress = new TarantoolBulkLoader(client, "users")
+            .setMode(TarantoolBulkLoader.Mode.REPLACE)
+            .setRetries(20, Duration.ofMillis(10))
+            .load(makeTuples(50));
+
+        assertEquals(50, progress.getLoaded());
+        assertTrue(progress.getRetried() > 0);
+        assertEquals(50, users.size());
+    }
+
+    @Test
+    @DisplayName("did not retry the inserts which could reach the server")
+    public void testInsertTimeout() {
+        client.setOperationTimeout(100);
+        server.setDropRate(1);
+        TarantoolBulkLoader loader = new TarantoolBulkLoader(client, "users")
+            .setWindowSize(1)
+            .setRetries(3, Duration.ofMillis(10));
+        assertThrows(CommunicationException.class, () -> loader.load(makeTuples(10)));
+        assertEquals(1, server.getRequestCount(Code.INSERT));
+    }
+
+    @Test
+    @DisplayName("stopped on the first error returned by the server")
+    public void testServerError() {
+        users.insert(Arrays.asList(10, "user10"));
+        TarantoolBulkLoader loader = new TarantoolBulkLoader(client, "users")
+            .setWindowSize(1);
+        assertThrows(TarantoolException.class, () -> loader.load(makeTuples(100)));
+        assertEquals(11, server.getRequestCount(Code.INSERT));
+    }
+
+    private Stream<List<?>> makeTuples(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Arrays.asList(i, "user" + i));
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("Client options")
+public class TarantoolClientConfigTest {
+
+    /**
+     * Options deliberately left out of the copies.
+     */
+    private static boolean isExcluded(Field field) {
+        return field.getName().equals("metricsExporter") || field.getName().startsWith("nearCache");
+    }
+
+    @Test
+    @DisplayName("copied all the options except the excluded ones")
+    public void testCopyOf() throws Exception {
+        TarantoolClientConfig defaults = new TarantoolClientConfig();
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        List<Field> fields = getOptions();
+        for (Field field : fields) {
+            field.set(config, otherValue(field, field.get(defaults)));
+        }
+
+        TarantoolClientConfig copy = TarantoolClientConfig.copyOf(config);
+
+        for (Field field : fields) {
+            Object expected = isExcluded(field) ? field.get(defaults) : field.get(config);
+            Object actual = field.get(copy);
+            if (expected instanceof int[]) {
+                assertArrayEquals((int[]) expected, (int[]) actual, field.getName());
+                assertNotSame(field.get(config), actual, field.getName());
+            } else {
+                assertEquals(expected, actual, field.getName());
+            }
+        }
+    }
+
+    private static List<Field> getOptions() {
+        List<Field> result = new ArrayList<>();
+        for (Field field : TarantoolClientConfig.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Makes a value of the option type which differs
+     * from the default one.
+     */
+    private static Object otherValue(Field field, Object value) {
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return (Integer) value + 1;
+        }
+        if (type == long.class) {
+            return (Long) value + 1;
+        }
+        if (type == double.class) {
+            return (Double) value + 0.5;
+        }
+        if (type == boolean.class) {
+            return !(Boolean) value;
+        }
+        if (type == String.class) {
+            return value + "-other";
+        }
+        if (type == int[].class) {
+            int[] array = ((int[]) value).clone();
+            Arrays.setAll(array, i -> array[i] + 1);
+            return array;
+        }
+        if (type == Set.class) {
+            return Collections.singleton("other");
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[(Arrays.asList(constants).indexOf(value) + 1) % constants.length];
+        }
+        if (type.isInterface()) {
+            return mock(type);
+        }
+        throw new IllegalStateException("Unsupported type of the option " + field.getName());
+    }
+
+}
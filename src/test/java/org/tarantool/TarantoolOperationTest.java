@@ -0,0 +1,62 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TarantoolRequestArgumentFactory.cacheLookupValue;
+import static org.tarantool.TarantoolRequestArgumentFactory.value;
+
+import org.tarantool.schema.TarantoolSpaceNotFoundException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("An operation")
+public class TarantoolOperationTest {
+
+    @Test
+    @DisplayName("evaluated its lookup arguments once per schema version")
+    public void testLookupArgumentsAreResolvedOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        TarantoolOperation operation = new TarantoolRequest(
+            Code.SELECT,
+            value(Key.SPACE), cacheLookupValue(() -> 512 + lookups.getAndIncrement())
+        ).toOperation(1, 10);
+
+        assertTrue(operation.isSerializable());
+        assertEquals(Arrays.asList(Key.SPACE, 512), operation.getArguments());
+        assertEquals(1, lookups.get());
+
+        operation.setSentSchemaId(11);
+        assertEquals(Arrays.asList(Key.SPACE, 513), operation.getArguments());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    @DisplayName("became unserializable when a name cannot be resolved")
+    public void testUnresolvedLookupArgument() {
+        TarantoolOperation operation = new TarantoolRequest(
+            Code.SELECT,
+            value(Key.SPACE), cacheLookupValue(() -> {
+                throw new TarantoolSpaceNotFoundException("unknown");
+            })
+        ).toOperation(1, 10);
+
+        assertFalse(operation.isSerializable());
+        assertThrows(TarantoolSpaceNotFoundException.class, operation::getArguments);
+    }
+
+    @Test
+    @DisplayName("failed to be created with a negative timeout")
+    public void testNegativeTimeout() {
+        TarantoolRequest request = new TarantoolRequest(Code.PING);
+        request.setTimeout(Duration.ofMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> request.toOperation(1, 0));
+    }
+
+}
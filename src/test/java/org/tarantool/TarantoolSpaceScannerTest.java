@@ -0,0 +1,145 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+import static org.tarantool.TestUtils.makeFakeServerClient;
+
+import org.tarantool.server.FakeSpace;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@DisplayName("A space scanner")
+public class TarantoolSpaceScannerTest {
+
+    private FakeTarantoolServer server;
+    private FakeSpace users;
+    private final List<TarantoolClientImpl> clients = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        users = server.createSpace("users", "id", "name");
+        for (int i = 0; i < 1000; i += 3) {
+            users.insert(Arrays.asList(i, "user" + i));
+        }
+        for (int i = 0; i < 2; i++) {
+            clients.add(makeFakeServerClient(server));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        clients.forEach(TarantoolClientImpl::close);
+        server.close();
+    }
+
+    @Test
+    @DisplayName("read the tuples page by page in the key order")
+    public void testSinglePartition() throws Exception {
+        final long selects = server.getRequestCount(Code.SELECT);
+        List<List<?>> tuples = new ArrayList<>();
+        new TarantoolSpaceScanner(clients.get(0), "users")
+            .setPageSize(100)
+            .scan(tuples::add);
+
+        assertEquals(users.select(Collections.emptyList(), Iterator.ALL.getValue(), 0, Integer.MAX_VALUE), tuples);
+        assertEquals(selects + 4, server.getRequestCount(Code.SELECT));
+    }
+
+    @Test
+    @DisplayName("read each tuple once by the partitions")
+    public void testPartitions() throws Exception {
+        Set<Object> ids = ConcurrentHashMap.newKeySet();
+        List<List<?>> tuples = Collections.synchronizedList(new ArrayList<>());
+        new TarantoolSpaceScanner(clients, "users")
+            .setPageSize(50)
+            .setPartitions(7)
+            .scan(tuple -> {
+                tuples.add(tuple);
+                ids.add(tuple.get(0));
+            });
+
+        assertEquals(users.size(), tuples.size());
+        assertEquals(users.size(), ids.size());
+    }
+
+    @Test
+    @DisplayName("streamed the tuples with a bounded buffer")
+    public void testStream() {
+        try (Stream<List<?>> stream = new TarantoolSpaceScanner(clients, "users")
+            .setPageSize(30)
+            .setPartitions(3)
+            .setBufferSize(10)
+            .stream()) {
+            List<Object> ids = stream.map(tuple -> tuple.get(0)).sorted().collect(Collectors.toList());
+            assertEquals(users.size(), ids.size());
+            assertEquals(0, ids.get(0));
+            assertEquals(999, ids.get(ids.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("stopped reading when the stream was closed")
+    public void testClosedStream() {
+        final long selects = server.getRequestCount(Code.SELECT);
+        try (Stream<List<?>> stream = new TarantoolSpaceScanner(clients.get(0), "users")
+            .setPageSize(10)
+            .setBufferSize(5)
+            .stream()) {
+            assertEquals(Arrays.asList(0, "user0"), stream.findFirst().orElse(null));
+            awaitTrue(() -> server.getRequestCount(Code.SELECT) - selects > 0);
+        }
+        awaitTrue(() -> getScannerThreads().isEmpty());
+        assertTrue(server.getRequestCount(Code.SELECT) - selects < 5);
+    }
+
+    @Test
+    @DisplayName("stopped the partitions when the stream was closed")
+    public void testClosedPartitionedStream() {
+        try (Stream<List<?>> stream = new TarantoolSpaceScanner(clients, "users")
+            .setPageSize(10)
+            .setPartitions(3)
+            .setBufferSize(5)
+            .stream()) {
+            assertEquals(3, stream.limit(3).count());
+        }
+        awaitTrue(() -> getScannerThreads().isEmpty());
+    }
+
+    @Test
+    @DisplayName("scanned a space evicted from the schema cache")
+    public void testEvictedSpace() throws Exception {
+        TarantoolClientImpl client = clients.get(0);
+        server.createSpace("orders", "id");
+        client.syncOps().ping();
+        awaitTrue(() -> client.getSchemaMeta().getSchemaVersion() == server.getSchemaVersion());
+        awaitTrue(client::isSchemaLoaded);
+
+        List<List<?>> tuples = new ArrayList<>();
+        new TarantoolSpaceScanner(client, "users")
+            .setPartitions(3)
+            .scan(tuples::add);
+        assertEquals(users.size(), tuples.size());
+    }
+
+    private List<Thread> getScannerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("tarantool-scanner") && thread.isAlive())
+            .collect(Collectors.toList());
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.tarantool;
 
+import org.tarantool.server.FakeTarantoolServer;
+
 import java.io.IOException;
 import java.math.BigInteger;
 import java.net.InetSocketAddress;
@@ -10,6 +12,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class TestUtils {
@@ -355,4 +359,50 @@ public class TestUtils {
         return false;
     }
 
+    /**
+     * Connects a client to a fake server and waits
+     * until the client loads the schema.
+     *
+     * @param server  started server
+     * @param options sets the options specific to a test
+     *
+     * @return connected client
+     */
+    public static TarantoolClientImpl makeFakeServerClient(FakeTarantoolServer server,
+                                                           Consumer<TarantoolClientConfig> options) {
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        config.initTimeoutMillis = 2000;
+        options.accept(config);
+        TarantoolClientImpl client = new TarantoolClientImpl(server.getAddress(), config);
+        // the requests bypass the cached schema until it is loaded
+        awaitTrue(client::isSchemaLoaded);
+        return client;
+    }
+
+    public static TarantoolClientImpl makeFakeServerClient(FakeTarantoolServer server) {
+        return makeFakeServerClient(server, config -> { });
+    }
+
+    /**
+     * Waits up to 5 seconds until the condition is met.
+     *
+     * @param condition condition to be checked
+     *
+     * @throws AssertionError if the condition is not met in time
+     */
+    public static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition is not met in time");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,139 @@
+package org.tarantool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+@DisplayName("Unix domain socket support")
+public class UnixDomainSocketsTest {
+
+    @Test
+    @DisplayName("recognized the unix socket addresses")
+    public void testUnixAddress() {
+        assertTrue(UnixDomainSockets.isUnixAddress("unix:/var/run/tarantool.sock"));
+        assertTrue(UnixDomainSockets.isUnixAddress("unix/:/var/run/tarantool.sock"));
+        assertFalse(UnixDomainSockets.isUnixAddress("localhost:3301"));
+        assertFalse(UnixDomainSockets.isUnixAddress(new InetSocketAddress("localhost", 3301)));
+    }
+
+    @Test
+    @DisplayName("rejected the unix socket addresses on old runtimes")
+    public void testUnsupportedRuntime() {
+        assumeFalse(isSupported());
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> new SingleSocketChannelProviderImpl("unix:/var/run/tarantool.sock")
+        );
+    }
+
+    @Test
+    @DisplayName("connected the client through a unix socket")
+    public void testConnect() throws Exception {
+        assumeTrue(isSupported());
+        Path directory = Files.createTempDirectory("tarantool");
+        Path socket = directory.resolve("fake.sock");
+        try (FakeTarantoolServer server = new FakeTarantoolServer().start()) {
+            server.createSpace("users", "id", "name").insert(Arrays.asList(1, "alice"));
+            ServerSocketChannel proxy = startProxy(socket, new InetSocketAddress("localhost", server.getPort()));
+            TarantoolClientConfig config = new TarantoolClientConfig();
+            config.initTimeoutMillis = 2000;
+            TarantoolClientImpl client = new TarantoolClientImpl("unix/:" + socket, config);
+            try {
+                assertEquals(
+                    Collections.singletonList(Arrays.asList(1, "alice")),
+                    client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ)
+                );
+            } finally {
+                client.close();
+                proxy.close();
+            }
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.delete(directory);
+        }
+    }
+
+    private static boolean isSupported() {
+        try {
+            Class.forName("java.net.UnixDomainSocketAddress");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Relays the connections of a unix socket to
+     * a TCP address.
+     */
+    private static ServerSocketChannel startProxy(Path socket, SocketAddress target) throws Exception {
+        ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+        ServerSocketChannel server = (ServerSocketChannel) ServerSocketChannel.class
+            .getMethod("open", ProtocolFamily.class)
+            .invoke(null, unix);
+        server.bind(UnixDomainSockets.parse("unix:" + socket));
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    SocketChannel client = server.accept();
+                    SocketChannel upstream = SocketChannel.open(target);
+                    startPump(client, upstream);
+                    startPump(upstream, client);
+                }
+            } catch (IOException ignored) {
+                // the proxy is closed
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server;
+    }
+
+    private static void startPump(SocketChannel from, SocketChannel to) {
+        Thread pump = new Thread(() -> {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            try {
+                while (from.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        to.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            } catch (IOException ignored) {
+                // the connection is closed
+            } finally {
+                try {
+                    from.close();
+                    to.close();
+                } catch (IOException ignored) {
+                    // no-op
+                }
+            }
+        });
+        pump.setDaemon(true);
+        pump.start();
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.tarantool.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@DisplayName("A bucket map")
+public class BucketMapTest {
+
+    @Test
+    @DisplayName("mapped the buckets to the replica sets by ranges")
+    public void testParse() {
+        Map<String, Object> ranges = new HashMap<>();
+        ranges.put("host1:3301", Arrays.asList(Arrays.asList(1, 2), Arrays.asList(5, 5)));
+        ranges.put("host2:3301", Collections.singletonList(Arrays.asList(3, 4)));
+        BucketMap map = BucketMap.parse(Collections.singletonList(ranges), 6, 1);
+
+        assertEquals("host1:3301", map.getOwner(1));
+        assertEquals("host1:3301", map.getOwner(2));
+        assertEquals("host2:3301", map.getOwner(3));
+        assertEquals("host2:3301", map.getOwner(4));
+        assertEquals("host1:3301", map.getOwner(5));
+        assertNull(map.getOwner(6));
+        assertNull(map.getOwner(7));
+        assertEquals(2, map.getReplicaSets().size());
+    }
+
+    @Test
+    @DisplayName("rejected the results breaking the contract")
+    public void testIllegalResult() {
+        assertThrows(IllegalDiscoveryFunctionResult.class, () -> BucketMap.parse(Collections.emptyList(), 10, 1));
+        assertThrows(
+            IllegalDiscoveryFunctionResult.class,
+            () -> BucketMap.parse(Collections.singletonList(Collections.singletonMap("host", "1-10")), 10, 1)
+        );
+        assertThrows(
+            IllegalDiscoveryFunctionResult.class,
+            () -> BucketMap.parse(
+                Collections.singletonList(
+                    Collections.singletonMap("host", Collections.singletonList(Arrays.asList(5, 11)))
+                ),
+                10,
+                1
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("computed the bucket ids compatible with digest.crc32")
+    public void testStrCrc32() {
+        // digest.crc32('123456789') == 486108540
+        assertEquals(486108540, Integer.toUnsignedLong(
+            BucketIdFunction.Crc32c.calculate("123456789".getBytes(StandardCharsets.UTF_8))
+        ));
+        BucketIdFunction function = BucketIdFunction.strCrc32();
+        assertEquals(486108540 % 3000 + 1, function.getBucketId("123456789", 3000));
+        assertEquals(function.getBucketId("12345", 3000), function.getBucketId(12345, 3000));
+        assertEquals(function.getBucketId("ab", 3000), function.getBucketId(Arrays.asList("a", "b"), 3000));
+        for (int key = 0; key < 1000; key++) {
+            int bucketId = function.getBucketId(key, 16);
+            assertTrue(bucketId >= 1 && bucketId <= 16);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.tarantool.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A hedged read policy")
+public class HedgedReadPolicyTest {
+
+    @Test
+    @DisplayName("used the min delay until enough latencies were recorded")
+    public void testMinDelay() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 5, 10);
+        for (int i = 0; i < HedgedReadPolicy.MIN_SAMPLE_COUNT - 1; i++) {
+            policy.recordLatency(TimeUnit.SECONDS.toNanos(1));
+        }
+        policy.refresh();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), policy.getDelayNanos());
+    }
+
+    @Test
+    @DisplayName("delayed hedges by the percentile of the recent latencies")
+    public void testPercentileDelay() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 0, 10);
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency(i);
+        }
+        policy.refresh();
+        assertEquals(95, policy.getDelayNanos());
+
+        // old latencies are replaced by the recent ones
+        for (int i = 0; i < HedgedReadPolicy.SAMPLE_COUNT; i++) {
+            policy.recordLatency(1000);
+        }
+        policy.refresh();
+        assertEquals(1000, policy.getDelayNanos());
+    }
+
+    @Test
+    @DisplayName("limited hedges by the budget")
+    public void testBudget() {
+        HedgedReadPolicy policy = new HedgedReadPolicy(95, 5, 10);
+        int burst = 0;
+        while (policy.tryAcquire()) {
+            burst++;
+        }
+        assertEquals(10, burst);
+
+        for (int i = 0; i < 9; i++) {
+            policy.onRead();
+        }
+        assertFalse(policy.tryAcquire());
+        policy.onRead();
+        assertTrue(policy.tryAcquire());
+        assertFalse(policy.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("rejected invalid settings")
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new HedgedReadPolicy(0, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new HedgedReadPolicy(101, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new HedgedReadPolicy(95, -1, 10));
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.tarantool.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A node selector")
+public class NodeSelectorTest {
+
+    @Test
+    @DisplayName("smoothed the node latencies and errors")
+    public void testStats() {
+        TarantoolNodeStats stats = new TarantoolNodeStats(0.5);
+        stats.onRequestStarted();
+        assertEquals(1, stats.getInFlight());
+        stats.onRequestCompleted(100, false);
+        assertEquals(0, stats.getInFlight());
+        assertEquals(100, stats.getLatencyNanos());
+
+        stats.onRequestStarted();
+        stats.onRequestCompleted(300, true);
+        assertEquals(200, stats.getLatencyNanos());
+        assertEquals(0.5, stats.getErrorRate());
+        assertEquals(400, stats.getScore());
+    }
+
+    @Test
+    @DisplayName("excluded the node for the penalty period")
+    public void testPenalty() throws InterruptedException {
+        TarantoolNodeStats stats = new TarantoolNodeStats(0.5);
+        assertFalse(stats.isPenalized());
+        stats.penalize(TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(stats.isPenalized());
+        Thread.sleep(60);
+        assertFalse(stats.isPenalized());
+    }
+
+    @Test
+    @DisplayName("rotated the nodes in the round-robin mode")
+    public void testRoundRobin() {
+        List<TarantoolNode> nodes = Arrays.asList(node("a", 1), node("b", 1));
+        NodeSelector selector = NodeSelector.roundRobin();
+        assertSame(nodes.get(0), selector.select(nodes));
+        assertSame(nodes.get(1), selector.select(nodes));
+        assertSame(nodes.get(0), selector.select(nodes));
+    }
+
+    @Test
+    @DisplayName("chose the node with the least requests in flight")
+    public void testLeastLoaded() {
+        TarantoolNode busy = node("a", 1);
+        busy.getStats().onRequestStarted();
+        TarantoolNode slow = node("b", 1000);
+        TarantoolNode fast = node("c", 10);
+        assertSame(fast, NodeSelector.leastLoaded().select(Arrays.asList(busy, slow, fast)));
+    }
+
+    @Test
+    @DisplayName("never chose the worst of the nodes by two choices")
+    public void testPowerOfTwoChoices() {
+        TarantoolNode slow = node("slow", 1_000_000);
+        List<TarantoolNode> nodes = Arrays.asList(node("a", 1000), slow, node("b", 2000));
+        NodeSelector selector = NodeSelector.powerOfTwoChoices();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(selector.select(nodes) != slow);
+        }
+    }
+
+    private static TarantoolNode node(String address, long latencyNanos) {
+        TarantoolNodeStats stats = new TarantoolNodeStats(1);
+        stats.onRequestStarted();
+        stats.onRequestCompleted(latencyNanos, false);
+        return new TarantoolNode() {
+            @Override
+            public String getAddress() {
+                return address;
+            }
+
+            @Override
+            public TarantoolNodeStats getStats() {
+                return stats;
+            }
+
+            @Override
+            public boolean isAlive() {
+                return true;
+            }
+        };
+    }
+
+}
@@ -62,6 +62,15 @@ public class JdbcDriverTest {
         assertEquals("secret", SQLProperty.PASSWORD.getString(result));
     }
 
+    @Test
+    public void testParseQueryStringUnixSocket() throws Exception {
+        SQLDriver drv = new SQLDriver();
+        Properties result = drv.parseQueryString(
+            new URI("jdbc:tarantool://localhost?socket=/var/run/tarantool/app.sock"), null
+        );
+        assertEquals("/var/run/tarantool/app.sock", SQLProperty.SOCKET.getString(result));
+    }
+
     @Test
     public void testParseQueryStringValidations() {
         // Check non-number port
@@ -106,6 +115,20 @@ public class JdbcDriverTest {
             null,
             "Property queryTimeout must not be negative."
         );
+
+        // Check negative buffer size
+        checkParseQueryStringValidation(
+            String.format("jdbc:tarantool://0:3301?%s=-1", SQLProperty.RECEIVE_BUFFER_SIZE.getName()),
+            null,
+            "Property receiveBufferSize must not be negative."
+        );
+
+        // Check non-boolean flag
+        checkParseQueryStringValidation(
+            String.format("jdbc:tarantool://0:3301?%s=yes", SQLProperty.TCP_NO_DELAY.getName()),
+            null,
+            "Property tcpNoDelay must be either true or false."
+        );
     }
 
     @Test
@@ -114,7 +137,7 @@ public class JdbcDriverTest {
         Properties props = new Properties();
         DriverPropertyInfo[] info = drv.getPropertyInfo("jdbc:tarantool://server.local:3302", props);
         assertNotNull(info);
-        assertEquals(7, info.length);
+        assertEquals(12, info.length);
 
         for (DriverPropertyInfo e : info) {
             assertNotNull(e.name);
@@ -133,6 +156,9 @@ public class JdbcDriverTest {
             } else if (SQLProperty.PASSWORD.getName().equals(e.name)) {
                 assertFalse(e.required);
                 assertNull(e.value);
+            } else if (SQLProperty.SOCKET.getName().equals(e.name)) {
+                assertFalse(e.required);
+                assertNull(e.value);
             } else if (SQLProperty.SOCKET_CHANNEL_PROVIDER.getName().equals(e.name)) {
                 assertFalse(e.required);
                 assertNull(e.value);
@@ -142,6 +168,18 @@ public class JdbcDriverTest {
             } else if (SQLProperty.QUERY_TIMEOUT.getName().equals(e.name)) {
                 assertFalse(e.required);
                 assertEquals("0", e.value);
+            } else if (SQLProperty.TCP_NO_DELAY.getName().equals(e.name)) {
+                assertFalse(e.required);
+                assertEquals("true", e.value);
+            } else if (SQLProperty.KEEP_ALIVE.getName().equals(e.name)) {
+                assertFalse(e.required);
+                assertEquals("false", e.value);
+            } else if (SQLProperty.SEND_BUFFER_SIZE.getName().equals(e.name)) {
+                assertFalse(e.required);
+                assertEquals("0", e.value);
+            } else if (SQLProperty.RECEIVE_BUFFER_SIZE.getName().equals(e.name)) {
+                assertFalse(e.required);
+                assertEquals("0", e.value);
             } else {
                 fail("Unknown property '" + e.name + "'");
             }
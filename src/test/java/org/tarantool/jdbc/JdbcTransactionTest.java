@@ -0,0 +1,98 @@
+package org.tarantool.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.tarantool.Code;
+import org.tarantool.server.FakeSqlResult;
+import org.tarantool.server.FakeTarantoolServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+@DisplayName("A JDBC connection in the manual commit mode")
+public class JdbcTransactionTest {
+
+    private static final String INSERT = "INSERT INTO users VALUES (1, 'alice')";
+
+    private FakeTarantoolServer server;
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer().start();
+        server.registerSql(INSERT, args -> FakeSqlResult.ofUpdate(1));
+        Properties properties = new Properties();
+        properties.setProperty(SQLProperty.HOST.getName(), "localhost");
+        properties.setProperty(SQLProperty.PORT.getName(), String.valueOf(server.getPort()));
+        connection = new SQLConnection("jdbc:tarantool://localhost:" + server.getPort(), properties);
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("wrapped the statements into transactions")
+    public void testCommitAndRollback() throws SQLException {
+        connection.setAutoCommit(false);
+        assertFalse(connection.getAutoCommit());
+        connection.commit();
+        assertEquals(0, server.getRequestCount(Code.BEGIN));
+
+        try (Statement statement = connection.createStatement()) {
+            assertEquals(1, statement.executeUpdate(INSERT));
+            assertEquals(1, statement.executeUpdate(INSERT));
+            connection.commit();
+            assertEquals(1, statement.executeUpdate(INSERT));
+            connection.rollback();
+        }
+        assertEquals(2, server.getRequestCount(Code.BEGIN));
+        assertEquals(1, server.getRequestCount(Code.COMMIT));
+        assertEquals(1, server.getRequestCount(Code.ROLLBACK));
+    }
+
+    @Test
+    @DisplayName("committed the transaction when the auto-commit was enabled")
+    public void testEnableAutoCommit() throws SQLException {
+        assertThrows(SQLException.class, connection::commit);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(INSERT);
+            connection.setAutoCommit(true);
+            assertTrue(connection.getAutoCommit());
+            statement.executeUpdate(INSERT);
+        }
+        assertEquals(1, server.getRequestCount(Code.BEGIN));
+        assertEquals(1, server.getRequestCount(Code.COMMIT));
+    }
+
+    @Test
+    @DisplayName("reported the serializable transactions")
+    public void testIsolation() throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        assertTrue(metaData.supportsTransactions());
+        assertEquals(Connection.TRANSACTION_SERIALIZABLE, metaData.getDefaultTransactionIsolation());
+        assertTrue(metaData.supportsTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE));
+        assertFalse(metaData.supportsTransactionIsolationLevel(Connection.TRANSACTION_READ_COMMITTED));
+
+        connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+        assertThrows(SQLException.class, () -> connection.setTransactionIsolation(Connection.TRANSACTION_NONE));
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.tarantool.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.tarantool.Code;
+import org.tarantool.metrics.TarantoolClientMetrics.Latency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.openmbean.TabularData;
+
+@DisplayName("A JMX metrics exporter")
+public class JmxMetricsExporterTest {
+
+    @Test
+    @DisplayName("published the client metrics")
+    public void testExport() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        TarantoolClientMetrics metrics = new TarantoolClientMetrics();
+        metrics.recordRequest(Code.SELECT);
+        metrics.recordError(Code.SELECT, 36);
+        metrics.recordLatency(Latency.ROUND_TRIP, 1000);
+        metrics.registerGauge("inFlightRequests", () -> 5);
+
+        JmxMetricsExporter exporter = new JmxMetricsExporter(server, "test-client");
+        exporter.register(metrics);
+        try {
+            assertTrue(server.isRegistered(exporter.getObjectName()));
+            assertEquals(1L, getEntry(server.getAttribute(exporter.getObjectName(), "Requests"), "SELECT"));
+            assertEquals(1L, getEntry(server.getAttribute(exporter.getObjectName(), "ServerErrors"), "36"));
+            assertEquals(5L, getEntry(server.getAttribute(exporter.getObjectName(), "Gauges"), "inFlightRequests"));
+            assertEquals(1000L, getEntry(server.getAttribute(exporter.getObjectName(), "RoundTripLatency"), "max"));
+        } finally {
+            exporter.unregister(metrics);
+        }
+        assertFalse(server.isRegistered(exporter.getObjectName()));
+    }
+
+    private Object getEntry(Object attribute, String key) {
+        return ((TabularData) attribute).get(new Object[] {key}).get("value");
+    }
+
+}
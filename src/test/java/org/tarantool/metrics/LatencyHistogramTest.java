@@ -0,0 +1,54 @@
+package org.tarantool.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("A latency histogram")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("kept values within the bucket precision")
+    public void testBucketBounds() {
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 16, "value " + value + " bound " + upperBound);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    @DisplayName("reported percentiles of recorded values")
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencySnapshot snapshot = histogram.getSnapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMax());
+        assertEquals(500_500, snapshot.getMean(), 0.1);
+        assertWithinPrecision(500_000, snapshot.getValueAtPercentile(50));
+        assertWithinPrecision(990_000, snapshot.getValueAtPercentile(99));
+        assertEquals(1_000_000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("reported zeros when nothing is recorded")
+    public void testEmptySnapshot() {
+        LatencySnapshot snapshot = new LatencyHistogram(1).getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+        assertEquals(0, snapshot.getMean(), 0);
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 16, "actual value " + actual);
+    }
+
+}
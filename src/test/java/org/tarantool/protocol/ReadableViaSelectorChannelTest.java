@@ -0,0 +1,82 @@
+package org.tarantool.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+@DisplayName("A channel reading via a selector")
+class ReadableViaSelectorChannelTest {
+
+    private ServerSocketChannel server;
+    private SocketChannel writer;
+    private SocketChannel reader;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("localhost", 0));
+        reader = SocketChannel.open(server.getLocalAddress());
+        writer = server.accept();
+        reader.configureBlocking(false);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        reader.close();
+        writer.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("read the buffers fully without a read-ahead buffer")
+    public void testUnbufferedRead() throws IOException {
+        checkReads(new ReadableViaSelectorChannel(reader));
+    }
+
+    @Test
+    @DisplayName("read the buffers fully through a read-ahead buffer")
+    public void testBufferedRead() throws IOException {
+        checkReads(new ReadableViaSelectorChannel(reader, 16));
+    }
+
+    private void checkReads(ReadableViaSelectorChannel channel) throws IOException {
+        byte[] data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        writer.write(ByteBuffer.wrap(data, 0, 30));
+        Thread late = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+                writer.write(ByteBuffer.wrap(data, 30, data.length - 30));
+            } catch (Exception ignored) {
+                // the read fails
+            }
+        });
+        late.start();
+
+        // small reads are served from the buffer, the large one bypasses it
+        int[] sizes = {5, 7, 20, 40, 28};
+        int offset = 0;
+        for (int size : sizes) {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            assertEquals(size, channel.read(buffer));
+            byte[] expected = new byte[size];
+            System.arraycopy(data, offset, expected, 0, size);
+            assertArrayEquals(expected, buffer.array());
+            offset += size;
+        }
+        assertEquals(data.length, offset);
+    }
+
+}
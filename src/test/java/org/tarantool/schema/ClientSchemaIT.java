@@ -187,6 +187,27 @@ public class ClientSchemaIT {
         assertIndex(expectedPrimaryIndex, primaryIndex);
     }
 
+    @Test
+    @DisplayName("refreshed the schema on a server event")
+    void testSchemaWatch() throws InterruptedException {
+        TestAssumptions.assumeMinimalServerVersion(testHelper.getInstanceVersion(), ServerVersion.V_2_10);
+        client.syncOps().ping();
+        testHelper.executeLua(
+            "box.schema.space.create('count_space', { format = " +
+                "{ {name = 'id', type = 'integer'} } })"
+        );
+        long serverVersion = ((Number) testHelper.evaluate("box.internal.schema_version()")).longValue();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (client.getSchemaMeta().getSchemaVersion() < serverVersion) {
+            if (deadline < System.currentTimeMillis()) {
+                fail("The schema was not refreshed in time");
+            }
+            Thread.sleep(50);
+        }
+        assertEquals(serverVersion, client.getSchemaMeta().getSchemaVersion());
+    }
+
     @Test
     @DisplayName("got an error with a wrong space name")
     void tesGetUnknownSpace() {
@@ -0,0 +1,232 @@
+package org.tarantool.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.tarantool.TestUtils.awaitTrue;
+
+import org.tarantool.Iterator;
+import org.tarantool.TarantoolClientImpl;
+import org.tarantool.TarantoolClientOps;
+import org.tarantool.util.TupleTwo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@DisplayName("A schema cache")
+public class TarantoolMetaSpacesCacheTest {
+
+    private static final int VSPACE_ID = 281;
+
+    private final List<List<?>> spaces = new ArrayList<>();
+    private final List<List<?>> indexes = new ArrayList<>();
+    private final List<Integer> selectedSpaces = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Queue<Runnable> deferredReplies;
+    private volatile long serverVersion;
+
+    private TarantoolMetaSpacesCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        serverVersion = 1;
+        addSpace(512, "users");
+        addSpace(513, "orders");
+
+        TarantoolClientOps<Integer, List<?>, Object, CompletableFuture<TupleTwo<List<?>, Long>>> ops =
+            mock(TarantoolClientOps.class);
+        when(ops.select(anyInt(), anyInt(), any(List.class), anyInt(), anyInt(), any(Iterator.class)))
+            .thenAnswer(invocation -> {
+                Object[] arguments = invocation.getArguments();
+                requests.incrementAndGet();
+                CompletableFuture<TupleTwo<List<?>, Long>> result = new CompletableFuture<>();
+                Runnable reply = () -> result.complete(
+                    select(
+                        (Integer) arguments[0],
+                        (Integer) arguments[1],
+                        (List<?>) arguments[2],
+                        (Integer) arguments[4],
+                        (Iterator) arguments[5]
+                    )
+                );
+                if (deferredReplies == null) {
+                    reply.run();
+                } else {
+                    deferredReplies.add(reply);
+                }
+                return result;
+            });
+        TarantoolClientImpl client = mock(TarantoolClientImpl.class);
+        when(client.unsafeSchemaAsyncOps()).thenReturn(ops);
+
+        cache = new TarantoolMetaSpacesCache(client);
+        cache.refresh();
+    }
+
+    @Test
+    @DisplayName("checked the used spaces only on access after the incremental refresh")
+    public void testIncrementalRefresh() {
+        assertEquals(512, cache.getSpace("users").getId());
+        serverVersion = 2;
+        addIndex(512, 1, "name");
+        selectedSpaces.clear();
+
+        assertEquals(2, cache.refreshIncrementally());
+        assertEquals(Collections.emptyList(), selectedSpaces);
+        assertEquals(512, cache.getSpace("users").getId());
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("users"));
+
+        // the space is checked by id and by name
+        assertEquals(2, cache.loadMissing());
+        assertEquals(Arrays.asList(512, 512), selectedSpaces);
+        assertNotNull(cache.getCachedSpaceIndex("users", "name"));
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getSpace("orders"));
+    }
+
+    @Test
+    @DisplayName("found a space recreated with the same name")
+    public void testRecreatedSpace() {
+        cache.getSpace("users");
+        spaces.remove(0);
+        indexes.remove(0);
+        addSpace(514, "users");
+        serverVersion = 2;
+        cache.refreshIncrementally();
+
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("users"));
+        cache.loadMissing();
+        assertEquals(514, cache.getCachedSpace("users").getId());
+    }
+
+    @Test
+    @DisplayName("fetched the evicted and new spaces on demand")
+    public void testLoadOnAccess() {
+        serverVersion = 2;
+        cache.refreshIncrementally();
+        addSpace(514, "payments");
+        addIndex(514, 1, "date");
+
+        requests.set(0);
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getSpace("payments"));
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getSpaceIndex("payments", "date"));
+        assertEquals(0, requests.get());
+
+        assertEquals(513, cache.fetchSpace("orders").getId());
+        assertEquals(513, cache.getCachedSpace("orders").getId());
+        assertNotNull(cache.fetchSpaceIndex("payments", "date"));
+        assertEquals(514, cache.getCachedSpace("payments").getId());
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.fetchSpace("unknown"));
+        assertThrows(TarantoolIndexNotFoundException.class, () -> cache.fetchSpaceIndex("orders", "unknown"));
+
+        // the failed lookups are not left for the next refresh
+        requests.set(0);
+        cache.loadMissing();
+        assertEquals(0, requests.get());
+    }
+
+    @Test
+    @DisplayName("sent the selects of the stale spaces at once")
+    public void testPipelinedLoad() throws Exception {
+        addSpace(514, "payments");
+        cache.refresh();
+        cache.getSpace("users");
+        cache.getSpace("orders");
+        cache.getSpace("payments");
+        serverVersion = 2;
+        cache.refreshIncrementally();
+        for (String name : Arrays.asList("users", "orders", "payments")) {
+            assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace(name));
+        }
+        requests.set(0);
+        deferredReplies = new ConcurrentLinkedQueue<>();
+
+        // the spaces are checked by id and by name
+        final CompletableFuture<Long> load = CompletableFuture.supplyAsync(cache::loadMissing);
+        awaitTrue(() -> requests.get() == 9);
+        Thread.sleep(100);
+        assertEquals(9, requests.get());
+        deferredReplies.forEach(Runnable::run);
+        assertEquals(2, load.get(5, TimeUnit.SECONDS).longValue());
+        assertEquals(514, cache.getCachedSpace("payments").getId());
+    }
+
+    @Test
+    @DisplayName("loaded the evicted and new spaces on demand")
+    public void testLoadMissing() {
+        serverVersion = 2;
+        cache.refreshIncrementally();
+        addSpace(514, "payments");
+
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("orders"));
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("payments"));
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("unknown"));
+        assertEquals(2, cache.loadMissing());
+
+        assertEquals(513, cache.getCachedSpace("orders").getId());
+        assertEquals(514, cache.getCachedSpace("payments").getId());
+        assertThrows(TarantoolSpaceNotFoundException.class, () -> cache.getCachedSpace("unknown"));
+    }
+
+    @Test
+    @DisplayName("left the cache untouched when the schema was changed")
+    public void testLoadMissingOfOutdatedSchema() {
+        serverVersion = 2;
+        addIndex(512, 1, "name");
+
+        assertThrows(TarantoolIndexNotFoundException.class, () -> cache.getCachedSpaceIndex("users", "name"));
+        assertEquals(2, cache.loadMissing());
+        assertEquals(1, cache.getSchemaVersion());
+        assertThrows(TarantoolIndexNotFoundException.class, () -> cache.getCachedSpaceIndex("users", "name"));
+
+        assertEquals(2, cache.refreshIncrementally());
+        assertNotNull(cache.getCachedSpaceIndex("users", "name"));
+    }
+
+    private TupleTwo<List<?>, Long> select(int space, int index, List<?> key, int limit, Iterator iterator) {
+        List<List<?>> source = space == VSPACE_ID ? spaces : indexes;
+        List<List<?>> result = source.stream()
+            .filter(tuple -> iterator == Iterator.ALL || tuple.get(index == 2 ? 2 : 0).equals(key.get(0)))
+            .limit(limit)
+            .collect(Collectors.toList());
+        if (space == VSPACE_ID && iterator == Iterator.EQ) {
+            result.forEach(tuple -> selectedSpaces.add((Integer) tuple.get(0)));
+        }
+        return TupleTwo.of(result, serverVersion);
+    }
+
+    private void addSpace(int id, String name) {
+        Map<String, Object> field = new HashMap<>();
+        field.put("name", "id");
+        field.put("type", "unsigned");
+        spaces.add(Arrays.asList(id, 1, name, "memtx", 0, Collections.emptyMap(), Collections.singletonList(field)));
+        addIndex(id, 0, "pk");
+    }
+
+    private void addIndex(int spaceId, int indexId, String name) {
+        indexes.add(Arrays.asList(
+            spaceId, indexId, name, "TREE",
+            Collections.singletonMap("unique", true),
+            Collections.singletonList(Arrays.asList(0, "unsigned"))
+        ));
+    }
+
+}
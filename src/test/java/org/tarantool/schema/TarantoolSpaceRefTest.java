@@ -0,0 +1,76 @@
+package org.tarantool.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+@DisplayName("A space handle")
+public class TarantoolSpaceRefTest {
+
+    private TarantoolSchemaMeta schemaMeta;
+
+    @BeforeEach
+    public void setUp() {
+        schemaMeta = mock(TarantoolSchemaMeta.class);
+        when(schemaMeta.getSchemaVersion()).thenReturn(1L);
+        when(schemaMeta.getCachedSpace("users")).thenReturn(makeSpace(512));
+        when(schemaMeta.getCachedSpaceIndex("users", "pk")).thenReturn(makeIndex(0));
+    }
+
+    @Test
+    @DisplayName("looked up the names once per schema version")
+    public void testCachedIds() {
+        TarantoolSpaceRef space = new TarantoolSpaceRef(schemaMeta, "users");
+        TarantoolIndexRef index = space.index("pk");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(512, space.getId());
+            assertEquals(0, index.getId());
+        }
+        verify(schemaMeta, times(1)).getCachedSpace("users");
+        verify(schemaMeta, times(1)).getCachedSpaceIndex("users", "pk");
+
+        when(schemaMeta.getSchemaVersion()).thenReturn(2L);
+        when(schemaMeta.getCachedSpace("users")).thenReturn(makeSpace(513));
+        assertEquals(513, space.getId());
+        assertEquals(0, index.getId());
+        verify(schemaMeta, times(2)).getCachedSpace("users");
+        verify(schemaMeta, times(2)).getCachedSpaceIndex("users", "pk");
+    }
+
+    @Test
+    @DisplayName("became unserializable when a name is not found")
+    public void testUnknownNames() {
+        when(schemaMeta.getCachedSpace("unknown")).thenThrow(new TarantoolSpaceNotFoundException("unknown"));
+        when(schemaMeta.getCachedSpaceIndex("users", "unknown"))
+            .thenThrow(new TarantoolIndexNotFoundException("users", "unknown"));
+
+        TarantoolSpaceRef unknownSpace = new TarantoolSpaceRef(schemaMeta, "unknown");
+        assertFalse(unknownSpace.isSerializable());
+        assertThrows(TarantoolSpaceNotFoundException.class, unknownSpace::getValue);
+
+        TarantoolIndexRef unknownIndex = new TarantoolSpaceRef(schemaMeta, "users").index("unknown");
+        assertFalse(unknownIndex.isSerializable());
+        assertTrue(unknownIndex.getSpace().isSerializable());
+    }
+
+    private TarantoolSpaceMeta makeSpace(int id) {
+        return new TarantoolSpaceMeta(id, "users", "memtx", Collections.emptyList(), Collections.emptyMap());
+    }
+
+    private TarantoolIndexMeta makeIndex(int id) {
+        return new TarantoolIndexMeta(id, "pk", "TREE", null, Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.tarantool.server;
+
+/**
+ * Error to be sent to the client by {@link FakeTarantoolServer}.
+ */
+public class FakeServerException extends RuntimeException {
+
+    /* taken from src/box/errcode.h */
+    public static final int ER_TUPLE_FOUND = 3;
+    public static final int ER_UNSUPPORTED = 5;
+    public static final int ER_FIELD_TYPE = 23;
+    public static final int ER_UNKNOWN_UPDATE_OP = 28;
+    public static final int ER_PROC_LUA = 32;
+    public static final int ER_NO_SUCH_PROC = 33;
+    public static final int ER_NO_SUCH_INDEX = 35;
+    public static final int ER_NO_SUCH_SPACE = 36;
+    public static final int ER_EXACT_FIELD_COUNT = 38;
+    public static final int ER_CREDS_MISMATCH = 47;
+    public static final int ER_UNKNOWN_REQUEST_TYPE = 48;
+    public static final int ER_ACTIVE_TRANSACTION = 79;
+    public static final int ER_CANT_UPDATE_PRIMARY_KEY = 94;
+    public static final int ER_WRONG_SCHEMA_VERSION = 109;
+    public static final int ER_SQL_EXECUTE = 171;
+
+    private final int code;
+
+    public FakeServerException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+}
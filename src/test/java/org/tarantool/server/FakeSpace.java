@@ -0,0 +1,328 @@
+package org.tarantool.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory space of {@link FakeTarantoolServer}.
+ * <p>
+ * A space has the only TREE index named {@code primary}
+ * over the first tuple field.
+ */
+public class FakeSpace {
+
+    static final int ITERATOR_EQ = 0;
+    static final int ITERATOR_REQ = 1;
+    static final int ITERATOR_ALL = 2;
+    static final int ITERATOR_LT = 3;
+    static final int ITERATOR_LE = 4;
+    static final int ITERATOR_GE = 5;
+    static final int ITERATOR_GT = 6;
+
+    private static final Comparator<Object> KEY_COMPARATOR = FakeSpace::compareKeys;
+
+    private final int id;
+    private final String name;
+    private final List<String> fieldNames;
+    private final ConcurrentSkipListMap<Object, List<?>> tuples = new ConcurrentSkipListMap<>(KEY_COMPARATOR);
+
+    FakeSpace(int id, String name, List<String> fieldNames) {
+        this.id = id;
+        this.name = name;
+        this.fieldNames = fieldNames;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    public int size() {
+        return tuples.size();
+    }
+
+    /**
+     * Finds a tuple by its primary key.
+     *
+     * @param key primary key value
+     *
+     * @return found tuple or {@literal null}
+     */
+    public List<?> get(Object key) {
+        return tuples.get(key);
+    }
+
+    /**
+     * Inserts a tuple.
+     *
+     * @param tuple new tuple
+     *
+     * @return inserted tuple
+     *
+     * @throws FakeServerException if the tuple already exists
+     */
+    public List<?> insert(List<?> tuple) {
+        checkTuple(tuple);
+        if (tuples.putIfAbsent(tuple.get(0), tuple) != null) {
+            throw new FakeServerException(
+                FakeServerException.ER_TUPLE_FOUND,
+                "Duplicate key exists in unique index 'primary' in space '" + name + "'"
+            );
+        }
+        return tuple;
+    }
+
+    /**
+     * Inserts or replaces a tuple.
+     *
+     * @param tuple new tuple
+     *
+     * @return inserted tuple
+     */
+    public List<?> replace(List<?> tuple) {
+        checkTuple(tuple);
+        tuples.put(tuple.get(0), tuple);
+        return tuple;
+    }
+
+    /**
+     * Deletes a tuple by its primary key.
+     *
+     * @param key primary key value
+     *
+     * @return deleted tuple or {@literal null}
+     */
+    public List<?> delete(Object key) {
+        return tuples.remove(key);
+    }
+
+    /**
+     * Applies update operations to a tuple.
+     *
+     * @param key        primary key value
+     * @param operations update operations
+     *
+     * @return updated tuple or {@literal null} if it is not found
+     */
+    public List<?> update(Object key, List<?> operations) {
+        while (true) {
+            List<?> tuple = tuples.get(key);
+            if (tuple == null) {
+                return null;
+            }
+            List<?> updated = applyOperations(tuple, operations);
+            if (compareKeys(updated.get(0), key) != 0) {
+                throw new FakeServerException(
+                    FakeServerException.ER_CANT_UPDATE_PRIMARY_KEY,
+                    "Attempt to modify a tuple field which is part of index 'primary' in space '" + name + "'"
+                );
+            }
+            if (tuples.replace(key, tuple, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Inserts a tuple or updates the existing one.
+     *
+     * @param tuple      tuple to be inserted
+     * @param operations operations to be applied to the existing tuple
+     */
+    public void upsert(List<?> tuple, List<?> operations) {
+        checkTuple(tuple);
+        while (tuples.putIfAbsent(tuple.get(0), tuple) != null) {
+            if (update(tuple.get(0), operations) != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Selects tuples using the primary index.
+     *
+     * @param key      index key, the empty key matches all tuples
+     * @param iterator iterator type
+     * @param offset   number of tuples to skip
+     * @param limit    max number of tuples to return
+     *
+     * @return found tuples
+     */
+    public List<List<?>> select(List<?> key, int iterator, int offset, int limit) {
+        Collection<List<?>> candidates;
+        if (key.isEmpty()) {
+            candidates = iterator == ITERATOR_REQ || iterator == ITERATOR_LT || iterator == ITERATOR_LE
+                ? tuples.descendingMap().values()
+                : tuples.values();
+        } else {
+            Object value = key.get(0);
+            switch (iterator) {
+            case ITERATOR_EQ:
+            case ITERATOR_REQ:
+                List<?> tuple = tuples.get(value);
+                candidates = tuple == null ? Collections.emptyList() : Collections.singletonList(tuple);
+                break;
+            case ITERATOR_ALL:
+            case ITERATOR_GE:
+                candidates = tuples.tailMap(value, true).values();
+                break;
+            case ITERATOR_GT:
+                candidates = tuples.tailMap(value, false).values();
+                break;
+            case ITERATOR_LE:
+                candidates = tuples.headMap(value, true).descendingMap().values();
+                break;
+            case ITERATOR_LT:
+                candidates = tuples.headMap(value, false).descendingMap().values();
+                break;
+            default:
+                throw new FakeServerException(
+                    FakeServerException.ER_UNSUPPORTED,
+                    "Index 'primary' (TREE) of space '" + name + "' does not support iterator type " + iterator
+                );
+            }
+        }
+        List<List<?>> result = new ArrayList<>();
+        int skipped = 0;
+        for (List<?> tuple : candidates) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (skipped++ >= offset) {
+                result.add(tuple);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the tuples.
+     */
+    public void truncate() {
+        tuples.clear();
+    }
+
+    private void checkTuple(List<?> tuple) {
+        if (tuple == null || tuple.isEmpty()) {
+            throw new FakeServerException(
+                FakeServerException.ER_EXACT_FIELD_COUNT,
+                "Tuple field 1 required by space format is missing"
+            );
+        }
+    }
+
+    private static List<?> applyOperations(List<?> tuple, List<?> operations) {
+        List<Object> updated = new ArrayList<>(tuple);
+        for (Object item : operations) {
+            List<?> operation = (List<?>) item;
+            String operator = (String) operation.get(0);
+            int field = ((Number) operation.get(1)).intValue();
+            if (field < 0) {
+                field += updated.size();
+            }
+            Object argument = operation.get(2);
+            switch (operator) {
+            case "=":
+                if (field == updated.size()) {
+                    updated.add(argument);
+                } else {
+                    updated.set(field, argument);
+                }
+                break;
+            case "+":
+            case "-":
+                long delta = ((Number) argument).longValue();
+                long value = ((Number) updated.get(field)).longValue();
+                updated.set(field, operator.equals("+") ? value + delta : value - delta);
+                break;
+            case "!":
+                updated.add(field, argument);
+                break;
+            case "#":
+                for (int i = ((Number) argument).intValue(); i > 0; i--) {
+                    updated.remove(field);
+                }
+                break;
+            default:
+                throw new FakeServerException(
+                    FakeServerException.ER_UNKNOWN_UPDATE_OP,
+                    "Unknown UPDATE operation '" + operator + "'"
+                );
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Compares key values in the same manner as the
+     * {@code scalar} type does: nulls, booleans, numbers,
+     * strings and then binaries.
+     */
+    static int compareKeys(Object left, Object right) {
+        int leftRank = rank(left);
+        int rightRank = rank(right);
+        if (leftRank != rightRank) {
+            return Integer.compare(leftRank, rightRank);
+        }
+        if (left instanceof Boolean) {
+            return Boolean.compare((Boolean) left, (Boolean) right);
+        }
+        if (left instanceof Number) {
+            Number leftNumber = (Number) left;
+            Number rightNumber = (Number) right;
+            if (isIntegral(leftNumber) && isIntegral(rightNumber)) {
+                return Long.compare(leftNumber.longValue(), rightNumber.longValue());
+            }
+            return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+        }
+        if (left instanceof String) {
+            return ((String) left).compareTo((String) right);
+        }
+        if (left instanceof byte[]) {
+            byte[] leftBytes = (byte[]) left;
+            byte[] rightBytes = (byte[]) right;
+            for (int i = 0; i < Math.min(leftBytes.length, rightBytes.length); i++) {
+                int result = Integer.compare(leftBytes[i] & 0xff, rightBytes[i] & 0xff);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(leftBytes.length, rightBytes.length);
+        }
+        return 0;
+    }
+
+    private static int rank(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof Number) {
+            return 2;
+        } else if (value instanceof String) {
+            return 3;
+        } else if (value instanceof byte[]) {
+            return 4;
+        }
+        throw new FakeServerException(
+            FakeServerException.ER_FIELD_TYPE,
+            "Unsupported key type " + value.getClass().getSimpleName()
+        );
+    }
+
+    private static boolean isIntegral(Number number) {
+        return !(number instanceof Double || number instanceof Float);
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.tarantool.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an SQL statement handled by {@link FakeTarantoolServer}.
+ */
+public class FakeSqlResult {
+
+    private static final int SQL_METADATA = 0x32;
+    private static final int SQL_INFO = 0x42;
+    private static final int DATA = 0x30;
+
+    private final Map<Integer, Object> body;
+
+    private FakeSqlResult(Map<Integer, Object> body) {
+        this.body = body;
+    }
+
+    /**
+     * Creates a query result.
+     *
+     * @param columns column names, all columns are typed as {@code scalar}
+     * @param rows    result rows
+     *
+     * @return query result
+     */
+    public static FakeSqlResult ofQuery(List<String> columns, List<List<?>> rows) {
+        List<Map<Integer, Object>> metadata = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            Map<Integer, Object> field = new HashMap<>();
+            field.put(0, column);
+            field.put(1, "scalar");
+            metadata.add(field);
+        }
+        Map<Integer, Object> body = new HashMap<>();
+        body.put(SQL_METADATA, metadata);
+        body.put(DATA, rows);
+        return new FakeSqlResult(body);
+    }
+
+    /**
+     * Creates a DML statement result.
+     *
+     * @param rowCount number of changed rows
+     *
+     * @return update result
+     */
+    public static FakeSqlResult ofUpdate(int rowCount) {
+        return new FakeSqlResult(Collections.singletonMap(SQL_INFO, Collections.singletonMap(0, rowCount)));
+    }
+
+    Map<Integer, Object> getBody() {
+        return body;
+    }
+
+}
@@ -0,0 +1,908 @@
+package org.tarantool.server;
+
+import org.tarantool.Code;
+import org.tarantool.Key;
+import org.tarantool.MsgPackLite;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Lightweight in-process stand-in of a Tarantool instance
+ * speaking the iproto protocol.
+ * <p>
+ * The server supports the greeting and {@code chap-sha1}
+ * authentication, PING, SELECT, INSERT, REPLACE, UPDATE,
+ * UPSERT, DELETE, CALL, EVAL, EXECUTE requests and the
+ * {@code box.schema} watch. BEGIN, COMMIT and ROLLBACK
+ * requests of a stream are served by an undo log, so the
+ * changes of a transaction are visible before the commit. The data is kept in in-memory
+ * {@link FakeSpace}s which are exposed to the clients via
+ * {@code _vspace} and {@code _vindex} system views. Stored
+ * functions, Lua expressions and SQL statements are served
+ * by handlers registered in advance.
+ * <p>
+ * Response latency, jitter, size and faults can be tuned
+ * at any time, so the server can be used for deterministic
+ * load and failure testing of the clients without a real
+ * {@code tarantool} binary.
+ */
+public class FakeTarantoolServer implements AutoCloseable {
+
+    public static final String VERSION = "2.10.0-0-fake";
+
+    private static final String SCHEMA_EVENT_KEY = "box.schema";
+
+    private static final int VSPACE_ID = 281;
+    private static final int VINDEX_ID = 289;
+    private static final int VSPACE_NAME_INDEX_ID = 2;
+    private static final int FIRST_SPACE_ID = 512;
+
+    private static final int PADDING_KEY = 0x7f;
+    private static final int GREETING_LINE_SIZE = 64;
+
+    private final MsgPackLite msgPackLite = MsgPackLite.INSTANCE;
+
+    private final Map<String, FakeSpace> spacesByName = new ConcurrentHashMap<>();
+    private final Map<Integer, FakeSpace> spacesById = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSpaceId = new AtomicInteger(FIRST_SPACE_ID);
+    private final AtomicLong schemaVersion = new AtomicLong(1);
+
+    private final Map<String, String> users = new ConcurrentHashMap<>();
+    private final Map<String, Function<List<?>, List<?>>> functions = new ConcurrentHashMap<>();
+    private final Map<String, Function<List<?>, List<?>>> expressions = new ConcurrentHashMap<>();
+    private final Map<String, Function<List<?>, FakeSqlResult>> statements = new ConcurrentHashMap<>();
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+    private final Map<Code, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private volatile long latencyNanos;
+    private volatile long jitterNanos;
+    private volatile int responsePadding;
+    private volatile double errorRate;
+    private volatile int injectedErrorCode = FakeServerException.ER_PROC_LUA;
+    private volatile double dropRate;
+    private volatile double disconnectRate;
+
+    private ServerSocket serverSocket;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    /**
+     * Starts the server on a random free port.
+     *
+     * @return this server
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public FakeTarantoolServer start() throws IOException {
+        return start(0);
+    }
+
+    /**
+     * Starts the server on the given port.
+     *
+     * @param port port to listen to or {@literal 0}
+     *             to choose a free one
+     *
+     * @return this server
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public FakeTarantoolServer start(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        scheduler = Executors.newScheduledThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            runnable -> newDaemonThread(runnable, "fake-tarantool-" + getPort() + "-responder")
+        );
+        newDaemonThread(this::acceptConnections, "fake-tarantool-" + getPort() + "-acceptor").start();
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets an address in the {@code host:port} form
+     * accepted by the client socket providers.
+     *
+     * @return server address
+     */
+    public String getAddress() {
+        return "localhost:" + getPort();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException ignored) {
+            // No-op.
+        }
+        disconnectClients();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds a user to be checked during authentication.
+     * Any credentials are accepted while no users are added.
+     *
+     * @param username user name
+     * @param password user password
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer addUser(String username, String password) {
+        users.put(username, password);
+        return this;
+    }
+
+    /**
+     * Creates a space and bumps the schema version.
+     *
+     * @param name       space name
+     * @param fieldNames names of the format fields
+     *
+     * @return new space
+     */
+    public FakeSpace createSpace(String name, String... fieldNames) {
+        FakeSpace space = new FakeSpace(nextSpaceId.getAndIncrement(), name, Arrays.asList(fieldNames));
+        if (spacesByName.putIfAbsent(name, space) != null) {
+            throw new IllegalArgumentException("Space '" + name + "' already exists");
+        }
+        spacesById.put(space.getId(), space);
+        bumpSchemaVersion();
+        return space;
+    }
+
+    /**
+     * Drops a space and bumps the schema version.
+     *
+     * @param name space name
+     */
+    public void dropSpace(String name) {
+        FakeSpace space = spacesByName.remove(name);
+        if (space != null) {
+            spacesById.remove(space.getId());
+            bumpSchemaVersion();
+        }
+    }
+
+    public FakeSpace getSpace(String name) {
+        return spacesByName.get(name);
+    }
+
+    public long getSchemaVersion() {
+        return schemaVersion.get();
+    }
+
+    /**
+     * Registers a stored function served by CALL requests.
+     *
+     * @param name     function name
+     * @param function function mapping arguments to return values
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer registerFunction(String name, Function<List<?>, List<?>> function) {
+        functions.put(name, function);
+        return this;
+    }
+
+    /**
+     * Registers a Lua expression served by EVAL requests.
+     *
+     * @param expression exact expression text
+     * @param function   function mapping arguments to return values
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer registerExpression(String expression, Function<List<?>, List<?>> function) {
+        expressions.put(expression, function);
+        return this;
+    }
+
+    /**
+     * Registers an SQL statement served by EXECUTE requests.
+     *
+     * @param sql       exact statement text
+     * @param statement function mapping bound parameters to a result
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer registerSql(String sql, Function<List<?>, FakeSqlResult> statement) {
+        statements.put(sql, statement);
+        return this;
+    }
+
+    /**
+     * Sets a delay before each response.
+     *
+     * @param latency  fixed part of the delay
+     * @param jitter   max random addition to the delay
+     * @param timeUnit units of the values
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer setLatency(long latency, long jitter, TimeUnit timeUnit) {
+        this.latencyNanos = timeUnit.toNanos(latency);
+        this.jitterNanos = timeUnit.toNanos(jitter);
+        return this;
+    }
+
+    /**
+     * Sets a number of extra bytes to be added to each
+     * successful response. The extra bytes are sent under
+     * a key unknown to the client and skipped by it.
+     *
+     * @param responsePadding padding size in bytes
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer setResponsePadding(int responsePadding) {
+        this.responsePadding = responsePadding;
+        return this;
+    }
+
+    /**
+     * Makes the server fail a share of the requests.
+     *
+     * @param errorRate share of the requests in range [0, 1]
+     * @param errorCode Tarantool error code to be returned
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer setErrorRate(double errorRate, int errorCode) {
+        this.errorRate = errorRate;
+        this.injectedErrorCode = errorCode;
+        return this;
+    }
+
+    /**
+     * Makes the server ignore a share of the requests
+     * leaving them without any response.
+     *
+     * @param dropRate share of the requests in range [0, 1]
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer setDropRate(double dropRate) {
+        this.dropRate = dropRate;
+        return this;
+    }
+
+    /**
+     * Makes the server close the connection instead
+     * of answering a share of the requests.
+     *
+     * @param disconnectRate share of the requests in range [0, 1]
+     *
+     * @return this server
+     */
+    public FakeTarantoolServer setDisconnectRate(double disconnectRate) {
+        this.disconnectRate = disconnectRate;
+        return this;
+    }
+
+    /**
+     * Closes all the client connections.
+     * The server keeps accepting new ones.
+     */
+    public void disconnectClients() {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Gets a number of the connections accepted
+     * since the server was started.
+     *
+     * @return number of connections
+     */
+    public int getAcceptedConnectionCount() {
+        return acceptedConnections.get();
+    }
+
+    /**
+     * Gets a number of received requests of the given type.
+     *
+     * @param code request type
+     *
+     * @return number of requests
+     */
+    public long getRequestCount(Code code) {
+        LongAdder count = requestCounts.get(code);
+        return count == null ? 0 : count.sum();
+    }
+
+    private void bumpSchemaVersion() {
+        schemaVersion.incrementAndGet();
+        for (Connection connection : connections) {
+            connection.notifySchemaChanged();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                String name = "fake-tarantool-" + getPort() + "-connection-" + acceptedConnections.incrementAndGet();
+                newDaemonThread(connection::serve, name).start();
+            } catch (IOException e) {
+                if (!closed) {
+                    throw new IllegalStateException("Could not accept a connection", e);
+                }
+            }
+        }
+    }
+
+    private Map<Integer, Object> handle(Code code, Map<Integer, Object> body) {
+        switch (code) {
+        case PING:
+            return Collections.emptyMap();
+        case SELECT:
+            return data(select(body));
+        case INSERT:
+            return data(singleton(findSpace(body).insert(getList(body, Key.TUPLE))));
+        case REPLACE:
+            return data(singleton(findSpace(body).replace(getList(body, Key.TUPLE))));
+        case UPDATE:
+            return data(singleton(findSpace(body).update(getPrimaryKey(body), getList(body, Key.TUPLE))));
+        case UPSERT:
+            findSpace(body).upsert(getList(body, Key.TUPLE), getList(body, Key.UPSERT_OPS));
+            return data(Collections.emptyList());
+        case DELETE:
+            return data(singleton(findSpace(body).delete(getPrimaryKey(body))));
+        case CALL:
+        case OLD_CALL:
+            List<?> values = invoke(
+                functions, body.get(Key.FUNCTION.getId()), getList(body, Key.TUPLE),
+                FakeServerException.ER_NO_SUCH_PROC, "Procedure '%s' is not defined"
+            );
+            return data(code == Code.OLD_CALL ? toTuples(values) : values);
+        case EVAL:
+            return data(invoke(
+                expressions, body.get(Key.EXPRESSION.getId()), getList(body, Key.TUPLE),
+                FakeServerException.ER_PROC_LUA, "Expression '%s' is not registered"
+            ));
+        case EXECUTE:
+            return execute(body);
+        default:
+            throw new FakeServerException(
+                FakeServerException.ER_UNKNOWN_REQUEST_TYPE,
+                "Unknown request type " + code.getId()
+            );
+        }
+    }
+
+    private List<?> select(Map<Integer, Object> body) {
+        int spaceId = getInt(body, Key.SPACE, 0);
+        int indexId = getInt(body, Key.INDEX, 0);
+        List<?> key = getList(body, Key.KEY);
+        int iterator = getInt(body, Key.ITERATOR, FakeSpace.ITERATOR_EQ);
+        int offset = getInt(body, Key.OFFSET, 0);
+        int limit = getInt(body, Key.LIMIT, Integer.MAX_VALUE);
+        if (spaceId == VSPACE_ID) {
+            return selectSpaces(indexId, key, limit);
+        } else if (spaceId == VINDEX_ID) {
+            return selectIndexes(key, limit);
+        }
+        if (indexId != 0) {
+            throw new FakeServerException(
+                FakeServerException.ER_NO_SUCH_INDEX,
+                "No index #" + indexId + " is defined in space '" + findSpace(body).getName() + "'"
+            );
+        }
+        return findSpace(body).select(key, iterator, offset, limit);
+    }
+
+    private List<?> selectSpaces(int indexId, List<?> key, int limit) {
+        List<FakeSpace> spaces;
+        if (key.isEmpty()) {
+            spaces = new ArrayList<>(spacesById.values());
+            spaces.sort((left, right) -> Integer.compare(left.getId(), right.getId()));
+        } else {
+            FakeSpace space = indexId == VSPACE_NAME_INDEX_ID
+                ? spacesByName.get(String.valueOf(key.get(0)))
+                : spacesById.get(((Number) key.get(0)).intValue());
+            spaces = space == null ? Collections.emptyList() : Collections.singletonList(space);
+        }
+        List<List<?>> tuples = new ArrayList<>();
+        for (FakeSpace space : spaces.subList(0, Math.min(limit, spaces.size()))) {
+            List<Map<String, Object>> format = new ArrayList<>();
+            for (String field : space.getFieldNames()) {
+                Map<String, Object> fieldFormat = new HashMap<>();
+                fieldFormat.put("name", field);
+                fieldFormat.put("type", "scalar");
+                format.add(fieldFormat);
+            }
+            tuples.add(Arrays.asList(space.getId(), 1, space.getName(), "memtx", 0, Collections.emptyMap(), format));
+        }
+        return tuples;
+    }
+
+    private List<?> selectIndexes(List<?> key, int limit) {
+        List<FakeSpace> spaces;
+        if (key.isEmpty()) {
+            spaces = new ArrayList<>(spacesById.values());
+        } else {
+            FakeSpace space = spacesById.get(((Number) key.get(0)).intValue());
+            boolean isPrimary = key.size() < 2 || ((Number) key.get(1)).intValue() == 0;
+            spaces = space == null || !isPrimary ? Collections.emptyList() : Collections.singletonList(space);
+        }
+        List<List<?>> tuples = new ArrayList<>();
+        for (FakeSpace space : spaces.subList(0, Math.min(limit, spaces.size()))) {
+            tuples.add(Arrays.asList(
+                space.getId(), 0, "primary", "TREE",
+                Collections.singletonMap("unique", true),
+                Collections.singletonList(Arrays.asList(0, "scalar"))
+            ));
+        }
+        return tuples;
+    }
+
+    private Map<Integer, Object> execute(Map<Integer, Object> body) {
+        Object sql = body.get(Key.SQL_TEXT.getId());
+        Function<List<?>, FakeSqlResult> statement = statements.get(String.valueOf(sql));
+        if (statement == null) {
+            throw new FakeServerException(FakeServerException.ER_SQL_EXECUTE, "Statement is not registered: " + sql);
+        }
+        Object parameters = body.get(Key.SQL_BIND.getId());
+        return statement.apply(parameters == null ? Collections.emptyList() : (List<?>) parameters).getBody();
+    }
+
+    private List<?> invoke(Map<String, Function<List<?>, List<?>>> handlers,
+                           Object name,
+                           List<?> arguments,
+                           int errorCode,
+                           String errorFormat) {
+        Function<List<?>, List<?>> handler = handlers.get(String.valueOf(name));
+        if (handler == null) {
+            throw new FakeServerException(errorCode, String.format(errorFormat, name));
+        }
+        return handler.apply(arguments);
+    }
+
+    private FakeSpace findSpace(Map<Integer, Object> body) {
+        int spaceId = getInt(body, Key.SPACE, 0);
+        FakeSpace space = spacesById.get(spaceId);
+        if (space == null) {
+            throw new FakeServerException(
+                FakeServerException.ER_NO_SUCH_SPACE,
+                "Space '" + spaceId + "' does not exist"
+            );
+        }
+        return space;
+    }
+
+    private Object getPrimaryKey(Map<Integer, Object> body) {
+        List<?> key = getList(body, Key.KEY);
+        if (key.size() != 1) {
+            throw new FakeServerException(
+                FakeServerException.ER_EXACT_FIELD_COUNT,
+                "Invalid key part count in an exact match (expected 1, got " + key.size() + ")"
+            );
+        }
+        return key.get(0);
+    }
+
+    private static List<?> getList(Map<Integer, Object> body, Key key) {
+        Object value = body.get(key.getId());
+        return value == null ? Collections.emptyList() : (List<?>) value;
+    }
+
+    private static int getInt(Map<Integer, Object> body, Key key, int defaultValue) {
+        Object value = body.get(key.getId());
+        return value == null ? defaultValue : ((Number) value).intValue();
+    }
+
+    private static List<?> singleton(List<?> tuple) {
+        return tuple == null ? Collections.emptyList() : Collections.singletonList(tuple);
+    }
+
+    private static List<?> toTuples(List<?> values) {
+        List<Object> tuples = new ArrayList<>(values.size());
+        for (Object value : values) {
+            tuples.add(value instanceof List ? value : Collections.singletonList(value));
+        }
+        return tuples;
+    }
+
+    private static Map<Integer, Object> data(List<?> data) {
+        return Collections.singletonMap(Key.DATA.getId(), data);
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Code toCode(int id) {
+        for (Code code : Code.values()) {
+            if (code.getId() == id) {
+                return code;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Client connection served by its own thread.
+     */
+    private class Connection {
+
+        private final Socket socket;
+        private final OutputStream output;
+        private final String salt;
+
+        private final Map<Long, List<Runnable>> transactions = new ConcurrentHashMap<>();
+
+        private boolean watching;
+        private long notifiedSchemaVersion;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.output = socket.getOutputStream();
+            byte[] seed = new byte[32];
+            ThreadLocalRandom.current().nextBytes(seed);
+            this.salt = Base64.getEncoder().encodeToString(seed);
+        }
+
+        void serve() {
+            try {
+                DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                writeGreeting();
+                while (!closed) {
+                    int size = ((Number) msgPackLite.unpack(input)).intValue();
+                    byte[] packet = new byte[size];
+                    input.readFully(packet);
+                    handlePacket(packet);
+                }
+            } catch (Exception ignored) {
+                // the connection is closed
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            connections.remove(this);
+            for (Long streamId : transactions.keySet()) {
+                rollback(streamId);
+            }
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // No-op.
+            }
+        }
+
+        synchronized void notifySchemaChanged() {
+            if (watching) {
+                sendSchemaEvent();
+            }
+        }
+
+        private synchronized void watch() {
+            watching = true;
+            if (notifiedSchemaVersion != schemaVersion.get()) {
+                sendSchemaEvent();
+            }
+        }
+
+        private void sendSchemaEvent() {
+            watching = false;
+            notifiedSchemaVersion = schemaVersion.get();
+            Map<Integer, Object> body = new HashMap<>();
+            body.put(Key.EVENT_KEY.getId(), SCHEMA_EVENT_KEY);
+            body.put(Key.EVENT_DATA.getId(), Collections.singletonMap("version", notifiedSchemaVersion));
+            write(Code.EVENT.getId(), 0, body);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handlePacket(byte[] packet) throws IOException {
+            ByteArrayInputStream packetStream = new ByteArrayInputStream(packet);
+            Map<Integer, Object> header = (Map<Integer, Object>) msgPackLite.unpack(packetStream);
+            Map<Integer, Object> body = packetStream.available() > 0
+                ? (Map<Integer, Object>) msgPackLite.unpack(packetStream)
+                : Collections.emptyMap();
+            long sync = ((Number) header.get(Key.SYNC.getId())).longValue();
+            final Object streamId = header.get(Key.STREAM_ID.getId());
+            final Object schemaId = header.get(Key.SCHEMA_ID.getId());
+            Code code = toCode(((Number) header.get(Key.CODE.getId())).intValue());
+            if (code != null) {
+                requestCounts.computeIfAbsent(code, key -> new LongAdder()).increment();
+            }
+
+            if (code == Code.AUTH) {
+                respond(sync, this::authenticate, body);
+                return;
+            }
+            if (code == Code.WATCH) {
+                if (SCHEMA_EVENT_KEY.equals(body.get(Key.EVENT_KEY.getId()))) {
+                    watch();
+                }
+                return;
+            }
+            if (code != null && !isSystemRequest(code, body)) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (random.nextDouble() < disconnectRate) {
+                    close();
+                    return;
+                }
+                if (random.nextDouble() < dropRate) {
+                    return;
+                }
+                if (random.nextDouble() < errorRate) {
+                    writeError(sync, new FakeServerException(injectedErrorCode, "Injected error"));
+                    return;
+                }
+            }
+
+            long actualSchemaVersion = schemaVersion.get();
+            if (schemaId instanceof Number && ((Number) schemaId).longValue() != 0 &&
+                ((Number) schemaId).longValue() != actualSchemaVersion) {
+                writeError(sync, new FakeServerException(
+                    FakeServerException.ER_WRONG_SCHEMA_VERSION,
+                    "Wrong schema version, current: " + actualSchemaVersion + ", in request: " + schemaId
+                ));
+                return;
+            }
+            if (code == null) {
+                writeError(sync, new FakeServerException(
+                    FakeServerException.ER_UNKNOWN_REQUEST_TYPE,
+                    "Unknown request type " + header.get(Key.CODE.getId())
+                ));
+                return;
+            }
+            if (streamId instanceof Number) {
+                long stream = ((Number) streamId).longValue();
+                respond(sync, requestBody -> handleInStream(stream, code, requestBody), body);
+                return;
+            }
+            respond(sync, requestBody -> handle(code, requestBody), body);
+        }
+
+        private Map<Integer, Object> handleInStream(long streamId, Code code, Map<Integer, Object> body) {
+            switch (code) {
+            case BEGIN:
+                if (transactions.putIfAbsent(streamId, new ArrayList<>()) != null) {
+                    throw new FakeServerException(
+                        FakeServerException.ER_ACTIVE_TRANSACTION,
+                        "Operation is not permitted when there is an active transaction"
+                    );
+                }
+                return Collections.emptyMap();
+            case COMMIT:
+                transactions.remove(streamId);
+                return Collections.emptyMap();
+            case ROLLBACK:
+                rollback(streamId);
+                return Collections.emptyMap();
+            case INSERT:
+            case REPLACE:
+            case UPSERT:
+            case UPDATE:
+            case DELETE:
+                List<Runnable> undoLog = transactions.get(streamId);
+                if (undoLog != null) {
+                    FakeSpace space = findSpace(body);
+                    Object key = code == Code.UPDATE || code == Code.DELETE
+                        ? getPrimaryKey(body)
+                        : getList(body, Key.TUPLE).get(0);
+                    List<?> previous = space.get(key);
+                    undoLog.add(() -> {
+                        if (previous == null) {
+                            space.delete(key);
+                        } else {
+                            space.replace(previous);
+                        }
+                    });
+                }
+                return handle(code, body);
+            default:
+                return handle(code, body);
+            }
+        }
+
+        private void rollback(long streamId) {
+            List<Runnable> undoLog = transactions.remove(streamId);
+            if (undoLog != null) {
+                for (int i = undoLog.size() - 1; i >= 0; i--) {
+                    undoLog.get(i).run();
+                }
+            }
+        }
+
+        private boolean isSystemRequest(Code code, Map<Integer, Object> body) {
+            if (code != Code.SELECT) {
+                return false;
+            }
+            int spaceId = getInt(body, Key.SPACE, 0);
+            return spaceId == VSPACE_ID || spaceId == VINDEX_ID;
+        }
+
+        private void respond(long sync,
+                             Function<Map<Integer, Object>, Map<Integer, Object>> handler,
+                             Map<Integer, Object> body) {
+            Runnable response = () -> {
+                try {
+                    Map<Integer, Object> result = handler.apply(body);
+                    int padding = responsePadding;
+                    if (padding > 0) {
+                        result = new HashMap<>(result);
+                        result.put(PADDING_KEY, new byte[padding]);
+                    }
+                    write(0, sync, result);
+                } catch (FakeServerException e) {
+                    writeError(sync, e);
+                } catch (RuntimeException e) {
+                    writeError(sync, new FakeServerException(FakeServerException.ER_PROC_LUA, String.valueOf(e)));
+                }
+            };
+            long delay = latencyNanos;
+            long jitter = jitterNanos;
+            if (jitter > 0) {
+                delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+            }
+            if (delay > 0) {
+                scheduler.schedule(response, delay, TimeUnit.NANOSECONDS);
+            } else {
+                response.run();
+            }
+        }
+
+        private Map<Integer, Object> authenticate(Map<Integer, Object> body) {
+            String username = String.valueOf(body.get(Key.USER_NAME.getId()));
+            if (users.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            String password = users.get(username);
+            List<?> auth = getList(body, Key.TUPLE);
+            if (password == null || auth.size() != 2 || !Arrays.equals(scramble(password), (byte[]) auth.get(1))) {
+                throw new FakeServerException(
+                    FakeServerException.ER_CREDS_MISMATCH,
+                    "User not found or supplied credentials are invalid"
+                );
+            }
+            return Collections.emptyMap();
+        }
+
+        private byte[] scramble(String password) {
+            MessageDigest sha1;
+            try {
+                sha1 = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] hash1 = sha1.digest(password.getBytes());
+            byte[] hash2 = sha1.digest(hash1);
+            sha1.update(Base64.getDecoder().decode(salt), 0, 20);
+            sha1.update(hash2);
+            byte[] scramble = sha1.digest();
+            for (int i = 0; i < scramble.length; i++) {
+                scramble[i] ^= hash1[i];
+            }
+            return scramble;
+        }
+
+        private void writeGreeting() throws IOException {
+            String version = "Tarantool " + VERSION + " (Binary) " + UUID.randomUUID();
+            byte[] greeting = new byte[GREETING_LINE_SIZE * 2];
+            Arrays.fill(greeting, (byte) ' ');
+            byte[] versionBytes = version.getBytes(StandardCharsets.US_ASCII);
+            byte[] saltBytes = salt.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(versionBytes, 0, greeting, 0, versionBytes.length);
+            System.arraycopy(saltBytes, 0, greeting, GREETING_LINE_SIZE, saltBytes.length);
+            greeting[GREETING_LINE_SIZE - 1] = '\n';
+            greeting[GREETING_LINE_SIZE * 2 - 1] = '\n';
+            synchronized (this) {
+                output.write(greeting);
+                output.flush();
+            }
+        }
+
+        private void writeError(long sync, FakeServerException error) {
+            write(
+                0x8000 | error.getCode(),
+                sync,
+                Collections.singletonMap(Key.ERROR.getId(), error.getMessage())
+            );
+        }
+
+        /**
+         * Writes a packet. The header values are encoded
+         * using the fixed size types as Tarantool does.
+         */
+        private void write(long code, long sync, Map<Integer, Object> body) {
+            try {
+                ByteArrayOutputStream packet = new ByteArrayOutputStream(256);
+                packet.write(new byte[5]);
+                packet.write(0x83);
+                packet.write(Key.CODE.getId());
+                writeUint32(packet, code);
+                packet.write(Key.SYNC.getId());
+                writeUint64(packet, sync);
+                packet.write(Key.SCHEMA_ID.getId());
+                writeUint32(packet, schemaVersion.get());
+                msgPackLite.pack(body, packet);
+
+                byte[] bytes = packet.toByteArray();
+                bytes[0] = (byte) 0xce;
+                int size = bytes.length - 5;
+                for (int i = 0; i < 4; i++) {
+                    bytes[1 + i] = (byte) (size >>> (24 - i * 8));
+                }
+                synchronized (this) {
+                    output.write(bytes);
+                    output.flush();
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void writeUint32(ByteArrayOutputStream stream, long value) {
+            stream.write(0xce);
+            for (int i = 3; i >= 0; i--) {
+                stream.write((int) (value >>> (i * 8)));
+            }
+        }
+
+        private void writeUint64(ByteArrayOutputStream stream, long value) {
+            stream.write(0xcf);
+            for (int i = 7; i >= 0; i--) {
+                stream.write((int) (value >>> (i * 8)));
+            }
+        }
+
+    }
+
+}
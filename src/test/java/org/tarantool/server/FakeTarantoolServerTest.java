@@ -0,0 +1,203 @@
+package org.tarantool.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tarantool.TestUtils.awaitTrue;
+
+import org.tarantool.Code;
+import org.tarantool.CommunicationException;
+import org.tarantool.Iterator;
+import org.tarantool.TarantoolClient;
+import org.tarantool.TarantoolClientConfig;
+import org.tarantool.TarantoolClientImpl;
+import org.tarantool.TarantoolClusterClient;
+import org.tarantool.TarantoolClusterClientConfig;
+import org.tarantool.TarantoolException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("A client connected to the fake server")
+public class FakeTarantoolServerTest {
+
+    private static final String USERNAME = "test_user";
+    private static final String PASSWORD = "test_password";
+
+    private FakeTarantoolServer server;
+    private TarantoolClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new FakeTarantoolServer()
+            .addUser(USERNAME, PASSWORD)
+            .start();
+        server.createSpace("users", "id", "name");
+        client = new TarantoolClientImpl(server.getAddress(), makeConfig());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("executed CRUD requests by names")
+    public void testCrudOperations() {
+        client.syncOps().insert("users", Arrays.asList(1, "alice"));
+        client.syncOps().replace("users", Arrays.asList(2, "bob"));
+        client.syncOps().update("users", Collections.singletonList(2), Arrays.asList("=", 1, "robert"));
+        client.syncOps().upsert(
+            "users", Collections.singletonList(3), Arrays.asList(3, "carol"), Arrays.asList("=", 1, "carl")
+        );
+
+        assertEquals(
+            Arrays.asList(Arrays.asList(2, "robert"), Arrays.asList(3, "carol")),
+            client.syncOps().select("users", "primary", Collections.singletonList(2), 0, 10, Iterator.GE)
+        );
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "alice")),
+            client.syncOps().delete("users", Collections.singletonList(1))
+        );
+        assertEquals(2, server.getSpace("users").size());
+
+        TarantoolException error = assertThrows(
+            TarantoolException.class,
+            () -> client.syncOps().insert("users", Arrays.asList(2, "bob"))
+        );
+        assertEquals(FakeServerException.ER_TUPLE_FOUND, error.getCode());
+    }
+
+    @Test
+    @DisplayName("called the registered functions and statements")
+    public void testCallEvalExecute() {
+        server.registerFunction("sum", args -> Collections.singletonList(
+            ((Number) args.get(0)).intValue() + ((Number) args.get(1)).intValue()
+        ));
+        server.registerExpression("return ...", args -> args);
+        server.registerSql("SELECT name FROM users WHERE id = ?", args -> FakeSqlResult.ofQuery(
+            Collections.singletonList("NAME"),
+            Collections.singletonList(Collections.singletonList("user-" + args.get(0)))
+        ));
+        server.registerSql("DELETE FROM users", args -> FakeSqlResult.ofUpdate(5));
+
+        assertEquals(Collections.singletonList(5), client.syncOps().call("sum", 2, 3));
+        assertEquals(Arrays.asList("a", 1), client.syncOps().eval("return ...", "a", 1));
+        assertEquals(
+            Collections.singletonList(Collections.singletonMap("NAME", "user-7")),
+            client.sqlSyncOps().query("SELECT name FROM users WHERE id = ?", 7)
+        );
+        assertEquals(5L, client.sqlSyncOps().update("DELETE FROM users"));
+
+        TarantoolException error = assertThrows(TarantoolException.class, () -> client.syncOps().call("unknown"));
+        assertEquals(FakeServerException.ER_NO_SUCH_PROC, error.getCode());
+    }
+
+    @Test
+    @DisplayName("was rejected with wrong credentials")
+    public void testAuthenticationFailure() {
+        TarantoolClientConfig config = makeConfig();
+        config.password = "wrong";
+        config.initTimeoutMillis = 500;
+        assertThrows(CommunicationException.class, () -> new TarantoolClientImpl(server.getAddress(), config));
+    }
+
+    @Test
+    @DisplayName("received the schema changes")
+    public void testSchemaWatch() {
+        client.syncOps().ping();
+        server.createSpace("orders", "id");
+
+        awaitTrue(() -> client.getSchemaMeta().getSchemaVersion() == server.getSchemaVersion());
+        client.syncOps().insert("orders", Collections.singletonList(1));
+        assertEquals(1, server.getSpace("orders").size());
+    }
+
+    @Test
+    @DisplayName("got the injected errors and delays")
+    public void testFaultInjection() {
+        server.setErrorRate(1, FakeServerException.ER_PROC_LUA);
+        TarantoolException error = assertThrows(TarantoolException.class, () -> client.syncOps().ping());
+        assertEquals(FakeServerException.ER_PROC_LUA, error.getCode());
+
+        server.setErrorRate(0, FakeServerException.ER_PROC_LUA)
+            .setLatency(50, 0, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        client.syncOps().ping();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+        server.setLatency(0, 0, TimeUnit.MILLISECONDS)
+            .setDropRate(1);
+        final long selects = server.getRequestCount(Code.SELECT);
+        final CompletableFuture<List<?>> dropped = client.composableAsyncOps()
+            .select(server.getSpace("users").getId(), 0, Collections.singletonList(1), 0, 1, Iterator.EQ)
+            .toCompletableFuture();
+        awaitTrue(() -> server.getRequestCount(Code.SELECT) > selects);
+        server.setDropRate(0);
+        client.syncOps().ping();
+        assertFalse(dropped.isDone());
+    }
+
+    @Test
+    @DisplayName("reconnected after the connection was closed")
+    public void testReconnect() {
+        client.syncOps().insert("users", Arrays.asList(1, "alice"));
+        final long pings = server.getRequestCount(Code.PING);
+
+        server.disconnectClients();
+        awaitTrue(() -> client.isAlive() && server.getConnectionCount() == 1);
+        client.syncOps().ping();
+
+        assertEquals(pings + 1, server.getRequestCount(Code.PING));
+        assertEquals(
+            Collections.singletonList(Arrays.asList(1, "alice")),
+            client.syncOps().select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ)
+        );
+    }
+
+    @Test
+    @DisplayName("failed over to the next cluster node")
+    public void testClusterFailover() throws Exception {
+        try (FakeTarantoolServer secondServer = new FakeTarantoolServer().addUser(USERNAME, PASSWORD).start()) {
+            secondServer.createSpace("users", "id", "name");
+            secondServer.getSpace("users").insert(Arrays.asList(1, "replica"));
+
+            TarantoolClusterClientConfig config = new TarantoolClusterClientConfig();
+            config.username = USERNAME;
+            config.password = PASSWORD;
+            config.initTimeoutMillis = 2000;
+            TarantoolClusterClient clusterClient = new TarantoolClusterClient(
+                config, server.getAddress(), secondServer.getAddress()
+            );
+            try {
+                clusterClient.syncOps().ping();
+                server.close();
+
+                List<?> result = clusterClient.syncOps()
+                    .select("users", "primary", Collections.singletonList(1), 0, 1, Iterator.EQ);
+                assertEquals(Collections.singletonList(Arrays.asList(1, "replica")), result);
+            } finally {
+                clusterClient.close();
+            }
+        }
+    }
+
+    private TarantoolClientConfig makeConfig() {
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        config.username = USERNAME;
+        config.password = PASSWORD;
+        config.initTimeoutMillis = 2000;
+        return config;
+    }
+
+}